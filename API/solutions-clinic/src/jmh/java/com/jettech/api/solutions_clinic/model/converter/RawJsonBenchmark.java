@@ -0,0 +1,99 @@
+package com.jettech.api.solutions_clinic.model.converter;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho de leitura de um prontuário com conteúdo de ~10 KB e ~100 KB: texto da coluna JSONB
+ * até o corpo da resposta. "node*" é o modelo anterior (JsonNodeAttributeConverter + árvore
+ * re-serializada); "raw*" é o RawJson repassado por @JsonRawValue. "*DirtyCheck" mede o que o
+ * Hibernate faz no flush: cópia da árvore pelo converter contra comparação de texto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RawJsonBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Param({"10240", "102400"})
+    public int contentBytes;
+
+    private final JsonNodeAttributeConverter nodeConverter = new JsonNodeAttributeConverter();
+    private final RawJsonAttributeConverter rawConverter = new RawJsonAttributeConverter();
+    private final UUID id = UUID.randomUUID();
+
+    private String column;
+    private JsonNode loadedNode;
+    private RawJson loadedRaw;
+
+    @Setup
+    public void setUp() {
+        column = document(contentBytes);
+        loadedNode = nodeConverter.convertToEntityAttribute(column);
+        loadedRaw = rawConverter.convertToEntityAttribute(column);
+    }
+
+    @Benchmark
+    public String nodeLoadAndRespond() throws JsonProcessingException {
+        JsonNode content = nodeConverter.convertToEntityAttribute(column);
+        return MAPPER.writeValueAsString(new NodeResponse(id, content));
+    }
+
+    @Benchmark
+    public String rawLoadAndRespond() throws JsonProcessingException {
+        RawJson content = rawConverter.convertToEntityAttribute(column);
+        return MAPPER.writeValueAsString(new RawResponse(id, RawJson.json(content)));
+    }
+
+    @Benchmark
+    public boolean nodeDirtyCheck() {
+        JsonNode snapshot = nodeConverter.convertToEntityAttribute(nodeConverter.convertToDatabaseColumn(loadedNode));
+        return snapshot.equals(loadedNode);
+    }
+
+    @Benchmark
+    public boolean rawDirtyCheck() {
+        return loadedRaw.equals(rawConverter.convertToEntityAttribute(column));
+    }
+
+    // Seções de texto livre e listas, como nos modelos de prontuário, até o tamanho pedido
+    private static String document(int targetBytes) {
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        int section = 0;
+        while (root.toString().length() < targetBytes) {
+            ObjectNode fields = root.putObject("secao_" + section);
+            fields.put("queixa", "Paciente relata dor abdominal há " + section + " dias, sem febre.");
+            fields.put("pressao_sistolica", 110 + section % 30);
+            fields.put("observado", section % 2 == 0);
+            ArrayNode items = fields.putArray("medicamentos");
+            for (int i = 0; i < 5; i++) {
+                items.add("Medicamento " + section + "." + i + " 500 mg, 8/8 h");
+            }
+            section++;
+        }
+        return root.toString();
+    }
+
+    public record NodeResponse(UUID id, JsonNode content) {
+    }
+
+    public record RawResponse(UUID id, @JsonRawValue String content) {
+    }
+}
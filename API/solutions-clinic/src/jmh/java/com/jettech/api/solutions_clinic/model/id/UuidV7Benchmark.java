@@ -0,0 +1,42 @@
+package com.jettech.api.solutions_clinic.model.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de geração das chaves: UUIDv7 (com o lock do contador) contra o UUIDv4 do
+ * GenerationType.UUID. O ganho do v7 está no índice (ver UuidV7IndexBenchmarkTests);
+ * aqui só se confirma que gerar a chave não virou gargalo, inclusive com várias threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UuidV7Benchmark {
+
+    @Benchmark
+    public UUID v4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID v7() {
+        return UuidV7.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID v4Contended() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID v7Contended() {
+        return UuidV7.generate();
+    }
+}
@@ -0,0 +1,131 @@
+package com.jettech.api.solutions_clinic.model.service.templateschema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validação do content de um prontuário contra o schema do modelo, com 20 e 200 campos.
+ * "compileAndValidate" é o custo de compilar o schema a cada salvamento (sem o TemplateSchemaCache);
+ * "cachedValidate*" é o autosave com o schema já compilado, a partir do JsonNode da requisição
+ * (como o use case) e do texto; "cachedValidateComplete" é a conferência da assinatura, com os
+ * obrigatórios; "legacyValidate" é o modo tolerante dos modelos antigos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateSchemaBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] TYPES = {"text", "textarea", "number", "date", "checkbox", "select"};
+
+    @Param({"20", "200"})
+    public int fieldCount;
+
+    private JsonNode schemaNode;
+    private JsonNode legacySchemaNode;
+    private TemplateSchema compiled;
+    private TemplateSchema legacy;
+    private JsonNode content;
+    private byte[] contentBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        schemaNode = schema(fieldCount, false);
+        legacySchemaNode = schema(fieldCount, true);
+        compiled = TemplateSchema.compile(schemaNode);
+        legacy = TemplateSchema.compileLegacy(legacySchemaNode);
+        content = content(fieldCount);
+        contentBytes = MAPPER.writeValueAsBytes(content);
+    }
+
+    @Benchmark
+    public TemplateSchema compileAndValidate() {
+        TemplateSchema schema = TemplateSchema.compile(schemaNode);
+        schema.validate(content.traverse());
+        return schema;
+    }
+
+    @Benchmark
+    public TemplateSchema cachedValidateNode() {
+        compiled.validate(content.traverse());
+        return compiled;
+    }
+
+    @Benchmark
+    public TemplateSchema cachedValidateText() throws IOException {
+        try (JsonParser parser = MAPPER.createParser(contentBytes)) {
+            compiled.validate(parser);
+        }
+        return compiled;
+    }
+
+    @Benchmark
+    public TemplateSchema cachedValidateComplete() {
+        compiled.validateComplete(content.traverse());
+        return compiled;
+    }
+
+    @Benchmark
+    public TemplateSchema legacyValidate() {
+        legacy.validate(content.traverse());
+        return legacy;
+    }
+
+    // Modelo legado: um a cada dez campos sem id e os selects sem options
+    private static JsonNode schema(int fields, boolean legacy) {
+        ArrayNode schema = JsonNodeFactory.instance.arrayNode();
+        for (int i = 0; i < fields; i++) {
+            String type = TYPES[i % TYPES.length];
+            ObjectNode field = schema.addObject();
+            if (!legacy || i % 10 != 9) {
+                field.put("id", "campo_" + i);
+            }
+            field.put("label", "Campo " + i);
+            field.put("type", type);
+            field.put("required", i % 4 == 0);
+            switch (type) {
+                case "text", "textarea" -> field.put("maxLength", 2000);
+                case "number" -> field.put("min", 0).put("max", 1000);
+                case "select" -> {
+                    if (!legacy) {
+                        field.putArray("options").add("Sim").add("Não").add("Talvez");
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return schema;
+    }
+
+    private static JsonNode content(int fields) {
+        ObjectNode content = JsonNodeFactory.instance.objectNode();
+        for (int i = 0; i < fields; i++) {
+            String id = "campo_" + i;
+            switch (TYPES[i % TYPES.length]) {
+                case "text" -> content.put(id, "Paciente relata dor lombar há duas semanas.");
+                case "textarea" -> content.put(id, "Evolução favorável. ".repeat(20));
+                case "number" -> content.put(id, 120 + i % 50);
+                case "date" -> content.put(id, "2026-03-" + (10 + i % 18));
+                case "checkbox" -> content.put(id, i % 2 == 0);
+                default -> content.put(id, "Sim");
+            }
+        }
+        return content;
+    }
+}
@@ -0,0 +1,91 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.jettech.api.solutions_clinic.model.service.recordchain.MedicalRecordChainScanner.ChainLink;
+import com.jettech.api.solutions_clinic.model.service.recordchain.MedicalRecordSeal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auditoria da cadeia de prontuários sem o banco: os elos já lidos (como o MedicalRecordChainScanner
+ * os entrega) passam pela verificação incremental, que recalcula cada digest. Clínica com 10 mil e
+ * 100 mil prontuários assinados, 50 por paciente, content de ~1 KB. "sealDigest" é o custo de um
+ * único digest, o mesmo pago na assinatura.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MedicalRecordChainVerificationBenchmark {
+
+    private static final int RECORDS_PER_PATIENT = 50;
+
+    @Param({"10000", "100000"})
+    public int recordCount;
+
+    private List<ChainLink> links;
+
+    @Setup
+    public void setUp() {
+        links = new ArrayList<>(recordCount);
+        LocalDateTime signedAt = LocalDateTime.of(2026, 1, 5, 8, 0);
+        UUID templateId = UUID.randomUUID();
+        UUID patientId = null;
+        UUID previousRecordId = null;
+        String previousDigest = null;
+        for (int i = 0; i < recordCount; i++) {
+            int position = i % RECORDS_PER_PATIENT + 1;
+            if (position == 1) {
+                patientId = UUID.randomUUID();
+                previousRecordId = null;
+                previousDigest = null;
+            }
+            int lastPosition = Math.min(RECORDS_PER_PATIENT, recordCount - i + position - 1);
+            MedicalRecordSeal seal = new MedicalRecordSeal(
+                    UUID.randomUUID(), patientId, UUID.randomUUID(), templateId,
+                    signedAt.plusMinutes(i), position, previousRecordId, previousDigest,
+                    content(i), "{\"pressao\": \"12x8\", \"fc\": " + (60 + i % 40) + ", \"peso\": 71.5}");
+            String digest = seal.digest();
+            links.add(new ChainLink(seal, digest, lastPosition));
+            previousRecordId = seal.recordId();
+            previousDigest = digest;
+        }
+    }
+
+    @Benchmark
+    public MedicalRecordChainVerificationResponse verifyChain() {
+        MedicalRecordChainVerification verification = new MedicalRecordChainVerification(100);
+        for (ChainLink link : links) {
+            verification.accept(link);
+        }
+        MedicalRecordChainVerificationResponse response = verification.finish(null, 0);
+        if (!response.valid()) {
+            throw new IllegalStateException("cadeia gerada inválida: " + response.failures());
+        }
+        return response;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String sealDigest() {
+        return links.getFirst().seal().digest();
+    }
+
+    private static String content(int i) {
+        return """
+            {"queixa": "Dor lombar há %d dias, pior ao levantar.", "historia": "%s",
+             "exame": {"pa": "12x8", "temperatura": 36.%d, "dor": %d},
+             "diagnostico": "M54.5", "conduta": "Analgesia e fisioterapia.", "retorno": "2026-02-%02d"}
+            """.formatted(i % 30 + 1, "Paciente sem comorbidades. ".repeat(24), i % 10, i % 11, i % 28 + 1);
+    }
+}
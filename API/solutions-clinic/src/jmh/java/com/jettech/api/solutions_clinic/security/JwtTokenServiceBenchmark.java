@@ -0,0 +1,68 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e verificação de tokens com os Algorithm/JWTVerifier montados uma vez no construtor.
+ * "verifyPreviousKey" usa um token assinado com a chave anterior (rotação em andamento) para
+ * confirmar que a busca pelo `kid` não custa mais que a verificação com a chave atual.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-with-at-least-32-characters";
+    private static final String PREVIOUS_SECRET = "previous-secret-with-at-least-32-characters";
+
+    private JwtTokenService tokenService;
+    private UUID userId;
+    private UUID clinicId;
+    private String accessToken;
+    private String refreshToken;
+    private String previousKeyToken;
+
+    @Setup
+    public void setUp() {
+        tokenService = new JwtTokenService(SECRET, "k2", "k1:" + PREVIOUS_SECRET, 1440, 30, "solutions-clinic");
+        userId = UUID.randomUUID();
+        clinicId = UUID.randomUUID();
+
+        JwtTokenService.IssuedTokens tokens = tokenService.issue(userId, clinicId);
+        accessToken = tokens.accessToken();
+        refreshToken = tokens.refreshToken();
+
+        JwtTokenService previous = new JwtTokenService(PREVIOUS_SECRET, "k1", "", 1440, 30, "solutions-clinic");
+        previousKeyToken = previous.issue(userId, clinicId).accessToken();
+    }
+
+    @Benchmark
+    public JwtTokenService.IssuedTokens issue() {
+        return tokenService.issue(userId, clinicId);
+    }
+
+    @Benchmark
+    public DecodedJWT verify() {
+        return tokenService.verify(accessToken);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyRefreshToken() {
+        return tokenService.verifyRefreshToken(refreshToken);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyPreviousKey() {
+        return tokenService.verify(previousKeyToken);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jettech.api.solutions_clinic.config;
+
+import com.jettech.api.solutions_clinic.config.replica.ReadConsistencyFilter;
+import com.jettech.api.solutions_clinic.config.replica.ReplicaRoutingDataSource;
+import com.jettech.api.solutions_clinic.config.replica.WalPositionTracker;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Réplica de leitura: transações {@code @Transactional(readOnly = true)} são atendidas pela réplica
+ * e as demais pelo primário, deixando o primário livre para agendamentos e outras escritas.
+ * <p>
+ * O LazyConnectionDataSourceProxy só obtém a conexão física no primeiro comando, depois que o
+ * gerenciador de transação marcou a conexão como readOnly, e então escolhe o pool de leitura.
+ * Ativado por app.datasource.replica.enabled; sem ele o DataSource padrão do Spring Boot é usado.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Value("${spring.datasource.url}") String primaryUrl,
+            @Value("${spring.datasource.username}") String primaryUsername,
+            @Value("${spring.datasource.password}") String primaryPassword,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int primaryPoolSize,
+            @Value("${app.datasource.replica.url}") String replicaUrl,
+            @Value("${app.datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+            @Value("${app.datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int replicaPoolSize
+    ) {
+        HikariDataSource primary = pool("primary", primaryUrl, primaryUsername, primaryPassword, primaryPoolSize, false);
+        HikariDataSource replica = pool("replica", replicaUrl, replicaUsername, replicaPassword, replicaPoolSize, true);
+        log.info("Réplica de leitura configurada: transações readOnly usarão {}", replicaUrl);
+        return new ReplicaRoutingDataSource(primary, replica);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource.getPrimary());
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    WalPositionTracker walPositionTracker(
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            @Value("${app.datasource.replica.consistency-refresh-ms:100}") long refreshMillis
+    ) {
+        return new WalPositionTracker(replicaRoutingDataSource, Duration.ofMillis(refreshMillis));
+    }
+
+    @Bean
+    ReadConsistencyFilter readConsistencyFilter(WalPositionTracker walPositionTracker) {
+        return new ReadConsistencyFilter(walPositionTracker);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         int maximumPoolSize, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setDriverClassName("org.postgresql.Driver");
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setReadOnly(readOnly);
+        return new HikariDataSource(config);
+    }
+}
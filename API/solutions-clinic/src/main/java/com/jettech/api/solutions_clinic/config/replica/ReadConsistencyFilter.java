@@ -0,0 +1,76 @@
+package com.jettech.api.solutions_clinic.config.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Read-your-writes com réplica de leitura. Respostas de escrita (POST/PUT/PATCH/DELETE) levam
+ * no header {@value #HEADER} a posição do WAL do primário; o cliente reenvia esse header e,
+ * se a réplica ainda não chegou nessa posição, as transações readOnly da requisição usam o primário.
+ */
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final WalPositionTracker walPositionTracker;
+
+    public ReadConsistencyFilter(WalPositionTracker walPositionTracker) {
+        this.walPositionTracker = walPositionTracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = request.getHeader(HEADER);
+        if (token != null && !walPositionTracker.replicaHasReplayed(token)) {
+            ReplicaRouting.requirePrimary();
+        }
+
+        try {
+            if (SAFE_METHODS.contains(request.getMethod())) {
+                chain.doFilter(request, response);
+                return;
+            }
+            ConsistencyTokenResponse wrapped = new ConsistencyTokenResponse(response);
+            chain.doFilter(request, wrapped);
+            wrapped.writeToken();
+        } finally {
+            ReplicaRouting.clear();
+        }
+    }
+
+    // O header precisa ser escrito antes do corpo; a transação do use case já foi confirmada nesse ponto
+    private final class ConsistencyTokenResponse extends OnCommittedResponseWrapper {
+
+        private boolean written;
+
+        ConsistencyTokenResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeToken();
+        }
+
+        void writeToken() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            String lsn = walPositionTracker.currentPrimaryLsn();
+            if (lsn != null) {
+                setHeader(HEADER, lsn);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.jettech.api.solutions_clinic.config.replica;
+
+/**
+ * Marca, por thread de requisição, que leituras devem ir ao primário mesmo em transações
+ * readOnly (a réplica ainda não aplicou uma escrita que o cliente já viu).
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
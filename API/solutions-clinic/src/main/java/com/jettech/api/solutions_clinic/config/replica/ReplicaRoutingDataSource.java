@@ -0,0 +1,47 @@
+package com.jettech.api.solutions_clinic.config.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.Map;
+
+/**
+ * Destino das conexões readOnly: a réplica, exceto quando a requisição exige o primário
+ * (ver {@link ReplicaRouting}). É dono dos dois pools e os fecha no shutdown.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public HikariDataSource getReplica() {
+        return replica;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReplicaRouting.isPrimaryRequired() ? PRIMARY : REPLICA;
+    }
+
+    @Override
+    public void destroy() {
+        replica.close();
+        primary.close();
+    }
+}
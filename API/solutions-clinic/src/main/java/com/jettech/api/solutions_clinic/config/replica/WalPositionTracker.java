@@ -0,0 +1,84 @@
+package com.jettech.api.solutions_clinic.config.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Posições do WAL (LSN) usadas no read-your-writes: após uma escrita o cliente recebe a posição
+ * atual do primário e a devolve nas leituras seguintes; enquanto a réplica não tiver aplicado
+ * essa posição, a leitura vai ao primário. A posição aplicada pela réplica é consultada no
+ * máximo uma vez por intervalo configurado e reaproveitada entre requisições.
+ */
+@Slf4j
+public class WalPositionTracker {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long refreshIntervalNanos;
+
+    private volatile long replayedLsn = -1;
+    private volatile long replayedCheckedAt;
+
+    public WalPositionTracker(ReplicaRoutingDataSource dataSources, Duration refreshInterval) {
+        this.primary = new JdbcTemplate(dataSources.getPrimary());
+        this.replica = new JdbcTemplate(dataSources.getReplica());
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    /** Posição atual do WAL no primário, no formato do Postgres (ex.: 0/16B3748). */
+    public String currentPrimaryLsn() {
+        try {
+            return primary.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível obter a posição do WAL no primário", e);
+            return null;
+        }
+    }
+
+    /** Indica se a réplica já aplicou a posição informada; token inválido conta como não aplicado. */
+    public boolean replicaHasReplayed(String token) {
+        long required = parse(token);
+        if (required < 0) {
+            return false;
+        }
+        if (replayedLsn >= required) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - replayedCheckedAt >= refreshIntervalNanos) {
+            refreshReplayedLsn(now);
+        }
+        return replayedLsn >= required;
+    }
+
+    private void refreshReplayedLsn(long now) {
+        replayedCheckedAt = now;
+        try {
+            // Fora de recuperação (ex.: réplica apontando para o próprio primário) vale a posição atual
+            String lsn = replica.queryForObject(
+                    "SELECT COALESCE(pg_last_wal_replay_lsn(), pg_current_wal_lsn())::text", String.class);
+            replayedLsn = Math.max(replayedLsn, parse(lsn));
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível obter a posição do WAL aplicada pela réplica", e);
+        }
+    }
+
+    static long parse(String lsn) {
+        if (lsn == null) {
+            return -1;
+        }
+        int slash = lsn.indexOf('/');
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            return -1;
+        }
+        try {
+            long high = Long.parseLong(lsn.substring(0, slash).trim(), 16);
+            long low = Long.parseLong(lsn.substring(slash + 1).trim(), 16);
+            return (high << 32) | low;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -16,6 +16,14 @@ public enum ApiError {
     PLAN_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "error.planNotSupported", "Plano não suportado."),
     INVALID_SIGNATURE(HttpStatus.BAD_REQUEST, "error.invalidSignature", "Assinatura inválida."),
     CATEGORY_TYPE_MISMATCH(HttpStatus.BAD_REQUEST, "error.categoryTypeMismatch", "O tipo da categoria não corresponde ao tipo da transação."),
+    INVALID_CALENDAR_RANGE(HttpStatus.BAD_REQUEST, "error.invalidCalendarRange", "Intervalo inválido: a data final deve ser igual ou posterior à inicial e o período não pode exceder %s dias."),
+    INVALID_IMPORT_FILE(HttpStatus.BAD_REQUEST, "error.invalidImportFile", "Arquivo de importação inválido. Envie um arquivo CSV ou NDJSON não vazio."),
+    INVALID_PATCH(HttpStatus.BAD_REQUEST, "error.invalidPatch", "Patch inválido: %s"),
+    INVALID_TEMPLATE_SCHEMA(HttpStatus.BAD_REQUEST, "error.invalidTemplateSchema", "Schema do modelo de prontuário inválido: %s"),
+    INVALID_MEDICAL_RECORD_CONTENT(HttpStatus.BAD_REQUEST, "error.invalidMedicalRecordContent", "Conteúdo do prontuário inválido: %s"),
+    VERSION_REQUIRED(HttpStatus.BAD_REQUEST, "error.versionRequired", "Informe a versão atual do registro no header If-Match."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "error.invalidDateRange", "Intervalo inválido: a data final deve ser igual ou posterior à inicial."),
+    INVALID_PAGE_CURSOR(HttpStatus.BAD_REQUEST, "error.invalidPageCursor", "Cursor de paginação inválido. Recomece pela primeira página."),
 
     // --- 401 Unauthorized ---
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "error.authenticationFailed", "Falha de autenticação."),
@@ -42,6 +50,10 @@ public enum ApiError {
     DUPLICATE_SCHEDULE(HttpStatus.CONFLICT, "error.duplicateSchedule", "Já existe uma agenda cadastrada para este profissional no %s."),
     DUPLICATE_PATIENT_CPF(HttpStatus.CONFLICT, "error.duplicatePatientCpf", "Paciente já existe com este CPF nesta clínica."),
     DUPLICATE_USER_TENANT_ROLE(HttpStatus.CONFLICT, "error.duplicateUserTenantRole", "Usuário já está associado à clínica com este papel."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "error.concurrentModification", "O registro foi alterado por outra requisição. Recarregue e tente novamente."),
+
+    // --- 412 Precondition Failed ---
+    MEDICAL_RECORD_PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "error.medicalRecordPreconditionFailed", "A versão informada não é a atual do prontuário (versão atual: %s). Recarregue antes de salvar."),
 
     // --- 422 Unprocessable Entity ---
     INVALID_STATE(HttpStatus.UNPROCESSABLE_ENTITY, "error.invalidState", "Estado inválido para esta operação."),
@@ -49,6 +61,9 @@ public enum ApiError {
     INVALID_STATE_ALREADY_TRIAL(HttpStatus.UNPROCESSABLE_ENTITY, "error.invalidStateAlreadyTrial", "A clínica já está em período de teste."),
     INVALID_STATE_APPOINTMENT_STATUS(HttpStatus.UNPROCESSABLE_ENTITY, "error.invalidStateAppointmentStatus", "Não é possível atualizar um agendamento com o status informado."),
     INVALID_STATE_PROCEDURE_INACTIVE(HttpStatus.UNPROCESSABLE_ENTITY, "error.invalidStateProcedureInactive", "O procedimento está inativo."),
+    INVALID_STATE_APPOINTMENT_TRANSITION(HttpStatus.UNPROCESSABLE_ENTITY, "error.invalidStateAppointmentTransition", "Transição %s não permitida para agendamento com status %s."),
+    INVALID_STATE_MEDICAL_RECORD_SIGNED(HttpStatus.UNPROCESSABLE_ENTITY, "error.invalidStateMedicalRecordSigned", "Prontuário assinado não pode ser alterado."),
+    PATCH_NOT_APPLICABLE(HttpStatus.UNPROCESSABLE_ENTITY, "error.patchNotApplicable", "O patch não se aplica ao conteúdo atual (teste falhou ou caminho inexistente)."),
     SCHEDULE_VALIDATION(HttpStatus.UNPROCESSABLE_ENTITY, "error.scheduleValidation", "Horário ou agenda inválida."),
     SCHEDULE_START_BEFORE_END(HttpStatus.UNPROCESSABLE_ENTITY, "error.scheduleStartBeforeEnd", "O horário de início deve ser anterior ao horário de término."),
     SCHEDULE_LUNCH_ORDER(HttpStatus.UNPROCESSABLE_ENTITY, "error.scheduleLunchOrder", "O horário de início do almoço deve ser anterior ao horário de término."),
@@ -57,6 +72,11 @@ public enum ApiError {
     SCHEDULE_IN_LUNCH_BREAK(HttpStatus.UNPROCESSABLE_ENTITY, "error.scheduleInLunchBreak", "O horário agendado está no intervalo de almoço do profissional."),
     SCHEDULE_DURATION_MULTIPLE(HttpStatus.UNPROCESSABLE_ENTITY, "error.scheduleDurationMultiple", "A duração do agendamento deve ser múltipla de %s minutos."),
 
+    // --- 429 Too Many Requests ---
+    LOGIN_ATTEMPTS_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "error.loginAttemptsExceeded", "Muitas tentativas de login. Tente novamente em %s segundos."),
+    PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "error.passwordHashingBusy", "Servidor ocupado processando logins. Tente novamente em instantes."),
+    CALENDAR_FEED_BUSY(HttpStatus.TOO_MANY_REQUESTS, "error.calendarFeedBusy", "Limite de conexões de atualização da agenda atingido. Tente novamente em instantes."),
+
     // --- 500 Internal Server Error ---
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "error.internalServerError", "Erro interno do servidor."),
     PAYMENT_SESSION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "error.paymentSessionError", "Erro ao criar sessão de pagamento.");
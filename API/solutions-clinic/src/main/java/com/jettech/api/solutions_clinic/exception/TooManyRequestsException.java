@@ -0,0 +1,34 @@
+package com.jettech.api.solutions_clinic.exception;
+
+/**
+ * Exceção lançada quando a requisição é recusada por limite de taxa ou por saturação
+ * de um recurso (ex.: tentativas de login, fila de hashing de senha cheia).
+ * O handler devolve 429 com o header Retry-After.
+ */
+public class TooManyRequestsException extends RuntimeException implements HasApiError {
+
+    private final ApiError apiError;
+    private final Object[] args;
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(ApiError apiError, long retryAfterSeconds, Object... args) {
+        super(apiError.formatMessage(args));
+        this.apiError = apiError;
+        this.args = args == null ? new Object[0] : args;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public ApiError getApiError() {
+        return apiError;
+    }
+
+    @Override
+    public Object[] getArgs() {
+        return args != null ? args : new Object[0];
+    }
+}
@@ -0,0 +1,34 @@
+package com.jettech.api.solutions_clinic.exception;
+
+/**
+ * Exceção lançada quando a versão informada pelo cliente (If-Match) não é a versão atual do registro.
+ * O handler devolve o status do ApiError (409 no patch, 412 no salvamento completo) com a versão
+ * atual no header ETag, para o cliente recarregar e reaplicar.
+ */
+public class VersionConflictException extends RuntimeException implements HasApiError {
+
+    private final ApiError apiError;
+    private final Object[] args;
+    private final long currentVersion;
+
+    public VersionConflictException(ApiError apiError, long currentVersion) {
+        super(apiError.formatMessage(currentVersion));
+        this.apiError = apiError;
+        this.args = new Object[]{currentVersion};
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+
+    @Override
+    public ApiError getApiError() {
+        return apiError;
+    }
+
+    @Override
+    public Object[] getArgs() {
+        return args;
+    }
+}
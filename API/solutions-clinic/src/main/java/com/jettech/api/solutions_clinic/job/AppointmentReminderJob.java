@@ -0,0 +1,99 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.repository.AppointmentReminderRepository;
+import com.jettech.api.solutions_clinic.model.service.reminder.ReminderDispatcher;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lembretes de agendamento: o scanner enfileira em appointment_reminders os agendamentos das
+ * próximas lead-hours horas (um INSERT ... SELECT por rodada) e o dispatcher envia a fila pelo
+ * ReminderChannel. Cada rodada fica em job_runs (rows_affected e duration_ms medem a vazão).
+ * O dispatcher espera entre lotes para respeitar a vazão e ocupa quase todo o intervalo: roda na
+ * própria thread, sem prender a thread do agendador dos demais jobs. Uma rodada por vez; o
+ * disparo que encontra a anterior em andamento é ignorado.
+ */
+@Slf4j
+@Component
+public class AppointmentReminderJob {
+
+    private final AppointmentReminderRepository appointmentReminderRepository;
+    private final ReminderDispatcher reminderDispatcher;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int leadHours;
+    private final ThreadPoolExecutor dispatchExecutor;
+
+    AppointmentReminderJob(
+            AppointmentReminderRepository appointmentReminderRepository,
+            ReminderDispatcher reminderDispatcher,
+            ClusterJobRunner clusterJobRunner,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.reminders.enabled:false}") boolean enabled,
+            @Value("${app.reminders.lead-hours:24}") int leadHours
+    ) {
+        this.appointmentReminderRepository = appointmentReminderRepository;
+        this.reminderDispatcher = reminderDispatcher;
+        this.clusterJobRunner = clusterJobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.leadHours = leadHours;
+        this.dispatchExecutor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                Thread.ofPlatform().name("appointment-reminder-dispatch").daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.scan-interval-ms:300000}")
+    public void scanUpcomingAppointments() {
+        if (!enabled) {
+            return;
+        }
+        clusterJobRunner.runExclusive("appointment-reminder-scan", Duration.ofMinutes(10), Duration.ZERO, this::scan);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.dispatch-interval-ms:10000}")
+    public void dispatchReminders() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(() -> clusterJobRunner.runExclusive(
+                    "appointment-reminder-dispatch", Duration.ofMinutes(10), Duration.ZERO, reminderDispatcher::dispatch));
+        } catch (RejectedExecutionException e) {
+            log.debug("Rodada anterior de envio de lembretes ainda em andamento");
+        }
+    }
+
+    long scan() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer enqueued = transactionTemplate.execute(status ->
+                appointmentReminderRepository.enqueueDue(now, now.plusHours(leadHours)));
+        int count = enqueued != null ? enqueued : 0;
+        if (count > 0) {
+            log.info("{} lembretes de agendamento enfileirados (próximas {} horas)", count, leadHours);
+        }
+        return count;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        dispatchExecutor.shutdownNow();
+        if (!dispatchExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Envio de lembretes não terminou no desligamento; os reservados voltam à fila após claim-timeout");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChangeLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Descarta o histórico do feed da agenda (calendar_changes) mais antigo que "retention-minutes"
+ * ou além de "backlog-per-tenant" alterações por clínica. Um resume token anterior ao que restou
+ * recebe "reset" no CalendarFeed.
+ */
+@Slf4j
+@Component
+public class CalendarChangePurgeJob {
+
+    private final CalendarChangeLog calendarChangeLog;
+    private final ClusterJobRunner clusterJobRunner;
+    private final Duration retention;
+    private final int backlogPerTenant;
+
+    CalendarChangePurgeJob(
+            CalendarChangeLog calendarChangeLog,
+            ClusterJobRunner clusterJobRunner,
+            @Value("${app.calendar-feed.retention-minutes:15}") long retentionMinutes,
+            @Value("${app.calendar-feed.backlog-per-tenant:500}") int backlogPerTenant
+    ) {
+        this.calendarChangeLog = calendarChangeLog;
+        this.clusterJobRunner = clusterJobRunner;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.backlogPerTenant = Math.max(1, backlogPerTenant);
+    }
+
+    @Scheduled(fixedDelayString = "${app.calendar-feed.purge-interval-ms:60000}")
+    public void purge() {
+        clusterJobRunner.runExclusive("calendar-change-purge", Duration.ofMinutes(5), Duration.ofSeconds(30), this::purgeExpired);
+    }
+
+    long purgeExpired() {
+        int deleted = calendarChangeLog.purge(LocalDateTime.now().minus(retention), backlogPerTenant);
+        log.debug("Histórico do feed da agenda: {} alterações descartadas", deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,115 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.entity.JobRun;
+import com.jettech.api.solutions_clinic.model.entity.JobRunStatus;
+import com.jettech.api.solutions_clinic.model.repository.JobRunRepository;
+import com.jettech.api.solutions_clinic.model.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Executa jobs agendados de forma segura com várias instâncias da API.
+ * <ul>
+ *   <li>{@link #runExclusive}: no máximo um nó executa o job por vez (lease em scheduler_locks).</li>
+ *   <li>{@link #runSharded}: o job é dividido em um número fixo de shards (hash do tenant), cada um com
+ *   o seu lease; os nós percorrem os shards e executam os que conseguem reservar.</li>
+ * </ul>
+ * Toda execução fica registrada em job_runs com duração e linhas afetadas.
+ */
+@Slf4j
+@Component
+public class ClusterJobRunner {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final ClusterMembership clusterMembership;
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final JobRunRepository jobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int shardCount;
+
+    ClusterJobRunner(
+            ClusterMembership clusterMembership,
+            SchedulerLockRepository schedulerLockRepository,
+            JobRunRepository jobRunRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.scheduler.shard-count:8}") int shardCount
+    ) {
+        this.clusterMembership = clusterMembership;
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardCount = Math.max(1, shardCount);
+    }
+
+    /**
+     * Executa o job em um único nó do cluster. O trabalho retorna o número de linhas afetadas.
+     *
+     * @param lockAtMostFor  duração máxima do lease (se o nó cair, outro assume depois disso)
+     * @param lockAtLeastFor duração mínima do lease (evita reexecução por nós com cron levemente defasado)
+     */
+    public void runExclusive(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, LongSupplier work) {
+        run(jobName, jobName, ShardAssignment.SINGLE, lockAtMostFor, lockAtLeastFor, work);
+    }
+
+    /**
+     * Executa um job particionado por hash de tenant em app.scheduler.shard-count shards fixos.
+     * Cada nó percorre todos os shards (a partir de um deslocamento derivado do seu id, para os nós
+     * não disputarem o mesmo shard) e executa os que conseguir reservar: o lease "job#i" é o mesmo
+     * para todos os nós, então cada shard roda uma vez por janela de lockAtLeastFor, e os shards de um
+     * nó que caiu ou entrou atrasado são assumidos pelos demais.
+     */
+    public void runSharded(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor,
+                           ToLongFunction<ShardAssignment> work) {
+        int offset = Math.floorMod(clusterMembership.getNodeId().hashCode(), shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            ShardAssignment shard = new ShardAssignment((offset + i) % shardCount, shardCount);
+            String lockName = jobName + "#" + shard.shardIndex();
+            run(jobName, lockName, shard, lockAtMostFor, lockAtLeastFor, () -> work.applyAsLong(shard));
+        }
+    }
+
+    private void run(String jobName, String lockName, ShardAssignment shard,
+                     Duration lockAtMostFor, Duration lockAtLeastFor, LongSupplier work) {
+        String nodeId = clusterMembership.getNodeId();
+        Integer acquired = transactionTemplate.execute(status ->
+                schedulerLockRepository.tryAcquire(lockName, nodeId, lockAtMostFor.toSeconds()));
+        if (acquired == null || acquired == 0) {
+            log.debug("Job {} já está em execução em outro nó (lock {}), ignorando", jobName, lockName);
+            return;
+        }
+
+        JobRun jobRun = new JobRun();
+        jobRun.setJobName(jobName);
+        jobRun.setNodeId(nodeId);
+        jobRun.setShardIndex(shard.shardIndex());
+        jobRun.setShardCount(shard.shardCount());
+        jobRun.setStartedAt(LocalDateTime.now());
+        jobRun = jobRunRepository.save(jobRun);
+
+        long start = System.nanoTime();
+        try {
+            long rowsAffected = work.getAsLong();
+            jobRun.setStatus(JobRunStatus.SUCCEEDED);
+            jobRun.setRowsAffected(rowsAffected);
+        } catch (RuntimeException e) {
+            log.error("Job {} falhou no nó {} (shard {}/{})", jobName, nodeId, shard.shardIndex(), shard.shardCount(), e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            jobRun.setStatus(JobRunStatus.FAILED);
+            jobRun.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        } finally {
+            jobRun.setFinishedAt(LocalDateTime.now());
+            jobRun.setDurationMs((System.nanoTime() - start) / 1_000_000);
+            jobRunRepository.save(jobRun);
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.release(lockName, nodeId, lockAtLeastFor.toSeconds()));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.jettech.api.solutions_clinic.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * Identidade deste nó nos leases de scheduler_locks e em job_runs. A divisão dos jobs
+ * particionados não depende da lista de nós vivos: os shards são fixos (ver
+ * ClusterJobRunner.runSharded).
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    private final String nodeId;
+
+    ClusterMembership(@Value("${app.scheduler.node-id:}") String configuredNodeId) {
+        this.nodeId = StringUtils.hasText(configuredNodeId) ? configuredNodeId : defaultNodeId();
+        log.info("Nó do agendador em cluster: {}", nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,129 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import com.jettech.api.solutions_clinic.model.repository.ArchivedAppointmentRepository;
+import com.jettech.api.solutions_clinic.model.repository.ArchivedMedicalRecordRepository;
+import com.jettech.api.solutions_clinic.model.repository.CalendarEntryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move agendamentos FINALIZADO (com seus procedimentos e prontuário assinado) mais antigos que
+ * o horizonte configurado para o schema archive (ver migração V13), em lotes de transação curta.
+ * Os prontuários arquivados continuam legíveis pelos use cases de leitura (read-through); as
+ * entradas da agenda (calendar_entries) dos agendamentos movidos são removidas no mesmo lote.
+ * A execução, que pode levar horas, roda em thread própria e não ocupa o pool do agendador.
+ */
+@Slf4j
+@Component
+public class ColdDataArchivalJob {
+
+    private final AppointmentRepository appointmentRepository;
+    private final ArchivedAppointmentRepository archivedAppointmentRepository;
+    private final ArchivedMedicalRecordRepository archivedMedicalRecordRepository;
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final int horizonMonths;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final ThreadPoolExecutor executor;
+
+    ColdDataArchivalJob(
+            AppointmentRepository appointmentRepository,
+            ArchivedAppointmentRepository archivedAppointmentRepository,
+            ArchivedMedicalRecordRepository archivedMedicalRecordRepository,
+            CalendarEntryRepository calendarEntryRepository,
+            ClusterJobRunner clusterJobRunner,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.archival.horizon-months:0}") int horizonMonths,
+            @Value("${app.archival.batch-size:500}") int batchSize,
+            @Value("${app.archival.max-batches-per-run:200}") int maxBatchesPerRun
+    ) {
+        this.appointmentRepository = appointmentRepository;
+        this.archivedAppointmentRepository = archivedAppointmentRepository;
+        this.archivedMedicalRecordRepository = archivedMedicalRecordRepository;
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.clusterJobRunner = clusterJobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.horizonMonths = horizonMonths;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        // Uma execução por vez, sem fila: se a anterior ainda estiver rodando, o disparo é descartado
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                Thread.ofPlatform().name("cold-data-archival").daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Roda todos os dias às 03:30, depois da manutenção de partições
+    @Scheduled(cron = "0 30 3 * * *")
+    public void archiveColdData() {
+        // 0 = arquivamento desligado
+        if (horizonMonths <= 0) {
+            return;
+        }
+        try {
+            executor.execute(() -> clusterJobRunner.runExclusive(
+                    "cold-data-archival", Duration.ofHours(2), Duration.ofMinutes(5), this::archive));
+        } catch (RejectedExecutionException e) {
+            log.warn("Arquivamento anterior ainda em execução; disparo ignorado");
+        }
+    }
+
+    long archive() {
+        LocalDateTime before = LocalDate.now().withDayOfMonth(1).minusMonths(horizonMonths).atStartOfDay();
+        long archived = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(before));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("{} agendamentos finalizados anteriores a {} movidos para o arquivo", archived, before);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime before) {
+        List<UUID> ids = appointmentRepository.findArchivableIds(before, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // Prontuários primeiro: o tenant ainda é lido da linha quente do agendamento
+        archivedMedicalRecordRepository.allowSignedRecordRemoval();
+        archivedMedicalRecordRepository.archiveByAppointmentIds(ids);
+        calendarEntryRepository.deleteByAppointmentIds(ids);
+        return archivedAppointmentRepository.archive(ids, before);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
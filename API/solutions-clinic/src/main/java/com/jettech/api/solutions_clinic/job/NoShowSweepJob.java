@@ -0,0 +1,64 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.AppointmentLifecycle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fim do dia: marca NAO_COMPARECEU os agendamentos AGENDADO/CONFIRMADO já encerrados dos últimos
+ * "days" dias (hoje incluso), de todas as clínicas, em um único UPDATE (ver AppointmentLifecycle.applyAll).
+ */
+@Slf4j
+@Component
+public class NoShowSweepJob {
+
+    private final AppointmentLifecycle appointmentLifecycle;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final int days;
+
+    NoShowSweepJob(
+            AppointmentLifecycle appointmentLifecycle,
+            ClusterJobRunner clusterJobRunner,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.no-show-sweep.days:0}") int days
+    ) {
+        this.appointmentLifecycle = appointmentLifecycle;
+        this.clusterJobRunner = clusterJobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.days = days;
+    }
+
+    @Scheduled(cron = "${app.no-show-sweep.cron:0 55 23 * * *}")
+    public void markNoShows() {
+        // 0 = varredura desligada (as clínicas usam o endpoint em lote)
+        if (days <= 0) {
+            return;
+        }
+        clusterJobRunner.runExclusive("no-show-sweep", Duration.ofMinutes(30), Duration.ofMinutes(1), this::sweep);
+    }
+
+    long sweep() {
+        LocalDate today = LocalDate.now();
+        long start = System.nanoTime();
+        List<UUID> marked = transactionTemplate.execute(status -> appointmentLifecycle.applyAll(
+                null,
+                null,
+                AppointmentTransition.NO_SHOW,
+                today.minusDays(days - 1L).atStartOfDay(),
+                today.plusDays(1).atStartOfDay()));
+        int count = marked != null ? marked.size() : 0;
+        log.info("Varredura de não comparecimento: {} agendamentos marcados em {} ms",
+                count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+}
@@ -0,0 +1,88 @@
+package com.jettech.api.solutions_clinic.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Mantém as partições mensais de appointments e financial_transactions (ver migração V12):
+ * cria as partições dos próximos meses e, se configurado, arquiva (DETACH + schema archive)
+ * as partições mais antigas que o período de retenção.
+ */
+@Slf4j
+@Component
+public class PartitionMaintenanceJob {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("appointments", "financial_transactions");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterJobRunner clusterJobRunner;
+    private final int monthsAhead;
+    private final int appointmentsRetentionMonths;
+    private final int financialTransactionsRetentionMonths;
+
+    PartitionMaintenanceJob(
+            JdbcTemplate jdbcTemplate,
+            ClusterJobRunner clusterJobRunner,
+            @Value("${app.partitions.months-ahead:12}") int monthsAhead,
+            @Value("${app.partitions.appointments.retention-months:0}") int appointmentsRetentionMonths,
+            @Value("${app.partitions.financial-transactions.retention-months:0}") int financialTransactionsRetentionMonths
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterJobRunner = clusterJobRunner;
+        this.monthsAhead = monthsAhead;
+        this.appointmentsRetentionMonths = appointmentsRetentionMonths;
+        this.financialTransactionsRetentionMonths = financialTransactionsRetentionMonths;
+    }
+
+    // Roda todos os dias às 02:30
+    @Scheduled(cron = "0 30 2 * * *")
+    public void maintainPartitions() {
+        clusterJobRunner.runExclusive("partition-maintenance", Duration.ofMinutes(30), Duration.ofMinutes(5), this::maintain);
+    }
+
+    long maintain() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        long changed = 0;
+
+        for (String table : PARTITIONED_TABLES) {
+            for (int i = 0; i <= monthsAhead; i++) {
+                LocalDate month = currentMonth.plusMonths(i);
+                Boolean created = jdbcTemplate.queryForObject(
+                        "SELECT ensure_monthly_partition(?, ?)", Boolean.class, table, Date.valueOf(month));
+                if (Boolean.TRUE.equals(created)) {
+                    log.info("Partição criada: {} ({})", table, month);
+                    changed++;
+                }
+            }
+
+            int retentionMonths = retentionMonths(table);
+            if (retentionMonths > 0) {
+                LocalDate before = currentMonth.minusMonths(retentionMonths);
+                Integer archived = jdbcTemplate.queryForObject(
+                        "SELECT archive_monthly_partitions(?, ?)", Integer.class, table, Date.valueOf(before));
+                if (archived != null && archived > 0) {
+                    log.info("{} partições de {} anteriores a {} arquivadas no schema archive", archived, table, before);
+                    changed += archived;
+                }
+            }
+        }
+        return changed;
+    }
+
+    // 0 = nunca arquivar
+    private int retentionMonths(String table) {
+        return switch (table) {
+            case "appointments" -> appointmentsRetentionMonths;
+            case "financial_transactions" -> financialTransactionsRetentionMonths;
+            default -> 0;
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImportStatus;
+import com.jettech.api.solutions_clinic.model.repository.PatientImportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Encerra importações de pacientes abandonadas: PENDING ou RUNNING sem progresso há mais de
+ * app.patient-import.stale-after-minutes. A fila de importações fica em memória e o arquivo em disco
+ * local, então após queda ou reinício do nó não há como retomá-las; o cliente vê FAILED e reenvia.
+ * Importações em andamento atualizam updated_at a cada lote e não são afetadas.
+ */
+@Slf4j
+@Component
+public class PatientImportRecoveryJob {
+
+    private static final String ERROR = "Importação interrompida por reinício do servidor. Envie o arquivo novamente.";
+
+    private final PatientImportRepository patientImportRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration staleAfter;
+
+    PatientImportRecoveryJob(
+            PatientImportRepository patientImportRepository,
+            ClusterJobRunner clusterJobRunner,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.patient-import.stale-after-minutes:30}") long staleAfterMinutes
+    ) {
+        this.patientImportRepository = patientImportRepository;
+        this.clusterJobRunner = clusterJobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.staleAfter = Duration.ofMinutes(Math.max(1, staleAfterMinutes));
+    }
+
+    @Scheduled(fixedDelayString = "${app.patient-import.recovery-interval-ms:300000}")
+    public void failStaleImports() {
+        clusterJobRunner.runExclusive("patient-import-recovery", Duration.ofMinutes(5), Duration.ZERO, this::failStale);
+    }
+
+    long failStale() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer failed = transactionTemplate.execute(status -> patientImportRepository.failStale(
+                List.of(PatientImportStatus.PENDING, PatientImportStatus.RUNNING),
+                PatientImportStatus.FAILED,
+                ERROR,
+                now.minus(staleAfter),
+                now));
+        if (failed != null && failed > 0) {
+            log.warn("{} importações de pacientes abandonadas marcadas como FAILED", failed);
+        }
+        return failed != null ? failed : 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Remove os registros de refresh tokens expirados há mais de "retention-days" dias. Enquanto o
+ * registro existe, a reapresentação de um token usado ainda revoga a família; depois de expirado
+ * o próprio JWT já é recusado na verificação.
+ */
+@Slf4j
+@Component
+public class RefreshTokenCleanupJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+
+    RefreshTokenCleanupJob(
+            RefreshTokenRepository refreshTokenRepository,
+            ClusterJobRunner clusterJobRunner,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.refresh-tokens.retention-days:1}") int retentionDays
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clusterJobRunner = clusterJobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(cron = "${app.refresh-tokens.cleanup-cron:0 30 4 * * *}")
+    public void deleteExpired() {
+        clusterJobRunner.runExclusive("refresh-token-cleanup", Duration.ofMinutes(30), Duration.ofMinutes(1), this::cleanup);
+    }
+
+    long cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpired(before));
+        int count = deleted != null ? deleted : 0;
+        log.info("Limpeza de refresh tokens: {} registros expirados removidos", count);
+        return count;
+    }
+}
@@ -0,0 +1,13 @@
+package com.jettech.api.solutions_clinic.job;
+
+/**
+ * Fatia de um job particionado: processa os registros cujo
+ * hash(tenant) % shardCount == shardIndex. Jobs não particionados usam SINGLE.
+ */
+public record ShardAssignment(
+    int shardIndex,
+    int shardCount
+) {
+
+    public static final ShardAssignment SINGLE = new ShardAssignment(0, 1);
+}
@@ -0,0 +1,55 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.entity.StripeEvent;
+import com.jettech.api.solutions_clinic.model.repository.StripeEventRepository;
+import com.jettech.api.solutions_clinic.model.service.stripe.StripeEventProcessor;
+import com.jettech.api.solutions_clinic.model.service.stripe.StripeEventWorkerPool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Redespacha eventos do Stripe que não foram concluídos: falhas com tentativas restantes,
+ * eventos que não couberam na fila dos workers e reservas abandonadas (ex.: restart da aplicação).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StripeEventRetryJob {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final StripeEventRepository stripeEventRepository;
+    private final StripeEventProcessor stripeEventProcessor;
+    private final StripeEventWorkerPool stripeEventWorkerPool;
+    private final ClusterJobRunner clusterJobRunner;
+
+    // Um único nó varre a tabela por vez; a reserva (claim) por evento continua garantindo exclusividade
+    @Scheduled(fixedDelayString = "${stripe.webhook.retry-interval-ms:60000}")
+    public void redispatchPendingEvents() {
+        clusterJobRunner.runExclusive("stripe-event-retry", Duration.ofMinutes(5), Duration.ZERO, this::redispatch);
+    }
+
+    long redispatch() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(stripeEventProcessor.getClaimTimeout());
+        List<StripeEvent> events = stripeEventRepository.findReadyForDispatch(
+                staleBefore,
+                stripeEventProcessor.getMaxAttempts(),
+                BATCH_SIZE);
+
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        log.info("Redespachando {} eventos do Stripe pendentes", events.size());
+        for (StripeEvent event : events) {
+            stripeEventWorkerPool.dispatch(event.getId(), event.getOrderingKey());
+        }
+        return events.size();
+    }
+}
@@ -1,62 +1,94 @@
 package com.jettech.api.solutions_clinic.job;
 
-import com.jettech.api.solutions_clinic.model.entity.Tenant;
-import com.jettech.api.solutions_clinic.model.entity.TenantStatus;
 import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // Para logs
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 @Slf4j // Log é essencial em jobs para saber se está rodando
-@RequiredArgsConstructor
 public class TrialExpirationJob {
 
     private final TenantRepository tenantRepository;
+    private final ClusterJobRunner clusterJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    TrialExpirationJob(
+            TenantRepository tenantRepository,
+            ClusterJobRunner clusterJobRunner,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.trial.expiration.batch-size:500}") int batchSize
+    ) {
+        this.tenantRepository = tenantRepository;
+        this.clusterJobRunner = clusterJobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
 
     // Roda todos os dias às 03:00 da manhã
     // Cron expression: Seg Min Hora Dia Mês DiaSemana
     //    @Scheduled(fixedRate = 10000)
+    // Com várias instâncias, os nós dividem entre si os shards de tenants (ver ClusterJobRunner)
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional // Abre transação para poder salvar as alterações
     public void verifyExpiredTrials() {
-        log.info("Iniciando verificação de períodos de teste expirados...");
+        clusterJobRunner.runSharded("trial-expiration", Duration.ofMinutes(30), Duration.ofMinutes(5), this::expireShard);
+    }
 
-        LocalDate now = LocalDate.now();
+    long expireShard(ShardAssignment shard) {
+        log.info("Iniciando verificação de períodos de teste expirados (shard {}/{})...",
+                shard.shardIndex(), shard.shardCount());
 
-        // 1. Busca quem deve ser suspenso (tenants com status TRIAL e trial expirado)
-        List<Tenant> expiredTenants = tenantRepository.findExpiredTrials(TenantStatus.TRIAL, now);
+        LocalDate today = LocalDate.now();
+        long jobStart = System.nanoTime();
+        int chunk = 0;
+        int total = 0;
 
-        if (expiredTenants.isEmpty()) {
-            log.info("Nenhum tenant expirado encontrado hoje.");
-            return;
-        }
+        // Cada lote é um UPDATE ... RETURNING id em transação própria: nenhuma entidade é
+        // carregada e os locks duram apenas o lote. Para quando um lote vem incompleto.
+        while (true) {
+            long chunkStart = System.nanoTime();
+            List<UUID> suspended = transactionTemplate.execute(
+                    status -> tenantRepository.suspendExpiredTrials(
+                            today, shard.shardIndex(), shard.shardCount(), batchSize));
+            if (suspended == null || suspended.isEmpty()) {
+                break;
+            }
 
-        log.info("Encontrados {} tenants com trial expirado. Iniciando suspensão...", expiredTenants.size());
+            chunk++;
+            total += suspended.size();
+            log.info("Lote {}: {} tenants suspensos em {} ms", chunk, suspended.size(),
+                    (System.nanoTime() - chunkStart) / 1_000_000);
 
-        // 2. Atualiza o status
-        for (Tenant tenant : expiredTenants) {
             try {
-                tenant.setStatus(TenantStatus.SUSPENDED);
-                tenant.setActive(false); // Bloqueia login imediatamente
-
-                // Opcional: Aqui você enviaria um e-mail avisando "Seu teste acabou, assine agora!"
-                // emailService.sendTrialExpiredEmail(tenant.getOwnerEmail());
-
-                log.info("Tenant suspenso: {} ({})", tenant.getName(), tenant.getId());
+                eventPublisher.publishEvent(new TrialsExpiredEvent(suspended));
             } catch (Exception e) {
-                log.error("Erro ao suspender tenant {}", tenant.getId(), e);
+                log.error("Erro ao notificar suspensão do lote {} ({} tenants)", chunk, suspended.size(), e);
+            }
+
+            if (suspended.size() < batchSize) {
+                break;
             }
         }
 
-        // 3. Salva todos (o @Transactional garante o commit no final)
-        tenantRepository.saveAll(expiredTenants);
+        if (total == 0) {
+            log.info("Nenhum tenant expirado encontrado hoje.");
+            return 0;
+        }
 
-        log.info("Job finalizado com sucesso.");
+        log.info("Job finalizado com sucesso: {} tenants suspensos em {} lotes ({} ms).",
+                total, chunk, (System.nanoTime() - jobStart) / 1_000_000);
+        return total;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.jettech.api.solutions_clinic.job;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publicado pelo TrialExpirationJob após o commit de cada lote de tenants suspensos.
+ * Ponto de extensão para efeitos colaterais (notificação "seu teste acabou", invalidação de cache etc.).
+ */
+public record TrialsExpiredEvent(
+    List<UUID> tenantIds
+) {
+}
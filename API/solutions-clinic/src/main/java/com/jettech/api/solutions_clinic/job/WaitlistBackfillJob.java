@@ -0,0 +1,29 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.WaitlistBackfiller;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Consome periodicamente a fila de horários liberados da lista de espera (waitlist_freed_slots):
+ * horários gravados por instâncias que caíram antes do encaixe e os que falharam e voltaram à fila.
+ * Os cancelamentos recentes já são encaixados logo após o commit pelo WaitlistBackfiller.
+ */
+@Component
+public class WaitlistBackfillJob {
+
+    private final WaitlistBackfiller waitlistBackfiller;
+    private final ClusterJobRunner clusterJobRunner;
+
+    WaitlistBackfillJob(WaitlistBackfiller waitlistBackfiller, ClusterJobRunner clusterJobRunner) {
+        this.waitlistBackfiller = waitlistBackfiller;
+        this.clusterJobRunner = clusterJobRunner;
+    }
+
+    @Scheduled(fixedDelayString = "${app.waitlist.backfill-interval-ms:60000}")
+    public void backfill() {
+        clusterJobRunner.runExclusive("waitlist-backfill", Duration.ofMinutes(10), Duration.ZERO, waitlistBackfiller::drain);
+    }
+}
@@ -0,0 +1,77 @@
+package com.jettech.api.solutions_clinic.model.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Objects;
+
+/**
+ * Documento JSON mantido como o texto lido da coluna JSONB. Vai para a resposta sem
+ * passar por árvore (via @JsonRawValue) e só é convertido em JsonNode quando alguma
+ * regra do servidor precisa inspecionar o conteúdo; a árvore fica em cache na instância.
+ */
+public final class RawJson {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String json;
+    private volatile JsonNode node;
+
+    private RawJson(String json, JsonNode node) {
+        this.json = json;
+        this.node = node;
+    }
+
+    public static RawJson of(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        return new RawJson(json, null);
+    }
+
+    public static RawJson of(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        return new RawJson(node.toString(), node);
+    }
+
+    /** Texto JSON de um valor possivelmente nulo, para campos @JsonRawValue das respostas. */
+    public static String json(RawJson value) {
+        return value != null ? value.json : null;
+    }
+
+    public String json() {
+        return json;
+    }
+
+    /** Árvore do documento, parseada no primeiro uso. Somente leitura: alterá-la não muda o texto. */
+    public JsonNode toNode() {
+        JsonNode parsed = node;
+        if (parsed == null) {
+            try {
+                parsed = MAPPER.readTree(json);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Falha ao deserializar JSON da coluna", e);
+            }
+            node = parsed;
+        }
+        return parsed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof RawJson raw && json.equals(raw.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(json);
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
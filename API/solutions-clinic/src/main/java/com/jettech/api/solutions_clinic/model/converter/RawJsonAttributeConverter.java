@@ -0,0 +1,24 @@
+package com.jettech.api.solutions_clinic.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Converte entre RawJson (entidade) e o texto da coluna JSONB sem parsear o documento.
+ * Imutável para o Hibernate: o dirty checking compara o texto em vez de copiar árvores.
+ */
+@Immutable
+@Converter(autoApply = false)
+public class RawJsonAttributeConverter implements AttributeConverter<RawJson, String> {
+
+    @Override
+    public String convertToDatabaseColumn(RawJson attribute) {
+        return RawJson.json(attribute);
+    }
+
+    @Override
+    public RawJson convertToEntityAttribute(String dbData) {
+        return RawJson.of(dbData);
+    }
+}
@@ -1,12 +1,16 @@
 package com.jettech.api.solutions_clinic.model.entity;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
+import com.jettech.api.solutions_clinic.model.converter.RawJsonAttributeConverter;
+import com.jettech.api.solutions_clinic.model.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.type.SqlTypes;
 
@@ -20,10 +24,11 @@ import java.util.UUID;
 @Setter
 @EqualsAndHashCode(of = "id")
 @Entity(name = "appointments")
+@Filter(name = Tenant.FILTER)
 public class Appointment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -42,6 +47,9 @@ public class Appointment {
     @JoinColumn(name = "room_id")
     private Room room;
 
+    // Chave de partição: o Hibernate a inclui no WHERE de UPDATE/DELETE (valor carregado), então a
+    // escrita atinge só a partição da linha
+    @PartitionKey
     @Column(name = "scheduled_at", nullable = false)
     private LocalDateTime scheduledAt;
 
@@ -85,9 +93,10 @@ public class Appointment {
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
 
+    @Convert(converter = RawJsonAttributeConverter.class)
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "vital_signs", columnDefinition = "jsonb")
-    private JsonNode vitalSigns;
+    private RawJson vitalSigns;
 
     @OneToMany(mappedBy = "appointment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<AppointmentProcedure> procedures = new ArrayList<>();
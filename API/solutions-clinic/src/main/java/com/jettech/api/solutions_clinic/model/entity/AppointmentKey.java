@@ -0,0 +1,27 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Índice global id -> scheduled_at dos agendamentos (ver migração V22), mantido por gatilhos em
+ * appointments. Serve de alvo para as FKs das tabelas filhas e para localizar a partição de um
+ * agendamento a partir do id. Somente leitura na aplicação.
+ */
+@Getter
+@EqualsAndHashCode(of = "id")
+@Entity(name = "appointment_keys")
+@Immutable
+public class AppointmentKey {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
+}
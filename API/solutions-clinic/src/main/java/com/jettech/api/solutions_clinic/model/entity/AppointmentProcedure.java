@@ -1,5 +1,6 @@
 package com.jettech.api.solutions_clinic.model.entity;
 
+import com.jettech.api.solutions_clinic.model.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @Entity(name = "appointment_procedures")
 public class AppointmentProcedure {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -0,0 +1,65 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lembrete de agendamento na fila de envio (um por agendamento e horário).
+ * Inserido em lote pelo scanner e atualizado pelo dispatcher (ver ReminderDispatcher).
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity(name = "appointment_reminders")
+@Filter(name = Tenant.FILTER)
+public class AppointmentReminder {
+
+    // Gerado no INSERT em lote do scanner
+    @Id
+    private UUID id;
+
+    @Column(name = "appointment_id", nullable = false)
+    private UUID appointmentId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    // Horário do agendamento quando o lembrete foi gerado
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReminderChannelType channel;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AppointmentReminderStatus status = AppointmentReminderStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
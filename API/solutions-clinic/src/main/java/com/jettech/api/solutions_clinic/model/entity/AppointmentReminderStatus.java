@@ -0,0 +1,9 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+public enum AppointmentReminderStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,42 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tabela de transições do ciclo de vida do agendamento: cada transição leva a um único status e só
+ * parte dos status listados. FINALIZADO, CANCELADO e NAO_COMPARECEU são finais.
+ * <pre>
+ * AGENDADO → CONFIRMADO → EM_ATENDIMENTO → FINALIZADO
+ *     └──────────┴→ CANCELADO | NAO_COMPARECEU
+ * </pre>
+ */
+public enum AppointmentTransition {
+    CONFIRM(AppointmentStatus.CONFIRMADO, AppointmentStatus.AGENDADO),
+    CHECK_IN(AppointmentStatus.EM_ATENDIMENTO, AppointmentStatus.AGENDADO, AppointmentStatus.CONFIRMADO),
+    FINISH(AppointmentStatus.FINALIZADO, AppointmentStatus.EM_ATENDIMENTO),
+    CANCEL(AppointmentStatus.CANCELADO, AppointmentStatus.AGENDADO, AppointmentStatus.CONFIRMADO),
+    NO_SHOW(AppointmentStatus.NAO_COMPARECEU, AppointmentStatus.AGENDADO, AppointmentStatus.CONFIRMADO);
+
+    private final AppointmentStatus target;
+    private final Set<AppointmentStatus> sources;
+
+    AppointmentTransition(AppointmentStatus target, AppointmentStatus first, AppointmentStatus... rest) {
+        this.target = target;
+        this.sources = EnumSet.of(first, rest);
+    }
+
+    public AppointmentStatus getTarget() {
+        return target;
+    }
+
+    public boolean allows(AppointmentStatus from) {
+        return sources.contains(from);
+    }
+
+    /** Status de origem como gravados na coluna, para o UPDATE em lote. */
+    public List<String> sourceNames() {
+        return sources.stream().map(Enum::name).toList();
+    }
+}
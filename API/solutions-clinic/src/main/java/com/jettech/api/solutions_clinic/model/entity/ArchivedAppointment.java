@@ -0,0 +1,47 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jettech.api.solutions_clinic.model.converter.JsonNodeAttributeConverter;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Agendamento finalizado movido para o arquivo frio (ver migração V13).
+ * "data" contém a linha original de appointments e seus procedimentos.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(schema = "archive", name = "finished_appointments")
+@Filter(name = Tenant.FILTER)
+public class ArchivedAppointment {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Column(name = "professional_id", nullable = false)
+    private UUID professionalId;
+
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Convert(converter = JsonNodeAttributeConverter.class)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private JsonNode data;
+}
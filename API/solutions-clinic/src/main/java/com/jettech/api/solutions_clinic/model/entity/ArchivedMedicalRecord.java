@@ -0,0 +1,44 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jettech.api.solutions_clinic.model.converter.JsonNodeAttributeConverter;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Prontuário assinado movido para o arquivo frio (ver migração V13).
+ * "data" contém a linha original de medical_records.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(schema = "archive", name = "signed_medical_records")
+@Filter(name = Tenant.FILTER)
+public class ArchivedMedicalRecord {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "appointment_id", nullable = false, unique = true)
+    private UUID appointmentId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "signed_at", nullable = false)
+    private LocalDateTime signedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Convert(converter = JsonNodeAttributeConverter.class)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private JsonNode data;
+}
@@ -0,0 +1,66 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha do modelo de leitura da agenda (desnormalizado a partir de appointments).
+ * Mantida pelo CalendarEntryProjector na mesma transação das escritas de agendamento.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "appointmentId")
+@Entity(name = "calendar_entries")
+@Filter(name = Tenant.FILTER)
+public class CalendarEntry {
+
+    @Id
+    @Column(name = "appointment_id")
+    private UUID appointmentId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "professional_id", nullable = false)
+    private UUID professionalId;
+
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Column(name = "room_id")
+    private UUID roomId;
+
+    @Column(name = "professional_name", nullable = false, length = 511)
+    private String professionalName;
+
+    @Column(name = "patient_name", nullable = false)
+    private String patientName;
+
+    @Column(name = "room_name")
+    private String roomName;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AppointmentStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false, length = 20)
+    private PaymentStatus paymentStatus;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -17,6 +18,7 @@ import java.util.UUID;
 @Table(uniqueConstraints = {
     @UniqueConstraint(name = "uk_financial_category_name_tenant", columnNames = {"name", "tenant_id"})
 })
+@Filter(name = Tenant.FILTER)
 public class FinancialCategory {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -1,10 +1,12 @@
 package com.jettech.api.solutions_clinic.model.entity;
 
+import com.jettech.api.solutions_clinic.model.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -16,10 +18,11 @@ import java.util.UUID;
 @Setter
 @EqualsAndHashCode(of = "id")
 @Entity(name = "financial_transactions")
+@Filter(name = Tenant.FILTER)
 public class FinancialTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -47,6 +50,10 @@ public class FinancialTransaction {
     @Column(name = "payment_date")
     private LocalDate paymentDate; // Data da liquidação efetiva
 
+    // Chave de partição da tabela (mensal): paymentDate quando pago, senão dueDate
+    @Column(name = "reference_date", nullable = false)
+    private LocalDate referenceDate;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private PaymentStatus status; // PENDENTE, PAGO, CANCELADO
@@ -70,4 +77,10 @@ public class FinancialTransaction {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void syncReferenceDate() {
+        this.referenceDate = paymentDate != null ? paymentDate : dueDate;
+    }
 }
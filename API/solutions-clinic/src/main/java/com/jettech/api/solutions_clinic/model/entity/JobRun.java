@@ -0,0 +1,54 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Histórico de execução de um job agendado (ou de um shard dele) em um nó do cluster.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity(name = "job_runs")
+public class JobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Column(name = "node_id", nullable = false)
+    private String nodeId;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Column(name = "shard_count", nullable = false)
+    private int shardCount = 1;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobRunStatus status = JobRunStatus.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "rows_affected")
+    private Long rowsAffected;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+}
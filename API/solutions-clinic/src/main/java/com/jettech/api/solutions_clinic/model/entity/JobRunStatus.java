@@ -0,0 +1,7 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
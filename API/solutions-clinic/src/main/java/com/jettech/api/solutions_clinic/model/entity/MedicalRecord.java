@@ -1,13 +1,15 @@
 package com.jettech.api.solutions_clinic.model.entity;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.jettech.api.solutions_clinic.model.converter.JsonNodeAttributeConverter;
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
+import com.jettech.api.solutions_clinic.model.converter.RawJsonAttributeConverter;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -31,17 +33,41 @@ public class MedicalRecord {
     @JoinColumn(name = "template_id", nullable = false)
     private MedicalRecordTemplate template;
 
-    @Convert(converter = JsonNodeAttributeConverter.class)
+    // Texto do JSONB repassado sem parse; ver RawJson
+    @Convert(converter = RawJsonAttributeConverter.class)
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(nullable = false, columnDefinition = "jsonb")
-    private JsonNode content;
+    private RawJson content;
 
-    @Convert(converter = JsonNodeAttributeConverter.class)
+    @Convert(converter = RawJsonAttributeConverter.class)
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "vital_signs", columnDefinition = "jsonb")
-    private JsonNode vitalSigns;
+    private RawJson vitalSigns;
 
     @Column(name = "signed_at")
     private LocalDateTime signedAt;
 
+    // Cadeia de integridade, preenchida na assinatura (ver MedicalRecordSeal)
+    @Column(name = "patient_id")
+    private UUID patientId;
+
+    @Column(name = "chain_position")
+    private Long chainPosition;
+
+    @Column(name = "previous_record_id")
+    private UUID previousRecordId;
+
+    @Column(name = "previous_digest", length = 64)
+    private String previousDigest;
+
+    @Column(length = 64)
+    private String digest;
+
+    // Incrementada também pelo PATCH (UPDATE nativo); ver MedicalRecordRepository
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -0,0 +1,43 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Último elo da cadeia de prontuários assinados de um paciente (ver migração V15).
+ * Lido e avançado na assinatura com a linha do paciente bloqueada.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "patientId")
+@Entity(name = "medical_record_chains")
+@Filter(name = Tenant.FILTER)
+public class MedicalRecordChain {
+
+    @Id
+    @Column(name = "patient_id")
+    private UUID patientId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "last_position", nullable = false)
+    private long lastPosition;
+
+    @Column(name = "last_record_id", nullable = false)
+    private UUID lastRecordId;
+
+    @Column(name = "last_digest", nullable = false, length = 64)
+    private String lastDigest;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -2,6 +2,7 @@ package com.jettech.api.solutions_clinic.model.entity;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import lombok.EqualsAndHashCode;
@@ -18,6 +19,8 @@ import java.util.UUID;
 @EqualsAndHashCode(of = "id")
 @Entity
 @Table(name = "medical_record_templates")
+// Modelos globais (tenant_id NULL) são visíveis para todas as clínicas
+@Filter(name = Tenant.FILTER, condition = "(tenant_id IS NULL OR tenant_id = :" + Tenant.FILTER_PARAM + ")")
 public class MedicalRecordTemplate {
 
     @Id
@@ -7,6 +7,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -19,6 +20,7 @@ import java.util.UUID;
 @Table(uniqueConstraints = {
     @UniqueConstraint(name = "uk_patient_cpf_tenant", columnNames = {"cpf", "tenant_id"})
 })
+@Filter(name = Tenant.FILTER)
 public class Patient {
 
     @Id
@@ -0,0 +1,70 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Importação em massa de pacientes a partir de um arquivo CSV ou NDJSON.
+ * Os contadores são atualizados a cada lote gravado, permitindo acompanhar o progresso.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity(name = "patient_imports")
+@Filter(name = Tenant.FILTER)
+public class PatientImport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PatientImportFormat format;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PatientImportStatus status = PatientImportStatus.PENDING;
+
+    @Column(name = "processed_rows", nullable = false)
+    private int processedRows;
+
+    @Column(name = "imported_rows", nullable = false)
+    private int importedRows;
+
+    @Column(name = "duplicate_rows", nullable = false)
+    private int duplicateRows;
+
+    @Column(name = "failed_rows", nullable = false)
+    private int failedRows;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Última mudança de status ou progresso; importações paradas há muito tempo são dadas como perdidas
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
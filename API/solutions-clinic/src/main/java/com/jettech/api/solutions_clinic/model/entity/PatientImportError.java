@@ -0,0 +1,33 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Erro de uma linha do arquivo de importação de pacientes.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity(name = "patient_import_errors")
+public class PatientImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "import_id", nullable = false)
+    private UUID importId;
+
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    private String cpf;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+}
@@ -0,0 +1,6 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+public enum PatientImportFormat {
+    CSV,
+    NDJSON
+}
@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -15,6 +16,7 @@ import java.util.UUID;
 @Setter
 @EqualsAndHashCode(of = "id")
 @Entity(name = "procedures")
+@Filter(name = Tenant.FILTER)
 public class Procedure {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -0,0 +1,41 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh token emitido, identificado pelo jti do JWT (o token em si não é guardado).
+ * Tokens da mesma família descendem do mesmo login; ver migração V23.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "jti")
+@Entity(name = "refresh_tokens")
+public class RefreshToken {
+
+    @Id
+    private UUID jti;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+}
@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,7 @@ import java.util.UUID;
 @EqualsAndHashCode(of = "id")
 @Entity(name = "rooms")
 @Table(name = "rooms")
+@Filter(name = Tenant.FILTER)
 public class Room {
 
     @Id
@@ -0,0 +1,31 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease de execução de um job agendado. Enquanto locked_until estiver no futuro,
+ * apenas o nó locked_by executa o job (ou o shard) com este nome.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "name")
+@Entity(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @Id
+    private String name;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
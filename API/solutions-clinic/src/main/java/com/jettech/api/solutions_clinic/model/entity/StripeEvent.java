@@ -0,0 +1,55 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento bruto recebido pelo webhook do Stripe.
+ * O id é o próprio id do evento no Stripe (evt_...), o que garante a deduplicação de reenvios.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity(name = "stripe_events")
+public class StripeEvent {
+
+    @Id
+    @Column(length = 255)
+    private String id;
+
+    @Column(nullable = false, length = 100)
+    private String type;
+
+    // Chave de ordenação: eventos com a mesma chave (subscription) são processados em série
+    @Column(name = "ordering_key", nullable = false)
+    private String orderingKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StripeEventStatus status = StripeEventStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "stripe_created_at")
+    private LocalDateTime stripeCreatedAt;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
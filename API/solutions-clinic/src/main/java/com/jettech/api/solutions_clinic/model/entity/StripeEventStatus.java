@@ -0,0 +1,8 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+public enum StripeEventStatus {
+    PENDING,
+    PROCESSING,
+    PROCESSED,
+    FAILED
+}
@@ -57,6 +57,10 @@ public class Subscription {
     @Column(name = "canceled_at")
     private LocalDateTime canceledAt;
 
+    // created do último evento do Stripe aplicado; eventos mais antigos chegando depois são descartados
+    @Column(name = "stripe_event_applied_at")
+    private LocalDateTime stripeEventAppliedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -16,8 +18,22 @@ import java.util.UUID;
 @Setter
 @EqualsAndHashCode(of = "id")
 @Entity(name = "tenant")
+@FilterDef(
+        name = Tenant.FILTER,
+        parameters = @ParamDef(name = Tenant.FILTER_PARAM, type = UUID.class),
+        defaultCondition = "tenant_id = :" + Tenant.FILTER_PARAM,
+        applyToLoadByKey = true
+)
 public class Tenant {
 
+    /**
+     * Filtro de tenant das entidades com tenant_id ({@code @Filter(name = Tenant.FILTER)}).
+     * Habilitado pelo TenantFilterConfig em toda sessão aberta numa requisição autenticada,
+     * inclusive em buscas por id, então linhas de outra clínica nunca são carregadas.
+     */
+    public static final String FILTER = "tenantFilter";
+    public static final String FILTER_PARAM = "tenantId";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -0,0 +1,32 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+/**
+ * Métricas normalizadas em vital_sign_readings. "key" é o campo correspondente no JSON de
+ * sinais vitais da triagem; a pressão arterial ("bloodPressure", texto "120/80") vira duas métricas.
+ */
+public enum VitalSignMetric {
+    SYSTOLIC_BLOOD_PRESSURE("bloodPressure", "mmHg"),
+    DIASTOLIC_BLOOD_PRESSURE("bloodPressure", "mmHg"),
+    HEART_RATE("heartRate", "bpm"),
+    TEMPERATURE("temperature", "°C"),
+    OXYGEN_SATURATION("oxygenSaturation", "%"),
+    WEIGHT("weight", "kg"),
+    HEIGHT("height", "cm"),
+    BMI("imc", "kg/m²");
+
+    private final String key;
+    private final String unit;
+
+    VitalSignMetric(String key, String unit) {
+        this.key = key;
+        this.unit = unit;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+}
@@ -0,0 +1,74 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import com.jettech.api.solutions_clinic.model.id.UuidV7Id;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Paciente na lista de espera de um profissional, aceitando qualquer horário livre na janela
+ * [earliestDate, latestDate]. Ao receber um horário liberado por cancelamento passa a SCHEDULED
+ * com o agendamento criado (ver WaitlistBackfiller).
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity(name = "waitlist_entries")
+@Filter(name = Tenant.FILTER)
+public class WaitlistEntry {
+
+    @Id
+    @UuidV7Id
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Column(name = "professional_id", nullable = false)
+    private UUID professionalId;
+
+    @Column(name = "earliest_date", nullable = false)
+    private LocalDate earliestDate;
+
+    @Column(name = "latest_date", nullable = false)
+    private LocalDate latestDate;
+
+    @Column(name = "duration_minutes", nullable = false)
+    private int durationMinutes;
+
+    @Column(columnDefinition = "TEXT")
+    private String observations;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    // Agendamento criado no encaixe
+    @Column(name = "appointment_id")
+    private UUID appointmentId;
+
+    @Column(name = "scheduled_at")
+    private LocalDateTime scheduledAt;
+
+    @Column(name = "created_by", nullable = false)
+    private UUID createdBy;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
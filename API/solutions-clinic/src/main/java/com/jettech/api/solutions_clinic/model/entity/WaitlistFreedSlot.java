@@ -0,0 +1,51 @@
+package com.jettech.api.solutions_clinic.model.entity;
+
+import com.jettech.api.solutions_clinic.model.id.UuidV7Id;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Horário liberado por cancelamento aguardando encaixe da lista de espera. Gravado na transação
+ * do cancelamento e apagado quando o WaitlistBackfiller o processa (ver V26).
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Entity(name = "waitlist_freed_slots")
+@Filter(name = Tenant.FILTER)
+public class WaitlistFreedSlot {
+
+    @Id
+    @UuidV7Id
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "professional_id", nullable = false)
+    private UUID professionalId;
+
+    // Paciente que cancelou
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
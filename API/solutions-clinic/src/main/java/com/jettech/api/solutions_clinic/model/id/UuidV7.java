@@ -0,0 +1,47 @@
+package com.jettech.api.solutions_clinic.model.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Gera UUIDs versão 7 (RFC 9562): 48 bits de timestamp em milissegundos seguidos de
+ * bits aleatórios. Como o PostgreSQL compara UUIDs byte a byte, valores gerados em sequência
+ * ficam ordenados no tempo e as inserções caem no fim do índice da PK, em vez de espalhadas.
+ * <p>
+ * Dentro do mesmo milissegundo os 12 bits de rand_a funcionam como contador (método 1 da RFC),
+ * garantindo ordem monotônica neste processo mesmo se o relógio voltar.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastTimestamp;
+    private static int sequence;
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long timestamp;
+        int seq;
+        synchronized (UuidV7.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                // Começa na metade inferior para sobrar espaço para o contador no mesmo milissegundo
+                sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+            } else if (++sequence > MAX_SEQUENCE) {
+                // Contador esgotado (ou relógio voltou): avança o timestamp lógico
+                lastTimestamp++;
+                sequence = 0;
+            }
+            timestamp = lastTimestamp;
+            seq = sequence;
+        }
+
+        long mostSigBits = (timestamp << 16) | 0x7000L | seq;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
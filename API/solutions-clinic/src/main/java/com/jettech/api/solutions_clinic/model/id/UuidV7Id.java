@@ -0,0 +1,19 @@
+package com.jettech.api.solutions_clinic.model.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca a PK UUID de uma entidade para ser gerada como UUIDv7 (ordenado no tempo).
+ * Usar no lugar de {@code @GeneratedValue(strategy = GenerationType.UUID)} em tabelas com muitas inserções.
+ * Linhas existentes com UUIDv4 continuam válidas: a coluna e o tipo não mudam.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7Id {
+}
@@ -0,0 +1,136 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentReminder;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentReminderStatus;
+import com.jettech.api.solutions_clinic.model.service.reminder.ReminderMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AppointmentReminderRepository extends JpaRepository<AppointmentReminder, UUID> {
+
+    /**
+     * Enfileira um lembrete para cada agendamento ativo em (now, until] de clínicas ativas cujo
+     * paciente tem contato, em um único INSERT ... SELECT pela faixa de scheduled_at
+     * (idx_appointments_scheduled_at_active). Canal: WhatsApp, senão SMS (telefone), senão e-mail.
+     * Agendamentos já enfileirados no mesmo horário são ignorados. Retorna quantos foram enfileirados.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO appointment_reminders (appointment_id, tenant_id, patient_id, scheduled_at, channel, recipient, status, attempts, created_at)
+        SELECT a.id, a.tenant_id, a.patient_id, a.scheduled_at,
+               CASE WHEN NULLIF(TRIM(p.whatsapp), '') IS NOT NULL THEN 'WHATSAPP'
+                    WHEN NULLIF(TRIM(p.phone), '') IS NOT NULL THEN 'SMS'
+                    ELSE 'EMAIL' END,
+               COALESCE(NULLIF(TRIM(p.whatsapp), ''), NULLIF(TRIM(p.phone), ''), TRIM(p.email)),
+               'PENDING', 0, :now
+        FROM appointments a
+        JOIN patients p ON p.id = a.patient_id
+        JOIN tenant t ON t.id = a.tenant_id
+        WHERE a.scheduled_at > :now AND a.scheduled_at <= :until
+          AND a.status IN ('AGENDADO', 'CONFIRMADO')
+          AND t.active
+          AND COALESCE(NULLIF(TRIM(p.whatsapp), ''), NULLIF(TRIM(p.phone), ''), NULLIF(TRIM(p.email), '')) IS NOT NULL
+        ON CONFLICT (appointment_id, scheduled_at) DO NOTHING
+        """, nativeQuery = true)
+    int enqueueDue(@Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * Cancela os lembretes ainda não enviados que perderam o sentido: o horário já passou ou o
+     * agendamento foi cancelado, concluído ou reagendado (não há mais agendamento ativo no horário
+     * do lembrete). Reservas em andamento e falhas definitivas ficam como estão.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE appointment_reminders r SET status = 'CANCELLED'
+        WHERE (r.status = 'PENDING'
+               OR (r.status = 'FAILED' AND r.attempts < :maxAttempts)
+               OR (r.status = 'SENDING' AND r.claimed_at < :staleBefore))
+          AND (r.scheduled_at <= :now
+               OR NOT EXISTS (
+                   SELECT 1 FROM appointments a
+                   WHERE a.id = r.appointment_id AND a.scheduled_at = r.scheduled_at
+                     AND a.status IN ('AGENDADO', 'CONFIRMADO')))
+        """, nativeQuery = true)
+    int cancelObsolete(@Param("now") LocalDateTime now,
+                       @Param("staleBefore") LocalDateTime staleBefore,
+                       @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Reserva até "limit" lembretes para envio, do agendamento mais próximo para o mais distante:
+     * pendentes, falhos com tentativas restantes e reservas abandonadas. SKIP LOCKED permite
+     * dispatchers concorrentes sem disputa pelas mesmas linhas.
+     */
+    @Query(value = """
+        UPDATE appointment_reminders SET status = 'SENDING', claimed_at = :now, attempts = attempts + 1
+        WHERE id IN (
+            SELECT r.id FROM appointment_reminders r
+            WHERE r.status IN ('PENDING', 'SENDING', 'FAILED') AND r.scheduled_at > :now
+              AND (r.status = 'PENDING'
+                   OR (r.status = 'FAILED' AND r.attempts < :maxAttempts)
+                   OR (r.status = 'SENDING' AND r.claimed_at < :staleBefore AND r.attempts < :maxAttempts))
+            ORDER BY r.scheduled_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id
+        """, nativeQuery = true)
+    List<UUID> claimBatch(@Param("now") LocalDateTime now,
+                          @Param("staleBefore") LocalDateTime staleBefore,
+                          @Param("maxAttempts") int maxAttempts,
+                          @Param("limit") int limit);
+
+    /**
+     * Dados de envio dos lembretes reservados, em uma consulta para o lote inteiro.
+     */
+    @Query("""
+        SELECT new com.jettech.api.solutions_clinic.model.service.reminder.ReminderMessage(
+            r.id, r.appointmentId, r.tenantId, r.channel, r.recipient, r.scheduledAt,
+            p.firstName, u.firstName, u.lastName, t.name)
+        FROM appointment_reminders r
+        JOIN appointments a ON a.id = r.appointmentId
+        JOIN a.patient p
+        JOIN a.professional pr
+        JOIN pr.user u
+        JOIN a.tenant t
+        WHERE r.id IN :ids
+        ORDER BY r.scheduledAt
+        """)
+    List<ReminderMessage> findMessages(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("""
+        UPDATE appointment_reminders r SET r.status = :status, r.sentAt = :sentAt, r.lastError = null
+        WHERE r.id IN :ids
+        """)
+    int markSent(@Param("ids") Collection<UUID> ids,
+                 @Param("status") AppointmentReminderStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE appointment_reminders r SET r.status = :status, r.lastError = :lastError WHERE r.id = :id")
+    int markFailed(@Param("id") UUID id,
+                   @Param("status") AppointmentReminderStatus status,
+                   @Param("lastError") String lastError);
+
+    List<AppointmentReminder> findByAppointmentIdOrderByCreatedAtDesc(UUID appointmentId);
+
+    /**
+     * Lembretes da clínica por status para agendamentos em [start, end).
+     */
+    @Query("""
+        SELECT r.status, COUNT(r) FROM appointment_reminders r
+        WHERE r.tenantId = :tenantId
+          AND r.scheduledAt >= :start AND r.scheduledAt < :end
+        GROUP BY r.status
+        """)
+    List<Object[]> countByStatus(@Param("tenantId") UUID tenantId,
+                                 @Param("start") LocalDateTime start,
+                                 @Param("end") LocalDateTime end);
+}
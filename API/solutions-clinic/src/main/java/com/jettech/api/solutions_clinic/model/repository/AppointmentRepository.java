@@ -3,6 +3,8 @@ package com.jettech.api.solutions_clinic.model.repository;
 import com.jettech.api.solutions_clinic.model.entity.Appointment;
 import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,6 +12,19 @@ import java.util.Optional;
 import java.util.UUID;
 
 public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
+
+    /**
+     * Busca por id restrita à partição do agendamento: scheduled_at vem de appointment_keys
+     * (uma busca na PK) e o Postgres descarta as demais partições na execução, em vez de procurar
+     * o id no índice de cada mês.
+     */
+    @Override
+    @Query("""
+        SELECT a FROM appointments a
+        WHERE a.id = :id
+          AND a.scheduledAt = (SELECT k.scheduledAt FROM appointment_keys k WHERE k.id = :id)
+        """)
+    Optional<Appointment> findById(@Param("id") UUID id);
     
     List<Appointment> findByProfessionalId(UUID professionalId);
     
@@ -59,4 +74,65 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
             LocalDateTime end,
             AppointmentStatus status
     );
+
+    /**
+     * Agendamentos FINALIZADO anteriores a "before" prontos para o arquivo frio: sem prontuário
+     * ou com prontuário já assinado (prontuários em edição ficam na tabela quente).
+     */
+    @Query(value = """
+        SELECT a.id FROM appointments a
+        WHERE a.status = 'FINALIZADO' AND a.scheduled_at < :before
+          AND NOT EXISTS (
+              SELECT 1 FROM medical_records m WHERE m.appointment_id = a.id AND m.signed_at IS NULL
+          )
+        ORDER BY a.scheduled_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<UUID> findArchivableIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * Aplica uma transição a todos os agendamentos do intervalo [start, end) que estão em um dos
+     * status de origem, em um único UPDATE (o intervalo em scheduled_at limita as partições lidas).
+     * Os horários do ciclo de vida seguem as mesmas regras da transição individual e
+     * calendar_entries é atualizada no mesmo comando. tenantId nulo abrange todas as clínicas
+     * (uso de jobs); onlyEnded restringe aos agendamentos cujo horário já terminou em "now".
+     * Não é @Modifying, que só aceita retorno int/void: a sessão é limpa por AppointmentLifecycle.applyAll.
+     */
+    @Query(value = """
+        WITH moved AS (
+            UPDATE appointments a
+            SET status = :target,
+                started_at = CASE WHEN :target = 'EM_ATENDIMENTO' THEN :now ELSE a.started_at END,
+                finished_at = CASE WHEN :target = 'FINALIZADO' THEN :now ELSE a.finished_at END,
+                duration_actual_minutes = CASE
+                    WHEN :target = 'FINALIZADO' AND a.started_at IS NOT NULL
+                        THEN FLOOR(EXTRACT(EPOCH FROM (:now - a.started_at)) / 60)::int
+                    ELSE a.duration_actual_minutes END,
+                cancelled_at = CASE WHEN :target = 'CANCELADO' THEN :now ELSE a.cancelled_at END,
+                updated_at = :now
+            WHERE a.scheduled_at >= :start AND a.scheduled_at < :end
+              AND a.status IN (:sources)
+              AND (CAST(:tenantId AS uuid) IS NULL OR a.tenant_id = CAST(:tenantId AS uuid))
+              AND (CAST(:professionalId AS uuid) IS NULL OR a.professional_id = CAST(:professionalId AS uuid))
+              AND (:onlyEnded = FALSE OR a.scheduled_at + a.duration_minutes * INTERVAL '1 minute' <= :now)
+            RETURNING a.id, a.status
+        ),
+        projected AS (
+            UPDATE calendar_entries c SET status = m.status, updated_at = :now
+            FROM moved m
+            WHERE c.appointment_id = m.id
+        )
+        SELECT id FROM moved
+        """, nativeQuery = true)
+    List<UUID> transitionRange(
+            @Param("tenantId") UUID tenantId,
+            @Param("professionalId") UUID professionalId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("sources") List<String> sources,
+            @Param("target") String target,
+            @Param("onlyEnded") boolean onlyEnded,
+            @Param("now") LocalDateTime now
+    );
 }
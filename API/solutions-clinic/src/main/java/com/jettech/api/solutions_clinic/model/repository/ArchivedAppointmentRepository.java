@@ -0,0 +1,36 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.ArchivedAppointment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedAppointmentRepository extends JpaRepository<ArchivedAppointment, UUID> {
+
+    /**
+     * Move os agendamentos (e seus procedimentos) da tabela quente para o arquivo, numa única instrução.
+     * "before" repete o limite usado na seleção dos ids para que o DELETE leia só as partições antigas.
+     */
+    @Modifying
+    @Query(value = """
+        WITH procedures AS (
+            DELETE FROM appointment_procedures p WHERE p.appointment_id IN (:ids)
+            RETURNING p.*
+        ), moved AS (
+            DELETE FROM appointments a WHERE a.id IN (:ids) AND a.scheduled_at < :before
+            RETURNING a.*
+        )
+        INSERT INTO archive.finished_appointments (id, tenant_id, patient_id, professional_id, scheduled_at, archived_at, data)
+        SELECT m.id, m.tenant_id, m.patient_id, m.professional_id, m.scheduled_at, CURRENT_TIMESTAMP,
+               to_jsonb(m) || jsonb_build_object('procedures', COALESCE(
+                   (SELECT jsonb_agg(to_jsonb(p)) FROM procedures p WHERE p.appointment_id = m.id),
+                   jsonb_build_array()))
+        FROM moved m
+        """, nativeQuery = true)
+    int archive(@Param("ids") List<UUID> ids, @Param("before") LocalDateTime before);
+}
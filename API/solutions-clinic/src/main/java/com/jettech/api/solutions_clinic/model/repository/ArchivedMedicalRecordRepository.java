@@ -0,0 +1,44 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.ArchivedMedicalRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ArchivedMedicalRecordRepository extends JpaRepository<ArchivedMedicalRecord, UUID> {
+
+    Optional<ArchivedMedicalRecord> findByAppointmentId(UUID appointmentId);
+
+    Optional<ArchivedMedicalRecord> findByIdAndTenantId(UUID id, UUID tenantId);
+
+    /**
+     * Libera, até o fim da transação corrente, a exclusão de prontuários assinados que o trigger
+     * da V29 recusa. Só o arquivamento deve chamar, antes de {@link #archiveByAppointmentIds}.
+     */
+    @Query(value = "SELECT set_config('app.medical_record_archive', 'on', true)", nativeQuery = true)
+    String allowSignedRecordRemoval();
+
+    /**
+     * Move os prontuários assinados dos agendamentos informados para o arquivo.
+     * Deve rodar antes de {@link ArchivedAppointmentRepository#archive}, que ainda fornece o tenant,
+     * e depois de {@link #allowSignedRecordRemoval} na mesma transação.
+     */
+    @Modifying
+    @Query(value = """
+        WITH moved AS (
+            DELETE FROM medical_records m
+            WHERE m.appointment_id IN (:appointmentIds) AND m.signed_at IS NOT NULL
+            RETURNING m.*
+        )
+        INSERT INTO archive.signed_medical_records (id, appointment_id, tenant_id, signed_at, archived_at, data)
+        SELECT m.id, m.appointment_id, a.tenant_id, m.signed_at, CURRENT_TIMESTAMP, to_jsonb(m)
+        FROM moved m
+        JOIN appointments a ON a.id = m.appointment_id
+        """, nativeQuery = true)
+    int archiveByAppointmentIds(@Param("appointmentIds") List<UUID> appointmentIds);
+}
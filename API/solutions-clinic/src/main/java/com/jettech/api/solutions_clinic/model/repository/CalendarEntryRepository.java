@@ -0,0 +1,46 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.CalendarEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface CalendarEntryRepository extends JpaRepository<CalendarEntry, UUID> {
+
+    /**
+     * Entradas da agenda que começam em [start, end), lidas pelo índice (tenant_id, starts_at).
+     */
+    @Query("""
+        SELECT c FROM calendar_entries c
+        WHERE c.tenantId = :tenantId
+        AND c.startsAt >= :start AND c.startsAt < :end
+        AND (:professionalId IS NULL OR c.professionalId = :professionalId)
+        ORDER BY c.startsAt ASC
+        """)
+    List<CalendarEntry> findRange(
+            @Param("tenantId") UUID tenantId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("professionalId") UUID professionalId
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE calendar_entries c SET c.professionalName = :name
+        WHERE c.professionalId IN (SELECT p.id FROM professionals p WHERE p.user.id = :userId)
+        """)
+    int updateProfessionalNameByUserId(@Param("userId") UUID userId, @Param("name") String name);
+
+    /**
+     * Remove as entradas da agenda dos agendamentos movidos para o arquivo (o agendamento deixa de
+     * existir na tabela quente e não teria mais quem atualizasse a linha).
+     */
+    @Modifying
+    @Query("DELETE FROM calendar_entries c WHERE c.appointmentId IN :appointmentIds")
+    int deleteByAppointmentIds(@Param("appointmentIds") List<UUID> appointmentIds);
+}
@@ -12,6 +12,11 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * A tabela é particionada por mês em reference_date (= paymentDate quando pago, senão dueDate).
+ * Consultas por paymentDate repetem o intervalo em referenceDate — equivalente, pois com paymentDate
+ * preenchido as duas colunas são iguais — para que o PostgreSQL leia só as partições do período.
+ */
 public interface FinancialTransactionRepository extends JpaRepository<FinancialTransaction, UUID> {
 
     List<FinancialTransaction> findByTenantId(UUID tenantId);
@@ -31,7 +36,8 @@ public interface FinancialTransactionRepository extends JpaRepository<FinancialT
            "WHERE f.tenant.id = :tenantId " +
            "AND f.type = :type " +
            "AND f.status = 'PAGO' " +
-           "AND f.paymentDate BETWEEN :startDate AND :endDate")
+           "AND f.paymentDate BETWEEN :startDate AND :endDate " +
+           "AND f.referenceDate BETWEEN :startDate AND :endDate")
     BigDecimal sumByTypeAndDateRange(@Param("tenantId") UUID tenantId, 
                                      @Param("type") TransactionType type,
                                      @Param("startDate") LocalDate startDate, 
@@ -41,7 +47,8 @@ public interface FinancialTransactionRepository extends JpaRepository<FinancialT
     @Query("SELECT f FROM financial_transactions f " +
            "WHERE f.tenant.id = :tenantId " +
            "AND f.appointment.professional.id = :professionalId " +
-           "AND f.paymentDate BETWEEN :startDate AND :endDate")
+           "AND f.paymentDate BETWEEN :startDate AND :endDate " +
+           "AND f.referenceDate BETWEEN :startDate AND :endDate")
     List<FinancialTransaction> findByProfessionalAndDate(@Param("tenantId") UUID tenantId,
                                                          @Param("professionalId") UUID professionalId,
                                                          @Param("startDate") LocalDate startDate,
@@ -53,6 +60,7 @@ public interface FinancialTransactionRepository extends JpaRepository<FinancialT
            "AND f.type = 'EXPENSE' " +
            "AND f.status = 'PAGO' " +
            "AND f.paymentDate BETWEEN :startDate AND :endDate " +
+           "AND f.referenceDate BETWEEN :startDate AND :endDate " +
            "GROUP BY f.category.name")
     List<Object[]> sumExpensesByCategory(@Param("tenantId") UUID tenantId,
                                          @Param("startDate") LocalDate startDate,
@@ -64,6 +72,7 @@ public interface FinancialTransactionRepository extends JpaRepository<FinancialT
            "AND f.type = 'INCOME' " +
            "AND f.status = 'PAGO' " +
            "AND f.paymentDate BETWEEN :startDate AND :endDate " +
+           "AND f.referenceDate BETWEEN :startDate AND :endDate " +
            "GROUP BY f.category.name")
     List<Object[]> sumIncomesByCategory(@Param("tenantId") UUID tenantId,
                                         @Param("startDate") LocalDate startDate,
@@ -73,6 +82,7 @@ public interface FinancialTransactionRepository extends JpaRepository<FinancialT
     @Query("SELECT f FROM financial_transactions f " +
            "WHERE f.tenant.id = :tenantId " +
            "AND f.paymentDate BETWEEN :startDate AND :endDate " +
+           "AND f.referenceDate BETWEEN :startDate AND :endDate " +
            "ORDER BY f.paymentDate DESC")
     List<FinancialTransaction> findByTenantIdAndPaymentDateBetween(@Param("tenantId") UUID tenantId,
                                                                     @Param("startDate") LocalDate startDate,
@@ -0,0 +1,13 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.JobRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface JobRunRepository extends JpaRepository<JobRun, UUID> {
+
+    Page<JobRun> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+}
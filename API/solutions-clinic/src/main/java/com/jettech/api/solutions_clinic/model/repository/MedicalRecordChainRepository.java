@@ -0,0 +1,19 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.MedicalRecordChain;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MedicalRecordChainRepository extends JpaRepository<MedicalRecordChain, UUID> {
+
+    /**
+     * Bloqueia a linha do paciente até o fim da transação, serializando as assinaturas dos seus
+     * prontuários (inclusive a primeira, quando ainda não há linha em medical_record_chains).
+     */
+    @Query(value = "SELECT id FROM patients WHERE id = :patientId FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockPatient(@Param("patientId") UUID patientId);
+}
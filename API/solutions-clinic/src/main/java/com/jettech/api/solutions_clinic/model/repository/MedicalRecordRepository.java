@@ -2,6 +2,8 @@ package com.jettech.api.solutions_clinic.model.repository;
 
 import com.jettech.api.solutions_clinic.model.entity.MedicalRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +13,58 @@ public interface MedicalRecordRepository extends JpaRepository<MedicalRecord, UU
     Optional<MedicalRecord> findByAppointmentId(UUID appointmentId);
 
     Optional<MedicalRecord> findByIdAndAppointment_TenantId(UUID id, UUID tenantId);
+
+    @Query("""
+        SELECT new com.jettech.api.solutions_clinic.model.repository.MedicalRecordRevision(m.version, m.signedAt, t.id, t.updatedAt)
+        FROM MedicalRecord m
+        JOIN m.template t
+        WHERE m.id = :id AND m.appointment.tenant.id = :tenantId
+        """)
+    Optional<MedicalRecordRevision> findRevision(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+    /**
+     * Aplica um JSON Patch (RFC 6902, paths já convertidos em arrays) ao content no próprio banco,
+     * só se a versão for a informada e o prontuário não estiver assinado. Retorna a nova versão;
+     * vazio quando nada foi alterado (ver findRevision). O documento não trafega pela aplicação.
+     */
+    @Query(value = """
+        UPDATE medical_records m
+        SET content = p.content, version = m.version + 1, updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT r.id, jsonb_json_patch(r.content, CAST(:patch AS jsonb)) AS content
+            FROM medical_records r
+            JOIN appointments a ON a.id = r.appointment_id
+            WHERE r.id = :id AND a.tenant_id = :tenantId
+        ) p
+        WHERE m.id = p.id AND jsonb_typeof(p.content) = 'object'
+          AND m.version = :version AND m.signed_at IS NULL
+        RETURNING m.version
+        """, nativeQuery = true)
+    Optional<Long> applyJsonPatch(
+            @Param("id") UUID id,
+            @Param("tenantId") UUID tenantId,
+            @Param("version") long version,
+            @Param("patch") String patch
+    );
+
+    /** Como applyJsonPatch, para Merge Patch (RFC 7386). */
+    @Query(value = """
+        UPDATE medical_records m
+        SET content = p.content, version = m.version + 1, updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT r.id, jsonb_merge_patch(r.content, CAST(:patch AS jsonb)) AS content
+            FROM medical_records r
+            JOIN appointments a ON a.id = r.appointment_id
+            WHERE r.id = :id AND a.tenant_id = :tenantId
+        ) p
+        WHERE m.id = p.id AND jsonb_typeof(p.content) = 'object'
+          AND m.version = :version AND m.signed_at IS NULL
+        RETURNING m.version
+        """, nativeQuery = true)
+    Optional<Long> applyMergePatch(
+            @Param("id") UUID id,
+            @Param("tenantId") UUID tenantId,
+            @Param("version") long version,
+            @Param("patch") String patch
+    );
 }
@@ -0,0 +1,16 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Versão, assinatura e versão do modelo de um prontuário, sem o conteúdo. Usada pelo PATCH para
+ * validar o patch contra o schema do modelo e para explicar por que o UPDATE condicional não
+ * alterou nenhuma linha.
+ */
+public record MedicalRecordRevision(Long version, LocalDateTime signedAt, UUID templateId, LocalDateTime templateUpdatedAt) {
+
+    public boolean signed() {
+        return signedAt != null;
+    }
+}
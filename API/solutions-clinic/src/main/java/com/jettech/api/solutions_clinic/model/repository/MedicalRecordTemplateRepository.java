@@ -20,6 +20,11 @@ public interface MedicalRecordTemplateRepository extends JpaRepository<MedicalRe
     List<MedicalRecordTemplate> findByTenantIdAndProfessionalTypeAndActive(
             UUID tenantId, String professionalType, boolean active);
 
+    // Níveis do catálogo em cache (MedicalRecordTemplateCatalogue): globais e os da clínica
+    List<MedicalRecordTemplate> findByTenantIsNullAndActiveTrueOrderByName();
+
+    List<MedicalRecordTemplate> findByTenantIdAndActiveTrueOrderByName(UUID tenantId);
+
     /**
      * Templates disponíveis para o tenant: globais (tenant_id IS NULL) + específicos da clínica.
      * Usado para listar o que a clínica pode usar ao criar prontuários.
@@ -58,4 +63,25 @@ public interface MedicalRecordTemplateRepository extends JpaRepository<MedicalRe
     Optional<MedicalRecordTemplate> findByIdAvailableForTenant(
             @Param("id") UUID id,
             @Param("tenantId") UUID tenantId);
+
+    // Versões para GET condicional (templates globais + da clínica), ver ResourceVersion
+    @Query("""
+        SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(t), MAX(t.updatedAt)) FROM MedicalRecordTemplate t
+        WHERE t.tenant IS NULL OR t.tenant.id = :tenantId
+        """)
+    ResourceVersion versionAvailableForTenant(@Param("tenantId") UUID tenantId);
+
+    @Query("""
+        SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(t), MAX(t.updatedAt)) FROM MedicalRecordTemplate t
+        WHERE t.id = :id
+          AND (t.tenant IS NULL OR t.tenant.id = :tenantId)
+        """)
+    ResourceVersion versionByIdAvailableForTenant(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+    // Só os modelos da própria clínica: valida o nível por tenant do MedicalRecordTemplateCatalogue
+    @Query("""
+        SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(t), MAX(t.updatedAt)) FROM MedicalRecordTemplate t
+        WHERE t.tenant.id = :tenantId
+        """)
+    ResourceVersion versionByTenantId(@Param("tenantId") UUID tenantId);
 }
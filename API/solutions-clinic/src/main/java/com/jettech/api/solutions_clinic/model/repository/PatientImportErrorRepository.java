@@ -0,0 +1,13 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImportError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface PatientImportErrorRepository extends JpaRepository<PatientImportError, UUID> {
+
+    Page<PatientImportError> findByImportIdOrderByLineNumberAsc(UUID importId, Pageable pageable);
+}
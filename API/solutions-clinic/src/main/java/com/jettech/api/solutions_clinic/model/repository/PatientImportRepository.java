@@ -0,0 +1,82 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImport;
+import com.jettech.api.solutions_clinic.model.entity.PatientImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface PatientImportRepository extends JpaRepository<PatientImport, UUID> {
+
+    /**
+     * Passa a importação de PENDING para RUNNING. Retorna 0 se ela não está mais PENDING
+     * (ex.: marcada como FAILED pela varredura de importações abandonadas).
+     */
+    @Modifying
+    @Query("""
+        UPDATE patient_imports i SET i.status = :status, i.startedAt = :startedAt, i.updatedAt = :startedAt
+        WHERE i.id = :id AND i.status = :pending
+        """)
+    int markStarted(
+            @Param("id") UUID id,
+            @Param("pending") PatientImportStatus pending,
+            @Param("status") PatientImportStatus status,
+            @Param("startedAt") LocalDateTime startedAt
+    );
+
+    /**
+     * Soma os contadores de um lote ao progresso da importação.
+     */
+    @Modifying
+    @Query("""
+        UPDATE patient_imports i SET
+            i.processedRows = i.processedRows + :processed,
+            i.importedRows = i.importedRows + :imported,
+            i.duplicateRows = i.duplicateRows + :duplicates,
+            i.failedRows = i.failedRows + :failed,
+            i.updatedAt = :updatedAt
+        WHERE i.id = :id
+        """)
+    int addProgress(
+            @Param("id") UUID id,
+            @Param("processed") int processed,
+            @Param("imported") int imported,
+            @Param("duplicates") int duplicates,
+            @Param("failed") int failed,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE patient_imports i SET i.status = :status, i.error = :error, i.finishedAt = :finishedAt, i.updatedAt = :finishedAt
+        WHERE i.id = :id
+        """)
+    int markFinished(
+            @Param("id") UUID id,
+            @Param("status") PatientImportStatus status,
+            @Param("error") String error,
+            @Param("finishedAt") LocalDateTime finishedAt
+    );
+
+    /**
+     * Falha as importações PENDING ou RUNNING sem progresso desde staleBefore: o processo que as
+     * executava caiu ou reiniciou, e o arquivo temporário (local daquele nó) não existe mais.
+     */
+    @Modifying
+    @Query("""
+        UPDATE patient_imports i SET i.status = :failed, i.error = :error, i.finishedAt = :now, i.updatedAt = :now
+        WHERE i.status IN :active AND COALESCE(i.updatedAt, i.createdAt) < :staleBefore
+        """)
+    int failStale(
+            @Param("active") Collection<PatientImportStatus> active,
+            @Param("failed") PatientImportStatus failed,
+            @Param("error") String error,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -21,6 +21,14 @@ public interface PatientRepository extends JpaRepository<Patient, UUID> {
 
     boolean existsByCpfAndTenantId(String cpf, UUID tenantId);
 
+    boolean existsByIdAndTenantId(UUID id, UUID tenantId);
+
+    /**
+     * CPFs já cadastrados na clínica, usados pela importação em massa para detectar duplicados em memória.
+     */
+    @Query("SELECT p.cpf FROM patients p WHERE p.tenant.id = :tenantId AND p.cpf IS NOT NULL")
+    List<String> findCpfsByTenantId(@Param("tenantId") UUID tenantId);
+
     Page<Patient> findByTenantId(UUID tenantId, Pageable pageable);
 
     Page<Patient> findByTenantIdAndActive(UUID tenantId, boolean active, Pageable pageable);
@@ -42,5 +50,11 @@ public interface PatientRepository extends JpaRepository<Patient, UUID> {
         @Param("active") Boolean active,
         Pageable pageable
     );
-}
 
+    // Versões para GET condicional (ETag/Last-Modified), ver ResourceVersion
+    @Query("SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(p), MAX(p.updatedAt)) FROM patients p WHERE p.tenant.id = :tenantId")
+    ResourceVersion versionByTenantId(@Param("tenantId") UUID tenantId);
+
+    @Query("SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(p), MAX(p.updatedAt)) FROM patients p WHERE p.id = :id")
+    ResourceVersion versionById(@Param("id") UUID id);
+}
@@ -41,4 +41,11 @@ public interface ProcedureRepository extends JpaRepository<Procedure, UUID> {
     );
 
     List<Procedure> findAllByTenantIdAndProfessionalId(UUID tenantId, UUID professionalId);
+
+    // Versões para GET condicional (ETag/Last-Modified), ver ResourceVersion
+    @Query("SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(p), MAX(p.updatedAt)) FROM procedures p WHERE p.tenant.id = :tenantId")
+    ResourceVersion versionByTenantId(@Param("tenantId") UUID tenantId);
+
+    @Query("SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(p), MAX(p.updatedAt)) FROM procedures p WHERE p.id = :id")
+    ResourceVersion versionById(@Param("id") UUID id);
 }
@@ -24,6 +24,10 @@ public interface ProfessionalRepository extends JpaRepository<Professional, UUID
     List<Professional> findByTenantIdWithUserAndTenant(@Param("tenantId") UUID tenantId);
     
     List<Professional> findByUserId(UUID userId);
+
+    // Clínicas do profissional com o tenant já carregado (evita uma consulta por vínculo)
+    @Query("SELECT p FROM professionals p JOIN FETCH p.tenant WHERE p.user.id = :userId")
+    List<Professional> findByUserIdWithTenant(@Param("userId") UUID userId);
     
     List<Professional> findByActive(boolean active);
     
@@ -52,5 +56,12 @@ public interface ProfessionalRepository extends JpaRepository<Professional, UUID
         @Param("documentType") DocumentType documentType,
         Pageable pageable
     );
-}
 
+    // Versões para GET condicional; a listagem é ordenada/filtrada pelo nome do usuário, por isso inclui users.updatedAt
+    @Query("SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(p), MAX(p.updatedAt), MAX(u.updatedAt)) FROM professionals p JOIN p.user u WHERE p.tenant.id = :tenantId")
+    ResourceVersion versionByTenantId(@Param("tenantId") UUID tenantId);
+
+    // O recurso por id não traz dados do usuário, então basta o updatedAt do profissional
+    @Query("SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(p), MAX(p.updatedAt)) FROM professionals p WHERE p.id = :id")
+    ResourceVersion versionById(@Param("id") UUID id);
+}
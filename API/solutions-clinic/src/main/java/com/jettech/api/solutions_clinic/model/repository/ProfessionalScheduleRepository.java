@@ -12,6 +12,8 @@ public interface ProfessionalScheduleRepository extends JpaRepository<Profession
     
     List<ProfessionalSchedule> findByProfessionalId(UUID professionalId);
     
+    Optional<ProfessionalSchedule> findByIdAndProfessional_TenantId(UUID id, UUID tenantId);
+    
     Optional<ProfessionalSchedule> findByProfessionalIdAndDayOfWeek(UUID professionalId, DayOfWeek dayOfWeek);
     
     void deleteByProfessionalId(UUID professionalId);
@@ -0,0 +1,39 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    /**
+     * Marca o token como usado se ainda estiver válido. O UPDATE condicional garante que duas
+     * requisições com o mesmo token não sejam ambas aceitas: só uma recebe 1.
+     */
+    @Modifying
+    @Query("""
+        UPDATE refresh_tokens r SET r.usedAt = :now
+        WHERE r.jti = :jti AND r.usedAt IS NULL AND r.revokedAt IS NULL AND r.expiresAt > :now
+        """)
+    int markUsed(@Param("jti") UUID jti, @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(r) > 0 FROM refresh_tokens r WHERE r.jti = :jti AND r.usedAt IS NOT NULL")
+    boolean isUsed(@Param("jti") UUID jti);
+
+    @Modifying
+    @Query("UPDATE refresh_tokens r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") LocalDateTime now);
+
+    /** Família revogada: os access tokens emitidos com ela (claim sid) deixam de valer. */
+    @Query("SELECT COUNT(r) > 0 FROM refresh_tokens r WHERE r.familyId = :familyId AND r.revokedAt IS NOT NULL")
+    boolean isFamilyRevoked(@Param("familyId") UUID familyId);
+
+    @Modifying
+    @Query("DELETE FROM refresh_tokens r WHERE r.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,22 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versão barata de um recurso ou listagem para requisições condicionais (ETag/Last-Modified):
+ * quantidade de linhas e maior updatedAt do escopo, obtidos por agregação, sem carregar entidades.
+ * A contagem cobre exclusões; o updatedAt cobre inclusões e alterações.
+ */
+public record ResourceVersion(Long count, LocalDateTime lastModified) {
+
+    // Escopos cuja resposta também depende de uma entidade relacionada (ex.: ordenação pelo nome do usuário)
+    public ResourceVersion(Long count, LocalDateTime lastModified, LocalDateTime relatedLastModified) {
+        this(count, relatedLastModified != null && (lastModified == null || relatedLastModified.isAfter(lastModified))
+                ? relatedLastModified
+                : lastModified);
+    }
+
+    public boolean exists() {
+        return count != null && count > 0 && lastModified != null;
+    }
+}
@@ -2,6 +2,8 @@ package com.jettech.api.solutions_clinic.model.repository;
 
 import com.jettech.api.solutions_clinic.model.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,5 +16,11 @@ public interface RoomRepository extends JpaRepository<Room, UUID> {
     List<Room> findByTenantIdAndIsActive(UUID tenantId, boolean isActive);
     
     Optional<Room> findByIdAndTenantId(UUID id, UUID tenantId);
-}
 
+    // Versões para GET condicional (ETag/Last-Modified), ver ResourceVersion
+    @Query("SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(r), MAX(r.updatedAt)) FROM rooms r WHERE r.tenant.id = :tenantId")
+    ResourceVersion versionByTenantId(@Param("tenantId") UUID tenantId);
+
+    @Query("SELECT new com.jettech.api.solutions_clinic.model.repository.ResourceVersion(COUNT(r), MAX(r.updatedAt)) FROM rooms r WHERE r.id = :id")
+    ResourceVersion versionById(@Param("id") UUID id);
+}
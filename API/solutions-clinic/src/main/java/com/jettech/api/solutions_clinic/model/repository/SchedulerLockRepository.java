@@ -0,0 +1,43 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * Tenta adquirir o lease: cria o registro ou assume um lease expirado.
+     * Usa o relógio do banco para que diferenças de relógio entre nós não importem.
+     * Retorna 1 se o lease foi adquirido e 0 se outro nó ainda o detém.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO scheduler_locks (name, locked_by, locked_at, locked_until)
+        VALUES (:name, :nodeId, now(), now() + make_interval(secs => :lockAtMostSeconds))
+        ON CONFLICT (name) DO UPDATE
+        SET locked_by = EXCLUDED.locked_by,
+            locked_at = EXCLUDED.locked_at,
+            locked_until = EXCLUDED.locked_until
+        WHERE scheduler_locks.locked_until <= now()
+        """, nativeQuery = true)
+    int tryAcquire(@Param("name") String name,
+                   @Param("nodeId") String nodeId,
+                   @Param("lockAtMostSeconds") double lockAtMostSeconds);
+
+    /**
+     * Libera o lease, mantendo-o por pelo menos lockAtLeastSeconds desde a aquisição
+     * (evita que outro nó repita um job de cron que terminou rápido demais).
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE scheduler_locks
+        SET locked_until = GREATEST(now(), locked_at + make_interval(secs => :lockAtLeastSeconds))
+        WHERE name = :name AND locked_by = :nodeId
+        """, nativeQuery = true)
+    int release(@Param("name") String name,
+                @Param("nodeId") String nodeId,
+                @Param("lockAtLeastSeconds") double lockAtLeastSeconds);
+}
@@ -0,0 +1,104 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.StripeEvent;
+import com.jettech.api.solutions_clinic.model.entity.StripeEventStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StripeEventRepository extends JpaRepository<StripeEvent, String> {
+
+    /**
+     * Insere o evento apenas se o id ainda não existir (deduplicação de reenvios do Stripe).
+     * Retorna 1 quando o evento é novo e 0 quando já havia sido recebido.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO stripe_events (id, type, ordering_key, payload, status, attempts, stripe_created_at, received_at)
+        VALUES (:id, :type, :orderingKey, :payload, 'PENDING', 0, :stripeCreatedAt, :receivedAt)
+        ON CONFLICT (id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("type") String type,
+                       @Param("orderingKey") String orderingKey,
+                       @Param("payload") String payload,
+                       @Param("stripeCreatedAt") LocalDateTime stripeCreatedAt,
+                       @Param("receivedAt") LocalDateTime receivedAt);
+
+    /**
+     * Reserva o evento para processamento. Só um worker consegue reservar o mesmo evento:
+     * retorna 0 se o evento já foi processado, está em processamento recente por outro worker ou
+     * ainda há um evento anterior da mesma ordering key (por stripe_created_at) não concluído.
+     * Eventos FAILED sem tentativas restantes não bloqueiam mais a fila da chave.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE stripe_events e
+        SET status = 'PROCESSING', claimed_at = :now, attempts = e.attempts + 1
+        WHERE e.id = :id
+          AND (e.status = 'PENDING'
+               OR (e.status = 'FAILED' AND e.attempts < :maxAttempts)
+               OR (e.status = 'PROCESSING' AND e.claimed_at < :staleBefore))
+          AND NOT EXISTS (
+              SELECT 1 FROM stripe_events p
+              WHERE p.ordering_key = e.ordering_key
+                AND p.status <> 'PROCESSED'
+                AND (p.status <> 'FAILED' OR p.attempts < :maxAttempts)
+                AND (COALESCE(p.stripe_created_at, p.received_at), p.received_at, p.id)
+                    < (COALESCE(e.stripe_created_at, e.received_at), e.received_at, e.id))
+        """, nativeQuery = true)
+    int claim(@Param("id") String id,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore,
+              @Param("maxAttempts") int maxAttempts);
+
+    /** Próximo evento PENDING da ordering key, na ordem do Stripe; liberado quando o anterior conclui. */
+    @Query(value = """
+        SELECT e.id FROM stripe_events e
+        WHERE e.ordering_key = :orderingKey AND e.status = 'PENDING'
+        ORDER BY COALESCE(e.stripe_created_at, e.received_at), e.received_at, e.id
+        LIMIT 1
+        """, nativeQuery = true)
+    Optional<String> findNextPending(@Param("orderingKey") String orderingKey);
+
+    @Modifying
+    @Query("UPDATE stripe_events e SET e.status = :status, e.processedAt = :processedAt, e.lastError = null WHERE e.id = :id")
+    int markProcessed(@Param("id") String id,
+                      @Param("status") StripeEventStatus status,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE stripe_events e SET e.status = :status, e.lastError = :lastError WHERE e.id = :id")
+    int markFailed(@Param("id") String id,
+                   @Param("status") StripeEventStatus status,
+                   @Param("lastError") String lastError);
+
+    /**
+     * Eventos que precisam ser (re)despachados: pendentes há mais tempo que o esperado, falhos com
+     * tentativas restantes e reservas abandonadas (worker caiu no meio do processamento). Só a cabeça
+     * de cada ordering key é devolvida: eventos atrás de um anterior não concluído esperam por ele.
+     */
+    @Query(value = """
+        SELECT e.* FROM stripe_events e
+        WHERE ((e.status = 'PENDING' AND e.received_at < :staleBefore)
+               OR (e.status = 'FAILED' AND e.attempts < :maxAttempts)
+               OR (e.status = 'PROCESSING' AND e.claimed_at < :staleBefore))
+          AND NOT EXISTS (
+              SELECT 1 FROM stripe_events p
+              WHERE p.ordering_key = e.ordering_key
+                AND p.status <> 'PROCESSED'
+                AND (p.status <> 'FAILED' OR p.attempts < :maxAttempts)
+                AND (COALESCE(p.stripe_created_at, p.received_at), p.received_at, p.id)
+                    < (COALESCE(e.stripe_created_at, e.received_at), e.received_at, e.id))
+        ORDER BY e.received_at
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<StripeEvent> findReadyForDispatch(@Param("staleBefore") LocalDateTime staleBefore,
+                                           @Param("maxAttempts") int maxAttempts,
+                                           @Param("limit") int limit);
+}
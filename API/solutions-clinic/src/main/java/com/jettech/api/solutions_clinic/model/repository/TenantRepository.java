@@ -26,10 +26,27 @@ public interface TenantRepository extends JpaRepository<Tenant, UUID> {
     
     List<Tenant> findByStatusAndActive(TenantStatus status, boolean active);
 
-    @Query("SELECT t FROM tenant t WHERE t.status = :status AND t.trialEndsAt < :now")
-    List<Tenant> findExpiredTrials(
-            @Param("status") TenantStatus status,
-            @Param("now") LocalDate now
+    /**
+     * Suspende em lote até {@code limit} tenants com trial expirado e retorna os IDs afetados.
+     * Usa o índice (status, trial_ends_at); SKIP LOCKED evita disputa com outras transações.
+     * Com vários nós, cada um processa apenas os tenants do seu shard (hash do id).
+     */
+    @Query(value = """
+        UPDATE tenant SET status = 'SUSPENDED', active = FALSE, updated_at = CURRENT_TIMESTAMP
+        WHERE id IN (
+            SELECT id FROM tenant
+            WHERE status = 'TRIAL' AND trial_ends_at < :today
+              AND (hashtext(id::text) & 2147483647) % :shardCount = :shardIndex
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id
+        """, nativeQuery = true)
+    List<UUID> suspendExpiredTrials(
+            @Param("today") LocalDate today,
+            @Param("shardIndex") int shardIndex,
+            @Param("shardCount") int shardCount,
+            @Param("limit") int limit
     );
 }
 
@@ -0,0 +1,28 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.Role;
+import com.jettech.api.solutions_clinic.model.entity.TenantStatus;
+
+import java.util.UUID;
+
+/**
+ * Linha da consulta de login: credenciais do usuário mais um vínculo (clínica, papel).
+ * Usuário sem vínculo vem em uma única linha com os campos do tenant nulos.
+ */
+public record UserMembership(
+        UUID userId,
+        String password,
+        UUID tenantId,
+        Boolean tenantActive,
+        TenantStatus tenantStatus,
+        Role role
+) {
+
+    public boolean hasTenant() {
+        return tenantId != null;
+    }
+
+    public boolean isActiveIn(UUID clinicId) {
+        return clinicId != null && clinicId.equals(tenantId) && Boolean.TRUE.equals(tenantActive);
+    }
+}
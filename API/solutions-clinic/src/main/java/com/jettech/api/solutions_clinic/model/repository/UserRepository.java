@@ -5,9 +5,11 @@ import com.jettech.api.solutions_clinic.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,4 +36,32 @@ public interface UserRepository extends JpaRepository<User, UUID> {
         @Param("role") com.jettech.api.solutions_clinic.model.entity.Role role,
         Pageable pageable
     );
+
+    // Login/troca de clínica em uma ida ao banco: credenciais + todos os vínculos, sem carregar tenant por tenant
+    @Query("""
+        SELECT new com.jettech.api.solutions_clinic.model.repository.UserMembership(
+            u.id, u.password, t.id, t.active, t.status, utr.role)
+        FROM users u
+        LEFT JOIN user_tenant_role utr ON utr.user = u
+        LEFT JOIN utr.tenant t
+        WHERE u.email = :email
+        ORDER BY utr.createdAt
+        """)
+    List<UserMembership> findMembershipsByEmail(@Param("email") String email);
+
+    @Query("""
+        SELECT new com.jettech.api.solutions_clinic.model.repository.UserMembership(
+            u.id, u.password, t.id, t.active, t.status, utr.role)
+        FROM users u
+        LEFT JOIN user_tenant_role utr ON utr.user = u
+        LEFT JOIN utr.tenant t
+        WHERE u.id = :userId
+        ORDER BY utr.createdAt
+        """)
+    List<UserMembership> findMembershipsByUserId(@Param("userId") UUID userId);
+
+    // Troca o hash da senha (ex.: rehash no login após aumento do custo do BCrypt)
+    @Modifying
+    @Query("UPDATE users u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") UUID id, @Param("password") String password);
 }
@@ -0,0 +1,49 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.WaitlistEntry;
+import com.jettech.api.solutions_clinic.model.entity.WaitlistStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UUID> {
+
+    /**
+     * Candidatos em espera para um horário do profissional em "date", em ordem de prioridade:
+     * janela que termina antes e, no empate, quem entrou primeiro. idx_waitlist_entries_match
+     * delimita a varredura em (professional_id, latest_date >= date) e a entrega já ordenada;
+     * earliest_date <= date é conferido no próprio índice (última coluna, ver V26), então as
+     * entradas cujas janelas ainda não abriram são percorridas, mas sem leitura da tabela.
+     * SKIP LOCKED evita que dois encaixes simultâneos escolham o mesmo paciente.
+     */
+    @Query(value = """
+        SELECT w.* FROM waitlist_entries w
+        WHERE w.professional_id = :professionalId AND w.status = 'WAITING'
+          AND w.latest_date >= :date AND w.earliest_date <= :date
+          AND w.tenant_id = :tenantId
+          AND w.patient_id <> :excludedPatientId
+        ORDER BY w.latest_date, w.created_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<WaitlistEntry> lockCandidates(@Param("tenantId") UUID tenantId,
+                                       @Param("professionalId") UUID professionalId,
+                                       @Param("date") LocalDate date,
+                                       @Param("excludedPatientId") UUID excludedPatientId,
+                                       @Param("limit") int limit);
+
+    @Query("""
+        SELECT w FROM waitlist_entries w
+        WHERE w.tenantId = :tenantId
+          AND (:professionalId IS NULL OR w.professionalId = :professionalId)
+          AND (:status IS NULL OR w.status = :status)
+        ORDER BY w.latestDate ASC, w.createdAt ASC
+        """)
+    List<WaitlistEntry> findByTenant(@Param("tenantId") UUID tenantId,
+                                     @Param("professionalId") UUID professionalId,
+                                     @Param("status") WaitlistStatus status);
+}
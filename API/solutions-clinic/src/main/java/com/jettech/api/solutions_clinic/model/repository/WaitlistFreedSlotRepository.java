@@ -0,0 +1,41 @@
+package com.jettech.api.solutions_clinic.model.repository;
+
+import com.jettech.api.solutions_clinic.model.entity.WaitlistFreedSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface WaitlistFreedSlotRepository extends JpaRepository<WaitlistFreedSlot, UUID> {
+
+    /**
+     * Reserva o próximo horário a encaixar (o mais próximo ainda no futuro) apagando-o na transação
+     * corrente: se o encaixe falhar o rollback devolve a linha à fila. SKIP LOCKED deixa cada
+     * instância com um horário diferente.
+     */
+    @Query(value = """
+        DELETE FROM waitlist_freed_slots
+        WHERE id = (
+            SELECT s.id FROM waitlist_freed_slots s
+            WHERE s.starts_at > :now AND s.attempts < :maxAttempts
+            ORDER BY s.starts_at
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING *
+        """, nativeQuery = true)
+    List<WaitlistFreedSlot> claimNext(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE waitlist_freed_slots s SET s.attempts = s.attempts + 1 WHERE s.id = :id")
+    int markFailed(@Param("id") UUID id);
+
+    /** Descarta os horários que já passaram e os que esgotaram as tentativas. */
+    @Modifying
+    @Query("DELETE FROM waitlist_freed_slots s WHERE s.startsAt <= :now OR s.attempts >= :maxAttempts")
+    int deleteFinished(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+}
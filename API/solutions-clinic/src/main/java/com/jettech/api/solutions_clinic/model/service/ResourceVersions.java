@@ -0,0 +1,76 @@
+package com.jettech.api.solutions_clinic.model.service;
+
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordTemplateRepository;
+import com.jettech.api.solutions_clinic.model.repository.PatientRepository;
+import com.jettech.api.solutions_clinic.model.repository.ProcedureRepository;
+import com.jettech.api.solutions_clinic.model.repository.ProfessionalRepository;
+import com.jettech.api.solutions_clinic.model.repository.ResourceVersion;
+import com.jettech.api.solutions_clinic.model.repository.RoomRepository;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Versões (contagem + maior updatedAt) dos recursos servidos com GET condicional.
+ * Retorna null quando não há versão aplicável: listagem de outra clínica (o use case responde 403)
+ * ou recurso inexistente/de outra clínica, já que o filtro de tenant vale também para estas consultas.
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class ResourceVersions {
+
+    private final PatientRepository patientRepository;
+    private final ProcedureRepository procedureRepository;
+    private final RoomRepository roomRepository;
+    private final ProfessionalRepository professionalRepository;
+    private final MedicalRecordTemplateRepository templateRepository;
+    private final TenantContext tenantContext;
+
+    public ResourceVersion patients(UUID tenantId) {
+        return isCurrentTenant(tenantId) ? patientRepository.versionByTenantId(tenantId) : null;
+    }
+
+    public ResourceVersion patient(UUID id) {
+        return patientRepository.versionById(id);
+    }
+
+    public ResourceVersion procedures(UUID tenantId) {
+        return isCurrentTenant(tenantId) ? procedureRepository.versionByTenantId(tenantId) : null;
+    }
+
+    public ResourceVersion procedure(UUID id) {
+        return procedureRepository.versionById(id);
+    }
+
+    public ResourceVersion rooms(UUID tenantId) {
+        return isCurrentTenant(tenantId) ? roomRepository.versionByTenantId(tenantId) : null;
+    }
+
+    public ResourceVersion room(UUID id) {
+        return roomRepository.versionById(id);
+    }
+
+    public ResourceVersion professionals(UUID tenantId) {
+        return isCurrentTenant(tenantId) ? professionalRepository.versionByTenantId(tenantId) : null;
+    }
+
+    public ResourceVersion professional(UUID id) {
+        return professionalRepository.versionById(id);
+    }
+
+    public ResourceVersion templates(UUID tenantId) {
+        return isCurrentTenant(tenantId) ? templateRepository.versionAvailableForTenant(tenantId) : null;
+    }
+
+    public ResourceVersion template(UUID id) {
+        UUID tenantId = tenantContext.getClinicIdOrNull();
+        return tenantId != null ? templateRepository.versionByIdAvailableForTenant(id, tenantId) : null;
+    }
+
+    private boolean isCurrentTenant(UUID tenantId) {
+        return tenantId != null && tenantId.equals(tenantContext.getClinicIdOrNull());
+    }
+}
@@ -0,0 +1,42 @@
+package com.jettech.api.solutions_clinic.model.service.calendarfeed;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.CalendarEntryResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Alteração na agenda publicada no commit e repassada aos assinantes do CalendarFeed.
+ * previousProfessionalId/previousStartsAt vêm preenchidos quando o agendamento mudou de
+ * profissional ou de horário, para que a tela do dia/profissional antigo também receba o delta.
+ * entry traz a linha atualizada da agenda quando a alteração mexe nela (nulo para triagem/prontuário).
+ */
+public record CalendarChange(
+        CalendarChangeType type,
+        @JsonIgnore UUID tenantId,
+        UUID appointmentId,
+        UUID professionalId,
+        LocalDateTime startsAt,
+        UUID previousProfessionalId,
+        LocalDateTime previousStartsAt,
+        CalendarEntryResponse entry
+) {
+
+    public static CalendarChange of(CalendarChangeType type, Appointment appointment) {
+        return new CalendarChange(type, appointment.getTenant().getId(), appointment.getId(),
+                appointment.getProfessional().getId(), appointment.getScheduledAt(), null, null, null);
+    }
+
+    boolean concerns(UUID professionalFilter, LocalDate dateFilter) {
+        boolean professionalMatches = professionalFilter == null
+                || professionalFilter.equals(professionalId)
+                || professionalFilter.equals(previousProfessionalId);
+        boolean dateMatches = dateFilter == null
+                || (startsAt != null && dateFilter.equals(startsAt.toLocalDate()))
+                || (previousStartsAt != null && dateFilter.equals(previousStartsAt.toLocalDate()));
+        return professionalMatches && dateMatches;
+    }
+}
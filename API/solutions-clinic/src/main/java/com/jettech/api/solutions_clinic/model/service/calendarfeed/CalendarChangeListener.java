@@ -0,0 +1,125 @@
+package com.jettech.api.solutions_clinic.model.service.calendarfeed;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Recebe por LISTEN os avisos de alteração gravados por qualquer instância (gatilho de
+ * calendar_changes, ver V24) e os repassa ao CalendarFeed. Usa uma conexão do pool dedicada
+ * enquanto a aplicação roda. Se a conexão cair, reconecta e pede ao feed que releia o histórico
+ * das clínicas com assinantes, cobrindo os avisos perdidos no intervalo.
+ * Fora do Postgres (H2 nos testes) não há LISTEN/NOTIFY e o repasse fica desligado.
+ */
+@Slf4j
+@Component
+public class CalendarChangeListener {
+
+    static final String CHANNEL = "calendar_changes";
+
+    private final DataSource dataSource;
+    private final CalendarFeed calendarFeed;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    CalendarChangeListener(
+            DataSource dataSource,
+            CalendarFeed calendarFeed,
+            @Value("${app.calendar-feed.listen-poll-timeout-ms:5000}") int pollTimeoutMs,
+            @Value("${app.calendar-feed.listen-reconnect-delay-ms:5000}") long reconnectDelayMs
+    ) {
+        this.dataSource = dataSource;
+        this.calendarFeed = calendarFeed;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.thread = Thread.ofPlatform().name("calendar-feed-listener").daemon(true).unstarted(this::run);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        thread.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(pollTimeoutMs + 1000L);
+    }
+
+    private void run() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    pgConnection = connection.unwrap(PGConnection.class);
+                } catch (SQLException e) {
+                    if (!reconnecting && !connection.isWrapperFor(PGConnection.class)) {
+                        log.info("Banco sem LISTEN/NOTIFY; o feed da agenda não receberá alterações");
+                        return;
+                    }
+                    throw e;
+                }
+                if (reconnecting) {
+                    log.info("Conexão do feed da agenda restabelecida; relendo o histórico das clínicas com assinantes");
+                    calendarFeed.refreshAll();
+                }
+                reconnecting = false;
+                listen(pgConnection);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                reconnecting = true;
+                log.warn("Conexão do feed da agenda perdida; nova tentativa em {} ms", reconnectDelayMs, e);
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(pollTimeoutMs);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                UUID tenantId = parseTenant(notification.getParameter());
+                if (tenantId != null) {
+                    calendarFeed.onCommitted(tenantId);
+                }
+            }
+        }
+    }
+
+    // Formato do gatilho: tenantId:sequência (a sequência só serve de diagnóstico)
+    private static UUID parseTenant(String payload) {
+        int separator = payload.indexOf(':');
+        try {
+            return UUID.fromString(separator > 0 ? payload.substring(0, separator) : payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Aviso do feed da agenda inválido: {}", payload);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.jettech.api.solutions_clinic.model.service.calendarfeed;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.PaymentStatus;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.CalendarEntryResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Histórico das alterações da agenda (calendar_changes, ver V24), com sequência por clínica.
+ * Gravação e leitura via JDBC, como em VitalSignReadingStore: a tabela só serve ao feed.
+ */
+@Component
+public class CalendarChangeLog {
+
+    // A linha da clínica em calendar_feed_sequences fica bloqueada até o commit
+    private static final String APPEND = """
+        WITH next AS (
+            INSERT INTO calendar_feed_sequences (tenant_id, last_sequence) VALUES (?, 1)
+            ON CONFLICT (tenant_id) DO UPDATE SET last_sequence = calendar_feed_sequences.last_sequence + 1
+            RETURNING last_sequence
+        )
+        INSERT INTO calendar_changes (
+            tenant_id, sequence, type, appointment_id, professional_id, starts_at,
+            previous_professional_id, previous_starts_at
+        )
+        SELECT ?, last_sequence, ?, ?, ?, ?, ?, ? FROM next
+        """;
+
+    private static final String SELECT_CURRENT = "SELECT last_sequence FROM calendar_feed_sequences WHERE tenant_id = ?";
+
+    // entry é a linha atual da agenda (não uma cópia da época da alteração); o cliente aplica em ordem
+    private static final String SELECT_AFTER = """
+        SELECT c.sequence, c.type, c.appointment_id, c.professional_id, c.starts_at,
+               c.previous_professional_id, c.previous_starts_at,
+               e.appointment_id AS entry_appointment_id, e.professional_id AS entry_professional_id,
+               e.professional_name, e.patient_id, e.patient_name, e.room_id, e.room_name,
+               e.starts_at AS entry_starts_at, e.ends_at, e.status, e.payment_status
+        FROM calendar_changes c
+        LEFT JOIN calendar_entries e
+            ON e.appointment_id = c.appointment_id AND c.type IN ('APPOINTMENT_SAVED', 'APPOINTMENT_CANCELLED')
+        WHERE c.tenant_id = ? AND c.sequence > ?
+        ORDER BY c.sequence
+        LIMIT ?
+        """;
+
+    // Remove só do início do histórico de cada clínica: por idade ou além do limite por clínica
+    private static final String PURGE = """
+        DELETE FROM calendar_changes c
+        USING calendar_feed_sequences s
+        WHERE c.tenant_id = s.tenant_id
+          AND (c.recorded_at < ? OR c.sequence <= s.last_sequence - ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    CalendarChangeLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Grava a alteração na transação corrente; o NOTIFY do gatilho só sai no commit. */
+    public void append(CalendarChange change) {
+        jdbcTemplate.update(APPEND,
+                change.tenantId(),
+                change.tenantId(),
+                change.type().name(),
+                change.appointmentId(),
+                change.professionalId(),
+                change.startsAt(),
+                change.previousProfessionalId(),
+                change.previousStartsAt());
+    }
+
+    /** Última sequência confirmada da clínica (0 se nunca houve alteração). */
+    public long currentSequence(UUID tenantId) {
+        List<Long> current = jdbcTemplate.queryForList(SELECT_CURRENT, Long.class, tenantId);
+        return current.isEmpty() ? 0L : current.get(0);
+    }
+
+    /** Alterações da clínica posteriores a afterSequence, em ordem, no máximo limit. */
+    public List<SequencedChange> after(UUID tenantId, long afterSequence, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER, rowMapper(tenantId), tenantId, afterSequence, limit);
+    }
+
+    public int purge(LocalDateTime recordedBefore, int keepPerTenant) {
+        return jdbcTemplate.update(PURGE, recordedBefore, keepPerTenant);
+    }
+
+    private static RowMapper<SequencedChange> rowMapper(UUID tenantId) {
+        return (rs, rowNum) -> {
+            CalendarEntryResponse entry = null;
+            UUID entryAppointmentId = rs.getObject("entry_appointment_id", UUID.class);
+            if (entryAppointmentId != null) {
+                entry = new CalendarEntryResponse(
+                        entryAppointmentId,
+                        rs.getObject("entry_professional_id", UUID.class),
+                        rs.getString("professional_name"),
+                        rs.getObject("patient_id", UUID.class),
+                        rs.getString("patient_name"),
+                        rs.getObject("room_id", UUID.class),
+                        rs.getString("room_name"),
+                        rs.getObject("entry_starts_at", LocalDateTime.class),
+                        rs.getObject("ends_at", LocalDateTime.class),
+                        AppointmentStatus.valueOf(rs.getString("status")),
+                        PaymentStatus.valueOf(rs.getString("payment_status")));
+            }
+            CalendarChange change = new CalendarChange(
+                    CalendarChangeType.valueOf(rs.getString("type")),
+                    tenantId,
+                    rs.getObject("appointment_id", UUID.class),
+                    rs.getObject("professional_id", UUID.class),
+                    rs.getObject("starts_at", LocalDateTime.class),
+                    rs.getObject("previous_professional_id", UUID.class),
+                    rs.getObject("previous_starts_at", LocalDateTime.class),
+                    entry);
+            return new SequencedChange(rs.getLong("sequence"), change);
+        };
+    }
+
+    public record SequencedChange(long sequence, CalendarChange change) {
+    }
+}
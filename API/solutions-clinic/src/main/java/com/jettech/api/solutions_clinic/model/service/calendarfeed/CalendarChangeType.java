@@ -0,0 +1,9 @@
+package com.jettech.api.solutions_clinic.model.service.calendarfeed;
+
+public enum CalendarChangeType {
+    APPOINTMENT_SAVED,
+    APPOINTMENT_CANCELLED,
+    TRIAGE_SAVED,
+    MEDICAL_RECORD_SAVED,
+    MEDICAL_RECORD_SIGNED
+}
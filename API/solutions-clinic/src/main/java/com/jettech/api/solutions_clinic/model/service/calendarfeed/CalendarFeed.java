@@ -0,0 +1,402 @@
+package com.jettech.api.solutions_clinic.model.service.calendarfeed;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.TooManyRequestsException;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChangeLog.SequencedChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed SSE das alterações da agenda, por clínica (filtrado por profissional e data).
+ * <ul>
+ *   <li>Gravação: a alteração entra em calendar_changes na transação que a gerou (CalendarChangeLog),
+ *       com sequência por clínica; o NOTIFY do commit chega a todas as instâncias pelo
+ *       CalendarChangeListener, que chama {@link #onCommitted}.</li>
+ *   <li>Leitura: uma única thread ("calendar-feed") lê o histórico e distribui às filas dos
+ *       assinantes, o que mantém a ordem por assinante. Ela não escreve em conexões.</li>
+ *   <li>Envio: cada assinante tem uma fila limitada esvaziada em virtual thread; um cliente lento
+ *       só atrasa a própria fila. Fila cheia encerra a conexão e o cliente retoma pelo histórico.</li>
+ * </ul>
+ * O resume token (id do evento SSE, reenviado em Last-Event-ID) é a sequência da clínica, válido
+ * em qualquer instância e após reinícios. Quando o histórico já não cobre o token, o assinante
+ * recebe "reset" e deve recarregar a agenda.
+ */
+@Slf4j
+@Component
+public class CalendarFeed {
+
+    public static final String READY_EVENT = "ready";
+    public static final String RESET_EVENT = "reset";
+
+    private final CalendarChangeLog changeLog;
+    private final int backlogPerTenant;
+    private final int maxSubscribers;
+    private final int subscriberQueueCapacity;
+    private final long emitterTimeoutMs;
+    private final ThreadPoolExecutor reader;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeat;
+
+    private final Map<UUID, Set<Subscriber>> subscribersByTenant = new ConcurrentHashMap<>();
+    // Última sequência lida do histórico por clínica com assinantes; só a thread de leitura escreve
+    private final Map<UUID, Long> readUpTo = new ConcurrentHashMap<>();
+    // Clínicas com releitura já enfileirada: avisos em rajada viram uma leitura só
+    private final Set<UUID> pendingTenants = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    CalendarFeed(
+            CalendarChangeLog changeLog,
+            @Value("${app.calendar-feed.backlog-per-tenant:500}") int backlogPerTenant,
+            @Value("${app.calendar-feed.max-subscribers:2000}") int maxSubscribers,
+            @Value("${app.calendar-feed.emitter-timeout-minutes:30}") long emitterTimeoutMinutes,
+            @Value("${app.calendar-feed.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.calendar-feed.subscriber-queue-capacity:256}") int subscriberQueueCapacity,
+            @Value("${app.calendar-feed.heartbeat-ms:20000}") long heartbeatMs
+    ) {
+        this.changeLog = changeLog;
+        this.backlogPerTenant = Math.max(1, backlogPerTenant);
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberQueueCapacity = Math.max(1, subscriberQueueCapacity);
+        this.emitterTimeoutMs = TimeUnit.MINUTES.toMillis(emitterTimeoutMinutes);
+        this.reader = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("calendar-feed").daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        // O envio bloqueia enquanto o cliente não lê; em virtual thread isso não prende threads do pool
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("calendar-feed-send-", 0).factory());
+        // Agendador próprio: o keep-alive só enfileira e não disputa o agendador compartilhado dos jobs
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("calendar-feed-heartbeat").daemon(true).factory());
+        heartbeat.scheduleWithFixedDelay(this::keepAlive, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCalendarChanged(CalendarChange change) {
+        changeLog.append(change);
+    }
+
+    /** Aviso (NOTIFY) de alteração confirmada na clínica, vindo de qualquer instância. */
+    void onCommitted(UUID tenantId) {
+        if (!subscribersByTenant.containsKey(tenantId) || !pendingTenants.add(tenantId)) {
+            return;
+        }
+        try {
+            reader.execute(() -> {
+                pendingTenants.remove(tenantId);
+                readNew(tenantId);
+            });
+        } catch (RejectedExecutionException e) {
+            pendingTenants.remove(tenantId);
+            log.warn("Fila do feed da agenda cheia; desconectando os assinantes da clínica {} para retomarem pelo histórico", tenantId);
+            disconnectAll(tenantId);
+        }
+    }
+
+    /** Relê o histórico de todas as clínicas com assinantes (avisos podem ter sido perdidos). */
+    void refreshAll() {
+        subscribersByTenant.keySet().forEach(this::onCommitted);
+    }
+
+    public SseEmitter subscribe(UUID tenantId, UUID professionalId, LocalDate date, String resumeToken) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException(ApiError.CALENDAR_FEED_BUSY, 30);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(tenantId, professionalId, date, emitter);
+        // compute/computeIfPresent: entrar e sair da clínica são atômicos com a remoção do conjunto vazio
+        subscribersByTenant.compute(tenantId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unregister(subscriber));
+
+        try {
+            reader.execute(() -> replay(subscriber, resumeToken));
+        } catch (RejectedExecutionException e) {
+            unregister(subscriber);
+            throw new TooManyRequestsException(ApiError.CALENDAR_FEED_BUSY, 30);
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        heartbeat.shutdownNow();
+        reader.shutdown();
+        if (!reader.awaitTermination(5, TimeUnit.SECONDS)) {
+            reader.shutdownNow();
+        }
+        subscribersByTenant.keySet().forEach(this::disconnectAll);
+        senders.shutdown();
+        if (!senders.awaitTermination(5, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+    }
+
+    // Thread de leitura
+    private void replay(Subscriber subscriber, String resumeToken) {
+        UUID tenantId = subscriber.tenantId;
+        try {
+            long current = changeLog.currentSequence(tenantId);
+            // Outro assinante pronto depende da posição atual (alterações ainda não lidas por readNew);
+            // sem ele, uma posição antiga só faria readNew reler o histórico
+            if (hasOtherReadySubscriber(subscriber)) {
+                readUpTo.putIfAbsent(tenantId, current);
+            } else {
+                readUpTo.put(tenantId, current);
+            }
+            Long afterSequence = parseToken(resumeToken);
+
+            List<SequencedChange> pending = afterSequence != null && afterSequence <= current
+                    ? changeLog.after(tenantId, afterSequence, backlogPerTenant + 1)
+                    : null;
+            if (pending == null || !covers(pending, afterSequence, current)) {
+                // Sem token o cliente acabou de carregar a agenda; com token inválido precisa recarregar
+                String event = resumeToken == null || resumeToken.isBlank() ? READY_EVENT : RESET_EVENT;
+                subscriber.lastQueuedSequence = current;
+                subscriber.ready = true;
+                enqueue(subscriber, SseEmitter.event().id(token(current)).name(event).data(Map.of("resumeToken", token(current))));
+                return;
+            }
+
+            for (SequencedChange sequenced : pending) {
+                enqueueChange(subscriber, sequenced);
+            }
+            subscriber.lastQueuedSequence = Math.max(current,
+                    pending.isEmpty() ? afterSequence : pending.get(pending.size() - 1).sequence());
+            subscriber.ready = true;
+            enqueue(subscriber, SseEmitter.event().id(token(subscriber.lastQueuedSequence)).name(READY_EVENT)
+                    .data(Map.of("resumeToken", token(subscriber.lastQueuedSequence))));
+        } catch (RuntimeException e) {
+            log.error("Erro ao retomar o feed da agenda - tenantId: {}", tenantId, e);
+            close(subscriber);
+        }
+    }
+
+    private boolean hasOtherReadySubscriber(Subscriber subscriber) {
+        Set<Subscriber> subscribers = subscribersByTenant.get(subscriber.tenantId);
+        return subscribers != null && subscribers.stream().anyMatch(other -> other != subscriber && other.ready);
+    }
+
+    /** O histórico cobre o token se começa logo depois dele e não tem lacunas até a sequência atual. */
+    private boolean covers(List<SequencedChange> pending, long afterSequence, long current) {
+        if (pending.size() > backlogPerTenant) {
+            return false;
+        }
+        long expected = afterSequence + 1;
+        for (SequencedChange sequenced : pending) {
+            if (sequenced.sequence() != expected++) {
+                return false;
+            }
+        }
+        return expected > current;
+    }
+
+    // Thread de leitura
+    private void readNew(UUID tenantId) {
+        Set<Subscriber> subscribers = subscribersByTenant.get(tenantId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            readUpTo.remove(tenantId);
+            return;
+        }
+        Long from = readUpTo.get(tenantId);
+        if (from == null) {
+            // Nenhum assinante terminou o replay ainda: o replay já lê o histórico
+            return;
+        }
+        try {
+            List<SequencedChange> changes;
+            do {
+                changes = changeLog.after(tenantId, from, backlogPerTenant);
+                for (SequencedChange sequenced : changes) {
+                    for (Subscriber subscriber : subscribers) {
+                        // Assinante ainda em replay recebe a alteração pelo histórico
+                        if (subscriber.ready && sequenced.sequence() > subscriber.lastQueuedSequence) {
+                            enqueueChange(subscriber, sequenced);
+                            subscriber.lastQueuedSequence = sequenced.sequence();
+                        }
+                    }
+                    from = sequenced.sequence();
+                }
+            } while (changes.size() == backlogPerTenant);
+            readUpTo.put(tenantId, from);
+        } catch (RuntimeException e) {
+            log.error("Erro ao ler o histórico do feed da agenda - tenantId: {}", tenantId, e);
+        }
+    }
+
+    private void enqueueChange(Subscriber subscriber, SequencedChange sequenced) {
+        if (sequenced.change().concerns(subscriber.professionalId, subscriber.date)) {
+            enqueue(subscriber, SseEmitter.event()
+                    .id(token(sequenced.sequence()))
+                    .name(sequenced.change().type().name())
+                    .data(sequenced.change()));
+        }
+    }
+
+    private void keepAlive() {
+        subscribersByTenant.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.ready && subscriber.isIdle()) {
+                enqueue(subscriber, SseEmitter.event().comment("keep-alive"));
+            }
+        }));
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        boolean full;
+        boolean startDrain = false;
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return;
+            }
+            full = subscriber.outbox.size() >= subscriberQueueCapacity;
+            if (!full) {
+                subscriber.outbox.addLast(event);
+                startDrain = !subscriber.draining;
+                subscriber.draining = true;
+            }
+        }
+        if (full) {
+            log.debug("Fila do assinante do feed da agenda cheia; desconectando - tenantId: {}", subscriber.tenantId);
+            close(subscriber);
+            return;
+        }
+        if (startDrain) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                close(subscriber);
+            }
+        }
+    }
+
+    // Uma única tarefa de envio por assinante por vez: a ordem da fila é a ordem de envio
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            synchronized (subscriber) {
+                event = subscriber.outbox.pollFirst();
+                if (event == null || subscriber.closed) {
+                    subscriber.draining = false;
+                    return;
+                }
+            }
+            try {
+                subscriber.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Assinante do feed da agenda desconectado - tenantId: {}", subscriber.tenantId);
+                close(subscriber);
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        synchronized (subscriber) {
+            subscriber.closed = true;
+            subscriber.outbox.clear();
+        }
+        unregister(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribersByTenant.computeIfPresent(subscriber.tenantId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        if (!subscribersByTenant.containsKey(subscriber.tenantId)) {
+            forgetReadPosition(subscriber.tenantId);
+        }
+    }
+
+    // A posição é escrita só pela thread de leitura; a clínica pode ter voltado a ter assinantes até lá
+    private void forgetReadPosition(UUID tenantId) {
+        try {
+            reader.execute(() -> {
+                if (!subscribersByTenant.containsKey(tenantId)) {
+                    readUpTo.remove(tenantId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Fila cheia ou encerrando: o próximo replay da clínica substitui a posição
+        }
+    }
+
+    private void disconnectAll(UUID tenantId) {
+        Set<Subscriber> subscribers = subscribersByTenant.get(tenantId);
+        if (subscribers != null) {
+            subscribers.forEach(this::close);
+        }
+    }
+
+    private static String token(long sequence) {
+        return Long.toString(sequence);
+    }
+
+    private static Long parseToken(String resumeToken) {
+        if (resumeToken == null || resumeToken.isBlank()) {
+            return null;
+        }
+        try {
+            long sequence = Long.parseLong(resumeToken.trim());
+            return sequence >= 0 ? sequence : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Subscriber {
+        private final UUID tenantId;
+        private final UUID professionalId;
+        private final LocalDate date;
+        private final SseEmitter emitter;
+        // Lidos e escritos só pela thread de leitura
+        private long lastQueuedSequence;
+        private volatile boolean ready;
+        // Protegidos pelo monitor do próprio assinante
+        private final ArrayDeque<SseEmitter.SseEventBuilder> outbox = new ArrayDeque<>();
+        private boolean draining;
+        private volatile boolean closed;
+
+        private Subscriber(UUID tenantId, UUID professionalId, LocalDate date, SseEmitter emitter) {
+            this.tenantId = tenantId;
+            this.professionalId = professionalId;
+            this.date = date;
+            this.emitter = emitter;
+        }
+
+        private synchronized boolean isIdle() {
+            return outbox.isEmpty() && !draining;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV com cabeçalho (RFC 4180: aspas duplas, aspas escapadas e quebras de linha dentro de aspas).
+ * O separador é detectado no cabeçalho: ';' (padrão do Excel em pt-BR) ou ','.
+ * Um registro com quebras de linha é limitado a MAX_RECORD_CHARS: aspas não fechadas viram erro
+ * da linha em vez de acumular o resto do arquivo em memória.
+ */
+class CsvPatientImportReader implements PatientImportReader {
+
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final List<String> header;
+    private final char separator;
+    private long lineNumber;
+
+    CsvPatientImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new IOException("Arquivo CSV vazio");
+        }
+        lineNumber = 1;
+        if (!headerLine.isEmpty() && headerLine.charAt(0) == '\uFEFF') {
+            headerLine = headerLine.substring(1);
+        }
+        this.separator = count(headerLine, ';') > count(headerLine, ',') ? ';' : ',';
+        List<String> columns = new ArrayList<>();
+        for (String column : parseRecord(headerLine)) {
+            columns.add(PatientImportRow.normalizeField(column));
+        }
+        this.header = columns;
+    }
+
+    @Override
+    public PatientImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        long recordLine = lineNumber;
+        StringBuilder record = new StringBuilder(line);
+        // Campo entre aspas com quebra de linha: continua lendo até fechar as aspas.
+        // A paridade das aspas é atualizada só com a linha nova ("" escapado alterna duas vezes).
+        boolean openQuote = togglesQuote(line, false);
+        while (openQuote) {
+            String continuation = reader.readLine();
+            if (continuation == null) {
+                return PatientImportRow.invalid(recordLine, "Aspas não fechadas no fim do arquivo");
+            }
+            lineNumber++;
+            if (record.length() + 1 + continuation.length() > MAX_RECORD_CHARS) {
+                // Descarta o registro; a leitura segue na linha seguinte como um registro novo
+                return PatientImportRow.invalid(recordLine,
+                        "Registro com mais de " + MAX_RECORD_CHARS + " caracteres (aspas não fechadas?)");
+            }
+            record.append('\n').append(continuation);
+            openQuote = togglesQuote(continuation, openQuote);
+        }
+
+        List<String> fields = parseRecord(record.toString());
+        if (fields.size() > header.size()) {
+            return PatientImportRow.invalid(recordLine,
+                    "Linha com " + fields.size() + " colunas, cabeçalho tem " + header.size());
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String value = fields.get(i).trim();
+            if (!value.isEmpty()) {
+                values.put(header.get(i), value);
+            }
+        }
+        return PatientImportRow.of(recordLine, values);
+    }
+
+    private List<String> parseRecord(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static boolean togglesQuote(String line, boolean open) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                open = !open;
+            }
+        }
+        return open;
+    }
+
+    private static int count(String line, char c) {
+        int count = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == c) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
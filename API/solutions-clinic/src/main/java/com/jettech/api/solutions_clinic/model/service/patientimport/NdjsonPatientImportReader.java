@@ -0,0 +1,64 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * NDJSON: um objeto JSON por linha. Uma linha malformada gera erro apenas para ela.
+ */
+class NdjsonPatientImportReader implements PatientImportReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    NdjsonPatientImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public PatientImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(line);
+        } catch (JsonProcessingException e) {
+            return PatientImportRow.invalid(lineNumber, "JSON inválido: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            return PatientImportRow.invalid(lineNumber, "Cada linha deve conter um objeto JSON");
+        }
+
+        Map<String, String> values = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            if (value.isValueNode() && !value.isNull()) {
+                values.put(PatientImportRow.normalizeField(field.getKey()), value.asText());
+            }
+        }
+        return PatientImportRow.of(lineNumber, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
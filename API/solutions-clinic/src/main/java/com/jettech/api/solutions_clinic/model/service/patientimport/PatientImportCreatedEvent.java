@@ -0,0 +1,12 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImportFormat;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Publicado quando uma importação é registrada; o processamento começa após o commit.
+ */
+public record PatientImportCreatedEvent(UUID importId, UUID tenantId, PatientImportFormat format, Path file) {
+}
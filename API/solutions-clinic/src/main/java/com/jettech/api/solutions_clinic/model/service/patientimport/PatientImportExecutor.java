@@ -0,0 +1,80 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImportStatus;
+import com.jettech.api.solutions_clinic.model.repository.PatientImportRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executa as importações de pacientes em um pool pequeno e limitado, fora da thread da requisição.
+ * Com a fila cheia a importação é marcada como FAILED para que o cliente reenvie mais tarde.
+ */
+@Slf4j
+@Component
+public class PatientImportExecutor {
+
+    private final PatientImportProcessor patientImportProcessor;
+    private final PatientImportRepository patientImportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    PatientImportExecutor(
+            PatientImportProcessor patientImportProcessor,
+            PatientImportRepository patientImportRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.patient-import.workers:2}") int workers,
+            @Value("${app.patient-import.queue-capacity:20}") int queueCapacity
+    ) {
+        this.patientImportProcessor = patientImportProcessor;
+        this.patientImportRepository = patientImportRepository;
+        // Chamado em AFTER_COMMIT: a marcação de falha precisa de uma transação nova
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int threads = Math.max(1, workers);
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("patient-import-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPatientImportCreated(PatientImportCreatedEvent created) {
+        try {
+            executor.execute(() -> patientImportProcessor.process(
+                    created.importId(), created.tenantId(), created.format(), created.file()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Fila de importações de pacientes cheia; importação {} rejeitada", created.importId());
+            transactionTemplate.executeWithoutResult(status -> patientImportRepository.markFinished(
+                    created.importId(), PatientImportStatus.FAILED,
+                    "Muitas importações em andamento. Tente novamente em alguns minutos.", LocalDateTime.now()));
+            PatientImportProcessor.deleteFile(created.importId(), created.file());
+        }
+    }
+
+    // A importação não foi gravada: o arquivo já copiado para o disco não tem mais dono
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onPatientImportRolledBack(PatientImportCreatedEvent created) {
+        PatientImportProcessor.deleteFile(created.importId(), created.file());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
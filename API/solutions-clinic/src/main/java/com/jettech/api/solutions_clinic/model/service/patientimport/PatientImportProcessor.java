@@ -0,0 +1,292 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImportError;
+import com.jettech.api.solutions_clinic.model.entity.PatientImportFormat;
+import com.jettech.api.solutions_clinic.model.entity.PatientImportStatus;
+import com.jettech.api.solutions_clinic.model.repository.PatientImportErrorRepository;
+import com.jettech.api.solutions_clinic.model.repository.PatientImportRepository;
+import com.jettech.api.solutions_clinic.model.repository.PatientRepository;
+import com.jettech.api.solutions_clinic.model.usecase.patient.CreatePatientRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Processa um arquivo de importação de pacientes já gravado em disco.
+ * <ul>
+ *   <li>O arquivo é lido em streaming, linha a linha.</li>
+ *   <li>Os CPFs da clínica são carregados uma única vez em um HashSet; duplicados
+ *       (no banco ou dentro do próprio arquivo) são detectados em memória.</li>
+ *   <li>As linhas válidas são gravadas em lotes via JDBC batch, cada lote na sua própria
+ *       transação junto com os erros e o progresso da importação.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PatientImportProcessor {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final String INSERT_PATIENT = """
+        INSERT INTO patients (
+            id, tenant_id, first_name, cpf, birth_date, gender, email, phone, whatsapp,
+            address_street, address_number, address_complement, address_neighborhood,
+            address_city, address_state, address_zipcode, blood_type, allergies,
+            guardian_name, guardian_phone, guardian_relationship, active, created_at, updated_at
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?)
+        ON CONFLICT (cpf, tenant_id) DO NOTHING
+        """;
+
+    private final PatientImportRepository patientImportRepository;
+    private final PatientImportErrorRepository patientImportErrorRepository;
+    private final PatientRepository patientRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxStoredErrors;
+
+    PatientImportProcessor(
+            PatientImportRepository patientImportRepository,
+            PatientImportErrorRepository patientImportErrorRepository,
+            PatientRepository patientRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            @Value("${app.patient-import.batch-size:1000}") int batchSize,
+            @Value("${app.patient-import.max-stored-errors:10000}") int maxStoredErrors
+    ) {
+        this.patientImportRepository = patientImportRepository;
+        this.patientImportErrorRepository = patientImportErrorRepository;
+        this.patientRepository = patientRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxStoredErrors = maxStoredErrors;
+    }
+
+    public void process(UUID importId, UUID tenantId, PatientImportFormat format, Path file) {
+        Integer started = transactionTemplate.execute(status -> patientImportRepository.markStarted(
+                importId, PatientImportStatus.PENDING, PatientImportStatus.RUNNING, LocalDateTime.now()));
+        if (started == null || started == 0) {
+            log.warn("Importação de pacientes {} não está mais pendente; arquivo descartado", importId);
+            deleteFile(importId, file);
+            return;
+        }
+        long start = System.nanoTime();
+
+        // InputStreamReader substitui bytes inválidos em vez de abortar (planilhas exportadas em Latin-1)
+        try (PatientImportReader reader = PatientImportReader.open(format,
+                new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)))) {
+            ImportRun run = new ImportRun(importId, tenantId, new HashSet<>(patientRepository.findCpfsByTenantId(tenantId)));
+            log.info("Importação de pacientes {} iniciada - tenantId: {}, CPFs já cadastrados: {}",
+                    importId, tenantId, run.knownCpfs.size());
+
+            Batch batch = new Batch();
+            PatientImportRow row;
+            while ((row = reader.next()) != null) {
+                accept(run, batch, row);
+                if (batch.inserts.size() + batch.errors.size() >= batchSize) {
+                    flush(run, batch);
+                    batch = new Batch();
+                }
+            }
+            flush(run, batch);
+
+            transactionTemplate.executeWithoutResult(status -> patientImportRepository.markFinished(
+                    importId, PatientImportStatus.COMPLETED, null, LocalDateTime.now()));
+            log.info("Importação de pacientes {} concluída: {} linhas, {} importados, {} duplicados, {} com erro ({} ms)",
+                    importId, run.processed, run.imported, run.duplicates, run.failed,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.error("Importação de pacientes {} falhou", importId, e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            String truncated = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+            transactionTemplate.executeWithoutResult(status -> patientImportRepository.markFinished(
+                    importId, PatientImportStatus.FAILED, truncated, LocalDateTime.now()));
+        } finally {
+            deleteFile(importId, file);
+        }
+    }
+
+    static void deleteFile(UUID importId, Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário da importação {}: {}", importId, file);
+        }
+    }
+
+    private void accept(ImportRun run, Batch batch, PatientImportRow row) {
+        batch.processed++;
+        if (row.error() != null) {
+            batch.fail(run, row.lineNumber(), null, row.error());
+            return;
+        }
+
+        CreatePatientRequest request;
+        try {
+            request = PatientImportRowMapper.toRequest(run.tenantId, row.values());
+        } catch (IllegalArgumentException e) {
+            batch.fail(run, row.lineNumber(), row.values().get("cpf"), e.getMessage());
+            return;
+        }
+
+        Set<ConstraintViolation<CreatePatientRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            batch.fail(run, row.lineNumber(), request.cpf(), message);
+            return;
+        }
+
+        String cpf = request.cpf() != null && !request.cpf().isEmpty() ? request.cpf() : null;
+        if (cpf != null && !run.knownCpfs.add(cpf)) {
+            batch.duplicates++;
+            batch.error(run, row.lineNumber(), cpf, "Paciente já existe com este CPF nesta clínica.");
+            return;
+        }
+
+        batch.add(row.lineNumber(), cpf, toInsertParams(run.tenantId, request, cpf));
+    }
+
+    private void flush(ImportRun run, Batch batch) {
+        if (batch.processed == 0) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!batch.inserts.isEmpty()) {
+                int[] counts = jdbcTemplate.batchUpdate(INSERT_PATIENT, batch.inserts);
+                for (int i = 0; i < counts.length; i++) {
+                    // 0 = CPF cadastrado por outra requisição durante a importação (ON CONFLICT DO NOTHING)
+                    if (counts[i] == 0) {
+                        batch.duplicates++;
+                        batch.error(run, batch.insertLines.get(i), batch.insertCpfs.get(i),
+                                "Paciente já existe com este CPF nesta clínica.");
+                    } else {
+                        batch.imported++;
+                    }
+                }
+            }
+            if (!batch.errors.isEmpty()) {
+                patientImportErrorRepository.saveAll(batch.errors);
+            }
+            patientImportRepository.addProgress(
+                    run.importId, batch.processed, batch.imported, batch.duplicates, batch.failed, LocalDateTime.now());
+        });
+        run.processed += batch.processed;
+        run.imported += batch.imported;
+        run.duplicates += batch.duplicates;
+        run.failed += batch.failed;
+    }
+
+    private static Object[] toInsertParams(UUID tenantId, CreatePatientRequest request, String cpf) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[]{
+                UUID.randomUUID(),
+                tenantId,
+                request.firstName(),
+                cpf,
+                request.birthDate(),
+                request.gender() != null ? request.gender().name() : null,
+                request.email(),
+                request.phone(),
+                request.whatsapp(),
+                request.addressStreet(),
+                request.addressNumber(),
+                request.addressComplement(),
+                request.addressNeighborhood(),
+                request.addressCity(),
+                request.addressState(),
+                request.addressZipcode(),
+                request.bloodType() != null ? request.bloodType().name() : null,
+                request.allergies(),
+                request.guardianName(),
+                request.guardianPhone(),
+                request.guardianRelationship(),
+                now,
+                now
+        };
+    }
+
+    /**
+     * Estado de uma importação em andamento.
+     */
+    private final class ImportRun {
+        private final UUID importId;
+        private final UUID tenantId;
+        private final Set<String> knownCpfs;
+        private int storedErrors;
+        private int processed;
+        private int imported;
+        private int duplicates;
+        private int failed;
+
+        private ImportRun(UUID importId, UUID tenantId, Set<String> knownCpfs) {
+            this.importId = importId;
+            this.tenantId = tenantId;
+            this.knownCpfs = knownCpfs;
+        }
+    }
+
+    /**
+     * Linhas acumuladas até o próximo flush.
+     */
+    private final class Batch {
+        private final List<Object[]> inserts = new ArrayList<>();
+        private final List<Long> insertLines = new ArrayList<>();
+        private final List<String> insertCpfs = new ArrayList<>();
+        private final List<PatientImportError> errors = new ArrayList<>();
+        private int processed;
+        private int imported;
+        private int duplicates;
+        private int failed;
+
+        private void add(long lineNumber, String cpf, Object[] params) {
+            inserts.add(params);
+            insertLines.add(lineNumber);
+            insertCpfs.add(cpf);
+        }
+
+        private void fail(ImportRun run, long lineNumber, String cpf, String message) {
+            failed++;
+            error(run, lineNumber, cpf, message);
+        }
+
+        // Os contadores seguem exatos; apenas o detalhe por linha é limitado a max-stored-errors
+        private void error(ImportRun run, long lineNumber, String cpf, String message) {
+            if (run.storedErrors >= maxStoredErrors) {
+                return;
+            }
+            run.storedErrors++;
+            PatientImportError error = new PatientImportError();
+            error.setImportId(run.importId);
+            error.setLineNumber(lineNumber);
+            error.setCpf(cpf != null && cpf.length() > 255 ? cpf.substring(0, 255) : cpf);
+            error.setMessage(message);
+            errors.add(error);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImportFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Leitura incremental do arquivo de importação: uma linha lógica por chamada,
+ * sem carregar o arquivo inteiro em memória.
+ */
+public interface PatientImportReader extends Closeable {
+
+    /**
+     * Próxima linha do arquivo, ou {@code null} ao fim.
+     */
+    PatientImportRow next() throws IOException;
+
+    static PatientImportReader open(PatientImportFormat format, BufferedReader reader) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvPatientImportReader(reader);
+            case NDJSON -> new NdjsonPatientImportReader(reader);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import java.util.Map;
+
+/**
+ * Linha lida do arquivo de importação. Os valores são indexados pelo nome normalizado
+ * do campo (minúsculo, sem separadores: "first_name" e "firstName" viram "firstname").
+ * Quando a linha não pôde ser interpretada, {@code error} traz o motivo e {@code values} vem vazio.
+ */
+public record PatientImportRow(long lineNumber, Map<String, String> values, String error) {
+
+    static PatientImportRow of(long lineNumber, Map<String, String> values) {
+        return new PatientImportRow(lineNumber, values, null);
+    }
+
+    static PatientImportRow invalid(long lineNumber, String error) {
+        return new PatientImportRow(lineNumber, Map.of(), error);
+    }
+
+    static String normalizeField(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import com.jettech.api.solutions_clinic.model.entity.BloodType;
+import com.jettech.api.solutions_clinic.model.entity.Gender;
+import com.jettech.api.solutions_clinic.model.usecase.patient.CreatePatientRequest;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Converte uma linha do arquivo no mesmo CreatePatientRequest do cadastro individual,
+ * para que as mesmas regras de validação sejam aplicadas.
+ */
+final class PatientImportRowMapper {
+
+    private PatientImportRowMapper() {
+    }
+
+    static CreatePatientRequest toRequest(UUID tenantId, Map<String, String> values) {
+        return new CreatePatientRequest(
+                tenantId,
+                values.get("firstname"),
+                normalizeCpf(values.get("cpf")),
+                values.get("birthdate"),
+                parseGender(values.get("gender")),
+                values.get("email"),
+                values.get("phone"),
+                values.get("whatsapp"),
+                values.get("addressstreet"),
+                values.get("addressnumber"),
+                values.get("addresscomplement"),
+                values.get("addressneighborhood"),
+                values.get("addresscity"),
+                values.get("addressstate"),
+                values.get("addresszipcode"),
+                parseBloodType(values.get("bloodtype")),
+                values.get("allergies"),
+                values.get("guardianname"),
+                values.get("guardianphone"),
+                values.get("guardianrelationship")
+        );
+    }
+
+    /**
+     * Planilhas costumam trazer o CPF formatado (000.000.000-00); mantém apenas os dígitos.
+     */
+    private static String normalizeCpf(String cpf) {
+        if (cpf == null) {
+            return null;
+        }
+        String digits = cpf.replaceAll("\\D", "");
+        return digits.isEmpty() ? cpf : digits;
+    }
+
+    private static Gender parseGender(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Gender.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("O campo [gender] deve ser um de: MASCULINO, FEMININO, OUTRO, NAO_INFORMADO");
+        }
+    }
+
+    private static BloodType parseBloodType(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        for (BloodType bloodType : BloodType.values()) {
+            if (bloodType.name().equals(normalized) || bloodType.getValue().equals(normalized)) {
+                return bloodType;
+            }
+        }
+        throw new IllegalArgumentException("O campo [bloodType] deve ser um tipo sanguíneo válido (ex.: A+, O_NEGATIVE)");
+    }
+}
@@ -0,0 +1,93 @@
+package com.jettech.api.solutions_clinic.model.service.recordchain;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Lê os elos das cadeias de prontuários de uma clínica (ou de um paciente) em streaming, na ordem
+ * (paciente, posição), incluindo os prontuários já movidos para o arquivo frio. O driver do Postgres
+ * só respeita o fetch size dentro de transação: o chamador deve estar em uma (readOnly basta).
+ * Cada linha é entregue ao consumidor e descartada, então a memória não cresce com o volume.
+ */
+@Component
+public class MedicalRecordChainScanner {
+
+    private static final String SELECT_LINKS = """
+        SELECT r.id, r.patient_id, r.appointment_id, r.template_id, r.signed_at, r.chain_position,
+               r.previous_record_id, r.previous_digest, r.digest, r.content, r.vital_signs, r.last_position
+        FROM (
+            SELECT m.id, m.patient_id, m.appointment_id, m.template_id, m.signed_at, m.chain_position,
+                   m.previous_record_id, m.previous_digest, m.digest,
+                   m.content::text AS content, m.vital_signs::text AS vital_signs, c.last_position
+            FROM medical_record_chains c
+            JOIN medical_records m ON m.patient_id = c.patient_id AND m.digest IS NOT NULL
+            WHERE c.tenant_id = ? %1$s
+            UNION ALL
+            SELECT s.id, c.patient_id, s.appointment_id, (s.data ->> 'template_id')::uuid, s.signed_at,
+                   (s.data ->> 'chain_position')::bigint, (s.data ->> 'previous_record_id')::uuid,
+                   s.data ->> 'previous_digest', s.data ->> 'digest',
+                   (s.data -> 'content')::text, (s.data -> 'vital_signs')::text, c.last_position
+            FROM medical_record_chains c
+            JOIN archive.signed_medical_records s
+              ON (s.data ->> 'patient_id')::uuid = c.patient_id AND s.data ->> 'digest' IS NOT NULL
+            WHERE c.tenant_id = ? %1$s
+        ) r
+        ORDER BY r.patient_id, r.chain_position
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    MedicalRecordChainScanner(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.medical-record-chain.fetch-size:500}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = Math.max(1, fetchSize);
+    }
+
+    /** patientId nulo percorre todos os pacientes da clínica. */
+    public void scan(UUID tenantId, UUID patientId, Consumer<ChainLink> consumer) {
+        String sql = SELECT_LINKS.formatted(patientId != null ? "AND c.patient_id = ?" : "");
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            int index = 1;
+            for (int branch = 0; branch < 2; branch++) {
+                statement.setObject(index++, tenantId);
+                if (patientId != null) {
+                    statement.setObject(index++, patientId);
+                }
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(toLink(rs)));
+    }
+
+    private static ChainLink toLink(ResultSet rs) throws SQLException {
+        MedicalRecordSeal seal = new MedicalRecordSeal(
+                rs.getObject("id", UUID.class),
+                rs.getObject("patient_id", UUID.class),
+                rs.getObject("appointment_id", UUID.class),
+                rs.getObject("template_id", UUID.class),
+                rs.getObject("signed_at", LocalDateTime.class),
+                rs.getLong("chain_position"),
+                rs.getObject("previous_record_id", UUID.class),
+                rs.getString("previous_digest"),
+                rs.getString("content"),
+                rs.getString("vital_signs"));
+        return new ChainLink(seal, rs.getString("digest"), rs.getLong("last_position"));
+    }
+
+    /** Elo gravado: os campos selados, o digest armazenado e a posição do último elo do paciente. */
+    public record ChainLink(MedicalRecordSeal seal, String storedDigest, long headPosition) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.jettech.api.solutions_clinic.model.service.recordchain;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Campos de um prontuário assinado que entram no digest da cadeia. O digest é o SHA-256 (hex) do
+ * JSON canônico destes campos: chaves em ordem (compareTo de String), sem espaços, números pelo
+ * valor decimal sem zeros à direita. content e vitalSigns chegam como o texto do JSONB, que não
+ * preserva ordem de chaves nem formatação, por isso a forma canônica é recalculada a cada leitura.
+ * O digest anterior faz parte do documento: alterar qualquer elo invalida os seguintes.
+ * Mudanças nesta forma exigem nova "v" (os digests já gravados continuam na versão antiga).
+ */
+public record MedicalRecordSeal(
+        UUID recordId,
+        UUID patientId,
+        UUID appointmentId,
+        UUID templateId,
+        LocalDateTime signedAt,
+        long position,
+        UUID previousRecordId,
+        String previousDigest,
+        String content,
+        String vitalSigns
+) {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+    private static final HexFormat HEX = HexFormat.of();
+
+    public String digest() {
+        MessageDigest sha256 = sha256();
+        try (JsonGenerator generator = FACTORY.createGenerator(new DigestOutputStream(OutputStream.nullOutputStream(), sha256))) {
+            // Campos já em ordem alfabética
+            generator.writeStartObject();
+            generator.writeStringField("appointmentId", appointmentId.toString());
+            generator.writeFieldName("content");
+            writeCanonical(generator, MAPPER.readTree(content));
+            generator.writeStringField("patientId", patientId.toString());
+            generator.writeNumberField("position", position);
+            writeNullableString(generator, "previousDigest", previousDigest);
+            writeNullableString(generator, "previousRecordId", previousRecordId != null ? previousRecordId.toString() : null);
+            generator.writeStringField("recordId", recordId.toString());
+            generator.writeStringField("signedAt", signedAt.toString());
+            generator.writeStringField("templateId", templateId.toString());
+            generator.writeNumberField("v", FORMAT_VERSION);
+            generator.writeFieldName("vitalSigns");
+            if (vitalSigns == null) {
+                generator.writeNull();
+            } else {
+                writeCanonical(generator, MAPPER.readTree(vitalSigns));
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HEX.formatHex(sha256.digest());
+    }
+
+    private static void writeCanonical(JsonGenerator generator, JsonNode node) throws IOException {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                List<String> names = new ArrayList<>(node.size());
+                for (Iterator<String> it = node.fieldNames(); it.hasNext(); ) {
+                    names.add(it.next());
+                }
+                names.sort(null);
+                generator.writeStartObject();
+                for (String name : names) {
+                    generator.writeFieldName(name);
+                    writeCanonical(generator, node.get(name));
+                }
+                generator.writeEndObject();
+            }
+            case ARRAY -> {
+                generator.writeStartArray();
+                for (JsonNode element : node) {
+                    writeCanonical(generator, element);
+                }
+                generator.writeEndArray();
+            }
+            case NUMBER -> generator.writeNumber(node.decimalValue().stripTrailingZeros().toPlainString());
+            case STRING -> generator.writeString(node.textValue());
+            case BOOLEAN -> generator.writeBoolean(node.booleanValue());
+            default -> generator.writeNull();
+        }
+    }
+
+    private static void writeNullableString(JsonGenerator generator, String name, String value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jettech.api.solutions_clinic.model.service.reminder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Canal local para desenvolvimento e testes: grava cada lembrete como uma linha JSON no arquivo
+ * configurado, sem enviar nada ao paciente. Só é ativado com app.reminders.channel=file explícito;
+ * nunca habilitar em produção.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reminders.channel", havingValue = "file")
+public class FileSinkReminderChannel implements ReminderChannel {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path path;
+
+    FileSinkReminderChannel(@Value("${app.reminders.file-sink.path:${java.io.tmpdir}/appointment-reminders.jsonl}") String path) {
+        this.path = Path.of(path);
+        log.warn("FileSinkReminderChannel ativo: lembretes são gravados em {} e NÃO são enviados.", this.path);
+    }
+
+    @Override
+    public synchronized List<ReminderDelivery> send(List<ReminderMessage> messages) {
+        List<ReminderDelivery> deliveries = new ArrayList<>(messages.size());
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ReminderMessage message : messages) {
+                writer.write(MAPPER.writeValueAsString(toJson(message)));
+                writer.newLine();
+                deliveries.add(ReminderDelivery.sent(message.reminderId()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return deliveries;
+    }
+
+    private static ObjectNode toJson(ReminderMessage message) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("reminderId", message.reminderId().toString());
+        node.put("appointmentId", message.appointmentId().toString());
+        node.put("tenantId", message.tenantId().toString());
+        node.put("channel", message.channel().name());
+        node.put("recipient", message.recipient());
+        node.put("scheduledAt", message.scheduledAt().toString());
+        node.put("text", message.text());
+        return node;
+    }
+}
@@ -0,0 +1,17 @@
+package com.jettech.api.solutions_clinic.model.service.reminder;
+
+import java.util.List;
+
+/**
+ * Canal de envio dos lembretes de agendamento (WhatsApp, SMS, e-mail), escolhido por
+ * app.reminders.channel. Cada mensagem traz o canal e o destinatário escolhidos no enfileiramento.
+ * O ReminderDispatcher já controla a vazão; a implementação recebe um lote por chamada.
+ */
+public interface ReminderChannel {
+
+    /**
+     * Envia o lote e devolve um resultado por mensagem. Uma exceção marca o lote inteiro como falho
+     * (as mensagens voltam a ser tentadas até max-attempts).
+     */
+    List<ReminderDelivery> send(List<ReminderMessage> messages);
+}
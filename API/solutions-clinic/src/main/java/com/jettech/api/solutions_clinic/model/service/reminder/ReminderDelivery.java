@@ -0,0 +1,17 @@
+package com.jettech.api.solutions_clinic.model.service.reminder;
+
+import java.util.UUID;
+
+/**
+ * Resultado do envio de um lembrete. error é nulo quando delivered.
+ */
+public record ReminderDelivery(UUID reminderId, boolean delivered, String error) {
+
+    public static ReminderDelivery sent(UUID reminderId) {
+        return new ReminderDelivery(reminderId, true, null);
+    }
+
+    public static ReminderDelivery failed(UUID reminderId, String error) {
+        return new ReminderDelivery(reminderId, false, error);
+    }
+}
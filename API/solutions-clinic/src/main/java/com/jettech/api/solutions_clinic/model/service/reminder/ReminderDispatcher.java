@@ -0,0 +1,176 @@
+package com.jettech.api.solutions_clinic.model.service.reminder;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentReminderStatus;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentReminderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Envia os lembretes enfileirados em appointment_reminders pelo ReminderChannel configurado.
+ * Cada rodada reserva lotes (UPDATE ... RETURNING com SKIP LOCKED), envia e grava o resultado em
+ * transações curtas; a chamada ao canal fica fora de transação. A vazão é limitada a
+ * rate-per-second: depois de cada lote a rodada espera o tempo que o lote "consome" e para ao
+ * atingir o orçamento da rodada (rate-per-second × intervalo entre rodadas). Por isso a rodada
+ * roda fora da thread do agendador (ver AppointmentReminderJob).
+ * Com app.reminders.enabled=true o canal precisa ser escolhido em app.reminders.channel: sem
+ * canal a aplicação não sobe, para que lembretes não sejam "enviados" para lugar nenhum.
+ */
+@Slf4j
+@Component
+public class ReminderDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final AppointmentReminderRepository appointmentReminderRepository;
+    private final ReminderChannel reminderChannel;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int ratePerSecond;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+    private final long budgetPerRun;
+
+    ReminderDispatcher(
+            AppointmentReminderRepository appointmentReminderRepository,
+            ObjectProvider<ReminderChannel> reminderChannel,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.reminders.enabled:false}") boolean enabled,
+            @Value("${app.reminders.batch-size:50}") int batchSize,
+            @Value("${app.reminders.rate-per-second:10}") int ratePerSecond,
+            @Value("${app.reminders.max-attempts:3}") int maxAttempts,
+            @Value("${app.reminders.claim-timeout-seconds:300}") long claimTimeoutSeconds,
+            @Value("${app.reminders.dispatch-interval-ms:10000}") long dispatchIntervalMs
+    ) {
+        this.appointmentReminderRepository = appointmentReminderRepository;
+        this.reminderChannel = reminderChannel.getIfAvailable();
+        if (enabled && this.reminderChannel == null) {
+            throw new IllegalStateException("Defina `app.reminders.channel` para habilitar os lembretes (`app.reminders.enabled=true`).");
+        }
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.ratePerSecond = Math.max(1, ratePerSecond);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.claimTimeout = Duration.ofSeconds(claimTimeoutSeconds);
+        this.budgetPerRun = Math.max(this.batchSize, this.ratePerSecond * Math.max(1, dispatchIntervalMs / 1000));
+    }
+
+    /**
+     * Uma rodada de envio. Retorna quantos lembretes foram entregues ao canal com sucesso.
+     */
+    public long dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer cancelled = transactionTemplate.execute(status ->
+                appointmentReminderRepository.cancelObsolete(now, now.minus(claimTimeout), maxAttempts));
+        if (cancelled != null && cancelled > 0) {
+            log.info("{} lembretes cancelados (agendamento passado, cancelado ou reagendado)", cancelled);
+        }
+
+        long runStart = System.nanoTime();
+        long claimed = 0;
+        long sent = 0;
+        // Interrompida no desligamento: o lote em andamento termina e o resto fica para a próxima rodada
+        while (claimed < budgetPerRun && !Thread.currentThread().isInterrupted()) {
+            long batchStart = System.nanoTime();
+            int limit = (int) Math.min(batchSize, budgetPerRun - claimed);
+            LocalDateTime claimedAt = LocalDateTime.now();
+            List<UUID> ids = transactionTemplate.execute(status -> appointmentReminderRepository.claimBatch(
+                    claimedAt, claimedAt.minus(claimTimeout), maxAttempts, limit));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            claimed += ids.size();
+            sent += sendBatch(ids);
+
+            if (ids.size() < limit) {
+                break;
+            }
+            pace(batchStart, ids.size());
+        }
+
+        if (claimed > 0) {
+            long elapsedMs = Math.max(1, (System.nanoTime() - runStart) / 1_000_000);
+            log.info("Lembretes: {} reservados, {} enviados em {} ms ({} msg/s)",
+                    claimed, sent, elapsedMs, sent * 1000 / elapsedMs);
+        }
+        return sent;
+    }
+
+    private int sendBatch(List<UUID> ids) {
+        List<ReminderMessage> messages = transactionTemplate.execute(status -> appointmentReminderRepository.findMessages(ids));
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+
+        List<ReminderDelivery> deliveries;
+        try {
+            deliveries = reminderChannel.send(messages);
+        } catch (RuntimeException e) {
+            log.error("Erro ao enviar lote de {} lembretes", messages.size(), e);
+            String error = errorMessage(e);
+            deliveries = messages.stream().map(m -> ReminderDelivery.failed(m.reminderId(), error)).toList();
+        }
+
+        Map<UUID, ReminderDelivery> byId = deliveries.stream()
+                .collect(Collectors.toMap(ReminderDelivery::reminderId, Function.identity(), (a, b) -> a));
+        List<UUID> delivered = new ArrayList<>(messages.size());
+        List<ReminderDelivery> failed = new ArrayList<>();
+        for (ReminderMessage message : messages) {
+            ReminderDelivery delivery = byId.get(message.reminderId());
+            if (delivery != null && delivery.delivered()) {
+                delivered.add(message.reminderId());
+            } else {
+                failed.add(delivery != null ? delivery
+                        : ReminderDelivery.failed(message.reminderId(), "Canal não retornou resultado para o lembrete"));
+            }
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                appointmentReminderRepository.markSent(delivered, AppointmentReminderStatus.SENT, sentAt);
+            }
+            for (ReminderDelivery delivery : failed) {
+                appointmentReminderRepository.markFailed(delivery.reminderId(), AppointmentReminderStatus.FAILED,
+                        truncate(delivery.error()));
+            }
+        });
+        return delivered.size();
+    }
+
+    /** Espera até que "sent" mensagens caibam em rate-per-second desde o início do lote. */
+    private void pace(long batchStart, int sent) {
+        long minimumNanos = sent * 1_000_000_000L / ratePerSecond;
+        long remainingMs = (minimumNanos - (System.nanoTime() - batchStart)) / 1_000_000;
+        if (remainingMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remainingMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String errorMessage(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jettech.api.solutions_clinic.model.service.reminder;
+
+import com.jettech.api.solutions_clinic.model.entity.ReminderChannelType;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Lembrete pronto para envio, montado a partir do lembrete reservado e do agendamento.
+ */
+public record ReminderMessage(
+        UUID reminderId,
+        UUID appointmentId,
+        UUID tenantId,
+        ReminderChannelType channel,
+        String recipient,
+        LocalDateTime scheduledAt,
+        String patientName,
+        String professionalFirstName,
+        String professionalLastName,
+        String clinicName
+) {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    public String professionalName() {
+        String lastName = professionalLastName != null ? professionalLastName : "";
+        return (professionalFirstName + " " + lastName).trim();
+    }
+
+    /** Texto padrão; canais com modelos próprios (ex.: WhatsApp) podem usar os campos diretamente. */
+    public String text() {
+        return "Olá, %s! Lembrete da sua consulta com %s em %s às %s (%s)."
+                .formatted(patientName, professionalName(), scheduledAt.format(DATE), scheduledAt.format(TIME), clinicName);
+    }
+}
@@ -0,0 +1,23 @@
+package com.jettech.api.solutions_clinic.model.service.stripe;
+
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.net.ApiResource;
+import com.stripe.net.Webhook;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "stripe.gateway", havingValue = "stripe", matchIfMissing = true)
+public class DefaultStripeGateway implements StripeGateway {
+
+    @Override
+    public Event constructEvent(String payload, String signature, String webhookSecret) throws SignatureVerificationException {
+        return Webhook.constructEvent(payload, signature, webhookSecret);
+    }
+
+    @Override
+    public Event parseEvent(String payload) {
+        return ApiResource.GSON.fromJson(payload, Event.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.jettech.api.solutions_clinic.model.service.stripe;
+
+import com.stripe.exception.EventDataObjectDeserializationException;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.Subscription;
+import com.stripe.model.checkout.Session;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+
+/**
+ * Utilitários para extrair o objeto de dados de eventos do Stripe.
+ */
+@Slf4j
+public final class StripeEventObjects {
+
+    private StripeEventObjects() {
+    }
+
+    /**
+     * Desserializa o objeto do evento. Usa a deserialização "unsafe" como fallback quando há
+     * mismatch de API version entre o evento (Event.getApiVersion()) e a lib (Stripe.API_VERSION),
+     * caso em que getObject() retorna vazio.
+     */
+    public static <T> Optional<T> dataObject(Event event, Class<T> type) {
+        EventDataObjectDeserializer deserializer = event.getDataObjectDeserializer();
+
+        Optional<?> object = deserializer.getObject();
+        if (object.isPresent() && type.isInstance(object.get())) {
+            return Optional.of(type.cast(object.get()));
+        }
+
+        try {
+            Object unsafe = deserializer.deserializeUnsafe();
+            if (type.isInstance(unsafe)) {
+                return Optional.of(type.cast(unsafe));
+            }
+        } catch (EventDataObjectDeserializationException e) {
+            log.warn("Falha ao deserializar objeto do evento {} ({}): {}", event.getId(), event.getType(), e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Chave usada para serializar o processamento: eventos da mesma subscription do Stripe
+     * são processados em ordem, pelo mesmo worker. Sem subscription, usa o próprio objeto ou evento.
+     */
+    public static String orderingKey(Event event) {
+        String type = event.getType();
+        if ("checkout.session.completed".equals(type)) {
+            Optional<Session> session = dataObject(event, Session.class);
+            if (session.isPresent()) {
+                return session.get().getSubscription() != null
+                        ? session.get().getSubscription()
+                        : session.get().getId();
+            }
+        } else if (type != null && type.startsWith("customer.subscription.")) {
+            Optional<Subscription> subscription = dataObject(event, Subscription.class);
+            if (subscription.isPresent()) {
+                return subscription.get().getId();
+            }
+        }
+        return event.getId();
+    }
+}
@@ -0,0 +1,325 @@
+package com.jettech.api.solutions_clinic.model.service.stripe;
+
+import com.jettech.api.solutions_clinic.model.entity.StripeEvent;
+import com.jettech.api.solutions_clinic.model.entity.StripeEventStatus;
+import com.jettech.api.solutions_clinic.model.entity.Subscription;
+import com.jettech.api.solutions_clinic.model.entity.SubscriptionStatus;
+import com.jettech.api.solutions_clinic.model.entity.Tenant;
+import com.jettech.api.solutions_clinic.model.entity.TenantStatus;
+import com.jettech.api.solutions_clinic.model.repository.StripeEventRepository;
+import com.jettech.api.solutions_clinic.model.repository.SubscriptionRepository;
+import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
+import com.stripe.model.Event;
+import com.stripe.model.SubscriptionItem;
+import com.stripe.model.checkout.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Processa eventos do Stripe já persistidos em stripe_events.
+ * Cada evento é reservado (claim), processado e marcado como PROCESSED em transações curtas;
+ * em caso de erro fica FAILED e é reprocessado pelo StripeEventRetryJob até max-attempts.
+ * <p>
+ * A ordem por ordering key vale também nos reprocessamentos: a reserva recusa um evento enquanto
+ * houver um anterior da mesma chave (pelo created do Stripe) não concluído, e ao concluir um evento
+ * o próximo PENDING da chave é processado em seguida. Eventos que chegam fora de ordem (mais antigos
+ * que o último aplicado na subscription) são descartados.
+ */
+@Slf4j
+@Component
+public class StripeEventProcessor {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final StripeEventRepository stripeEventRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final TenantRepository tenantRepository;
+    private final StripeGateway stripeGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+
+    StripeEventProcessor(
+            StripeEventRepository stripeEventRepository,
+            SubscriptionRepository subscriptionRepository,
+            TenantRepository tenantRepository,
+            StripeGateway stripeGateway,
+            TransactionTemplate transactionTemplate,
+            @Value("${stripe.webhook.max-attempts:5}") int maxAttempts,
+            @Value("${stripe.webhook.claim-timeout-seconds:300}") long claimTimeoutSeconds
+    ) {
+        this.stripeEventRepository = stripeEventRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.tenantRepository = tenantRepository;
+        this.stripeGateway = stripeGateway;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = Duration.ofSeconds(claimTimeoutSeconds);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void process(String eventId) {
+        String next = eventId;
+        while (next != null) {
+            next = processOne(next);
+        }
+    }
+
+    /** Retorna o próximo evento da mesma ordering key quando este foi concluído; null caso contrário. */
+    private String processOne(String eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> stripeEventRepository.claim(
+                eventId, now, now.minus(claimTimeout), maxAttempts));
+        if (claimed == null || claimed == 0) {
+            log.debug("Evento do Stripe já processado, reservado por outro worker ou aguardando evento anterior: {}", eventId);
+            return null;
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                StripeEvent stored = stripeEventRepository.findById(eventId)
+                        .orElseThrow(() -> new IllegalStateException("Evento do Stripe não encontrado: " + eventId));
+                handle(stripeGateway.parseEvent(stored.getPayload()));
+                stripeEventRepository.markProcessed(eventId, StripeEventStatus.PROCESSED, LocalDateTime.now());
+                return stripeEventRepository.findNextPending(stored.getOrderingKey()).orElse(null);
+            });
+        } catch (RuntimeException e) {
+            log.error("Erro ao processar evento do Stripe {}; eventos seguintes da mesma subscription aguardam", eventId, e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            String truncated = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+            transactionTemplate.executeWithoutResult(status ->
+                    stripeEventRepository.markFailed(eventId, StripeEventStatus.FAILED, truncated));
+            return null;
+        }
+    }
+
+    private void handle(Event event) {
+        log.info("Processando evento do Stripe - type: {}, id: {}", event.getType(), event.getId());
+
+        switch (event.getType()) {
+            case "checkout.session.completed":
+                handleCheckoutSessionCompleted(event);
+                break;
+            case "customer.subscription.updated":
+                handleSubscriptionUpdated(event);
+                break;
+            case "customer.subscription.deleted":
+                handleSubscriptionDeleted(event);
+                break;
+            default:
+                log.info("Evento recebido mas não processado (eventos suportados: checkout.session.completed, customer.subscription.updated, customer.subscription.deleted): type={}, id={}", event.getType(), event.getId());
+                break;
+        }
+    }
+
+    private void handleCheckoutSessionCompleted(Event event) {
+        Session session = StripeEventObjects.dataObject(event, Session.class).orElse(null);
+        if (session == null) {
+            log.error("Sessão não encontrada no evento checkout.session.completed (event.apiVersion={}). " +
+                    "Considere configurar o webhook no Stripe com api_versions alinhada à biblioteca.", event.getApiVersion());
+            return;
+        }
+
+        log.info("Processando checkout.session.completed - sessionId: {}", session.getId());
+
+        Subscription subscription = subscriptionRepository.findByStripeCheckoutSessionId(session.getId())
+                .orElse(null);
+
+        if (subscription == null) {
+            log.warn("Subscription não encontrada para sessionId: {}", session.getId());
+            return;
+        }
+        if (isOutOfOrder(subscription, event)) {
+            return;
+        }
+
+        // As datas de período chegam depois, via customer.subscription.updated
+        if (session.getSubscription() != null) {
+            subscription.setStripeSubscriptionId(session.getSubscription());
+        }
+        if (session.getCustomer() != null) {
+            subscription.setStripeCustomerId(session.getCustomer());
+        }
+
+        subscription.setStatus(SubscriptionStatus.ACTIVE);
+        subscription = subscriptionRepository.save(subscription);
+
+        log.info("Subscription ativada - subscriptionId: {}, tenantId: {}, status após save: {}",
+                subscription.getId(), subscription.getTenant().getId(), subscription.getStatus());
+
+        updateTenantAfterPayment(subscription);
+    }
+
+    private void updateTenantAfterPayment(Subscription subscription) {
+        if (subscription.getStatus() != SubscriptionStatus.ACTIVE) {
+            log.warn("updateTenantAfterPayment - Subscription não está ACTIVE, saindo. Status atual: {}", subscription.getStatus());
+            return;
+        }
+
+        Tenant tenant = subscription.getTenant();
+        tenant.setPlanType(subscription.getPlanType());
+
+        if (tenant.getStatus() == TenantStatus.PENDING_SETUP) {
+            tenant.setStatus(TenantStatus.ACTIVE);
+        }
+
+        tenant.setActive(true);
+        tenantRepository.save(tenant);
+
+        log.info("Tenant atualizado após pagamento - tenantId: {}, planType: {}, status: {}",
+                tenant.getId(), tenant.getPlanType(), tenant.getStatus());
+    }
+
+    /**
+     * Processa o evento customer.subscription.updated do Stripe.
+     * Atualiza as informações de período da subscription (currentPeriodStart, currentPeriodEnd) e o status.
+     */
+    private void handleSubscriptionUpdated(Event event) {
+        com.stripe.model.Subscription stripeSubscription = StripeEventObjects
+                .dataObject(event, com.stripe.model.Subscription.class).orElse(null);
+        if (stripeSubscription == null) {
+            log.error("Subscription não encontrada no evento customer.subscription.updated (event.apiVersion={})", event.getApiVersion());
+            return;
+        }
+
+        log.info("Processando customer.subscription.updated - subscriptionId: {}", stripeSubscription.getId());
+
+        Subscription subscription = subscriptionRepository
+                .findByStripeSubscriptionId(stripeSubscription.getId())
+                .orElse(null);
+
+        if (subscription == null) {
+            log.warn("Subscription local não encontrada para stripeSubscriptionId: {}", stripeSubscription.getId());
+            return;
+        }
+        if (isOutOfOrder(subscription, event)) {
+            return;
+        }
+
+        // O período de cobrança fica nos itens da subscription (um item por plano)
+        firstItem(stripeSubscription).ifPresent(item -> {
+            if (item.getCurrentPeriodStart() != null) {
+                subscription.setCurrentPeriodStart(toLocalDateTime(item.getCurrentPeriodStart()));
+            }
+            if (item.getCurrentPeriodEnd() != null) {
+                subscription.setCurrentPeriodEnd(toLocalDateTime(item.getCurrentPeriodEnd()));
+            }
+        });
+
+        String stripeStatus = stripeSubscription.getStatus();
+        if (stripeStatus != null) {
+            switch (stripeStatus) {
+                case "active":
+                    subscription.setStatus(SubscriptionStatus.ACTIVE);
+                    break;
+                case "canceled":
+                    subscription.setStatus(SubscriptionStatus.CANCELED);
+                    if (subscription.getCanceledAt() == null) {
+                        subscription.setCanceledAt(LocalDateTime.now());
+                    }
+                    break;
+                case "past_due":
+                    subscription.setStatus(SubscriptionStatus.PAST_DUE);
+                    break;
+                case "unpaid":
+                    subscription.setStatus(SubscriptionStatus.UNPAID);
+                    break;
+                default:
+                    log.debug("Status do Stripe não mapeado: {}", stripeStatus);
+                    break;
+            }
+        }
+
+        Subscription saved = subscriptionRepository.save(subscription);
+
+        log.info("Subscription atualizada - subscriptionId: {}, periodStart: {}, periodEnd: {}, status: {}",
+                saved.getId(), saved.getCurrentPeriodStart(), saved.getCurrentPeriodEnd(), saved.getStatus());
+    }
+
+    /**
+     * Processa o evento customer.subscription.deleted do Stripe.
+     * Marca a subscription como cancelada e salva a data de cancelamento.
+     */
+    private void handleSubscriptionDeleted(Event event) {
+        com.stripe.model.Subscription stripeSubscription = StripeEventObjects
+                .dataObject(event, com.stripe.model.Subscription.class).orElse(null);
+        if (stripeSubscription == null) {
+            log.error("Subscription não encontrada no evento customer.subscription.deleted (event.apiVersion={})", event.getApiVersion());
+            return;
+        }
+
+        log.info("Processando customer.subscription.deleted - subscriptionId: {}", stripeSubscription.getId());
+
+        Subscription subscription = subscriptionRepository
+                .findByStripeSubscriptionId(stripeSubscription.getId())
+                .orElse(null);
+
+        if (subscription == null) {
+            log.warn("Subscription local não encontrada para stripeSubscriptionId: {}", stripeSubscription.getId());
+            return;
+        }
+        if (isOutOfOrder(subscription, event)) {
+            return;
+        }
+
+        subscription.setStatus(SubscriptionStatus.CANCELED);
+        subscription.setCanceledAt(LocalDateTime.now());
+
+        Tenant tenant = subscription.getTenant();
+        tenant.setActive(false);
+        tenant.setStatus(TenantStatus.CANCELED);
+        tenantRepository.save(tenant);
+
+        subscription = subscriptionRepository.save(subscription);
+
+        log.info("Subscription cancelada - subscriptionId: {}, canceledAt: {}, tenantId: {}",
+                subscription.getId(), subscription.getCanceledAt(), tenant.getId());
+    }
+
+    /**
+     * O Stripe não garante a ordem de entrega: um evento criado antes do último já aplicado na
+     * subscription é descartado, para não reverter um estado mais novo (ex.: updated antigo reativando
+     * uma subscription já deletada). Caso contrário registra o created do evento como o último aplicado.
+     */
+    private boolean isOutOfOrder(Subscription subscription, Event event) {
+        if (event.getCreated() == null) {
+            return false;
+        }
+        LocalDateTime created = toLocalDateTime(event.getCreated());
+        LocalDateTime lastApplied = subscription.getStripeEventAppliedAt();
+        if (lastApplied != null && created.isBefore(lastApplied)) {
+            log.warn("Evento do Stripe fora de ordem descartado - type: {}, id: {}, created: {}, último aplicado: {}",
+                    event.getType(), event.getId(), created, lastApplied);
+            return true;
+        }
+        subscription.setStripeEventAppliedAt(created);
+        return false;
+    }
+
+    private Optional<SubscriptionItem> firstItem(com.stripe.model.Subscription stripeSubscription) {
+        if (stripeSubscription.getItems() == null || stripeSubscription.getItems().getData() == null
+                || stripeSubscription.getItems().getData().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(stripeSubscription.getItems().getData().get(0));
+    }
+
+    private LocalDateTime toLocalDateTime(Long epochSeconds) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneId.systemDefault());
+    }
+}
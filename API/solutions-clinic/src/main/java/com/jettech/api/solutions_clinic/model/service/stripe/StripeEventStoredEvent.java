@@ -0,0 +1,11 @@
+package com.jettech.api.solutions_clinic.model.service.stripe;
+
+/**
+ * Publicado quando um evento novo do Stripe é persistido; o despacho para os workers
+ * acontece somente após o commit da transação de ingestão.
+ */
+public record StripeEventStoredEvent(
+    String eventId,
+    String orderingKey
+) {
+}
@@ -0,0 +1,66 @@
+package com.jettech.api.solutions_clinic.model.service.stripe;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool de workers para eventos do Stripe. Cada worker é uma fila de thread única;
+ * a ordering key (subscription) é mapeada sempre para o mesmo worker, garantindo
+ * processamento em ordem por subscription e paralelismo entre subscriptions diferentes.
+ * Filas cheias descartam o despacho: o evento continua PENDING no banco e é
+ * redespachado pelo StripeEventRetryJob.
+ */
+@Slf4j
+@Component
+public class StripeEventWorkerPool {
+
+    private final StripeEventProcessor stripeEventProcessor;
+    private final ExecutorService[] workers;
+
+    StripeEventWorkerPool(
+            StripeEventProcessor stripeEventProcessor,
+            @Value("${stripe.webhook.workers:4}") int workerCount,
+            @Value("${stripe.webhook.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.stripeEventProcessor = stripeEventProcessor;
+        this.workers = new ExecutorService[Math.max(1, workerCount)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    Thread.ofPlatform().name("stripe-events-" + i).daemon(true).factory(),
+                    (task, executor) -> log.warn("Fila de eventos do Stripe cheia; evento será redespachado pelo job de retry"));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStripeEventStored(StripeEventStoredEvent stored) {
+        dispatch(stored.eventId(), stored.orderingKey());
+    }
+
+    public void dispatch(String eventId, String orderingKey) {
+        workers[Math.floorMod(orderingKey.hashCode(), workers.length)]
+                .execute(() -> stripeEventProcessor.process(eventId));
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        for (ExecutorService worker : workers) {
+            if (!worker.awaitTermination(10, TimeUnit.SECONDS)) {
+                worker.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.jettech.api.solutions_clinic.model.service.stripe;
+
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+
+/**
+ * Ponto de acesso ao Stripe usado pelo pipeline de webhooks.
+ * A implementação padrão usa a SDK do Stripe; a implementação stub (stripe.gateway=stub)
+ * permite exercitar o pipeline localmente, sem rede e sem assinatura real.
+ */
+public interface StripeGateway {
+
+    /**
+     * Verifica a assinatura do webhook e retorna o evento correspondente.
+     */
+    Event constructEvent(String payload, String signature, String webhookSecret) throws SignatureVerificationException;
+
+    /**
+     * Reconstrói um evento a partir do payload bruto já verificado e armazenado.
+     */
+    Event parseEvent(String payload);
+}
@@ -0,0 +1,35 @@
+package com.jettech.api.solutions_clinic.model.service.stripe;
+
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.net.ApiResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gateway local para desenvolvimento e testes: aceita qualquer assinatura não vazia
+ * e apenas desserializa o payload. Nunca habilitar em produção.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stripe.gateway", havingValue = "stub")
+public class StubStripeGateway implements StripeGateway {
+
+    public StubStripeGateway() {
+        log.warn("StubStripeGateway ativo: assinaturas de webhook do Stripe NÃO são verificadas.");
+    }
+
+    @Override
+    public Event constructEvent(String payload, String signature, String webhookSecret) throws SignatureVerificationException {
+        if (signature == null || signature.isBlank()) {
+            throw new SignatureVerificationException("Assinatura ausente", signature);
+        }
+        return parseEvent(payload);
+    }
+
+    @Override
+    public Event parseEvent(String payload) {
+        return ApiResource.GSON.fromJson(payload, Event.class);
+    }
+}
@@ -0,0 +1,332 @@
+package com.jettech.api.solutions_clinic.model.service.templateschema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Schema de um modelo de prontuário já compilado: a lista de campos ({id, label, type, ...}) vira
+ * um mapa de regras imutável, montado uma vez por versão do modelo (ver TemplateSchemaCache).
+ * O content é validado em uma única passada pelos tokens do JSON, sem montar árvore.
+ * Tipos reconhecidos: text/textarea, number (min/max), date (yyyy-MM-dd), checkbox/boolean e
+ * select/radio (options). Tipos desconhecidos aceitam qualquer valor. "required" e "maxLength"
+ * são opcionais em qualquer campo; os obrigatórios só são cobrados na assinatura.
+ * Modelos gravados antes da validação podem não compilar; para eles há {@link #compileLegacy}.
+ */
+public final class TemplateSchema {
+
+    // Campo fora do schema num modelo legado: aceito sem conferência
+    private static final Field UNDECLARED = new Field(-1, "", Kind.ANY, false, null, null, null, null);
+
+    private final Map<String, Field> fields;
+    private final List<Field> fieldsByIndex;
+    private final BitSet requiredFields;
+    private final boolean acceptsUndeclaredFields;
+
+    private TemplateSchema(Map<String, Field> fields, List<Field> fieldsByIndex, BitSet requiredFields,
+                           boolean acceptsUndeclaredFields) {
+        this.fields = fields;
+        this.fieldsByIndex = fieldsByIndex;
+        this.requiredFields = requiredFields;
+        this.acceptsUndeclaredFields = acceptsUndeclaredFields;
+    }
+
+    public static TemplateSchema compile(JsonNode schema) {
+        if (schema == null || !schema.isArray()) {
+            throw invalidSchema("o schema deve ser uma lista de campos");
+        }
+        Map<String, Field> fields = new HashMap<>();
+        List<Field> fieldsByIndex = new ArrayList<>();
+        BitSet required = new BitSet();
+        for (JsonNode definition : schema) {
+            String id = definition.path("id").asText("");
+            if (!definition.isObject() || id.isBlank()) {
+                throw invalidSchema("todo campo precisa de um id");
+            }
+            Field field = Field.compile(fields.size(), id, definition);
+            if (fields.putIfAbsent(id, field) != null) {
+                throw invalidSchema("id de campo repetido '" + id + "'");
+            }
+            fieldsByIndex.add(field);
+            if (field.required) {
+                required.set(field.index);
+            }
+        }
+        return new TemplateSchema(Map.copyOf(fields), List.copyOf(fieldsByIndex), required, false);
+    }
+
+    /**
+     * Compilação tolerante para modelos já gravados que {@link #compile} recusa, para que seus
+     * prontuários continuem podendo ser salvos: definições sem id são ignoradas (o content pode
+     * trazer chaves que o schema não declara, e elas são aceitas), ids repetidos ficam com a
+     * primeira definição e select/radio sem options aceita qualquer texto. Um schema que nem é
+     * lista não valida nada além de o content ser um objeto.
+     */
+    public static TemplateSchema compileLegacy(JsonNode schema) {
+        Map<String, Field> fields = new HashMap<>();
+        List<Field> fieldsByIndex = new ArrayList<>();
+        BitSet required = new BitSet();
+        if (schema != null && schema.isArray()) {
+            for (JsonNode definition : schema) {
+                String id = definition.path("id").asText("");
+                if (!definition.isObject() || id.isBlank() || fields.containsKey(id)) {
+                    continue;
+                }
+                Field field = Field.compileLegacy(fields.size(), id, definition);
+                fields.put(id, field);
+                fieldsByIndex.add(field);
+                if (field.required) {
+                    required.set(field.index);
+                }
+            }
+        }
+        return new TemplateSchema(Map.copyOf(fields), List.copyOf(fieldsByIndex), required, true);
+    }
+
+    /**
+     * Rascunho: só campos do modelo e tipos corretos. Obrigatórios podem ficar em branco enquanto
+     * o prontuário é editado; são exigidos na assinatura ({@link #validateComplete}).
+     */
+    public void validate(JsonParser parser) {
+        readObject(parser, (field, token) -> field.check(parser, token));
+    }
+
+    /** Documento para assinatura: o que {@link #validate} confere e os obrigatórios preenchidos. */
+    public void validateComplete(JsonParser parser) {
+        BitSet filled = new BitSet();
+        readObject(parser, (field, token) -> {
+            if (field.check(parser, token) && !isEmpty(parser, token) && field.index >= 0) {
+                filled.set(field.index);
+            }
+        });
+        BitSet missing = (BitSet) requiredFields.clone();
+        missing.andNot(filled);
+        if (!missing.isEmpty()) {
+            throw invalidContent("o campo '" + fieldsByIndex.get(missing.nextSetBit(0)).label + "' é obrigatório");
+        }
+    }
+
+    /** Merge Patch (RFC 7386): só os campos enviados; null remove o campo. */
+    public void validateMergePatch(JsonParser parser) {
+        readObject(parser, (field, token) -> field.check(parser, token));
+    }
+
+    /**
+     * Uma operação de JSON Patch (RFC 6902) com paths já decodificados. Os campos são escalares,
+     * então abaixo do primeiro nível só se aceitam campos de tipo livre.
+     */
+    public void validatePatchOperation(String op, List<String> path, List<String> from, JsonNode value) {
+        if ("test".equals(op)) {
+            return;
+        }
+        if (path.isEmpty()) {
+            // Trocar o documento inteiro: o novo valor precisa ser um content válido
+            if (!"add".equals(op) && !"replace".equals(op)) {
+                throw invalidContent("o conteúdo deve ser um objeto");
+            }
+            validate(value.traverse());
+            return;
+        }
+
+        Field target = field(path.getFirst());
+        if (path.size() > 1 && target.kind != Kind.ANY) {
+            throw invalidContent("o campo '" + target.label + "' não possui subcampos");
+        }
+        switch (op) {
+            case "add", "replace" -> {
+                if (path.size() == 1) {
+                    JsonParser parser = value.traverse();
+                    target.check(parser, nextToken(parser));
+                }
+            }
+            case "move", "copy" -> {
+                Field source = from.isEmpty() ? null : field(from.getFirst());
+                boolean sameKind = source != null && from.size() == 1 && path.size() == 1 && source.kind == target.kind;
+                if (!sameKind && target.kind != Kind.ANY) {
+                    throw invalidContent("'" + op + "' só é aceito entre campos do mesmo tipo");
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void readObject(JsonParser parser, FieldVisitor visitor) {
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw invalidContent("o conteúdo deve ser um objeto");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                Field field = field(parser.currentName());
+                visitor.visit(field, parser.nextToken());
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw invalidContent("JSON malformado");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Field field(String id) {
+        Field field = fields.get(id);
+        if (field == null) {
+            if (acceptsUndeclaredFields) {
+                return UNDECLARED;
+            }
+            throw invalidContent("campo '" + id + "' não existe no modelo");
+        }
+        return field;
+    }
+
+    private static boolean isEmpty(JsonParser parser, JsonToken token) {
+        try {
+            return token == JsonToken.VALUE_NULL || token == JsonToken.VALUE_STRING && parser.getText().isBlank();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonToken nextToken(JsonParser parser) {
+        try {
+            return parser.nextToken();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InvalidRequestException invalidContent(String detail) {
+        return new InvalidRequestException(ApiError.INVALID_MEDICAL_RECORD_CONTENT, detail);
+    }
+
+    private static InvalidRequestException invalidSchema(String detail) {
+        return new InvalidRequestException(ApiError.INVALID_TEMPLATE_SCHEMA, detail);
+    }
+
+    @FunctionalInterface
+    private interface FieldVisitor {
+        void visit(Field field, JsonToken valueToken) throws IOException;
+    }
+
+    private enum Kind {
+        TEXT, NUMBER, DATE, BOOLEAN, OPTION, ANY;
+
+        static Kind of(String type) {
+            return switch (type) {
+                case "text", "textarea" -> TEXT;
+                case "number" -> NUMBER;
+                case "date" -> DATE;
+                case "checkbox", "boolean" -> BOOLEAN;
+                case "select", "radio" -> OPTION;
+                default -> ANY;
+            };
+        }
+    }
+
+    private record Field(int index, String label, Kind kind, boolean required,
+                         Integer maxLength, Double min, Double max, Set<String> options) {
+
+        static Field compile(int index, String id, JsonNode definition) {
+            return compile(index, id, definition, false);
+        }
+
+        static Field compileLegacy(int index, String id, JsonNode definition) {
+            return compile(index, id, definition, true);
+        }
+
+        private static Field compile(int index, String id, JsonNode definition, boolean legacy) {
+            Kind kind = Kind.of(definition.path("type").asText(""));
+            Set<String> options = null;
+            if (kind == Kind.OPTION) {
+                options = new HashSet<>();
+                for (JsonNode option : definition.path("options")) {
+                    // Aceita ["a", "b"] ou [{"value": "a", "label": "A"}]
+                    options.add(option.isObject() ? option.path("value").asText() : option.asText());
+                }
+                if (options.isEmpty() && !legacy) {
+                    throw invalidSchema("o campo '" + id + "' precisa de options");
+                }
+                options = Set.copyOf(options);
+                if (options.isEmpty()) {
+                    kind = Kind.TEXT;
+                    options = null;
+                }
+            }
+            return new Field(
+                    index,
+                    definition.path("label").asText(id),
+                    kind,
+                    definition.path("required").asBoolean(false),
+                    definition.hasNonNull("maxLength") ? definition.get("maxLength").asInt() : null,
+                    definition.hasNonNull("min") ? definition.get("min").asDouble() : null,
+                    definition.hasNonNull("max") ? definition.get("max").asDouble() : null,
+                    options);
+        }
+
+        /** Confere o valor atual do parser; retorna true se o campo ficou preenchido. */
+        boolean check(JsonParser parser, JsonToken token) {
+            try {
+                if (token == JsonToken.VALUE_NULL) {
+                    return false;
+                }
+                switch (kind) {
+                    case TEXT -> {
+                        expect(token == JsonToken.VALUE_STRING, "texto");
+                        if (maxLength != null && parser.getTextLength() > maxLength) {
+                            throw invalidContent("o campo '" + label + "' aceita no máximo " + maxLength + " caracteres");
+                        }
+                    }
+                    case NUMBER -> {
+                        expect(token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT, "número");
+                        double number = parser.getDoubleValue();
+                        if (min != null && number < min || max != null && number > max) {
+                            throw invalidContent("o campo '" + label + "' está fora do intervalo permitido");
+                        }
+                    }
+                    case DATE -> {
+                        expect(token == JsonToken.VALUE_STRING, "data");
+                        String text = parser.getText();
+                        if (!text.isEmpty()) {
+                            LocalDate.parse(text);
+                        }
+                    }
+                    case BOOLEAN -> expect(token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE, "booleano");
+                    case OPTION -> {
+                        expect(token == JsonToken.VALUE_STRING, "opção");
+                        String text = parser.getText();
+                        if (!text.isEmpty() && !options.contains(text)) {
+                            throw invalidContent("valor '" + text + "' não é uma opção do campo '" + label + "'");
+                        }
+                    }
+                    case ANY -> parser.skipChildren();
+                }
+                return true;
+            } catch (DateTimeParseException e) {
+                throw invalidContent("o campo '" + label + "' deve ser uma data no formato AAAA-MM-DD");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void expect(boolean matches, String expected) {
+            if (!matches) {
+                throw invalidContent("o campo '" + label + "' deve ser " + expected);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.jettech.api.solutions_clinic.model.service.templateschema;
+
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.model.entity.MedicalRecordTemplate;
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordTemplateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Na subida, lista os modelos cujo schema não compila (gravados antes da validação: campo sem id,
+ * select sem options, id repetido). Os prontuários desses modelos continuam sendo salvos pela
+ * compilação tolerante do TemplateSchemaCache; o aviso é para a clínica corrigir o modelo.
+ */
+@Slf4j
+@Component
+public class TemplateSchemaAudit {
+
+    private static final int PAGE_SIZE = 200;
+
+    private final MedicalRecordTemplateRepository templateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    TemplateSchemaAudit(MedicalRecordTemplateRepository templateRepository, TransactionTemplate transactionTemplate) {
+        this.templateRepository = templateRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void audit() {
+        int invalid = 0;
+        int page = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            PageRequest request = PageRequest.of(page++, PAGE_SIZE, Sort.by("id"));
+            Slice<MedicalRecordTemplate> templates = transactionTemplate.execute(status -> templateRepository.findAll(request));
+            if (templates == null) {
+                break;
+            }
+            for (MedicalRecordTemplate template : templates) {
+                try {
+                    TemplateSchema.compile(template.getSchema());
+                } catch (InvalidRequestException e) {
+                    invalid++;
+                    log.warn("Modelo de prontuário com schema inválido - id: {}, nome: '{}': {}",
+                            template.getId(), template.getName(), e.getMessage());
+                }
+            }
+            hasNext = templates.hasNext();
+        }
+        if (invalid > 0) {
+            log.warn("{} modelos de prontuário com schema inválido; seus prontuários são validados em modo tolerante", invalid);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jettech.api.solutions_clinic.model.service.templateschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Schemas compilados por modelo, válidos enquanto o updated_at do modelo não muda: alterar o
+ * modelo troca a chave e a próxima validação recompila. O schema (jsonb) só é carregado no
+ * primeiro uso de cada versão; o autosave passa a pagar apenas a validação.
+ * Modelo gravado antes da validação cujo schema não compila usa a compilação tolerante
+ * ({@link TemplateSchema#compileLegacy}); os casos são listados na subida por TemplateSchemaAudit.
+ */
+@Slf4j
+@Component
+public class TemplateSchemaCache {
+
+    private final int maxEntries;
+    private final Map<UUID, Entry> schemas = new ConcurrentHashMap<>();
+
+    TemplateSchemaCache(@Value("${app.template-schema-cache.max-entries:5000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public TemplateSchema get(UUID templateId, LocalDateTime updatedAt, Supplier<JsonNode> schemaLoader) {
+        Entry cached = schemas.get(templateId);
+        if (cached != null && Objects.equals(cached.updatedAt(), updatedAt)) {
+            return cached.schema();
+        }
+
+        TemplateSchema compiled = compile(templateId, schemaLoader.get());
+        if (schemas.size() >= maxEntries) {
+            // Recompilar é barato; evita crescer sem limite com muitos modelos de clínica
+            log.debug("Cache de schemas de modelos cheio ({} entradas); limpando", schemas.size());
+            schemas.clear();
+        }
+        schemas.put(templateId, new Entry(updatedAt, compiled));
+        return compiled;
+    }
+
+    private static TemplateSchema compile(UUID templateId, JsonNode schema) {
+        try {
+            return TemplateSchema.compile(schema);
+        } catch (InvalidRequestException e) {
+            log.warn("Schema do modelo {} não compila ({}); validando os prontuários em modo tolerante",
+                    templateId, e.getMessage());
+            return TemplateSchema.compileLegacy(schema);
+        }
+    }
+
+    public void evict(UUID templateId) {
+        schemas.remove(templateId);
+    }
+
+    private record Entry(LocalDateTime updatedAt, TemplateSchema schema) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.jettech.api.solutions_clinic.model.service.vitalsigns;
+
+import com.jettech.api.solutions_clinic.model.entity.VitalSignMetric;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Leituras de sinais vitais (vital_sign_readings). Gravação e consulta via JDBC: a tabela é
+ * estreita, só de apoio às séries temporais, e a consulta de tendência agrega no banco.
+ * measured_at e patient_id são copiados do agendamento na triagem; reagendamento, check-in,
+ * troca de paciente e cancelamento são refletidos pelos gatilhos de V25.
+ */
+@Component
+public class VitalSignReadingStore {
+
+    private static final String DELETE_BY_APPOINTMENT = "DELETE FROM vital_sign_readings WHERE appointment_id = ?";
+
+    private static final String INSERT_READING = """
+        INSERT INTO vital_sign_readings (appointment_id, metric, tenant_id, patient_id, measured_at, value)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    // date_bin alinha os baldes a "from"; a varredura usa o índice (patient_id, metric, measured_at)
+    private static final String SELECT_TREND = """
+        SELECT date_bin(make_interval(secs => ?), measured_at, ?) AS bucket_start,
+               MIN(value) AS min_value, MAX(value) AS max_value, AVG(value) AS avg_value, COUNT(*) AS readings
+        FROM vital_sign_readings
+        WHERE patient_id = ? AND metric = ? AND measured_at >= ? AND measured_at < ?
+        GROUP BY bucket_start
+        ORDER BY bucket_start
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    VitalSignReadingStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Substitui as leituras da triagem do agendamento pelas informadas (vazio apaga todas). */
+    public void replace(UUID appointmentId, UUID tenantId, UUID patientId, LocalDateTime measuredAt,
+                        Map<VitalSignMetric, Double> readings) {
+        jdbcTemplate.update(DELETE_BY_APPOINTMENT, appointmentId);
+        if (readings.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(readings.size());
+        readings.forEach((metric, value) ->
+                rows.add(new Object[]{appointmentId, metric.name(), tenantId, patientId, measuredAt, value}));
+        jdbcTemplate.batchUpdate(INSERT_READING, rows);
+    }
+
+    /** Série agregada em baldes de largura "bucket" em [from, to), só os baldes com leituras. */
+    public List<TrendBucket> trend(UUID patientId, VitalSignMetric metric, LocalDateTime from, LocalDateTime to, Duration bucket) {
+        return jdbcTemplate.query(SELECT_TREND,
+                (rs, rowNum) -> new TrendBucket(
+                        rs.getObject("bucket_start", LocalDateTime.class),
+                        rs.getDouble("min_value"),
+                        rs.getDouble("max_value"),
+                        rs.getDouble("avg_value"),
+                        rs.getLong("readings")),
+                bucket.toSeconds(), from, patientId, metric.name(), from, to);
+    }
+
+    public record TrendBucket(LocalDateTime start, double min, double max, double avg, long readings) {
+    }
+}
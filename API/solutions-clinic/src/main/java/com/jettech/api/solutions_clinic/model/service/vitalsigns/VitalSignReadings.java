@@ -0,0 +1,69 @@
+package com.jettech.api.solutions_clinic.model.service.vitalsigns;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jettech.api.solutions_clinic.model.entity.VitalSignMetric;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extrai as métricas numéricas do JSON de sinais vitais da triagem. Aceita números ou textos
+ * numéricos (com vírgula decimal); zeros e valores negativos são campos não preenchidos no
+ * formulário e ficam de fora, assim como campos ausentes ou ilegíveis. As mesmas regras valem
+ * para a carga inicial da migração V17.
+ */
+public final class VitalSignReadings {
+
+    private static final Pattern NUMBER = Pattern.compile("\\s*(\\d+(?:[.,]\\d+)?)\\s*");
+    private static final Pattern BLOOD_PRESSURE = Pattern.compile("\\s*(\\d+(?:[.,]\\d+)?)\\s*[/xX]\\s*(\\d+(?:[.,]\\d+)?)\\s*");
+
+    private VitalSignReadings() {
+    }
+
+    public static Map<VitalSignMetric, Double> parse(JsonNode vitalSigns) {
+        Map<VitalSignMetric, Double> readings = new EnumMap<>(VitalSignMetric.class);
+        if (vitalSigns == null || !vitalSigns.isObject()) {
+            return readings;
+        }
+
+        JsonNode bloodPressure = vitalSigns.get(VitalSignMetric.SYSTOLIC_BLOOD_PRESSURE.getKey());
+        if (bloodPressure != null && bloodPressure.isTextual()) {
+            Matcher matcher = BLOOD_PRESSURE.matcher(bloodPressure.textValue());
+            if (matcher.matches()) {
+                put(readings, VitalSignMetric.SYSTOLIC_BLOOD_PRESSURE, number(matcher.group(1)));
+                put(readings, VitalSignMetric.DIASTOLIC_BLOOD_PRESSURE, number(matcher.group(2)));
+            }
+        }
+
+        for (VitalSignMetric metric : VitalSignMetric.values()) {
+            if (metric == VitalSignMetric.SYSTOLIC_BLOOD_PRESSURE || metric == VitalSignMetric.DIASTOLIC_BLOOD_PRESSURE) {
+                continue;
+            }
+            JsonNode value = vitalSigns.get(metric.getKey());
+            if (value == null) {
+                continue;
+            }
+            if (value.isNumber()) {
+                put(readings, metric, value.doubleValue());
+            } else if (value.isTextual()) {
+                Matcher matcher = NUMBER.matcher(value.textValue());
+                if (matcher.matches()) {
+                    put(readings, metric, number(matcher.group(1)));
+                }
+            }
+        }
+        return readings;
+    }
+
+    private static void put(Map<VitalSignMetric, Double> readings, VitalSignMetric metric, double value) {
+        if (value > 0 && Double.isFinite(value)) {
+            readings.put(metric, value);
+        }
+    }
+
+    private static double number(String text) {
+        return Double.parseDouble(text.replace(',', '.'));
+    }
+}
@@ -0,0 +1,96 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.InvalidStateException;
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Único ponto de mudança de status dos agendamentos, guiado por AppointmentTransition.
+ * CHECK_IN marca startedAt, FINISH marca finishedAt e durationActualMinutes (minutos completos desde
+ * o início) e CANCEL marca cancelledAt. Deve ser chamado dentro da transação do use case.
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class AppointmentLifecycle {
+
+    private final AppointmentRepository appointmentRepository;
+    private final CalendarEntryProjector calendarEntryProjector;
+    private final EntityManager entityManager;
+
+    public Appointment apply(Appointment appointment, AppointmentTransition transition) {
+        if (!transition.allows(appointment.getStatus())) {
+            throw new InvalidStateException(ApiError.INVALID_STATE_APPOINTMENT_TRANSITION, transition, appointment.getStatus());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        switch (transition) {
+            case CHECK_IN -> appointment.setStartedAt(now);
+            case FINISH -> {
+                appointment.setFinishedAt(now);
+                if (appointment.getStartedAt() != null) {
+                    appointment.setDurationActualMinutes((int) Duration.between(appointment.getStartedAt(), now).toMinutes());
+                }
+            }
+            case CANCEL -> appointment.setCancelledAt(now);
+            default -> {
+            }
+        }
+        appointment.setStatus(transition.getTarget());
+        return save(appointment);
+    }
+
+    /**
+     * Cancelamento pelo DELETE do agendamento: além dos status de origem de CANCEL, interrompe um
+     * atendimento em andamento (EM_ATENDIMENTO), como o DELETE sempre fez. Status finais são recusados
+     * como em CANCEL.
+     */
+    public Appointment cancel(Appointment appointment) {
+        if (appointment.getStatus() != AppointmentStatus.EM_ATENDIMENTO) {
+            return apply(appointment, AppointmentTransition.CANCEL);
+        }
+        appointment.setCancelledAt(LocalDateTime.now());
+        appointment.setStatus(AppointmentTransition.CANCEL.getTarget());
+        return save(appointment);
+    }
+
+    /**
+     * Mesma transição para todos os agendamentos elegíveis em [start, end), sem carregar entidades:
+     * um UPDATE ... RETURNING em appointments e calendar_entries e uma leitura para o feed da agenda.
+     * Agendamentos em status fora da tabela da transição são ignorados. O UPDATE nativo não passa
+     * pela sessão: ela é descarregada antes e limpa depois (o que @Modifying(clearAutomatically) faria,
+     * mas ele não aceita RETURNING), para que entidades já carregadas não fiquem com o status antigo.
+     */
+    public List<UUID> applyAll(UUID tenantId, UUID professionalId, AppointmentTransition transition,
+                               LocalDateTime start, LocalDateTime end) {
+        entityManager.flush();
+        List<UUID> ids = appointmentRepository.transitionRange(
+                tenantId,
+                professionalId,
+                start,
+                end,
+                transition.sourceNames(),
+                transition.getTarget().name(),
+                transition == AppointmentTransition.NO_SHOW,
+                LocalDateTime.now());
+        entityManager.clear();
+        calendarEntryProjector.publishStatusChanges(ids);
+        return ids;
+    }
+
+    private Appointment save(Appointment appointment) {
+        appointment = appointmentRepository.save(appointment);
+        calendarEntryProjector.project(appointment);
+        return appointment;
+    }
+}
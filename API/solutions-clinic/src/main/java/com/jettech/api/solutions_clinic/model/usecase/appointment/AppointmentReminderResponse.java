@@ -0,0 +1,21 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentReminderStatus;
+import com.jettech.api.solutions_clinic.model.entity.ReminderChannelType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AppointmentReminderResponse(
+    UUID id,
+    UUID appointmentId,
+    LocalDateTime scheduledAt,
+    ReminderChannelType channel,
+    String recipient,
+    AppointmentReminderStatus status,
+    int attempts,
+    String lastError,
+    LocalDateTime createdAt,
+    LocalDateTime sentAt
+) {
+}
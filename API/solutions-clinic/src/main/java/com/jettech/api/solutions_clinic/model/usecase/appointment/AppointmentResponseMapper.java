@@ -1,5 +1,6 @@
 package com.jettech.api.solutions_clinic.model.usecase.appointment;
 
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
 import com.jettech.api.solutions_clinic.model.entity.Appointment;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +32,7 @@ public class AppointmentResponseMapper {
                 appointment.getCreatedBy().getId(),
                 appointment.getCreatedAt(),
                 appointment.getUpdatedAt(),
-                appointment.getVitalSigns() != null ? appointment.getVitalSigns().toString() : null
+                RawJson.json(appointment.getVitalSigns())
         );
     }
 }
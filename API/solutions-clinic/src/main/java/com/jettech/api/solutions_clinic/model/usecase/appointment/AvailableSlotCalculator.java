@@ -0,0 +1,99 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.ProfessionalSchedule;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import com.jettech.api.solutions_clinic.model.repository.ProfessionalScheduleRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Horários livres de um profissional em um dia: slots da agenda semanal (passo slotDurationMinutes),
+ * fora do almoço e sem sobreposição com agendamentos não cancelados.
+ * Usado pela consulta de horários disponíveis e pelo encaixe da lista de espera.
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class AvailableSlotCalculator {
+
+    private final AppointmentRepository appointmentRepository;
+    private final ProfessionalScheduleRepository professionalScheduleRepository;
+
+    public List<LocalTime> freeSlots(UUID professionalId, LocalDate date, int durationMinutes) {
+        // Buscar agenda do profissional para o dia da semana
+        ProfessionalSchedule schedule = professionalScheduleRepository
+                .findByProfessionalIdAndDayOfWeek(professionalId, date.getDayOfWeek())
+                .orElse(null);
+
+        if (schedule == null) {
+            return new ArrayList<>(); // Profissional não trabalha neste dia
+        }
+
+        // Buscar agendamentos existentes do profissional neste dia
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = date.atTime(23, 59, 59);
+
+        List<Appointment> existingAppointments = appointmentRepository
+                .findByProfessionalIdAndScheduledAtBetweenAndStatusNot(
+                        professionalId,
+                        dayStart,
+                        dayEnd,
+                        AppointmentStatus.CANCELADO
+                );
+
+        // Gerar todos os slots possíveis baseado no horário de trabalho e slotDurationMinutes
+        List<LocalTime> availableSlots = new ArrayList<>();
+        LocalTime currentTime = schedule.getStartTime();
+        LocalTime endTime = schedule.getEndTime();
+        int slotDuration = schedule.getSlotDurationMinutes();
+
+        while (!currentTime.plusMinutes(durationMinutes).isAfter(endTime)) {
+            
+            // Verificar se o slot não está no intervalo de almoço
+            LocalTime slotEnd = currentTime.plusMinutes(durationMinutes);
+            if (!isInLunchBreak(currentTime, slotEnd, schedule.getLunchBreakStart(), schedule.getLunchBreakEnd())) {
+                
+                // Verificar se não há conflito com agendamentos existentes
+                LocalDateTime slotStartDateTime = date.atTime(currentTime);
+                LocalDateTime slotEndDateTime = date.atTime(slotEnd);
+                
+                boolean hasConflict = false;
+                for (Appointment appointment : existingAppointments) {
+                    LocalDateTime appointmentStart = appointment.getScheduledAt();
+                    LocalDateTime appointmentEnd = appointmentStart.plusMinutes(appointment.getDurationMinutes());
+                    
+                    // Verificar sobreposição
+                    if (slotStartDateTime.isBefore(appointmentEnd) && appointmentStart.isBefore(slotEndDateTime)) {
+                        hasConflict = true;
+                        break;
+                    }
+                }
+                
+                if (!hasConflict) {
+                    availableSlots.add(currentTime);
+                }
+            }
+            
+            // Avançar para o próximo slot
+            currentTime = currentTime.plusMinutes(slotDuration);
+        }
+
+        return availableSlots;
+    }
+
+    private boolean isInLunchBreak(LocalTime start, LocalTime end, LocalTime lunchStart, LocalTime lunchEnd) {
+        // Verificar se o slot está no intervalo de almoço
+        return (start.isAfter(lunchStart) && start.isBefore(lunchEnd)) ||
+               (end.isAfter(lunchStart) && end.isBefore(lunchEnd)) ||
+               (start.isBefore(lunchStart) && end.isAfter(lunchEnd));
+    }
+}
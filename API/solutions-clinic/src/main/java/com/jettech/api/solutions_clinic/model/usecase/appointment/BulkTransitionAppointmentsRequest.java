@@ -0,0 +1,15 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BulkTransitionAppointmentsRequest(
+    UUID tenantId,
+    AppointmentTransition transition,
+    LocalDate startDate,
+    LocalDate endDate, // inclusivo; null = só startDate
+    UUID professionalId // null = todos os profissionais
+) {
+}
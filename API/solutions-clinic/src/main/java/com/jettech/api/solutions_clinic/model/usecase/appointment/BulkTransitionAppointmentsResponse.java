@@ -0,0 +1,15 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkTransitionAppointmentsResponse(
+    AppointmentTransition transition,
+    AppointmentStatus status,
+    int updated,
+    List<UUID> appointmentIds
+) {
+}
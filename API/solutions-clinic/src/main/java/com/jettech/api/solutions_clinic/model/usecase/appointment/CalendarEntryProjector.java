@@ -0,0 +1,114 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.CalendarEntry;
+import com.jettech.api.solutions_clinic.model.entity.User;
+import com.jettech.api.solutions_clinic.model.repository.CalendarEntryRepository;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChange;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChangeType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Mantém calendar_entries em sincronia com appointments. Deve ser chamado dentro da
+ * transação que grava o agendamento, para que a agenda nunca fique defasada.
+ * Cada projeção também publica a alteração para o feed da agenda (CalendarFeed), entregue no commit.
+ */
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class CalendarEntryProjector {
+
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void project(Appointment appointment) {
+        CalendarEntry entry = calendarEntryRepository.findById(appointment.getId())
+                .orElseGet(CalendarEntry::new);
+        UUID previousProfessionalId = entry.getProfessionalId();
+        LocalDateTime previousStartsAt = entry.getStartsAt();
+        entry.setAppointmentId(appointment.getId());
+        entry.setTenantId(appointment.getTenant().getId());
+        entry.setProfessionalId(appointment.getProfessional().getId());
+        entry.setProfessionalName(displayName(appointment.getProfessional().getUser()));
+        entry.setPatientId(appointment.getPatient().getId());
+        entry.setPatientName(appointment.getPatient().getFirstName());
+        entry.setRoomId(appointment.getRoom() != null ? appointment.getRoom().getId() : null);
+        entry.setRoomName(appointment.getRoom() != null ? appointment.getRoom().getName() : null);
+        entry.setStartsAt(appointment.getScheduledAt());
+        entry.setEndsAt(appointment.getScheduledAt().plusMinutes(appointment.getDurationMinutes()));
+        entry.setStatus(appointment.getStatus());
+        entry.setPaymentStatus(appointment.getPaymentStatus());
+        entry = calendarEntryRepository.save(entry);
+
+        CalendarChangeType type = appointment.getStatus() == AppointmentStatus.CANCELADO
+                ? CalendarChangeType.APPOINTMENT_CANCELLED
+                : CalendarChangeType.APPOINTMENT_SAVED;
+        eventPublisher.publishEvent(new CalendarChange(
+                type,
+                entry.getTenantId(),
+                entry.getAppointmentId(),
+                entry.getProfessionalId(),
+                entry.getStartsAt(),
+                entry.getProfessionalId().equals(previousProfessionalId) ? null : previousProfessionalId,
+                entry.getStartsAt().equals(previousStartsAt) ? null : previousStartsAt,
+                toResponse(entry)));
+    }
+
+    /**
+     * Publica as alterações de agendamentos cujo status já foi atualizado em calendar_entries por
+     * um UPDATE em lote (ver AppointmentRepository.transitionRange): uma leitura para todas as entradas.
+     */
+    public void publishStatusChanges(Collection<UUID> appointmentIds) {
+        if (appointmentIds.isEmpty()) {
+            return;
+        }
+        for (CalendarEntry entry : calendarEntryRepository.findAllById(appointmentIds)) {
+            CalendarChangeType type = entry.getStatus() == AppointmentStatus.CANCELADO
+                    ? CalendarChangeType.APPOINTMENT_CANCELLED
+                    : CalendarChangeType.APPOINTMENT_SAVED;
+            eventPublisher.publishEvent(new CalendarChange(
+                    type,
+                    entry.getTenantId(),
+                    entry.getAppointmentId(),
+                    entry.getProfessionalId(),
+                    entry.getStartsAt(),
+                    null,
+                    null,
+                    toResponse(entry)));
+        }
+    }
+
+    static CalendarEntryResponse toResponse(CalendarEntry entry) {
+        return new CalendarEntryResponse(
+                entry.getAppointmentId(),
+                entry.getProfessionalId(),
+                entry.getProfessionalName(),
+                entry.getPatientId(),
+                entry.getPatientName(),
+                entry.getRoomId(),
+                entry.getRoomName(),
+                entry.getStartsAt(),
+                entry.getEndsAt(),
+                entry.getStatus(),
+                entry.getPaymentStatus());
+    }
+
+    /**
+     * Propaga a alteração de nome de um usuário para as entradas em que ele é o profissional.
+     */
+    public void renameProfessionalUser(User user) {
+        calendarEntryRepository.updateProfessionalNameByUserId(user.getId(), displayName(user));
+    }
+
+    static String displayName(User user) {
+        String lastName = user.getLastName() != null ? user.getLastName() : "";
+        return (user.getFirstName() + " " + lastName).trim();
+    }
+}
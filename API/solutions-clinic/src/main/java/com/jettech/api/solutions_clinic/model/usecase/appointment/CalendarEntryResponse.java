@@ -0,0 +1,22 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.PaymentStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CalendarEntryResponse(
+    UUID appointmentId,
+    UUID professionalId,
+    String professionalName,
+    UUID patientId,
+    String patientName,
+    UUID roomId,
+    String roomName,
+    LocalDateTime startsAt,
+    LocalDateTime endsAt,
+    AppointmentStatus status,
+    PaymentStatus paymentStatus
+) {
+}
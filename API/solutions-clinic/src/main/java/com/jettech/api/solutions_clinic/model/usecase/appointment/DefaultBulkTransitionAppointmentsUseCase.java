@@ -0,0 +1,59 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Transição em lote dos agendamentos da clínica em um intervalo de dias (ex.: confirmar os de amanhã,
+ * marcar NAO_COMPARECEU os de hoje que não foram atendidos). Um único UPDATE, sem carregar entidades;
+ * só os agendamentos em status de origem válidos para a transição são alterados.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultBulkTransitionAppointmentsUseCase implements BulkTransitionAppointmentsUseCase {
+
+    private static final int MAX_RANGE_DAYS = 31;
+
+    private final AppointmentLifecycle appointmentLifecycle;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional
+    public BulkTransitionAppointmentsResponse execute(BulkTransitionAppointmentsRequest request) throws AuthenticationFailedException {
+        tenantContext.requireSameTenant(request.tenantId());
+
+        LocalDate endDate = request.endDate() != null ? request.endDate() : request.startDate();
+        if (endDate.isBefore(request.startDate())
+                || ChronoUnit.DAYS.between(request.startDate(), endDate) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException(ApiError.INVALID_CALENDAR_RANGE, MAX_RANGE_DAYS);
+        }
+
+        List<UUID> ids = appointmentLifecycle.applyAll(
+                request.tenantId(),
+                request.professionalId(),
+                request.transition(),
+                request.startDate().atStartOfDay(),
+                endDate.plusDays(1).atStartOfDay());
+        log.info("Transição {} aplicada em lote - tenantId: {}, período: {} a {}, agendamentos: {}",
+                request.transition(), request.tenantId(), request.startDate(), endDate, ids.size());
+
+        return new BulkTransitionAppointmentsResponse(
+                request.transition(),
+                request.transition().getTarget(),
+                ids.size(),
+                ids);
+    }
+}
@@ -33,6 +33,8 @@ public class DefaultCreateAppointmentUseCase implements CreateAppointmentUseCase
     private final ProfessionalScheduleValidator professionalScheduleValidator;
     private final ProcedureLoader procedureLoader;
     private final AppointmentResponseMapper appointmentResponseMapper;
+    private final CalendarEntryProjector calendarEntryProjector;
+    private final ProfessionalDayLock professionalDayLock;
     private final TenantContext tenantContext;
 
     @Override
@@ -72,6 +74,8 @@ public class DefaultCreateAppointmentUseCase implements CreateAppointmentUseCase
 
         professionalScheduleValidator.validate(professional.getId(), request.scheduledAt(), calculatedDurationMinutes);
 
+        // Verificação e INSERT sob a trava do dia do profissional (mesma do encaixe da lista de espera)
+        professionalDayLock.lock(professional.getId(), request.scheduledAt().toLocalDate());
         String professionalConflict = availabilityConflictChecker.findConflict(
                 request.scheduledAt(),
                 calculatedDurationMinutes,
@@ -110,6 +114,8 @@ public class DefaultCreateAppointmentUseCase implements CreateAppointmentUseCase
             appointment = appointmentRepository.save(appointment);
         }
 
+        calendarEntryProjector.project(appointment);
+
         return appointmentResponseMapper.toResponse(appointment);
     }
 }
@@ -1,7 +1,6 @@
 package com.jettech.api.solutions_clinic.model.usecase.appointment;
 
 import com.jettech.api.solutions_clinic.model.entity.Appointment;
-import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
 import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -10,10 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -21,20 +17,14 @@ import java.util.UUID;
 public class DefaultDeleteAppointmentUseCase implements DeleteAppointmentUseCase {
 
     private final AppointmentRepository appointmentRepository;
-    private final TenantContext tenantContext;
+    private final AppointmentLifecycle appointmentLifecycle;
 
     @Override
     @Transactional
     public void execute(UUID id) throws AuthenticationFailedException {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Agendamento", id));
-        if (!appointment.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
-        // Ao invés de deletar, marca como cancelado
-        appointment.setStatus(AppointmentStatus.CANCELADO);
-        appointment.setCancelledAt(LocalDateTime.now());
-
-        appointmentRepository.save(appointment);
+        // Ao invés de deletar, marca como cancelado (inclusive em atendimento; ver AppointmentLifecycle.cancel)
+        appointmentLifecycle.cancel(appointment);
     }
 }
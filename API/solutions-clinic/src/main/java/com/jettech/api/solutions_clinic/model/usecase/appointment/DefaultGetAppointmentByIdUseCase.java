@@ -1,5 +1,6 @@
 package com.jettech.api.solutions_clinic.model.usecase.appointment;
 
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
 import com.jettech.api.solutions_clinic.model.entity.Appointment;
 import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
 import lombok.AccessLevel;
@@ -8,8 +9,6 @@ import org.springframework.stereotype.Service;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 import java.util.UUID;
 
 @Service
@@ -17,15 +16,11 @@ import java.util.UUID;
 public class DefaultGetAppointmentByIdUseCase implements GetAppointmentByIdUseCase {
 
     private final AppointmentRepository appointmentRepository;
-    private final TenantContext tenantContext;
 
     @Override
     public AppointmentResponse execute(UUID id) throws AuthenticationFailedException {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Agendamento", id));
-        if (!appointment.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
         return toResponse(appointment);
     }
 
@@ -51,7 +46,7 @@ public class DefaultGetAppointmentByIdUseCase implements GetAppointmentByIdUseCa
                 appointment.getCreatedBy().getId(),
                 appointment.getCreatedAt(),
                 appointment.getUpdatedAt(),
-                appointment.getVitalSigns() != null ? appointment.getVitalSigns().toString() : null
+                RawJson.json(appointment.getVitalSigns())
         );
     }
 }
@@ -0,0 +1,52 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentReminder;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentReminderRepository;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Situação de envio dos lembretes de um agendamento, do mais recente para o mais antigo
+ * (reagendar gera um novo lembrete).
+ */
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetAppointmentRemindersUseCase implements GetAppointmentRemindersUseCase {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentReminderRepository appointmentReminderRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AppointmentReminderResponse> execute(UUID appointmentId) throws AuthenticationFailedException {
+        if (!appointmentRepository.existsById(appointmentId)) {
+            throw new EntityNotFoundException("Agendamento", appointmentId);
+        }
+        return appointmentReminderRepository.findByAppointmentIdOrderByCreatedAtDesc(appointmentId)
+                .stream()
+                .map(DefaultGetAppointmentRemindersUseCase::toResponse)
+                .toList();
+    }
+
+    private static AppointmentReminderResponse toResponse(AppointmentReminder reminder) {
+        return new AppointmentReminderResponse(
+                reminder.getId(),
+                reminder.getAppointmentId(),
+                reminder.getScheduledAt(),
+                reminder.getChannel(),
+                reminder.getRecipient(),
+                reminder.getStatus(),
+                reminder.getAttempts(),
+                reminder.getLastError(),
+                reminder.getCreatedAt(),
+                reminder.getSentAt());
+    }
+}
@@ -1,5 +1,6 @@
 package com.jettech.api.solutions_clinic.model.usecase.appointment;
 
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
 import com.jettech.api.solutions_clinic.model.entity.Appointment;
 import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
 import com.jettech.api.solutions_clinic.model.repository.ProfessionalRepository;
@@ -9,8 +10,6 @@ import org.springframework.stereotype.Service;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -21,15 +20,11 @@ public class DefaultGetAppointmentsByProfessionalIdUseCase implements GetAppoint
 
     private final AppointmentRepository appointmentRepository;
     private final ProfessionalRepository professionalRepository;
-    private final TenantContext tenantContext;
 
     @Override
     public List<AppointmentResponse> execute(UUID professionalId) throws AuthenticationFailedException {
         var professional = professionalRepository.findById(professionalId)
                 .orElseThrow(() -> new EntityNotFoundException("Profissional", professionalId));
-        if (!professional.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
 
         List<Appointment> appointments = appointmentRepository.findByProfessionalId(professionalId);
 
@@ -60,7 +55,7 @@ public class DefaultGetAppointmentsByProfessionalIdUseCase implements GetAppoint
                 appointment.getCreatedBy().getId(),
                 appointment.getCreatedAt(),
                 appointment.getUpdatedAt(),
-                appointment.getVitalSigns() != null ? appointment.getVitalSigns().toString() : null
+                RawJson.json(appointment.getVitalSigns())
         );
     }
 }
@@ -1,5 +1,6 @@
 package com.jettech.api.solutions_clinic.model.usecase.appointment;
 
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
 import com.jettech.api.solutions_clinic.model.entity.Appointment;
 import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
 import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
@@ -137,7 +138,7 @@ public class DefaultGetAppointmentsByTenantUseCase implements GetAppointmentsByT
                 appointment.getCreatedBy().getId(),
                 appointment.getCreatedAt(),
                 appointment.getUpdatedAt(),
-                appointment.getVitalSigns() != null ? appointment.getVitalSigns().toString() : null
+                RawJson.json(appointment.getVitalSigns())
         );
     }
 }
@@ -0,0 +1,49 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.repository.CalendarEntryRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Agenda da clínica (semana/mês) lida do modelo desnormalizado calendar_entries:
+ * uma varredura de faixa em (tenant_id, starts_at), sem joins nem carregamento de entidades relacionadas.
+ */
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetCalendarEntriesUseCase implements GetCalendarEntriesUseCase {
+
+    private static final int MAX_RANGE_DAYS = 62;
+
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarEntryResponse> execute(GetCalendarEntriesRequest request) throws AuthenticationFailedException {
+        tenantContext.requireSameTenant(request.tenantId());
+
+        if (request.endDate().isBefore(request.startDate())
+                || ChronoUnit.DAYS.between(request.startDate(), request.endDate()) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException(ApiError.INVALID_CALENDAR_RANGE, MAX_RANGE_DAYS);
+        }
+
+        return calendarEntryRepository.findRange(
+                        request.tenantId(),
+                        request.startDate().atStartOfDay(),
+                        request.endDate().plusDays(1).atStartOfDay(),
+                        request.professionalId())
+                .stream()
+                .map(CalendarEntryProjector::toResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentReminderStatus;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentReminderRepository;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Lembretes da clínica por status para os agendamentos do período (taxa de entrega).
+ */
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetReminderSummaryUseCase implements GetReminderSummaryUseCase {
+
+    private final AppointmentReminderRepository appointmentReminderRepository;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReminderSummaryResponse execute(GetReminderSummaryRequest request) throws AuthenticationFailedException {
+        tenantContext.requireSameTenant(request.tenantId());
+        if (request.endDate().isBefore(request.startDate())) {
+            throw new InvalidRequestException(ApiError.INVALID_DATE_RANGE);
+        }
+
+        Map<AppointmentReminderStatus, Long> byStatus = new EnumMap<>(AppointmentReminderStatus.class);
+        for (AppointmentReminderStatus status : AppointmentReminderStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        long total = 0;
+        for (Object[] row : appointmentReminderRepository.countByStatus(
+                request.tenantId(),
+                request.startDate().atStartOfDay(),
+                request.endDate().plusDays(1).atStartOfDay())) {
+            long count = ((Number) row[1]).longValue();
+            byStatus.put((AppointmentReminderStatus) row[0], count);
+            total += count;
+        }
+        return new ReminderSummaryResponse(request.startDate(), request.endDate(), total, byStatus);
+    }
+}
@@ -2,21 +2,29 @@ package com.jettech.api.solutions_clinic.model.usecase.appointment;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
 import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
 import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
-import com.jettech.api.solutions_clinic.security.TenantContext;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChange;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChangeType;
+import com.jettech.api.solutions_clinic.model.service.vitalsigns.VitalSignReadingStore;
+import com.jettech.api.solutions_clinic.model.service.vitalsigns.VitalSignReadings;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class DefaultSaveTriageUseCase implements SaveTriageUseCase {
 
     private final AppointmentRepository appointmentRepository;
-    private final TenantContext tenantContext;
+    private final VitalSignReadingStore vitalSignReadingStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -24,12 +32,19 @@ public class DefaultSaveTriageUseCase implements SaveTriageUseCase {
         Appointment appointment = appointmentRepository.findById(request.appointmentId())
                 .orElseThrow(() -> new EntityNotFoundException("Agendamento", request.appointmentId()));
 
-        if (!appointment.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
-
-        appointment.setVitalSigns(request.vitalSigns());
+        appointment.setVitalSigns(RawJson.of(request.vitalSigns()));
         appointment = appointmentRepository.save(appointment);
+        // Série temporal por métrica (ver VitalSignReadings); o JSON acima continua sendo o exibido.
+        // Agendamento cancelado não entra na tendência (mesma regra do gatilho de V25)
+        vitalSignReadingStore.replace(
+                appointment.getId(),
+                appointment.getTenant().getId(),
+                appointment.getPatient().getId(),
+                appointment.getStartedAt() != null ? appointment.getStartedAt() : appointment.getScheduledAt(),
+                appointment.getStatus() == AppointmentStatus.CANCELADO
+                        ? Map.of()
+                        : VitalSignReadings.parse(request.vitalSigns()));
+        eventPublisher.publishEvent(CalendarChange.of(CalendarChangeType.TRIAGE_SAVED, appointment));
 
         return new AppointmentResponse(
                 appointment.getId(),
@@ -52,7 +67,7 @@ public class DefaultSaveTriageUseCase implements SaveTriageUseCase {
                 appointment.getCreatedBy().getId(),
                 appointment.getCreatedAt(),
                 appointment.getUpdatedAt(),
-                appointment.getVitalSigns() != null ? appointment.getVitalSigns().toString() : null
+                RawJson.json(appointment.getVitalSigns())
         );
     }
 }
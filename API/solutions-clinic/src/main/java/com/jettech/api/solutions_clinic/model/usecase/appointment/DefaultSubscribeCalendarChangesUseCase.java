@@ -0,0 +1,24 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarFeed;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultSubscribeCalendarChangesUseCase implements SubscribeCalendarChangesUseCase {
+
+    private final CalendarFeed calendarFeed;
+    private final TenantContext tenantContext;
+
+    @Override
+    public SseEmitter execute(SubscribeCalendarChangesRequest request) throws AuthenticationFailedException {
+        tenantContext.requireSameTenant(request.tenantId());
+        return calendarFeed.subscribe(request.tenantId(), request.professionalId(), request.date(), request.resumeToken());
+    }
+}
@@ -0,0 +1,32 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultTransitionAppointmentUseCase implements TransitionAppointmentUseCase {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentLifecycle appointmentLifecycle;
+    private final AppointmentResponseMapper appointmentResponseMapper;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional
+    public AppointmentResponse execute(TransitionAppointmentRequest request) throws AuthenticationFailedException {
+        // O filtro de tenant restringe o findById à clínica do token, mas só existe com a requisição
+        // autenticada: sem clínica a alteração é recusada em vez de alcançar qualquer agendamento
+        tenantContext.getRequiredClinicId();
+        Appointment appointment = appointmentRepository.findById(request.appointmentId())
+                .orElseThrow(() -> new EntityNotFoundException("Agendamento", request.appointmentId()));
+        return appointmentResponseMapper.toResponse(appointmentLifecycle.apply(appointment, request.transition()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.jettech.api.solutions_clinic.model.usecase.appointment;
 
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
 import com.jettech.api.solutions_clinic.model.entity.*;
 import com.jettech.api.solutions_clinic.model.repository.*;
 import com.jettech.api.solutions_clinic.model.service.FinancialSyncService;
@@ -13,9 +14,7 @@ import com.jettech.api.solutions_clinic.exception.AppointmentConflictException;
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
 import com.jettech.api.solutions_clinic.exception.InvalidStateException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
 import com.jettech.api.solutions_clinic.exception.ScheduleValidationException;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -35,19 +34,18 @@ public class DefaultUpdateAppointmentUseCase implements UpdateAppointmentUseCase
     private final RoomRepository roomRepository;
     private final ProfessionalScheduleRepository professionalScheduleRepository;
     private final FinancialSyncService financialSyncService;
-    private final TenantContext tenantContext;
+    private final CalendarEntryProjector calendarEntryProjector;
+    private final ProfessionalDayLock professionalDayLock;
 
     @Override
     @Transactional
     public AppointmentResponse execute(UpdateAppointmentRequest request) throws AuthenticationFailedException {
         Appointment appointment = appointmentRepository.findById(request.id())
                 .orElseThrow(() -> new EntityNotFoundException("Agendamento", request.id()));
-        if (!appointment.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
-        // Não permitir atualização de agendamentos cancelados ou finalizados
-        if (appointment.getStatus() == AppointmentStatus.CANCELADO || 
-            appointment.getStatus() == AppointmentStatus.FINALIZADO) {
+        // Não permitir atualização de agendamentos em status final (ver AppointmentTransition)
+        if (appointment.getStatus() == AppointmentStatus.CANCELADO ||
+            appointment.getStatus() == AppointmentStatus.FINALIZADO ||
+            appointment.getStatus() == AppointmentStatus.NAO_COMPARECEU) {
             throw new InvalidStateException(ApiError.INVALID_STATE_APPOINTMENT_STATUS);
         }
 
@@ -81,7 +79,9 @@ public class DefaultUpdateAppointmentUseCase implements UpdateAppointmentUseCase
         // Validar horário disponível se horário ou profissional mudou
         if (request.scheduledAt() != null || request.professionalId() != null || request.durationMinutes() != null) {
             validateProfessionalSchedule(professionalId, scheduledAt, durationMinutes);
-            
+            // Verificação e UPDATE sob a trava do novo dia do profissional (ver ProfessionalDayLock)
+            professionalDayLock.lock(professionalId, scheduledAt.toLocalDate());
+
             // Verificar conflito de horário com outros agendamentos do profissional
             String professionalConflict = availabilityConflictChecker.findConflict(
                     scheduledAt,
@@ -131,6 +131,7 @@ public class DefaultUpdateAppointmentUseCase implements UpdateAppointmentUseCase
         }
 
         appointment = appointmentRepository.save(appointment);
+        calendarEntryProjector.project(appointment);
 
         // Sincronizar transação financeira se o status de pagamento mudou para PAGO
         if (request.paymentStatus() != null && 
@@ -193,7 +194,7 @@ public class DefaultUpdateAppointmentUseCase implements UpdateAppointmentUseCase
                 appointment.getCreatedBy().getId(),
                 appointment.getCreatedAt(),
                 appointment.getUpdatedAt(),
-                appointment.getVitalSigns() != null ? appointment.getVitalSigns().toString() : null
+                RawJson.json(appointment.getVitalSigns())
         );
     }
 }
@@ -0,0 +1,9 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface GetAppointmentRemindersUseCase extends UseCase<UUID, List<AppointmentReminderResponse>> {
+}
@@ -0,0 +1,12 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record GetCalendarEntriesRequest(
+    UUID tenantId,
+    LocalDate startDate,
+    LocalDate endDate, // inclusivo
+    UUID professionalId // null = todos os profissionais
+) {
+}
@@ -0,0 +1,8 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+import java.util.List;
+
+public interface GetCalendarEntriesUseCase extends UseCase<GetCalendarEntriesRequest, List<CalendarEntryResponse>> {
+}
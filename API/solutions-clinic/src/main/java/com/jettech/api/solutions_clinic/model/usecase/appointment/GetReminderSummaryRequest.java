@@ -0,0 +1,11 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record GetReminderSummaryRequest(
+    UUID tenantId,
+    LocalDate startDate,
+    LocalDate endDate // inclusivo
+) {
+}
@@ -0,0 +1,33 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Serializa quem verifica e grava agendamentos na agenda de um profissional em um dia: a
+ * verificação de conflito (criação/edição) e o cálculo de horários livres do encaixe da lista de
+ * espera leem antes de inserir, e sem a trava duas transações podiam ocupar o mesmo horário.
+ * pg_advisory_xact_lock(profissional, dia) fica com a transação até o commit; em READ COMMITTED
+ * a leitura feita depois da trava já enxerga o agendamento gravado por quem a segurava antes.
+ * Deve ser chamado dentro da transação, antes da verificação.
+ */
+@Component
+public class ProfessionalDayLock {
+
+    // Forma (int, int) da trava: não colide com chaves bigint usadas por outros recursos
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProfessionalDayLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void lock(UUID professionalId, LocalDate day) {
+        // Colisões do hash só serializam agendas diferentes, sem afetar o resultado
+        jdbcTemplate.query(LOCK, rs -> null, professionalId.hashCode(), Math.toIntExact(day.toEpochDay()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentReminderStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record ReminderSummaryResponse(
+    LocalDate startDate,
+    LocalDate endDate,
+    long total,
+    Map<AppointmentReminderStatus, Long> byStatus
+) {
+}
@@ -0,0 +1,12 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record SubscribeCalendarChangesRequest(
+    UUID tenantId,
+    UUID professionalId, // null = todos os profissionais
+    LocalDate date, // null = todas as datas
+    String resumeToken // id do último evento recebido (Last-Event-ID); null = sem replay
+) {
+}
@@ -0,0 +1,11 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Assina o feed de alterações da agenda da clínica (Server-Sent Events), em vez de consultar
+ * a agenda periodicamente.
+ */
+public interface SubscribeCalendarChangesUseCase extends UseCase<SubscribeCalendarChangesRequest, SseEmitter> {
+}
@@ -0,0 +1,11 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+
+import java.util.UUID;
+
+public record TransitionAppointmentRequest(
+    UUID appointmentId,
+    AppointmentTransition transition
+) {
+}
@@ -0,0 +1,6 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+public interface TransitionAppointmentUseCase extends UseCase<TransitionAppointmentRequest, AppointmentResponse> {
+}
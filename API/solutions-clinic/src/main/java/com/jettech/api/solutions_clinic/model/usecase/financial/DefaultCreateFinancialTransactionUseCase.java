@@ -47,9 +47,6 @@ public class DefaultCreateFinancialTransactionUseCase implements CreateFinancial
         if (request.categoryId() != null) {
             FinancialCategory category = financialCategoryRepository.findById(request.categoryId())
                     .orElseThrow(() -> new EntityNotFoundException("Categoria", request.categoryId()));
-            if (!category.getTenant().getId().equals(tenantId)) {
-                throw new com.jettech.api.solutions_clinic.exception.ForbiddenException();
-            }
             if (category.getType() != request.type()) {
                 throw new InvalidRequestException(ApiError.CATEGORY_TYPE_MISMATCH);
             }
@@ -59,18 +56,12 @@ public class DefaultCreateFinancialTransactionUseCase implements CreateFinancial
         if (request.appointmentId() != null) {
             Appointment appointment = appointmentRepository.findById(request.appointmentId())
                     .orElseThrow(() -> new EntityNotFoundException("Agendamento", request.appointmentId()));
-            if (!appointment.getTenant().getId().equals(tenantId)) {
-                throw new com.jettech.api.solutions_clinic.exception.ForbiddenException();
-            }
             transaction.setAppointment(appointment);
         }
 
         if (request.professionalId() != null) {
             Professional professional = professionalRepository.findById(request.professionalId())
                     .orElseThrow(() -> new EntityNotFoundException("Profissional", request.professionalId()));
-            if (!professional.getTenant().getId().equals(tenantId)) {
-                throw new com.jettech.api.solutions_clinic.exception.ForbiddenException();
-            }
             transaction.setProfessional(professional);
         }
 
@@ -0,0 +1,41 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jettech.api.solutions_clinic.model.entity.ArchivedMedicalRecord;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Conversão de prontuários do arquivo frio: "data" é a linha de medical_records
+ * serializada pelo Postgres (to_jsonb), com os nomes de coluna como chaves.
+ */
+final class ArchivedMedicalRecords {
+
+    private ArchivedMedicalRecords() {
+    }
+
+    static MedicalRecordResponse toResponse(ArchivedMedicalRecord archived) {
+        JsonNode data = archived.getData();
+        return new MedicalRecordResponse(
+                archived.getId(),
+                archived.getAppointmentId(),
+                UUID.fromString(data.path("template_id").asText()),
+                json(data.get("content")),
+                json(data.get("vital_signs")),
+                data.hasNonNull("version") ? data.get("version").asLong() : null,
+                archived.getSignedAt(),
+                data.hasNonNull("digest") ? data.get("digest").asText() : null,
+                timestamp(data.get("created_at")),
+                timestamp(data.get("updated_at"))
+        );
+    }
+
+    private static String json(JsonNode node) {
+        return node == null || node.isNull() ? null : node.toString();
+    }
+
+    private static LocalDateTime timestamp(JsonNode node) {
+        return node == null || node.isNull() ? null : LocalDateTime.parse(node.asText());
+    }
+}
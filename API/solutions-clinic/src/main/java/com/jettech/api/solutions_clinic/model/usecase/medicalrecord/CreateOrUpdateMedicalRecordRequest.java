@@ -5,6 +5,10 @@ import jakarta.validation.constraints.NotNull;
 
 import java.util.UUID;
 
+/**
+ * Salvamento completo do prontuário do agendamento. Ao atualizar um prontuário existente a versão
+ * atual é obrigatória, no header If-Match ou em version (o header prevalece).
+ */
 public record CreateOrUpdateMedicalRecordRequest(
     @NotNull(message = "O campo [appointmentId] é obrigatório")
     UUID appointmentId,
@@ -15,5 +19,12 @@ public record CreateOrUpdateMedicalRecordRequest(
     @NotNull(message = "O campo [content] é obrigatório")
     JsonNode content,
 
-    JsonNode vitalSigns
-) {}
+    JsonNode vitalSigns,
+
+    Long version
+) {
+
+    public CreateOrUpdateMedicalRecordRequest withVersion(Long expectedVersion) {
+        return new CreateOrUpdateMedicalRecordRequest(appointmentId, templateId, content, vitalSigns, expectedVersion);
+    }
+}
@@ -1,20 +1,28 @@
 package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
 
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.exception.InvalidStateException;
+import com.jettech.api.solutions_clinic.exception.VersionConflictException;
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
 import com.jettech.api.solutions_clinic.model.entity.Appointment;
 import com.jettech.api.solutions_clinic.model.entity.MedicalRecord;
 import com.jettech.api.solutions_clinic.model.entity.MedicalRecordTemplate;
 import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
 import com.jettech.api.solutions_clinic.model.repository.MedicalRecordRepository;
 import com.jettech.api.solutions_clinic.model.repository.MedicalRecordTemplateRepository;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChange;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChangeType;
+import com.jettech.api.solutions_clinic.model.service.templateschema.TemplateSchemaCache;
 import com.jettech.api.solutions_clinic.security.TenantContext;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
 
 import java.util.UUID;
 
@@ -25,7 +33,9 @@ public class DefaultCreateOrUpdateMedicalRecordUseCase implements CreateOrUpdate
     private final MedicalRecordRepository medicalRecordRepository;
     private final MedicalRecordTemplateRepository templateRepository;
     private final AppointmentRepository appointmentRepository;
+    private final TemplateSchemaCache templateSchemaCache;
     private final TenantContext tenantContext;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -34,13 +44,12 @@ public class DefaultCreateOrUpdateMedicalRecordUseCase implements CreateOrUpdate
 
         Appointment appointment = appointmentRepository.findById(request.appointmentId())
                 .orElseThrow(() -> new EntityNotFoundException("Agendamento", request.appointmentId()));
-        if (!appointment.getTenant().getId().equals(tenantId)) {
-            throw new ForbiddenException(com.jettech.api.solutions_clinic.exception.ApiError.ACCESS_DENIED);
-        }
 
         // Template pode ser global (tenant_id IS NULL) ou da clínica
         MedicalRecordTemplate template = templateRepository.findByIdAvailableForTenant(request.templateId(), tenantId)
                 .orElseThrow(() -> new EntityNotFoundException("Modelo de prontuário", request.templateId()));
+        templateSchemaCache.get(template.getId(), template.getUpdatedAt(), template::getSchema)
+                .validate(request.content().traverse());
 
         MedicalRecord record = medicalRecordRepository.findByAppointmentId(request.appointmentId())
                 .orElseGet(() -> {
@@ -49,12 +58,25 @@ public class DefaultCreateOrUpdateMedicalRecordUseCase implements CreateOrUpdate
                     newRecord.setTemplate(template);
                     return newRecord;
                 });
+        if (record.getSignedAt() != null) {
+            throw new InvalidStateException(ApiError.INVALID_STATE_MEDICAL_RECORD_SIGNED);
+        }
+        // Sobrescrever sem versão apagaria o que outra aba salvou (inclusive por PATCH) desde a leitura
+        if (record.getId() != null) {
+            if (request.version() == null) {
+                throw new InvalidRequestException(ApiError.VERSION_REQUIRED);
+            }
+            if (!record.getVersion().equals(request.version())) {
+                throw new VersionConflictException(ApiError.MEDICAL_RECORD_PRECONDITION_FAILED, record.getVersion());
+            }
+        }
 
         record.setTemplate(template);
-        record.setContent(request.content());
-        record.setVitalSigns(request.vitalSigns());
+        record.setContent(RawJson.of(request.content()));
+        record.setVitalSigns(RawJson.of(request.vitalSigns()));
 
         record = medicalRecordRepository.save(record);
+        eventPublisher.publishEvent(CalendarChange.of(CalendarChangeType.MEDICAL_RECORD_SAVED, appointment));
         return toResponse(record);
     }
 
@@ -63,9 +85,11 @@ public class DefaultCreateOrUpdateMedicalRecordUseCase implements CreateOrUpdate
                 record.getId(),
                 record.getAppointment().getId(),
                 record.getTemplate().getId(),
-                record.getContent(),
-                record.getVitalSigns(),
+                RawJson.json(record.getContent()),
+                RawJson.json(record.getVitalSigns()),
+                record.getVersion(),
                 record.getSignedAt(),
+                record.getDigest(),
                 record.getCreatedAt(),
                 record.getUpdatedAt()
         );
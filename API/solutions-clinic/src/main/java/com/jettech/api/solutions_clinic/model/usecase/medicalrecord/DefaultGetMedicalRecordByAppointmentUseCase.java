@@ -1,15 +1,15 @@
 package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
 
 import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import com.jettech.api.solutions_clinic.model.repository.ArchivedAppointmentRepository;
+import com.jettech.api.solutions_clinic.model.repository.ArchivedMedicalRecordRepository;
 import com.jettech.api.solutions_clinic.model.repository.MedicalRecordRepository;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -20,19 +20,19 @@ public class DefaultGetMedicalRecordByAppointmentUseCase implements GetMedicalRe
 
     private final MedicalRecordRepository medicalRecordRepository;
     private final AppointmentRepository appointmentRepository;
-    private final TenantContext tenantContext;
+    private final ArchivedMedicalRecordRepository archivedMedicalRecordRepository;
+    private final ArchivedAppointmentRepository archivedAppointmentRepository;
 
     @Override
     public Optional<MedicalRecordResponse> execute(UUID appointmentId) throws AuthenticationFailedException {
-        UUID tenantId = tenantContext.getRequiredClinicId();
-
-        var appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new EntityNotFoundException("Agendamento", appointmentId));
-        if (!appointment.getTenant().getId().equals(tenantId)) {
-            throw new ForbiddenException(com.jettech.api.solutions_clinic.exception.ApiError.ACCESS_DENIED);
+        // Agendamentos de outra clínica não são visíveis (filtro de tenant); finalizados antigos podem estar no arquivo frio
+        if (!appointmentRepository.existsById(appointmentId) && !archivedAppointmentRepository.existsById(appointmentId)) {
+            throw new EntityNotFoundException("Agendamento", appointmentId);
         }
 
         return medicalRecordRepository.findByAppointmentId(appointmentId)
-                .map(DefaultCreateOrUpdateMedicalRecordUseCase::toResponse);
+                .map(DefaultCreateOrUpdateMedicalRecordUseCase::toResponse)
+                .or(() -> archivedMedicalRecordRepository.findByAppointmentId(appointmentId)
+                        .map(ArchivedMedicalRecords::toResponse));
     }
 }
@@ -1,5 +1,6 @@
 package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
 
+import com.jettech.api.solutions_clinic.model.repository.ArchivedMedicalRecordRepository;
 import com.jettech.api.solutions_clinic.model.repository.MedicalRecordRepository;
 import com.jettech.api.solutions_clinic.security.TenantContext;
 import lombok.AccessLevel;
@@ -16,6 +17,7 @@ import java.util.UUID;
 public class DefaultGetMedicalRecordByIdUseCase implements GetMedicalRecordByIdUseCase {
 
     private final MedicalRecordRepository medicalRecordRepository;
+    private final ArchivedMedicalRecordRepository archivedMedicalRecordRepository;
     private final TenantContext tenantContext;
 
     @Override
@@ -23,6 +25,9 @@ public class DefaultGetMedicalRecordByIdUseCase implements GetMedicalRecordByIdU
         UUID tenantId = tenantContext.getRequiredClinicId();
         return medicalRecordRepository.findByIdAndAppointment_TenantId(id, tenantId)
                 .map(DefaultCreateOrUpdateMedicalRecordUseCase::toResponse)
+                // Prontuários antigos podem ter sido movidos para o arquivo frio
+                .or(() -> archivedMedicalRecordRepository.findByIdAndTenantId(id, tenantId)
+                        .map(ArchivedMedicalRecords::toResponse))
                 .orElseThrow(() -> new EntityNotFoundException("Prontuário", id));
     }
 }
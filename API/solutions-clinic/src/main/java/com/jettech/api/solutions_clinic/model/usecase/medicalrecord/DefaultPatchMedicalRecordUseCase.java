@@ -0,0 +1,85 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.jettech.api.solutions_clinic.model.entity.MedicalRecordTemplate;
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordRepository;
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordRevision;
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordTemplateRepository;
+import com.jettech.api.solutions_clinic.model.service.templateschema.TemplateSchema;
+import com.jettech.api.solutions_clinic.model.service.templateschema.TemplateSchemaCache;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.exception.InvalidStateException;
+import com.jettech.api.solutions_clinic.exception.VersionConflictException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Autosave incremental: o patch é validado contra o schema compilado do modelo e aplicado pelo
+ * banco em um único UPDATE condicionado à versão (If-Match), sem carregar o prontuário. Duas abas salvando ao mesmo tempo não se sobrescrevem:
+ * a segunda recebe 412 com a versão atual e reaplica o patch sobre ela.
+ * Não publica alteração na agenda: o autosave não muda nada do que a agenda exibe.
+ */
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultPatchMedicalRecordUseCase implements PatchMedicalRecordUseCase {
+
+    private final MedicalRecordRepository medicalRecordRepository;
+    private final MedicalRecordTemplateRepository templateRepository;
+    private final TemplateSchemaCache templateSchemaCache;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional
+    public MedicalRecordPatchResponse execute(PatchMedicalRecordRequest request) throws AuthenticationFailedException {
+        if (request.expectedVersion() == null) {
+            throw new InvalidRequestException(ApiError.VERSION_REQUIRED);
+        }
+        UUID tenantId = tenantContext.getRequiredClinicId();
+        UUID recordId = request.recordId();
+        long expectedVersion = request.expectedVersion();
+
+        MedicalRecordRevision revision = findRevision(recordId, tenantId);
+        checkRevision(revision, expectedVersion);
+        TemplateSchema schema = templateSchemaCache.get(revision.templateId(), revision.templateUpdatedAt(),
+                () -> templateRepository.findById(revision.templateId())
+                        .map(MedicalRecordTemplate::getSchema)
+                        .orElseThrow(() -> new EntityNotFoundException("Modelo de prontuário", revision.templateId())));
+
+        Optional<Long> newVersion = switch (request.type()) {
+            case JSON_PATCH -> medicalRecordRepository.applyJsonPatch(
+                    recordId, tenantId, expectedVersion, MedicalRecordPatches.jsonPatch(request.patch(), schema));
+            case MERGE_PATCH -> medicalRecordRepository.applyMergePatch(
+                    recordId, tenantId, expectedVersion, MedicalRecordPatches.mergePatch(request.patch(), schema));
+        };
+        if (newVersion.isPresent()) {
+            return new MedicalRecordPatchResponse(recordId, newVersion.get());
+        }
+
+        // Nenhuma linha alterada: outra sessão gravou no meio ou o patch não casa com o documento
+        checkRevision(findRevision(recordId, tenantId), expectedVersion);
+        throw new InvalidStateException(ApiError.PATCH_NOT_APPLICABLE);
+    }
+
+    private MedicalRecordRevision findRevision(UUID recordId, UUID tenantId) {
+        return medicalRecordRepository.findRevision(recordId, tenantId)
+                .orElseThrow(() -> new EntityNotFoundException("Prontuário", recordId));
+    }
+
+    private static void checkRevision(MedicalRecordRevision revision, long expectedVersion) {
+        if (revision.signed()) {
+            throw new InvalidStateException(ApiError.INVALID_STATE_MEDICAL_RECORD_SIGNED);
+        }
+        if (revision.version() != expectedVersion) {
+            throw new VersionConflictException(ApiError.MEDICAL_RECORD_PRECONDITION_FAILED, revision.version());
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
 
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.InvalidStateException;
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
 import com.jettech.api.solutions_clinic.model.entity.MedicalRecord;
+import com.jettech.api.solutions_clinic.model.entity.MedicalRecordChain;
+import com.jettech.api.solutions_clinic.model.entity.MedicalRecordTemplate;
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordChainRepository;
 import com.jettech.api.solutions_clinic.model.repository.MedicalRecordRepository;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChange;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChangeType;
+import com.jettech.api.solutions_clinic.model.service.recordchain.MedicalRecordSeal;
+import com.jettech.api.solutions_clinic.model.service.templateschema.TemplateSchemaCache;
 import com.jettech.api.solutions_clinic.security.TenantContext;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,14 +23,24 @@ import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
+/**
+ * Assina o prontuário e o encadeia ao último prontuário assinado do paciente (ver MedicalRecordSeal).
+ * A linha do paciente fica bloqueada até o commit, então assinaturas concorrentes do mesmo paciente
+ * recebem posições consecutivas. Os campos obrigatórios do modelo, que o salvamento do rascunho
+ * não cobra, precisam estar preenchidos.
+ */
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class DefaultSignMedicalRecordUseCase implements SignMedicalRecordUseCase {
 
     private final MedicalRecordRepository medicalRecordRepository;
+    private final MedicalRecordChainRepository medicalRecordChainRepository;
+    private final TemplateSchemaCache templateSchemaCache;
     private final TenantContext tenantContext;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -27,10 +48,54 @@ public class DefaultSignMedicalRecordUseCase implements SignMedicalRecordUseCase
         UUID tenantId = tenantContext.getRequiredClinicId();
         MedicalRecord record = medicalRecordRepository.findByIdAndAppointment_TenantId(recordId, tenantId)
                 .orElseThrow(() -> new EntityNotFoundException("Prontuário", recordId));
+        if (record.getSignedAt() != null) {
+            throw new InvalidStateException(ApiError.INVALID_STATE_MEDICAL_RECORD_SIGNED);
+        }
+        MedicalRecordTemplate template = record.getTemplate();
+        templateSchemaCache.get(template.getId(), template.getUpdatedAt(), template::getSchema)
+                .validateComplete(record.getContent().toNode().traverse());
 
-        record.setSignedAt(LocalDateTime.now());
+        UUID patientId = record.getAppointment().getPatient().getId();
+        medicalRecordChainRepository.lockPatient(patientId)
+                .orElseThrow(() -> new EntityNotFoundException("Paciente", patientId));
+        MedicalRecordChain chain = medicalRecordChainRepository.findById(patientId).orElseGet(() -> {
+            MedicalRecordChain first = new MedicalRecordChain();
+            first.setPatientId(patientId);
+            first.setTenantId(tenantId);
+            return first;
+        });
+
+        // Precisão do TIMESTAMP do Postgres: o valor relido precisa gerar o mesmo digest
+        LocalDateTime signedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        long position = chain.getLastPosition() + 1;
+        MedicalRecordSeal seal = new MedicalRecordSeal(
+                record.getId(),
+                patientId,
+                record.getAppointment().getId(),
+                template.getId(),
+                signedAt,
+                position,
+                chain.getLastRecordId(),
+                chain.getLastDigest(),
+                RawJson.json(record.getContent()),
+                RawJson.json(record.getVitalSigns()));
+        String digest = seal.digest();
+
+        record.setSignedAt(signedAt);
+        record.setPatientId(patientId);
+        record.setChainPosition(position);
+        record.setPreviousRecordId(chain.getLastRecordId());
+        record.setPreviousDigest(chain.getLastDigest());
+        record.setDigest(digest);
         record = medicalRecordRepository.save(record);
 
+        chain.setLastPosition(position);
+        chain.setLastRecordId(record.getId());
+        chain.setLastDigest(digest);
+        medicalRecordChainRepository.save(chain);
+
+        eventPublisher.publishEvent(CalendarChange.of(CalendarChangeType.MEDICAL_RECORD_SIGNED, record.getAppointment()));
+
         return DefaultCreateOrUpdateMedicalRecordUseCase.toResponse(record);
     }
 }
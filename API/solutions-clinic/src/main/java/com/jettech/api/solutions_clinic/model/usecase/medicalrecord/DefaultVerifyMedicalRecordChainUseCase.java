@@ -0,0 +1,52 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.model.repository.PatientRepository;
+import com.jettech.api.solutions_clinic.model.service.recordchain.MedicalRecordChainScanner;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Percorre as cadeias de prontuários assinados da clínica (ou de um paciente) em streaming e
+ * recalcula cada digest. Roda em transação somente leitura, necessária para o cursor do Postgres.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultVerifyMedicalRecordChainUseCase implements VerifyMedicalRecordChainUseCase {
+
+    private final MedicalRecordChainScanner chainScanner;
+    private final PatientRepository patientRepository;
+    private final TenantContext tenantContext;
+
+    @Value("${app.medical-record-chain.max-reported-failures:100}")
+    private int maxReportedFailures;
+
+    @Override
+    @Transactional(readOnly = true)
+    public MedicalRecordChainVerificationResponse execute(UUID patientId) throws AuthenticationFailedException {
+        UUID tenantId = tenantContext.getRequiredClinicId();
+        if (patientId != null && !patientRepository.existsByIdAndTenantId(patientId, tenantId)) {
+            throw new EntityNotFoundException("Paciente", patientId);
+        }
+
+        long start = System.nanoTime();
+        MedicalRecordChainVerification verification = new MedicalRecordChainVerification(maxReportedFailures);
+        chainScanner.scan(tenantId, patientId, verification::accept);
+        MedicalRecordChainVerificationResponse response = verification.finish(
+                patientId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        log.info("Cadeia de prontuários verificada - tenantId: {}, patientId: {}, registros: {}, falhas: {}, {} ms",
+                tenantId, patientId, response.checkedRecords(), response.failureCount(), response.elapsedMillis());
+        return response;
+    }
+}
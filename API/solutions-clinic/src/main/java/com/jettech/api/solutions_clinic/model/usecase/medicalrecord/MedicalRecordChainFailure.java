@@ -0,0 +1,10 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import java.util.UUID;
+
+public record MedicalRecordChainFailure(
+    UUID recordId,
+    UUID patientId,
+    long position,
+    MedicalRecordChainFailureReason reason
+) {}
@@ -0,0 +1,10 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+public enum MedicalRecordChainFailureReason {
+    // Digest recalculado difere do gravado: conteúdo ou campos selados alterados
+    DIGEST_MISMATCH,
+    // previous_digest/previous_record_id não apontam para o elo anterior
+    BROKEN_LINK,
+    // Posições ausentes antes deste elo ou depois dele (prontuários removidos)
+    MISSING_RECORDS
+}
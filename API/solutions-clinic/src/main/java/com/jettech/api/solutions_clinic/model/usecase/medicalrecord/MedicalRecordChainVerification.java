@@ -0,0 +1,89 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.jettech.api.solutions_clinic.model.service.recordchain.MedicalRecordChainScanner.ChainLink;
+import com.jettech.api.solutions_clinic.model.service.recordchain.MedicalRecordSeal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Verificação incremental das cadeias: recebe os elos na ordem (paciente, posição) e guarda só o
+ * último elo do paciente corrente, então a memória não depende do número de prontuários.
+ * Cada elo precisa estar na posição seguinte, apontar para o elo anterior e ter o digest igual ao
+ * recalculado; o último elo visto precisa ser o registrado em medical_record_chains.
+ */
+final class MedicalRecordChainVerification {
+
+    private final int maxReportedFailures;
+    private final List<MedicalRecordChainFailure> failures = new ArrayList<>();
+    private long failureCount;
+    private long checkedRecords;
+    private long checkedPatients;
+
+    private UUID patientId;
+    private long headPosition;
+    private long lastPosition;
+    private UUID lastRecordId;
+    private String lastDigest;
+
+    MedicalRecordChainVerification(int maxReportedFailures) {
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    void accept(ChainLink link) {
+        MedicalRecordSeal seal = link.seal();
+        if (!seal.patientId().equals(patientId)) {
+            finishPatient();
+            patientId = seal.patientId();
+            headPosition = link.headPosition();
+            lastPosition = 0;
+            lastRecordId = null;
+            lastDigest = null;
+            checkedPatients++;
+        }
+        checkedRecords++;
+
+        if (seal.position() > lastPosition + 1) {
+            fail(seal.recordId(), seal.position(), MedicalRecordChainFailureReason.MISSING_RECORDS);
+        } else if (seal.position() <= lastPosition
+                || !Objects.equals(seal.previousRecordId(), lastRecordId)
+                || !Objects.equals(seal.previousDigest(), lastDigest)) {
+            fail(seal.recordId(), seal.position(), MedicalRecordChainFailureReason.BROKEN_LINK);
+        }
+        if (!seal.digest().equals(link.storedDigest())) {
+            fail(seal.recordId(), seal.position(), MedicalRecordChainFailureReason.DIGEST_MISMATCH);
+        }
+
+        // Segue a partir do digest gravado: um elo adulterado não invalida a checagem dos seguintes
+        lastPosition = seal.position();
+        lastRecordId = seal.recordId();
+        lastDigest = link.storedDigest();
+    }
+
+    MedicalRecordChainVerificationResponse finish(UUID requestedPatientId, long elapsedMillis) {
+        finishPatient();
+        return new MedicalRecordChainVerificationResponse(
+                requestedPatientId,
+                checkedRecords,
+                checkedPatients,
+                failureCount == 0,
+                failureCount,
+                List.copyOf(failures),
+                elapsedMillis);
+    }
+
+    private void finishPatient() {
+        if (patientId != null && lastPosition < headPosition) {
+            fail(lastRecordId, lastPosition, MedicalRecordChainFailureReason.MISSING_RECORDS);
+        }
+    }
+
+    private void fail(UUID recordId, long position, MedicalRecordChainFailureReason reason) {
+        failureCount++;
+        if (failures.size() < maxReportedFailures) {
+            failures.add(new MedicalRecordChainFailure(recordId, patientId, position, reason));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da verificação das cadeias de prontuários assinados. failures traz no máximo
+ * app.medical-record-chain.max-reported-failures itens; failureCount conta todas.
+ */
+public record MedicalRecordChainVerificationResponse(
+    UUID patientId,
+    long checkedRecords,
+    long checkedPatients,
+    boolean valid,
+    long failureCount,
+    List<MedicalRecordChainFailure> failures,
+    long elapsedMillis
+) {}
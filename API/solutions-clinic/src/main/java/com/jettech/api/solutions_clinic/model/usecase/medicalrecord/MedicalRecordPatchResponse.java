@@ -0,0 +1,11 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import java.util.UUID;
+
+/**
+ * Resposta do PATCH: só a nova versão, o cliente já tem o conteúdo que enviou.
+ */
+public record MedicalRecordPatchResponse(
+    UUID id,
+    long version
+) {}
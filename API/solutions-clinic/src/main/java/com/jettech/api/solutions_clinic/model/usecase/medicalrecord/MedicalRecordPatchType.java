@@ -0,0 +1,8 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+public enum MedicalRecordPatchType {
+    // RFC 6902 (application/json-patch+json)
+    JSON_PATCH,
+    // RFC 7386 (application/merge-patch+json)
+    MERGE_PATCH
+}
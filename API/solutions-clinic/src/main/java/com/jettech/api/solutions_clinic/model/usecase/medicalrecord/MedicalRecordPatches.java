@@ -0,0 +1,115 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.model.service.templateschema.TemplateSchema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validação dos patches antes de irem ao banco: estrutura (RFC 6902/7386) e valores contra o schema
+ * do modelo. O JSON Patch é normalizado para o formato das funções SQL (V14): path/from como arrays
+ * de segmentos já decodificados do JSON Pointer. Se o patch é válido mas não casa com o documento
+ * atual, quem decide é o UPDATE.
+ */
+final class MedicalRecordPatches {
+
+    private static final int MAX_OPERATIONS = 500;
+    private static final Set<String> OPERATIONS = Set.of("add", "remove", "replace", "move", "copy", "test");
+
+    private MedicalRecordPatches() {
+    }
+
+    static String jsonPatch(JsonNode patch, TemplateSchema schema) {
+        if (patch == null || !patch.isArray() || patch.isEmpty()) {
+            throw new InvalidRequestException(ApiError.INVALID_PATCH, "o JSON Patch deve ser um array de operações não vazio");
+        }
+        if (patch.size() > MAX_OPERATIONS) {
+            throw new InvalidRequestException(ApiError.INVALID_PATCH, "no máximo " + MAX_OPERATIONS + " operações por patch");
+        }
+
+        ArrayNode normalized = JsonNodeFactory.instance.arrayNode(patch.size());
+        for (JsonNode operation : patch) {
+            String op = operation.path("op").asText("");
+            if (!OPERATIONS.contains(op)) {
+                throw new InvalidRequestException(ApiError.INVALID_PATCH, "operação desconhecida '" + op + "'");
+            }
+            List<String> path = pointer(operation, "path");
+            List<String> from = List.of();
+            ObjectNode entry = normalized.addObject();
+            entry.put("op", op);
+            entry.set("path", segments(path));
+
+            switch (op) {
+                case "add", "replace", "test" -> {
+                    if (!operation.has("value")) {
+                        throw new InvalidRequestException(ApiError.INVALID_PATCH, "'" + op + "' exige o campo value");
+                    }
+                    entry.set("value", operation.get("value"));
+                }
+                case "move", "copy" -> {
+                    from = pointer(operation, "from");
+                    // Mover um nó para dentro dele mesmo é proibido pela RFC 6902
+                    if ("move".equals(op) && path.size() > from.size() && path.subList(0, from.size()).equals(from)) {
+                        throw new InvalidRequestException(ApiError.INVALID_PATCH, "'move' não pode mover um valor para dentro dele mesmo");
+                    }
+                    entry.set("from", segments(from));
+                }
+                case "remove" -> {
+                    if (path.isEmpty()) {
+                        throw new InvalidRequestException(ApiError.INVALID_PATCH, "não é possível remover a raiz do documento");
+                    }
+                }
+                default -> {
+                }
+            }
+            schema.validatePatchOperation(op, path, from, operation.get("value"));
+        }
+        return normalized.toString();
+    }
+
+    static String mergePatch(JsonNode patch, TemplateSchema schema) {
+        // O content é sempre um objeto; um merge patch de outro tipo substituiria o documento inteiro
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidRequestException(ApiError.INVALID_PATCH, "o Merge Patch do prontuário deve ser um objeto JSON");
+        }
+        schema.validateMergePatch(patch.traverse());
+        return patch.toString();
+    }
+
+    // JSON Pointer (RFC 6901): "" é a raiz; ~1 representa "/" e ~0 representa "~"
+    private static List<String> pointer(JsonNode operation, String field) {
+        JsonNode node = operation.get(field);
+        if (node == null || !node.isTextual()) {
+            throw new InvalidRequestException(ApiError.INVALID_PATCH, "campo " + field + " ausente ou não textual");
+        }
+        String pointer = node.asText();
+        if (pointer.isEmpty()) {
+            return List.of();
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new InvalidRequestException(ApiError.INVALID_PATCH, "JSON Pointer inválido '" + pointer + "'");
+        }
+
+        List<String> segments = new ArrayList<>();
+        for (String raw : pointer.substring(1).split("/", -1)) {
+            if (raw.matches(".*~([^01]|$).*")) {
+                throw new InvalidRequestException(ApiError.INVALID_PATCH, "escape inválido no JSON Pointer '" + pointer + "'");
+            }
+            segments.add(raw.replace("~1", "/").replace("~0", "~"));
+        }
+        return segments;
+    }
+
+    private static ArrayNode segments(List<String> segments) {
+        ArrayNode array = JsonNodeFactory.instance.arrayNode(segments.size());
+        segments.forEach(array::add);
+        return array;
+    }
+}
@@ -1,17 +1,23 @@
 package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * content e vitalSigns carregam o texto JSON do banco e são escritos na resposta como estão.
+ * digest é o SHA-256 da cadeia de prontuários assinados do paciente (nulo antes da assinatura).
+ */
 public record MedicalRecordResponse(
     UUID id,
     UUID appointmentId,
     UUID templateId,
-    JsonNode content,
-    JsonNode vitalSigns,
+    @JsonRawValue String content,
+    @JsonRawValue String vitalSigns,
+    Long version,
     LocalDateTime signedAt,
+    String digest,
     LocalDateTime createdAt,
     LocalDateTime updatedAt
 ) {}
@@ -0,0 +1,15 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.UUID;
+
+/**
+ * Patch do content de um prontuário. expectedVersion vem do If-Match e precisa ser a versão atual.
+ */
+public record PatchMedicalRecordRequest(
+    UUID recordId,
+    MedicalRecordPatchType type,
+    JsonNode patch,
+    Long expectedVersion
+) {}
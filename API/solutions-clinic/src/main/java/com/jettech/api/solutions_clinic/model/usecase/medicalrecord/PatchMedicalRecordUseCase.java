@@ -0,0 +1,7 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+
+public interface PatchMedicalRecordUseCase {
+    MedicalRecordPatchResponse execute(PatchMedicalRecordRequest request) throws AuthenticationFailedException;
+}
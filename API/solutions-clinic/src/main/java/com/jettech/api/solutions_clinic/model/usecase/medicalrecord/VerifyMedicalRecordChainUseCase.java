@@ -0,0 +1,10 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+
+import java.util.UUID;
+
+public interface VerifyMedicalRecordChainUseCase {
+    /** patientId nulo verifica todos os pacientes da clínica. */
+    MedicalRecordChainVerificationResponse execute(UUID patientId) throws AuthenticationFailedException;
+}
@@ -4,9 +4,11 @@ import com.jettech.api.solutions_clinic.model.entity.MedicalRecordTemplate;
 import com.jettech.api.solutions_clinic.model.entity.Tenant;
 import com.jettech.api.solutions_clinic.model.repository.MedicalRecordTemplateRepository;
 import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
+import com.jettech.api.solutions_clinic.model.service.templateschema.TemplateSchema;
 import com.jettech.api.solutions_clinic.security.TenantContext;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,11 +24,14 @@ public class DefaultCreateMedicalRecordTemplateUseCase implements CreateMedicalR
     private final MedicalRecordTemplateRepository templateRepository;
     private final TenantRepository tenantRepository;
     private final TenantContext tenantContext;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public MedicalRecordTemplateResponse execute(CreateMedicalRecordTemplateRequest request) throws AuthenticationFailedException {
         tenantContext.requireSameTenant(request.tenantId());
+        // Rejeita já na criação um schema que não compila, em vez de falhar ao salvar prontuários
+        TemplateSchema.compile(request.schema());
 
         Tenant tenant = tenantRepository.findById(request.tenantId())
                 .orElseThrow(() -> new EntityNotFoundException("Clínica", request.tenantId()));
@@ -39,6 +44,7 @@ public class DefaultCreateMedicalRecordTemplateUseCase implements CreateMedicalR
         template.setActive(true);
 
         template = templateRepository.save(template);
+        eventPublisher.publishEvent(new MedicalRecordTemplatesChanged(tenant.getId()));
 
         return toResponse(template);
     }
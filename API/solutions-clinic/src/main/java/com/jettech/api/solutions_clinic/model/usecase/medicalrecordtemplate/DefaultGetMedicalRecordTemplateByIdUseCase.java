@@ -15,15 +15,17 @@ import java.util.UUID;
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class DefaultGetMedicalRecordTemplateByIdUseCase implements GetMedicalRecordTemplateByIdUseCase {
 
+    private final MedicalRecordTemplateCatalogue templateCatalogue;
     private final MedicalRecordTemplateRepository templateRepository;
     private final TenantContext tenantContext;
 
     @Override
     public MedicalRecordTemplateResponse execute(UUID id) throws AuthenticationFailedException {
         UUID tenantId = tenantContext.getRequiredClinicId();
-        // Visível se for template global (tenant_id IS NULL) ou da clínica
-        return templateRepository.findByIdAvailableForTenant(id, tenantId)
-                .map(DefaultCreateMedicalRecordTemplateUseCase::toResponse)
+        // Visível se for template global (tenant_id IS NULL) ou da clínica; inativos não estão no catálogo
+        return templateCatalogue.find(id, tenantId)
+                .or(() -> templateRepository.findByIdAvailableForTenant(id, tenantId)
+                        .map(DefaultCreateMedicalRecordTemplateUseCase::toResponse))
                 .orElseThrow(() -> new EntityNotFoundException("Modelo de prontuário", id));
     }
 }
@@ -0,0 +1,24 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate;
+
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetMedicalRecordTemplateSummariesUseCase implements GetMedicalRecordTemplateSummariesUseCase {
+
+    private final MedicalRecordTemplateCatalogue templateCatalogue;
+    private final TenantContext tenantContext;
+
+    @Override
+    public List<MedicalRecordTemplateSummaryResponse> execute(GetMedicalRecordTemplatesByTenantRequest request) throws AuthenticationFailedException {
+        tenantContext.requireSameTenant(request.tenantId());
+        return templateCatalogue.summaries(request.tenantId(), request.professionalType());
+    }
+}
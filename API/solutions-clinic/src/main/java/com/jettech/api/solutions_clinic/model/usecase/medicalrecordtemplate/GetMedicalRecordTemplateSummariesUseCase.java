@@ -0,0 +1,9 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+
+import java.util.List;
+
+public interface GetMedicalRecordTemplateSummariesUseCase {
+    List<MedicalRecordTemplateSummaryResponse> execute(GetMedicalRecordTemplatesByTenantRequest request) throws AuthenticationFailedException;
+}
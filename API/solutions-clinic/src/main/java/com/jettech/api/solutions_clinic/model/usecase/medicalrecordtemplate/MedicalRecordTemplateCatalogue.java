@@ -0,0 +1,134 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate;
+
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordTemplateRepository;
+import com.jettech.api.solutions_clinic.model.repository.ResourceVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catálogo em memória dos modelos ativos, em dois níveis. Os globais (tenant_id IS NULL, vindos
+ * das migrations) são iguais para todas as clínicas: carregados uma vez por instância e
+ * compartilhados. Os de cada clínica ficam em cache por tenant, removidos no commit de
+ * MedicalRecordTemplatesChanged e conferidos a cada uso contra a ResourceVersion dos modelos da
+ * clínica (COUNT/MAX(updated_at) pelo índice de tenant_id, sem ler schemas): alterações feitas em
+ * outra instância também recarregam, e o ETag da listagem nunca descreve um conteúdo mais novo que o cache.
+ */
+@Slf4j
+@Component
+public class MedicalRecordTemplateCatalogue {
+
+    private final MedicalRecordTemplateRepository templateRepository;
+    private final int maxTenants;
+
+    private final Map<UUID, TenantTemplates> tenants = new ConcurrentHashMap<>();
+    private volatile Templates globals;
+
+    MedicalRecordTemplateCatalogue(
+            MedicalRecordTemplateRepository templateRepository,
+            @Value("${app.template-catalogue.max-tenants:5000}") int maxTenants
+    ) {
+        this.templateRepository = templateRepository;
+        this.maxTenants = maxTenants;
+    }
+
+    /** Globais primeiro e depois os da clínica, cada grupo por nome (mesma ordem de findAvailableForTenant). */
+    public List<MedicalRecordTemplateResponse> available(UUID tenantId, String professionalType) {
+        List<MedicalRecordTemplateResponse> result = new ArrayList<>();
+        for (Templates templates : List.of(globals(), tenantTemplates(tenantId))) {
+            for (MedicalRecordTemplateResponse template : templates.full()) {
+                if (matches(template.professionalType(), professionalType)) {
+                    result.add(template);
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<MedicalRecordTemplateSummaryResponse> summaries(UUID tenantId, String professionalType) {
+        List<MedicalRecordTemplateSummaryResponse> result = new ArrayList<>();
+        for (Templates templates : List.of(globals(), tenantTemplates(tenantId))) {
+            for (MedicalRecordTemplateSummaryResponse template : templates.summaries()) {
+                if (matches(template.professionalType(), professionalType)) {
+                    result.add(template);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Modelo ativo visível à clínica; vazio se não estiver no catálogo (ex.: inativo). */
+    public Optional<MedicalRecordTemplateResponse> find(UUID templateId, UUID tenantId) {
+        return List.of(globals(), tenantTemplates(tenantId)).stream()
+                .flatMap(templates -> templates.full().stream())
+                .filter(template -> template.id().equals(templateId))
+                .findFirst();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTemplatesChanged(MedicalRecordTemplatesChanged changed) {
+        if (changed.tenantId() == null) {
+            globals = null;
+        } else {
+            tenants.remove(changed.tenantId());
+        }
+    }
+
+    private Templates globals() {
+        Templates loaded = globals;
+        if (loaded == null) {
+            loaded = Templates.of(templateRepository.findByTenantIsNullAndActiveTrueOrderByName().stream()
+                    .map(DefaultCreateMedicalRecordTemplateUseCase::toResponse)
+                    .toList());
+            globals = loaded;
+            log.debug("Modelos de prontuário globais carregados: {}", loaded.full().size());
+        }
+        return loaded;
+    }
+
+    private Templates tenantTemplates(UUID tenantId) {
+        ResourceVersion version = templateRepository.versionByTenantId(tenantId);
+        TenantTemplates cached = tenants.get(tenantId);
+        if (cached != null && cached.version().equals(version)) {
+            return cached.templates();
+        }
+
+        // Um commit entre a versão e a carga só faz a próxima chamada recarregar de novo
+        Templates loaded = Templates.of(templateRepository.findByTenantIdAndActiveTrueOrderByName(tenantId).stream()
+                .map(DefaultCreateMedicalRecordTemplateUseCase::toResponse)
+                .toList());
+        if (tenants.size() >= maxTenants) {
+            tenants.clear();
+        }
+        tenants.put(tenantId, new TenantTemplates(loaded, version));
+        return loaded;
+    }
+
+    // Filtro por tipo inclui os modelos genéricos (professional_type IS NULL)
+    private static boolean matches(String templateType, String professionalType) {
+        return professionalType == null || professionalType.isBlank()
+                || templateType == null || templateType.equals(professionalType);
+    }
+
+    private record Templates(List<MedicalRecordTemplateResponse> full, List<MedicalRecordTemplateSummaryResponse> summaries) {
+
+        static Templates of(List<MedicalRecordTemplateResponse> full) {
+            return new Templates(full, full.stream()
+                    .map(template -> new MedicalRecordTemplateSummaryResponse(
+                            template.id(), template.name(), template.professionalType(), template.tenantId() == null))
+                    .toList());
+        }
+    }
+
+    private record TenantTemplates(Templates templates, ResourceVersion version) {
+    }
+}
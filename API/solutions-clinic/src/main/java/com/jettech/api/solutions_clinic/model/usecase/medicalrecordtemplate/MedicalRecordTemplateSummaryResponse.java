@@ -0,0 +1,13 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate;
+
+import java.util.UUID;
+
+/**
+ * Item da listagem leve de modelos (seletor do prontuário), sem o schema.
+ */
+public record MedicalRecordTemplateSummaryResponse(
+    UUID id,
+    String name,
+    String professionalType,
+    boolean global
+) {}
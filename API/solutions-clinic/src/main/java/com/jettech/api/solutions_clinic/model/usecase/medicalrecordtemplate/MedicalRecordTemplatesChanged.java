@@ -0,0 +1,9 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate;
+
+import java.util.UUID;
+
+/**
+ * Publicado na transação que cria ou altera modelos da clínica; invalida o catálogo em cache no commit.
+ */
+public record MedicalRecordTemplatesChanged(UUID tenantId) {
+}
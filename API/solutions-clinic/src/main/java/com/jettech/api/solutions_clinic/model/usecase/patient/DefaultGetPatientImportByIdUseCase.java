@@ -0,0 +1,42 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImport;
+import com.jettech.api.solutions_clinic.model.repository.PatientImportRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetPatientImportByIdUseCase implements GetPatientImportByIdUseCase {
+
+    private final PatientImportRepository patientImportRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PatientImportResponse execute(UUID id) throws AuthenticationFailedException {
+        PatientImport patientImport = patientImportRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Importação", id));
+
+        return new PatientImportResponse(
+                patientImport.getId(),
+                patientImport.getTenantId(),
+                patientImport.getFormat(),
+                patientImport.getFileName(),
+                patientImport.getStatus(),
+                patientImport.getProcessedRows(),
+                patientImport.getImportedRows(),
+                patientImport.getDuplicateRows(),
+                patientImport.getFailedRows(),
+                patientImport.getError(),
+                patientImport.getCreatedAt(),
+                patientImport.getStartedAt(),
+                patientImport.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImport;
+import com.jettech.api.solutions_clinic.model.repository.PatientImportErrorRepository;
+import com.jettech.api.solutions_clinic.model.repository.PatientImportRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetPatientImportErrorsUseCase implements GetPatientImportErrorsUseCase {
+
+    private final PatientImportRepository patientImportRepository;
+    private final PatientImportErrorRepository patientImportErrorRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PatientImportErrorResponse> execute(GetPatientImportErrorsRequest request) throws AuthenticationFailedException {
+        PatientImport patientImport = patientImportRepository.findById(request.importId())
+                .orElseThrow(() -> new EntityNotFoundException("Importação", request.importId()));
+
+        return patientImportErrorRepository
+                .findByImportIdOrderByLineNumberAsc(request.importId(), PageRequest.of(request.page(), request.size()))
+                .map(error -> new PatientImportErrorResponse(error.getLineNumber(), error.getCpf(), error.getMessage()));
+    }
+}
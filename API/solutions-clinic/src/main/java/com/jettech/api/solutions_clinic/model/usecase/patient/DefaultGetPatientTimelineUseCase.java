@@ -0,0 +1,82 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.model.repository.PatientRepository;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Linha do tempo clínica do paciente com paginação por chave: o cursor carrega (scheduled_at, id)
+ * do último atendimento da página, então páginas profundas custam o mesmo que a primeira e
+ * atendimentos criados entre uma página e outra não deslocam os itens.
+ */
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetPatientTimelineUseCase implements GetPatientTimelineUseCase {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PatientRepository patientRepository;
+    private final PatientTimelineQuery timelineQuery;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PatientTimelineResponse execute(GetPatientTimelineRequest request) throws AuthenticationFailedException {
+        UUID tenantId = tenantContext.getRequiredClinicId();
+        if (!patientRepository.existsByIdAndTenantId(request.patientId(), tenantId)) {
+            throw new EntityNotFoundException("Paciente", request.patientId());
+        }
+
+        int size = Math.clamp(request.size(), 1, MAX_PAGE_SIZE);
+        Cursor after = Cursor.decode(request.cursor());
+        // Um item a mais indica se existe próxima página
+        List<PatientTimelineEntryResponse> entries = timelineQuery.find(
+                tenantId, request.patientId(),
+                after != null ? after.scheduledAt() : null,
+                after != null ? after.id() : null,
+                size + 1);
+
+        if (entries.size() <= size) {
+            return new PatientTimelineResponse(entries, null);
+        }
+        List<PatientTimelineEntryResponse> page = entries.subList(0, size);
+        PatientTimelineEntryResponse last = page.getLast();
+        return new PatientTimelineResponse(List.copyOf(page), new Cursor(last.scheduledAt(), last.appointmentId()).encode());
+    }
+
+    private record Cursor(LocalDateTime scheduledAt, UUID id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((scheduledAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = value.indexOf('_');
+                return new Cursor(LocalDateTime.parse(value.substring(0, separator)), UUID.fromString(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new InvalidRequestException(ApiError.INVALID_PAGE_CURSOR);
+            }
+        }
+    }
+}
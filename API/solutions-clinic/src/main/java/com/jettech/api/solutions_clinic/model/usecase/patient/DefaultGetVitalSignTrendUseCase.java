@@ -0,0 +1,73 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.model.repository.PatientRepository;
+import com.jettech.api.solutions_clinic.model.service.vitalsigns.VitalSignReadingStore;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tendência de um sinal vital do paciente, reduzida no banco a no máximo "buckets" pontos
+ * (mínimo, máximo e média por balde): um gráfico de anos é uma única varredura de índice.
+ */
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetVitalSignTrendUseCase implements GetVitalSignTrendUseCase {
+
+    private static final int DEFAULT_RANGE_YEARS = 5;
+    private static final int MAX_BUCKETS = 1000;
+    private static final Duration MIN_BUCKET = Duration.ofHours(1);
+
+    private final PatientRepository patientRepository;
+    private final VitalSignReadingStore vitalSignReadingStore;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional(readOnly = true)
+    public VitalSignTrendResponse execute(GetVitalSignTrendRequest request) throws AuthenticationFailedException {
+        UUID tenantId = tenantContext.getRequiredClinicId();
+        if (!patientRepository.existsByIdAndTenantId(request.patientId(), tenantId)) {
+            throw new EntityNotFoundException("Paciente", request.patientId());
+        }
+
+        LocalDate endDate = request.endDate() != null ? request.endDate() : LocalDate.now();
+        LocalDate startDate = request.startDate() != null ? request.startDate() : endDate.minusYears(DEFAULT_RANGE_YEARS);
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidRequestException(ApiError.INVALID_DATE_RANGE);
+        }
+
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+        int buckets = Math.clamp(request.buckets(), 1, MAX_BUCKETS);
+        long rangeSeconds = Duration.between(from, to).toSeconds();
+        Duration bucket = Duration.ofSeconds(Math.max(MIN_BUCKET.toSeconds(), Math.ceilDiv(rangeSeconds, buckets)));
+
+        List<VitalSignTrendPoint> points = vitalSignReadingStore
+                .trend(request.patientId(), request.metric(), from, to, bucket)
+                .stream()
+                .map(b -> new VitalSignTrendPoint(b.start(), b.min(), b.max(), b.avg(), b.readings()))
+                .toList();
+
+        return new VitalSignTrendResponse(
+                request.patientId(),
+                request.metric(),
+                request.metric().getUnit(),
+                startDate,
+                endDate,
+                bucket.toSeconds(),
+                points);
+    }
+}
@@ -0,0 +1,123 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImport;
+import com.jettech.api.solutions_clinic.model.entity.PatientImportFormat;
+import com.jettech.api.solutions_clinic.model.repository.PatientImportRepository;
+import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
+import com.jettech.api.solutions_clinic.model.service.patientimport.PatientImportCreatedEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Registra uma importação em massa de pacientes. O arquivo é gravado em disco e processado
+ * em segundo plano (PatientImportProcessor); o progresso é consultado via GET /patients/imports/{id}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultStartPatientImportUseCase implements StartPatientImportUseCase {
+
+    private final PatientImportRepository patientImportRepository;
+    private final TenantRepository tenantRepository;
+    private final TenantContext tenantContext;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public PatientImportResponse execute(StartPatientImportRequest request) throws AuthenticationFailedException {
+        UUID tenantId = tenantContext.getRequiredClinicId();
+        if (!tenantRepository.existsById(tenantId)) {
+            throw new EntityNotFoundException("Clínica", tenantId);
+        }
+
+        MultipartFile file = request.file();
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException(ApiError.INVALID_IMPORT_FILE);
+        }
+        PatientImportFormat format = request.format() != null ? request.format() : detectFormat(file.getOriginalFilename());
+
+        Path spooled = spool(file);
+        PatientImport patientImport;
+        try {
+            patientImport = new PatientImport();
+            patientImport.setTenantId(tenantId);
+            patientImport.setFormat(format);
+            patientImport.setFileName(file.getOriginalFilename());
+            patientImport = patientImportRepository.save(patientImport);
+        } catch (RuntimeException e) {
+            deleteSpooled(spooled);
+            throw e;
+        }
+
+        log.info("Importação de pacientes registrada - importId: {}, tenantId: {}, formato: {}, tamanho: {} bytes",
+                patientImport.getId(), tenantId, format, file.getSize());
+        // Daqui em diante o arquivo é do PatientImportExecutor (processado no commit, removido no rollback)
+        eventPublisher.publishEvent(new PatientImportCreatedEvent(patientImport.getId(), tenantId, format, spooled));
+
+        return new PatientImportResponse(
+                patientImport.getId(),
+                patientImport.getTenantId(),
+                patientImport.getFormat(),
+                patientImport.getFileName(),
+                patientImport.getStatus(),
+                patientImport.getProcessedRows(),
+                patientImport.getImportedRows(),
+                patientImport.getDuplicateRows(),
+                patientImport.getFailedRows(),
+                patientImport.getError(),
+                patientImport.getCreatedAt(),
+                patientImport.getStartedAt(),
+                patientImport.getFinishedAt()
+        );
+    }
+
+    private PatientImportFormat detectFormat(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return PatientImportFormat.NDJSON;
+        }
+        if (name.endsWith(".csv") || name.endsWith(".txt")) {
+            return PatientImportFormat.CSV;
+        }
+        throw new InvalidRequestException(ApiError.INVALID_IMPORT_FILE);
+    }
+
+    /**
+     * Copia o upload para um arquivo temporário próprio: o multipart é descartado ao fim da requisição.
+     */
+    private Path spool(MultipartFile file) {
+        try {
+            Path spooled = Files.createTempFile("patient-import-", ".tmp");
+            file.transferTo(spooled);
+            return spooled;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível armazenar o arquivo de importação", e);
+        }
+    }
+
+    private void deleteSpooled(Path spooled) {
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário de importação: {}", spooled);
+        }
+    }
+}
@@ -9,24 +9,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class DefaultUpdatePatientActiveUseCase implements UpdatePatientActiveUseCase {
 
     private final PatientRepository patientRepository;
-    private final TenantContext tenantContext;
 
     @Override
     @Transactional
     public PatientResponse execute(UpdatePatientActiveRequest request) throws AuthenticationFailedException {
         Patient patient = patientRepository.findById(request.id())
                 .orElseThrow(() -> new EntityNotFoundException("Paciente", request.id()));
-        if (!patient.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
         patient.setActive(request.active());
         patient = patientRepository.save(patient);
 
@@ -0,0 +1,8 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+import java.util.UUID;
+
+public interface GetPatientImportByIdUseCase extends UseCase<UUID, PatientImportResponse> {
+}
@@ -0,0 +1,10 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import java.util.UUID;
+
+public record GetPatientImportErrorsRequest(
+    UUID importId,
+    int page,
+    int size
+) {
+}
@@ -0,0 +1,7 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+import org.springframework.data.domain.Page;
+
+public interface GetPatientImportErrorsUseCase extends UseCase<GetPatientImportErrorsRequest, Page<PatientImportErrorResponse>> {
+}
@@ -0,0 +1,13 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import java.util.UUID;
+
+/**
+ * cursor é o nextCursor da página anterior (nulo na primeira página).
+ */
+public record GetPatientTimelineRequest(
+    UUID patientId,
+    String cursor,
+    int size
+) {
+}
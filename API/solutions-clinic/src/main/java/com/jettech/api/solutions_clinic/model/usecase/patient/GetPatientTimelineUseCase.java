@@ -0,0 +1,6 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+public interface GetPatientTimelineUseCase extends UseCase<GetPatientTimelineRequest, PatientTimelineResponse> {
+}
@@ -0,0 +1,15 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.entity.VitalSignMetric;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record GetVitalSignTrendRequest(
+    UUID patientId,
+    VitalSignMetric metric,
+    LocalDate startDate, // null = cinco anos antes de endDate
+    LocalDate endDate, // inclusivo; null = hoje
+    int buckets
+) {
+}
@@ -0,0 +1,8 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+public record PatientImportErrorResponse(
+    long lineNumber,
+    String cpf,
+    String message
+) {
+}
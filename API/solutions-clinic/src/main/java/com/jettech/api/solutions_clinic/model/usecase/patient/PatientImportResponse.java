@@ -0,0 +1,24 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImportFormat;
+import com.jettech.api.solutions_clinic.model.entity.PatientImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PatientImportResponse(
+    UUID id,
+    UUID tenantId,
+    PatientImportFormat format,
+    String fileName,
+    PatientImportStatus status,
+    int processedRows,
+    int importedRows,
+    int duplicateRows,
+    int failedRows,
+    String error,
+    LocalDateTime createdAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {
+}
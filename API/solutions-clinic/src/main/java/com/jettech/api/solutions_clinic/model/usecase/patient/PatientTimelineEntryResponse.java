@@ -0,0 +1,33 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Um atendimento da linha do tempo. procedures ([{procedureId, name, finalPrice, observations}])
+ * e vitalSigns saem do banco já em JSON e são escritos como estão. archived indica atendimento
+ * lido do arquivo frio.
+ */
+public record PatientTimelineEntryResponse(
+    UUID appointmentId,
+    LocalDateTime scheduledAt,
+    int durationMinutes,
+    AppointmentStatus status,
+    UUID professionalId,
+    String professionalName,
+    UUID roomId,
+    String roomName,
+    String observations,
+    BigDecimal totalValue,
+    PaymentStatus paymentStatus,
+    boolean archived,
+    @JsonRawValue String procedures,
+    @JsonRawValue String vitalSigns,
+    PatientTimelineMedicalRecord medicalRecord
+) {
+}
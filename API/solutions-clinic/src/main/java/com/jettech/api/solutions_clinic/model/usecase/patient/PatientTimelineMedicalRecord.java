@@ -0,0 +1,16 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resumo do prontuário do atendimento, sem o conteúdo (ver GET /medical-records/{id}).
+ */
+public record PatientTimelineMedicalRecord(
+    UUID id,
+    UUID templateId,
+    String templateName,
+    LocalDateTime signedAt,
+    LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,136 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.PaymentStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Monta uma página da linha do tempo em uma única consulta. A página é escolhida primeiro
+ * (agendamentos quentes e arquivados, cada lado pelo índice (patient_id, scheduled_at, id) e já
+ * limitado), e só essas linhas recebem os LEFT JOINs de profissional, sala, prontuário e a
+ * agregação JSON dos procedimentos. O custo depende do tamanho da página, não do histórico.
+ */
+@Component
+class PatientTimelineQuery {
+
+    private static final String SELECT_PAGE = """
+        WITH page AS (
+            (SELECT a.id, a.scheduled_at, a.duration_minutes, a.status, a.professional_id, a.room_id,
+                    a.observations, a.total_value, a.payment_status, a.vital_signs,
+                    FALSE AS archived, NULL::jsonb AS archived_procedures
+             FROM appointments a
+             WHERE a.tenant_id = ? AND a.patient_id = ? %1$s
+             ORDER BY a.scheduled_at DESC, a.id DESC
+             LIMIT ?)
+            UNION ALL
+            (SELECT s.id, s.scheduled_at, (s.data ->> 'duration_minutes')::int, s.data ->> 'status', s.professional_id,
+                    (s.data ->> 'room_id')::uuid, s.data ->> 'observations', (s.data ->> 'total_value')::numeric,
+                    s.data ->> 'payment_status', s.data -> 'vital_signs',
+                    TRUE, s.data -> 'procedures'
+             FROM archive.finished_appointments s
+             WHERE s.tenant_id = ? AND s.patient_id = ? %2$s
+             ORDER BY s.scheduled_at DESC, s.id DESC
+             LIMIT ?)
+            ORDER BY scheduled_at DESC, id DESC
+            LIMIT ?
+        )
+        SELECT p.id, p.scheduled_at, p.duration_minutes, p.status, p.professional_id,
+               TRIM(COALESCE(u.first_name, '') || ' ' || COALESCE(u.last_name, '')) AS professional_name,
+               p.room_id, r.name AS room_name, p.observations, p.total_value, p.payment_status, p.archived,
+               pr.procedures::text AS procedures, p.vital_signs::text AS vital_signs,
+               COALESCE(m.id, sm.id) AS record_id, t.id AS template_id, t.name AS template_name,
+               COALESCE(m.signed_at, sm.signed_at) AS record_signed_at,
+               COALESCE(m.updated_at, (sm.data ->> 'updated_at')::timestamp) AS record_updated_at
+        FROM page p
+        LEFT JOIN professionals prof ON prof.id = p.professional_id
+        LEFT JOIN users u ON u.id = prof.user_id
+        LEFT JOIN rooms r ON r.id = p.room_id
+        LEFT JOIN LATERAL (
+            SELECT COALESCE(jsonb_agg(jsonb_build_object(
+                       'procedureId', x.procedure_id,
+                       'name', pc.name,
+                       'finalPrice', x.final_price,
+                       'observations', x.observations) ORDER BY x.created_at, x.id), '[]'::jsonb) AS procedures
+            FROM (
+                SELECT ap.id, ap.procedure_id, ap.final_price, ap.observations, ap.created_at
+                FROM appointment_procedures ap
+                WHERE ap.appointment_id = p.id AND NOT p.archived
+                UNION ALL
+                SELECT (e ->> 'id')::uuid, (e ->> 'procedure_id')::uuid, (e ->> 'final_price')::numeric,
+                       e ->> 'observations', (e ->> 'created_at')::timestamp
+                FROM jsonb_array_elements(p.archived_procedures) e
+            ) x
+            LEFT JOIN procedures pc ON pc.id = x.procedure_id
+        ) pr ON TRUE
+        LEFT JOIN medical_records m ON m.appointment_id = p.id
+        LEFT JOIN archive.signed_medical_records sm ON sm.appointment_id = p.id
+        LEFT JOIN medical_record_templates t ON t.id = COALESCE(m.template_id, (sm.data ->> 'template_id')::uuid)
+        ORDER BY p.scheduled_at DESC, p.id DESC
+        """;
+
+    private static final String AFTER_LIVE = "AND (a.scheduled_at, a.id) < (?, ?)";
+    private static final String AFTER_ARCHIVED = "AND (s.scheduled_at, s.id) < (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PatientTimelineQuery(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Até "limit" atendimentos anteriores a (beforeScheduledAt, beforeId), do mais recente para o
+     * mais antigo. Sem chave (primeira página) parte do atendimento mais recente.
+     */
+    List<PatientTimelineEntryResponse> find(UUID tenantId, UUID patientId,
+                                            LocalDateTime beforeScheduledAt, UUID beforeId, int limit) {
+        boolean keyset = beforeScheduledAt != null;
+        String sql = SELECT_PAGE.formatted(keyset ? AFTER_LIVE : "", keyset ? AFTER_ARCHIVED : "");
+
+        List<Object> args = new ArrayList<>(11);
+        for (int branch = 0; branch < 2; branch++) {
+            args.add(tenantId);
+            args.add(patientId);
+            if (keyset) {
+                args.add(beforeScheduledAt);
+                args.add(beforeId);
+            }
+            args.add(limit);
+        }
+        args.add(limit);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> toEntry(rs), args.toArray());
+    }
+
+    private static PatientTimelineEntryResponse toEntry(ResultSet rs) throws SQLException {
+        UUID recordId = rs.getObject("record_id", UUID.class);
+        String paymentStatus = rs.getString("payment_status");
+        return new PatientTimelineEntryResponse(
+                rs.getObject("id", UUID.class),
+                rs.getObject("scheduled_at", LocalDateTime.class),
+                rs.getInt("duration_minutes"),
+                AppointmentStatus.valueOf(rs.getString("status")),
+                rs.getObject("professional_id", UUID.class),
+                rs.getString("professional_name"),
+                rs.getObject("room_id", UUID.class),
+                rs.getString("room_name"),
+                rs.getString("observations"),
+                rs.getBigDecimal("total_value"),
+                paymentStatus != null ? PaymentStatus.valueOf(paymentStatus) : null,
+                rs.getBoolean("archived"),
+                rs.getString("procedures"),
+                rs.getString("vital_signs"),
+                recordId == null ? null : new PatientTimelineMedicalRecord(
+                        recordId,
+                        rs.getObject("template_id", UUID.class),
+                        rs.getString("template_name"),
+                        rs.getObject("record_signed_at", LocalDateTime.class),
+                        rs.getObject("record_updated_at", LocalDateTime.class)));
+    }
+}
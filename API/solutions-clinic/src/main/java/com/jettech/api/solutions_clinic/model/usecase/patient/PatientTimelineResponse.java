@@ -0,0 +1,13 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import java.util.List;
+
+/**
+ * Página da linha do tempo, do atendimento mais recente para o mais antigo.
+ * nextCursor é nulo na última página.
+ */
+public record PatientTimelineResponse(
+    List<PatientTimelineEntryResponse> items,
+    String nextCursor
+) {
+}
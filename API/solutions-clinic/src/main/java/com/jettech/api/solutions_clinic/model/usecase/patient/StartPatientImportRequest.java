@@ -0,0 +1,10 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.entity.PatientImportFormat;
+import org.springframework.web.multipart.MultipartFile;
+
+public record StartPatientImportRequest(
+    MultipartFile file,
+    PatientImportFormat format // null = detectar pela extensão do arquivo
+) {
+}
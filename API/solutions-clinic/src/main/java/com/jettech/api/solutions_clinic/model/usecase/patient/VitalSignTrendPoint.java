@@ -0,0 +1,12 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import java.time.LocalDateTime;
+
+public record VitalSignTrendPoint(
+    LocalDateTime bucketStart,
+    double min,
+    double max,
+    double avg,
+    long readings
+) {
+}
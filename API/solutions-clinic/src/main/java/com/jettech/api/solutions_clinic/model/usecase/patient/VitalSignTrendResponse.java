@@ -0,0 +1,22 @@
+package com.jettech.api.solutions_clinic.model.usecase.patient;
+
+import com.jettech.api.solutions_clinic.model.entity.VitalSignMetric;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Série de uma métrica em baldes de bucketSeconds a partir de startDate. Baldes sem leituras
+ * não aparecem em points.
+ */
+public record VitalSignTrendResponse(
+    UUID patientId,
+    VitalSignMetric metric,
+    String unit,
+    LocalDate startDate,
+    LocalDate endDate,
+    long bucketSeconds,
+    List<VitalSignTrendPoint> points
+) {
+}
@@ -10,8 +10,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 
 import java.util.UUID;
 
@@ -21,16 +19,12 @@ public class DefaultDeleteProcedureUseCase implements DeleteProcedureUseCase {
 
     private final ProcedureRepository procedureRepository;
     private final AppointmentProcedureRepository appointmentProcedureRepository;
-    private final TenantContext tenantContext;
 
     @Override
     @Transactional
     public void execute(UUID id) throws AuthenticationFailedException {
         Procedure procedure = procedureRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Procedimento", id));
-        if (!procedure.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
         // Verificar se o procedimento está sendo usado em algum agendamento
         // Se estiver, não permitir exclusão (ou podemos apenas desativar)
         // Por enquanto, vamos apenas verificar e lançar exceção se houver uso
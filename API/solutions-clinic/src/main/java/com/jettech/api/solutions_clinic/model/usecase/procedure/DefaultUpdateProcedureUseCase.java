@@ -9,24 +9,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class DefaultUpdateProcedureUseCase implements UpdateProcedureUseCase {
 
     private final ProcedureRepository procedureRepository;
-    private final TenantContext tenantContext;
 
     @Override
     @Transactional
     public ProcedureResponse execute(UpdateProcedureRequest request) throws AuthenticationFailedException {
         Procedure procedure = procedureRepository.findById(request.id())
                 .orElseThrow(() -> new EntityNotFoundException("Procedimento", request.id()));
-        if (!procedure.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
         // Atualizar campos se fornecidos
         if (request.name() != null && !request.name().trim().isEmpty()) {
             procedure.setName(request.name());
@@ -10,10 +10,11 @@ import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
 import com.jettech.api.solutions_clinic.model.repository.UserTenantRoleRepository;
 import com.jettech.api.solutions_clinic.model.usecase.user.CreateUserRequest;
 import com.jettech.api.solutions_clinic.model.usecase.user.CreateUserUseCase;
+import com.jettech.api.solutions_clinic.security.PasswordHasher;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.jettech.api.solutions_clinic.exception.ApiError;
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
@@ -30,11 +31,18 @@ public class DefaultCreateProfessionalWithUserUseCase implements CreateProfessio
     private final UserTenantRoleRepository userTenantRoleRepository;
     private final CreateUserUseCase createUserUseCase;
     private final com.jettech.api.solutions_clinic.security.TenantContext tenantContext;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
     public ProfessionalResponse execute(CreateProfessionalWithUserRequest request) throws AuthenticationFailedException {
         UUID tenantId = tenantContext.getRequiredClinicId();
+        // BCrypt antes da transação: o hash (e a fila do PasswordHasher) não prende conexão do pool
+        String encodedPassword = passwordHasher.encode(request.password());
+        return transactionTemplate.execute(status -> create(request, tenantId, encodedPassword));
+    }
+
+    private ProfessionalResponse create(CreateProfessionalWithUserRequest request, UUID tenantId, String encodedPassword) {
         Tenant tenant = tenantRepository.findById(tenantId)
                 .orElseThrow(() -> new EntityNotFoundException("Clínica", tenantId));
 
@@ -50,7 +58,7 @@ public class DefaultCreateProfessionalWithUserUseCase implements CreateProfessio
                 tenantId // Passar tenantId para criar a role RECEPTION automaticamente (será substituída por SPECIALIST)
         );
         
-        User user = createUserUseCase.execute(createUserRequest);
+        User user = createUserUseCase.execute(createUserRequest, encodedPassword);
 
         // Validar se já existe profissional com mesmo user e tenant
         professionalRepository.findByUserIdAndTenantId(user.getId(), tenantId)
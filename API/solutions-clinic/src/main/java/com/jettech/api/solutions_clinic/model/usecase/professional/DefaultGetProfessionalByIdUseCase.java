@@ -0,0 +1,39 @@
+package com.jettech.api.solutions_clinic.model.usecase.professional;
+
+import com.jettech.api.solutions_clinic.model.entity.Professional;
+import com.jettech.api.solutions_clinic.model.repository.ProfessionalRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetProfessionalByIdUseCase implements GetProfessionalByIdUseCase {
+
+    private final ProfessionalRepository professionalRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProfessionalResponse execute(UUID id) throws AuthenticationFailedException {
+        Professional professional = professionalRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Profissional", id));
+        return new ProfessionalResponse(
+                professional.getId(),
+                professional.getUser().getId(),
+                professional.getTenant().getId(),
+                professional.getSpecialty(),
+                professional.getDocumentType(),
+                professional.getDocumentNumber(),
+                professional.getDocumentState(),
+                professional.getBio(),
+                professional.isActive(),
+                professional.getCreatedAt(),
+                professional.getUpdatedAt()
+        );
+    }
+}
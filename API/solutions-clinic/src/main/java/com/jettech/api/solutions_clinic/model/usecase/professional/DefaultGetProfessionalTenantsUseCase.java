@@ -3,6 +3,7 @@ package com.jettech.api.solutions_clinic.model.usecase.professional;
 import com.jettech.api.solutions_clinic.model.entity.Professional;
 import com.jettech.api.solutions_clinic.model.repository.ProfessionalRepository;
 import com.jettech.api.solutions_clinic.model.repository.UserRepository;
+import com.jettech.api.solutions_clinic.security.TenantScope;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,16 +21,18 @@ public class DefaultGetProfessionalTenantsUseCase implements GetProfessionalTena
 
     private final ProfessionalRepository professionalRepository;
     private final UserRepository userRepository;
+    private final TenantScope tenantScope;
 
     @Override
     @Transactional(readOnly = true)
     public ProfessionalTenantResponse execute(UUID userId) throws AuthenticationFailedException {
         // Validar se o usuário existe
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("Usuário", userId));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("Usuário", userId);
+        }
 
-        // Buscar todos os profissionais do usuário
-        List<Professional> professionals = professionalRepository.findByUserId(userId);
+        // Buscar todos os profissionais do usuário, em todas as clínicas
+        List<Professional> professionals = tenantScope.acrossTenants(() -> professionalRepository.findByUserIdWithTenant(userId));
 
         // Converter para resposta
         List<ProfessionalTenantResponse.TenantInfo> tenantInfos = professionals.stream()
@@ -0,0 +1,8 @@
+package com.jettech.api.solutions_clinic.model.usecase.professional;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+import java.util.UUID;
+
+public interface GetProfessionalByIdUseCase extends UseCase<UUID, ProfessionalResponse> {
+}
@@ -9,7 +9,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
 import com.jettech.api.solutions_clinic.security.TenantContext;
 
 import java.util.UUID;
@@ -24,11 +23,8 @@ public class DefaultDeleteProfessionalScheduleUseCase implements DeleteProfessio
     @Override
     @Transactional
     public void execute(UUID id) throws AuthenticationFailedException {
-        ProfessionalSchedule schedule = professionalScheduleRepository.findById(id)
+        ProfessionalSchedule schedule = professionalScheduleRepository.findByIdAndProfessional_TenantId(id, tenantContext.getRequiredClinicId())
                 .orElseThrow(() -> new EntityNotFoundException("Agenda", id));
-        if (!schedule.getProfessional().getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
         professionalScheduleRepository.delete(schedule);
     }
 }
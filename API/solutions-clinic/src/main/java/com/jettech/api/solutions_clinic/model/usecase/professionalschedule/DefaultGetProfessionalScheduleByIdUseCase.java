@@ -8,7 +8,6 @@ import org.springframework.stereotype.Service;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
 import com.jettech.api.solutions_clinic.security.TenantContext;
 import java.util.UUID;
 
@@ -21,11 +20,8 @@ public class DefaultGetProfessionalScheduleByIdUseCase implements GetProfessiona
 
     @Override
     public ProfessionalScheduleResponse execute(UUID id) throws AuthenticationFailedException {
-        ProfessionalSchedule schedule = professionalScheduleRepository.findById(id)
+        ProfessionalSchedule schedule = professionalScheduleRepository.findByIdAndProfessional_TenantId(id, tenantContext.getRequiredClinicId())
                 .orElseThrow(() -> new EntityNotFoundException("Agenda", id));
-        if (!schedule.getProfessional().getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
         return new ProfessionalScheduleResponse(
                 schedule.getId(),
                 schedule.getProfessional().getId(),
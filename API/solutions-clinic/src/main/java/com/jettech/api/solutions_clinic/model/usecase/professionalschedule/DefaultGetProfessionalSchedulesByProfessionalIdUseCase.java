@@ -9,8 +9,6 @@ import org.springframework.stereotype.Service;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
-import com.jettech.api.solutions_clinic.security.TenantContext;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -21,15 +19,11 @@ public class DefaultGetProfessionalSchedulesByProfessionalIdUseCase implements G
 
     private final ProfessionalScheduleRepository professionalScheduleRepository;
     private final ProfessionalRepository professionalRepository;
-    private final TenantContext tenantContext;
 
     @Override
     public List<ProfessionalScheduleResponse> execute(UUID professionalId) throws AuthenticationFailedException {
         var professional = professionalRepository.findById(professionalId)
                 .orElseThrow(() -> new EntityNotFoundException("Profissional", professionalId));
-        if (!professional.getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
 
         List<ProfessionalSchedule> schedules = professionalScheduleRepository.findByProfessionalId(professionalId);
 
@@ -11,7 +11,6 @@ import com.jettech.api.solutions_clinic.exception.ApiError;
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
 import com.jettech.api.solutions_clinic.exception.ScheduleValidationException;
-import com.jettech.api.solutions_clinic.exception.ForbiddenException;
 import com.jettech.api.solutions_clinic.security.TenantContext;
 
 @Service
@@ -24,11 +23,8 @@ public class DefaultUpdateProfessionalScheduleUseCase implements UpdateProfessio
     @Override
     @Transactional
     public ProfessionalScheduleResponse execute(UpdateProfessionalScheduleRequest request) throws AuthenticationFailedException {
-        ProfessionalSchedule schedule = professionalScheduleRepository.findById(request.id())
+        ProfessionalSchedule schedule = professionalScheduleRepository.findByIdAndProfessional_TenantId(request.id(), tenantContext.getRequiredClinicId())
                 .orElseThrow(() -> new EntityNotFoundException("Agenda", request.id()));
-        if (!schedule.getProfessional().getTenant().getId().equals(tenantContext.getRequiredClinicId())) {
-            throw new ForbiddenException();
-        }
         // Validar horários
         validateTimeRange(request.startTime(), request.endTime(), request.lunchBreakStart(), request.lunchBreakEnd());
 
@@ -11,13 +11,13 @@ import com.jettech.api.solutions_clinic.model.repository.UserRepository;
 import com.jettech.api.solutions_clinic.model.repository.UserTenantRoleRepository;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.jettech.api.solutions_clinic.exception.ApiError;
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.DuplicateEntityException;
+import com.jettech.api.solutions_clinic.security.PasswordHasher;
 import java.util.Arrays;
 
 @Service
@@ -27,11 +27,17 @@ public class DefaultSignUpClinicOwnerUseCase implements SignUpClinicOwnerUseCase
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
     private final UserTenantRoleRepository userTenantRoleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
     public SignUpResponse execute(SignUpClinicOwnerRequest request) throws AuthenticationFailedException {
+        // BCrypt antes da transação: o hash (e a fila do PasswordHasher) não prende conexão do pool
+        String encodedPassword = passwordHasher.encode(request.password());
+        return transactionTemplate.execute(status -> signUp(request, encodedPassword));
+    }
+
+    private SignUpResponse signUp(SignUpClinicOwnerRequest request, String encodedPassword) {
         // Validações
         validateEmailNotExists(request.email());
         validateCnpjNotExists(request.cnpj());
@@ -42,7 +48,7 @@ public class DefaultSignUpClinicOwnerUseCase implements SignUpClinicOwnerUseCase
         tenant = tenantRepository.save(tenant);
 
         // Criar User
-        User user = createUser(request);
+        User user = createUser(request, encodedPassword);
         user = userRepository.save(user);
 
         // Vincular User e Tenant com Role OWNER
@@ -90,7 +96,7 @@ public class DefaultSignUpClinicOwnerUseCase implements SignUpClinicOwnerUseCase
         return tenant;
     }
 
-    private User createUser(SignUpClinicOwnerRequest request) {
+    private User createUser(SignUpClinicOwnerRequest request, String encodedPassword) {
         User user = new User();
         
         // Usar o nome da clínica como nome do usuário
@@ -111,7 +117,7 @@ public class DefaultSignUpClinicOwnerUseCase implements SignUpClinicOwnerUseCase
         user.setFirstName(firstName);
         user.setLastName(lastName);
         user.setEmail(request.email().toLowerCase());
-        user.setPassword(passwordEncoder.encode(request.password()));
+        user.setPassword(encodedPassword);
         // Para clínica, birthDate não é obrigatório
         // Para clínica, o CPF pode não ser obrigatório, mas se necessário pode ser adicionado ao request
         return user;
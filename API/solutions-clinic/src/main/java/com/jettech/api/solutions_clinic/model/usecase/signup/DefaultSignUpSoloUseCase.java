@@ -11,13 +11,13 @@ import com.jettech.api.solutions_clinic.model.repository.UserRepository;
 import com.jettech.api.solutions_clinic.model.repository.UserTenantRoleRepository;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.jettech.api.solutions_clinic.exception.ApiError;
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import com.jettech.api.solutions_clinic.exception.DuplicateEntityException;
+import com.jettech.api.solutions_clinic.security.PasswordHasher;
 
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
@@ -26,11 +26,17 @@ public class DefaultSignUpSoloUseCase implements SignUpSoloUseCase {
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
     private final UserTenantRoleRepository userTenantRoleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
     public SignUpResponse execute(SignUpSoloRequest request) throws AuthenticationFailedException {
+        // BCrypt antes da transação: o hash (e a fila do PasswordHasher) não prende conexão do pool
+        String encodedPassword = passwordHasher.encode(request.password());
+        return transactionTemplate.execute(status -> signUp(request, encodedPassword));
+    }
+
+    private SignUpResponse signUp(SignUpSoloRequest request, String encodedPassword) {
         // Validações
         validateEmailNotExists(request.email());
         validateSubdomainNotExists(request.subdomain());
@@ -40,7 +46,7 @@ public class DefaultSignUpSoloUseCase implements SignUpSoloUseCase {
         tenant = tenantRepository.save(tenant);
 
         // Criar User
-        User user = createUser(request);
+        User user = createUser(request, encodedPassword);
         user = userRepository.save(user);
 
         // Vincular User e Tenant com Role OWNER
@@ -84,12 +90,12 @@ public class DefaultSignUpSoloUseCase implements SignUpSoloUseCase {
         return tenant;
     }
 
-    private User createUser(SignUpSoloRequest request) {
+    private User createUser(SignUpSoloRequest request, String encodedPassword) {
         User user = new User();
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
         user.setEmail(request.email().toLowerCase());
-        user.setPassword(passwordEncoder.encode(request.password()));
+        user.setPassword(encodedPassword);
         user.setBirthDate(request.birthDate());
         user.setCpf(request.cpf());
         return user;
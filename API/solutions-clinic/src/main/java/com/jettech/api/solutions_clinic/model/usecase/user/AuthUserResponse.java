@@ -1,4 +1,12 @@
 package com.jettech.api.solutions_clinic.model.usecase.user;
 
-public record AuthUserResponse(String access_token, Long expires_in) {
+import com.jettech.api.solutions_clinic.security.JwtTokenService;
+
+public record AuthUserResponse(String access_token, Long expires_in, String refresh_token, Long refresh_expires_in) {
+
+    public static AuthUserResponse from(JwtTokenService.IssuedTokens tokens) {
+        return new AuthUserResponse(
+                tokens.accessToken(), tokens.accessExpiresAt().toEpochMilli(),
+                tokens.refreshToken(), tokens.refreshExpiresAt().toEpochMilli());
+    }
 }
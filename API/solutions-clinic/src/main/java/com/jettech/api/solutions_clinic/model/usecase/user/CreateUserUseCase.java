@@ -5,4 +5,10 @@ import com.jettech.api.solutions_clinic.model.entity.User;
 import com.jettech.api.solutions_clinic.model.usecase.UseCase;
 
 public interface CreateUserUseCase extends UseCase<CreateUserRequest, User> {
+
+    /**
+     * Cria o usuário com a senha já codificada pelo PasswordHasher, na transação do chamador.
+     * Quem abre a própria transação codifica a senha antes dela, sem segurar conexão durante o BCrypt.
+     */
+    User execute(CreateUserRequest in, String encodedPassword);
 }
@@ -1,83 +1,88 @@
 package com.jettech.api.solutions_clinic.model.usecase.user;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.jettech.api.solutions_clinic.model.repository.UserMembership;
 import com.jettech.api.solutions_clinic.model.repository.UserRepository;
-import com.jettech.api.solutions_clinic.model.repository.UserTenantRoleRepository;
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import com.jettech.api.solutions_clinic.security.RefreshTokenStore;
+import com.jettech.api.solutions_clinic.security.LoginAttemptThrottle;
+import com.jettech.api.solutions_clinic.security.PasswordHasher;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
-import java.time.Duration;
-import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * Login por email/senha. O BCrypt roda fora de transação, no pool do PasswordHasher, para não
+ * segurar conexão do banco nem thread HTTP ocupando CPU; tentativas são limitadas por email
+ * antes do hashing. Hashes gerados com custo menor que o configurado são refeitos no login.
+ * Credenciais e vínculos com clínicas vêm de uma única consulta (UserRepository#findMembershipsByEmail).
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class DefaultAuthUserUseCase implements AuthUserUseCase {
 
 
     private final UserRepository userRepository;
-    private final UserTenantRoleRepository userTenantRoleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${security.token.secret}")
-    private String secretKey;
-
-    @Value("${security.jwt.issuer:solutions-clinic}")
-    private String issuer;
+    DefaultAuthUserUseCase(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            LoginAttemptThrottle loginAttemptThrottle,
+            RefreshTokenStore refreshTokenStore,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.loginAttemptThrottle = loginAttemptThrottle;
+        this.refreshTokenStore = refreshTokenStore;
+        this.transactionTemplate = transactionTemplate;
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public AuthUserResponse execute(AuthUserRequest authUserRequest) throws AuthenticationFailedException {
-        var user = this.userRepository.findByEmail(authUserRequest.email()).orElseThrow(() -> {
+        loginAttemptThrottle.checkEmail(authUserRequest.email());
+
+        List<UserMembership> memberships = this.userRepository.findMembershipsByEmail(authUserRequest.email());
+        if (memberships.isEmpty()) {
+            loginAttemptThrottle.recordEmailFailure(authUserRequest.email());
             throw new UsernameNotFoundException("Username/password invalido");
-        });
+        }
+        UUID userId = memberships.get(0).userId();
+        String passwordHash = memberships.get(0).password();
 
-        var passwordMatches = passwordEncoder.matches(authUserRequest.password(), user.getPassword());
+        var passwordMatches = passwordHasher.matches(authUserRequest.password(), passwordHash);
 
         if(!passwordMatches) {
+            loginAttemptThrottle.recordEmailFailure(authUserRequest.email());
             throw new AuthenticationFailedException();
         }
+        loginAttemptThrottle.resetEmail(authUserRequest.email());
 
-        // Buscar o tenantId ativo do usuário (preferir tenant ativo, senão o primeiro disponível)
-        var userTenantRoles = userTenantRoleRepository.findByUser_Id(user.getId());
-        UUID tenantId = null;
-        
-        if (!userTenantRoles.isEmpty()) {
-            // Tentar encontrar um tenant ativo primeiro
-            var activeTenantRole = userTenantRoles.stream()
-                    .filter(utr -> utr.getTenant().isActive())
-                    .findFirst();
-            
-            if (activeTenantRole.isPresent()) {
-                tenantId = activeTenantRole.get().getTenant().getId();
-            } else {
-                // Se não houver tenant ativo, usar o primeiro disponível
-                tenantId = userTenantRoles.get(0).getTenant().getId();
-            }
+        if (passwordHasher.needsRehash(passwordHash)) {
+            String rehashed = passwordHasher.encode(authUserRequest.password());
+            transactionTemplate.executeWithoutResult(status -> userRepository.updatePassword(userId, rehashed));
+            log.info("Hash de senha atualizado para o custo configurado - userId: {}", userId);
         }
 
-        var expiresIn = Instant.now().plus(Duration.ofDays(1));
-        Algorithm  algorithm = Algorithm.HMAC256(secretKey);
-        var tokenBuilder = JWT.create()
-                .withIssuer(issuer)
-                .withExpiresAt(expiresIn)
-                .withSubject(user.getId().toString());
-        
-        // Adicionar clinicId ao token se disponível
-        if (tenantId != null) {
-            tokenBuilder.withClaim("clinicId", tenantId.toString());
-        }
-        
-        var token = tokenBuilder.sign(algorithm);
-
-        return new AuthUserResponse(token, expiresIn.toEpochMilli());
+        UUID tenantId = resolveTenantId(memberships);
+        return AuthUserResponse.from(transactionTemplate.execute(status -> refreshTokenStore.issue(userId, tenantId)));
+    }
 
+    // Tenant da sessão: preferir um tenant ativo, senão o primeiro disponível
+    private UUID resolveTenantId(List<UserMembership> memberships) {
+        return memberships.stream()
+                .filter(UserMembership::hasTenant)
+                .filter(membership -> Boolean.TRUE.equals(membership.tenantActive()))
+                .findFirst()
+                .or(() -> memberships.stream().filter(UserMembership::hasTenant).findFirst())
+                .map(UserMembership::tenantId)
+                .orElse(null);
     }
 }
@@ -10,11 +10,12 @@ import com.jettech.api.solutions_clinic.model.repository.UserTenantRoleRepositor
 import com.jettech.api.solutions_clinic.exception.ApiError;
 import com.jettech.api.solutions_clinic.exception.DuplicateEntityException;
 import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.security.PasswordHasher;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
@@ -23,11 +24,19 @@ public class DefaultCreateUserUseCase implements CreateUserUseCase {
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
     private final UserTenantRoleRepository userTenantRoleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
     public User execute(CreateUserRequest in) {
+        // BCrypt antes da transação: o hash (e a fila do PasswordHasher) não prende conexão do pool
+        String encodedPassword = passwordHasher.encode(in.password());
+        return transactionTemplate.execute(status -> execute(in, encodedPassword));
+    }
+
+    @Override
+    @Transactional
+    public User execute(CreateUserRequest in, String encodedPassword) {
         // Validar email duplicado
         userRepository
                 .findByEmail(in.email())
@@ -44,13 +53,11 @@ public class DefaultCreateUserUseCase implements CreateUserUseCase {
                     });
         }
 
-        var password = this.passwordEncoder.encode(in.password());
-
         final User user = new User();
         user.setFirstName(in.firstName());
         user.setLastName(in.lastName());
         user.setEmail(in.email());
-        user.setPassword(password);
+        user.setPassword(encodedPassword);
         
         // Campos opcionais
         if (in.phone() != null && !in.phone().trim().isEmpty()) {
@@ -0,0 +1,55 @@
+package com.jettech.api.solutions_clinic.model.usecase.user;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.jettech.api.solutions_clinic.model.repository.UserMembership;
+import com.jettech.api.solutions_clinic.model.repository.UserRepository;
+import com.jettech.api.solutions_clinic.security.JwtTokenService;
+import com.jettech.api.solutions_clinic.security.RefreshTokenStore;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultRefreshTokenUseCase implements RefreshTokenUseCase {
+
+    private final UserRepository userRepository;
+    private final JwtTokenService jwtTokenService;
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Override
+    // Sem readOnly: a troca grava o token novo e, no reuso, a revogação da família
+    @Transactional
+    public AuthUserResponse execute(RefreshTokenRequest request) throws AuthenticationFailedException {
+        DecodedJWT refreshToken;
+        UUID userId;
+        UUID clinicId;
+        try {
+            refreshToken = jwtTokenService.verifyRefreshToken(request.refreshToken());
+            if (refreshToken.getSubject() == null) {
+                throw new AuthenticationFailedException();
+            }
+            userId = UUID.fromString(refreshToken.getSubject());
+            String clinicClaim = refreshToken.getClaim(JwtTokenService.CLINIC_ID_CLAIM).asString();
+            clinicId = clinicClaim != null ? UUID.fromString(clinicClaim) : null;
+        } catch (JWTVerificationException | IllegalArgumentException e) {
+            throw new AuthenticationFailedException();
+        }
+
+        List<UserMembership> memberships = userRepository.findMembershipsByUserId(userId);
+        if (memberships.isEmpty()) {
+            throw new AuthenticationFailedException();
+        }
+        if (clinicId != null && memberships.stream().noneMatch(membership -> membership.isActiveIn(clinicId))) {
+            throw new AuthenticationFailedException();
+        }
+
+        return AuthUserResponse.from(refreshTokenStore.rotate(refreshToken, userId, clinicId));
+    }
+}
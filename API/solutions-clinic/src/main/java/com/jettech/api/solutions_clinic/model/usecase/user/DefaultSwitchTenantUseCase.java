@@ -1,13 +1,10 @@
 package com.jettech.api.solutions_clinic.model.usecase.user;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.jettech.api.solutions_clinic.model.entity.UserTenantRole;
+import com.jettech.api.solutions_clinic.model.repository.UserMembership;
 import com.jettech.api.solutions_clinic.model.repository.UserRepository;
-import com.jettech.api.solutions_clinic.model.repository.UserTenantRoleRepository;
+import com.jettech.api.solutions_clinic.security.RefreshTokenStore;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -15,8 +12,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
-import java.time.Duration;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,46 +20,24 @@ import java.util.UUID;
 public class DefaultSwitchTenantUseCase implements SwitchTenantUseCase {
 
     private final UserRepository userRepository;
-    private final UserTenantRoleRepository userTenantRoleRepository;
-
-    @Value("${security.token.secret}")
-    private String secretKey;
-
-    @Value("${security.jwt.issuer:solutions-clinic}")
-    private String issuer;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public AuthUserResponse execute(SwitchTenantRequest request) throws AuthenticationFailedException {
         UUID userId = getUserIdFromContext();
         if (userId == null) {
             throw new AuthenticationFailedException();
         }
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new AuthenticationFailedException());
-
-        List<UserTenantRole> userTenantRoles = userTenantRoleRepository.findByUser_IdAndTenant_Id(userId, request.tenantId());
-        if (userTenantRoles.isEmpty()) {
-            throw new AuthenticationFailedException();
-        }
-
-        UserTenantRole selected = userTenantRoles.get(0);
-        if (!selected.getTenant().isActive()) {
+        // Usuário inexistente não tem vínculos: a lista vem vazia
+        List<UserMembership> memberships = userRepository.findMembershipsByUserId(userId);
+        boolean activeInTenant = memberships.stream().anyMatch(membership -> membership.isActiveIn(request.tenantId()));
+        if (!activeInTenant) {
             throw new AuthenticationFailedException();
         }
 
-        var expiresIn = Instant.now().plus(Duration.ofDays(1));
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        var tokenBuilder = JWT.create()
-                .withIssuer(issuer)
-                .withExpiresAt(expiresIn)
-                .withSubject(userId.toString())
-                .withClaim("clinicId", request.tenantId().toString());
-
-        var token = tokenBuilder.sign(algorithm);
-
-        return new AuthUserResponse(token, expiresIn.toEpochMilli());
+        return AuthUserResponse.from(refreshTokenStore.issue(userId, request.tenantId()));
     }
 
     private UUID getUserIdFromContext() {
@@ -2,6 +2,7 @@ package com.jettech.api.solutions_clinic.model.usecase.user;
 
 import com.jettech.api.solutions_clinic.model.entity.User;
 import com.jettech.api.solutions_clinic.model.repository.UserRepository;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.CalendarEntryProjector;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
 public class DefaultUpdateUserUseCase implements UpdateUserUseCase {
 
     private final UserRepository userRepository;
+    private final CalendarEntryProjector calendarEntryProjector;
 
     @Override
     @Transactional
@@ -65,6 +67,11 @@ public class DefaultUpdateUserUseCase implements UpdateUserUseCase {
 
         User savedUser = userRepository.save(user);
 
+        // Mantém o nome do profissional atualizado na agenda desnormalizada
+        if (request.firstName() != null || request.lastName() != null) {
+            calendarEntryProjector.renameProfessionalUser(savedUser);
+        }
+
         return new UserResponse(
                 savedUser.getId(),
                 savedUser.getFirstName(),
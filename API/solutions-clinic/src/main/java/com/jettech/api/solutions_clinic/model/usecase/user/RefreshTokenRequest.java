@@ -0,0 +1,6 @@
+package com.jettech.api.solutions_clinic.model.usecase.user;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(@NotBlank(message = "O refresh token é obrigatório") String refreshToken) {
+}
@@ -0,0 +1,10 @@
+package com.jettech.api.solutions_clinic.model.usecase.user;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+/**
+ * Troca um refresh token válido por um novo par access/refresh token, mantendo a clínica do token.
+ * O vínculo do usuário com a clínica é conferido de novo a cada renovação.
+ */
+public interface RefreshTokenUseCase extends UseCase<RefreshTokenRequest, AuthUserResponse> {
+}
@@ -0,0 +1,8 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.model.usecase.UnitUseCase;
+
+import java.util.UUID;
+
+public interface CancelWaitlistEntryUseCase extends UnitUseCase<UUID> {
+}
@@ -0,0 +1,30 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record CreateWaitlistEntryRequest(
+    @NotNull(message = "O campo [patientId] é obrigatório")
+    UUID patientId,
+
+    @NotNull(message = "O campo [professionalId] é obrigatório")
+    UUID professionalId,
+
+    @NotNull(message = "O campo [earliestDate] é obrigatório")
+    LocalDate earliestDate,
+
+    @NotNull(message = "O campo [latestDate] é obrigatório")
+    LocalDate latestDate,
+
+    @Min(value = 15, message = "O campo [durationMinutes] deve ser no mínimo 15 minutos")
+    int durationMinutes,
+
+    String observations,
+
+    @NotNull(message = "O campo [createdBy] é obrigatório")
+    UUID createdBy
+) {
+}
@@ -0,0 +1,6 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+public interface CreateWaitlistEntryUseCase extends UseCase<CreateWaitlistEntryRequest, WaitlistEntryResponse> {
+}
@@ -0,0 +1,35 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.exception.InvalidStateException;
+import com.jettech.api.solutions_clinic.model.entity.WaitlistEntry;
+import com.jettech.api.solutions_clinic.model.entity.WaitlistStatus;
+import com.jettech.api.solutions_clinic.model.repository.WaitlistEntryRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultCancelWaitlistEntryUseCase implements CancelWaitlistEntryUseCase {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    @Override
+    @Transactional
+    public void execute(UUID id) throws AuthenticationFailedException {
+        WaitlistEntry entry = waitlistEntryRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Entrada da lista de espera", id));
+        // Depois do encaixe o horário é gerido pelo agendamento criado
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            throw new InvalidStateException(ApiError.INVALID_STATE);
+        }
+        entry.setStatus(WaitlistStatus.CANCELLED);
+        waitlistEntryRepository.save(entry);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import com.jettech.api.solutions_clinic.model.entity.WaitlistEntry;
+import com.jettech.api.solutions_clinic.model.repository.PatientRepository;
+import com.jettech.api.solutions_clinic.model.repository.ProfessionalRepository;
+import com.jettech.api.solutions_clinic.model.repository.UserRepository;
+import com.jettech.api.solutions_clinic.model.repository.WaitlistEntryRepository;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultCreateWaitlistEntryUseCase implements CreateWaitlistEntryUseCase {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final PatientRepository patientRepository;
+    private final ProfessionalRepository professionalRepository;
+    private final UserRepository userRepository;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional
+    public WaitlistEntryResponse execute(CreateWaitlistEntryRequest request) throws AuthenticationFailedException {
+        UUID tenantId = tenantContext.getRequiredClinicId();
+
+        if (request.latestDate().isBefore(request.earliestDate())
+                || request.latestDate().isBefore(LocalDate.now())) {
+            throw new InvalidRequestException(ApiError.INVALID_DATE_RANGE);
+        }
+        if (!patientRepository.existsByIdAndTenantId(request.patientId(), tenantId)) {
+            throw new EntityNotFoundException("Paciente", request.patientId());
+        }
+        professionalRepository.findByIdAndTenantId(request.professionalId(), tenantId)
+                .orElseThrow(() -> new EntityNotFoundException("Profissional", request.professionalId()));
+        if (!userRepository.existsById(request.createdBy())) {
+            throw new EntityNotFoundException("Usuário", request.createdBy());
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setTenantId(tenantId);
+        entry.setPatientId(request.patientId());
+        entry.setProfessionalId(request.professionalId());
+        entry.setEarliestDate(request.earliestDate());
+        entry.setLatestDate(request.latestDate());
+        entry.setDurationMinutes(request.durationMinutes());
+        entry.setObservations(request.observations());
+        entry.setCreatedBy(request.createdBy());
+
+        return WaitlistEntryResponse.of(waitlistEntryRepository.save(entry));
+    }
+}
@@ -0,0 +1,32 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.model.repository.WaitlistEntryRepository;
+import com.jettech.api.solutions_clinic.security.TenantContext;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Lista de espera da clínica na ordem em que os candidatos recebem os horários liberados.
+ */
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DefaultGetWaitlistUseCase implements GetWaitlistUseCase {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final TenantContext tenantContext;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WaitlistEntryResponse> execute(GetWaitlistRequest request) throws AuthenticationFailedException {
+        tenantContext.requireSameTenant(request.tenantId());
+        return waitlistEntryRepository.findByTenant(request.tenantId(), request.professionalId(), request.status())
+                .stream()
+                .map(WaitlistEntryResponse::of)
+                .toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Horário liberado pelo cancelamento de um agendamento. patientId é o paciente que cancelou,
+ * que não recebe o próprio horário de volta.
+ */
+record FreedSlot(
+        UUID tenantId,
+        UUID professionalId,
+        UUID patientId,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt
+) {
+}
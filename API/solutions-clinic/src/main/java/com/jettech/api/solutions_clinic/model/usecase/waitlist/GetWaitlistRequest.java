@@ -0,0 +1,12 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.model.entity.WaitlistStatus;
+
+import java.util.UUID;
+
+public record GetWaitlistRequest(
+    UUID tenantId,
+    UUID professionalId, // null = todos os profissionais
+    WaitlistStatus status // null = todos os status
+) {
+}
@@ -0,0 +1,8 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.model.usecase.UseCase;
+
+import java.util.List;
+
+public interface GetWaitlistUseCase extends UseCase<GetWaitlistRequest, List<WaitlistEntryResponse>> {
+}
@@ -0,0 +1,151 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.model.entity.WaitlistFreedSlot;
+import com.jettech.api.solutions_clinic.model.repository.WaitlistFreedSlotRepository;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChange;
+import com.jettech.api.solutions_clinic.model.service.calendarfeed.CalendarChangeType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reaproveita horários cancelados: cada cancelamento de agendamento futuro (exclusão, transição
+ * CANCEL individual ou em lote) grava o horário em waitlist_freed_slots na própria transação, e
+ * o WaitlistSlotMatcher o encaixa depois, um horário por transação. A fila é consumida logo após
+ * o commit, em uma thread fora da requisição, e periodicamente pelo WaitlistBackfillJob (horários
+ * de outras instâncias, de antes de um restart ou que falharam); entre consumidores a reserva com
+ * SKIP LOCKED evita processar o mesmo horário duas vezes.
+ */
+@Slf4j
+@Component
+public class WaitlistBackfiller {
+
+    private final WaitlistSlotMatcher waitlistSlotMatcher;
+    private final WaitlistFreedSlotRepository waitlistFreedSlotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final int maxSlotsPerRun;
+    private final ThreadPoolExecutor executor;
+
+    WaitlistBackfiller(
+            WaitlistSlotMatcher waitlistSlotMatcher,
+            WaitlistFreedSlotRepository waitlistFreedSlotRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.waitlist.max-attempts:3}") int maxAttempts,
+            @Value("${app.waitlist.max-slots-per-run:200}") int maxSlotsPerRun
+    ) {
+        this.waitlistSlotMatcher = waitlistSlotMatcher;
+        this.waitlistFreedSlotRepository = waitlistFreedSlotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.maxSlotsPerRun = Math.max(1, maxSlotsPerRun);
+        // Uma rodada em andamento e no máximo uma pendente: ela já encontra na fila os horários
+        // dos cancelamentos que chegarem enquanto espera, então os avisos extras são descartados
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(1),
+                Thread.ofPlatform().name("waitlist-backfill-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCalendarChange(CalendarChange change) {
+        if (!freesSlot(change)) {
+            return;
+        }
+        WaitlistFreedSlot freed = new WaitlistFreedSlot();
+        freed.setTenantId(change.tenantId());
+        freed.setProfessionalId(change.professionalId());
+        freed.setPatientId(change.entry().patientId());
+        freed.setStartsAt(change.entry().startsAt());
+        freed.setEndsAt(change.entry().endsAt());
+        waitlistFreedSlotRepository.save(freed);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCalendarChangeCommitted(CalendarChange change) {
+        if (freesSlot(change)) {
+            executor.execute(this::drainQuietly);
+        }
+    }
+
+    /**
+     * Encaixa os horários da fila, do mais próximo para o mais distante, até esvaziá-la ou atingir
+     * max-slots-per-run. Retorna quantos viraram agendamento.
+     */
+    public long drain() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer discarded = transactionTemplate.execute(status ->
+                waitlistFreedSlotRepository.deleteFinished(now, maxAttempts));
+        if (discarded != null && discarded > 0) {
+            log.info("{} horários liberados descartados da fila da lista de espera (passados ou sem tentativas)", discarded);
+        }
+
+        long matched = 0;
+        for (int i = 0; i < maxSlotsPerRun; i++) {
+            WaitlistFreedSlot[] claimed = new WaitlistFreedSlot[1];
+            try {
+                Boolean held = transactionTemplate.execute(status -> {
+                    List<WaitlistFreedSlot> next = waitlistFreedSlotRepository.claimNext(LocalDateTime.now(), maxAttempts);
+                    if (next.isEmpty()) {
+                        return null;
+                    }
+                    claimed[0] = next.get(0);
+                    return waitlistSlotMatcher.backfill(toFreedSlot(claimed[0])) != null;
+                });
+                if (held == null) {
+                    break;
+                }
+                if (held) {
+                    matched++;
+                }
+            } catch (RuntimeException e) {
+                if (claimed[0] == null) {
+                    throw e;
+                }
+                // O rollback devolveu o horário à fila; a próxima rodada tenta de novo
+                log.error("Erro ao encaixar a lista de espera no horário {} do profissional {}",
+                        claimed[0].getStartsAt(), claimed[0].getProfessionalId(), e);
+                transactionTemplate.executeWithoutResult(status -> waitlistFreedSlotRepository.markFailed(claimed[0].getId()));
+                break;
+            }
+        }
+        return matched;
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Erro ao consumir a fila de horários liberados da lista de espera", e);
+        }
+    }
+
+    private static boolean freesSlot(CalendarChange change) {
+        return change.type() == CalendarChangeType.APPOINTMENT_CANCELLED && change.entry() != null
+                && change.startsAt().isAfter(LocalDateTime.now());
+    }
+
+    private static FreedSlot toFreedSlot(WaitlistFreedSlot slot) {
+        return new FreedSlot(slot.getTenantId(), slot.getProfessionalId(), slot.getPatientId(),
+                slot.getStartsAt(), slot.getEndsAt());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
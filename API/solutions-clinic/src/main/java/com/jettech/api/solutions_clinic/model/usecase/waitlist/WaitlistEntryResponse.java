@@ -0,0 +1,44 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.model.entity.WaitlistEntry;
+import com.jettech.api.solutions_clinic.model.entity.WaitlistStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record WaitlistEntryResponse(
+    UUID id,
+    UUID tenantId,
+    UUID patientId,
+    UUID professionalId,
+    LocalDate earliestDate,
+    LocalDate latestDate,
+    int durationMinutes,
+    String observations,
+    WaitlistStatus status,
+    UUID appointmentId,
+    LocalDateTime scheduledAt,
+    UUID createdBy,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    static WaitlistEntryResponse of(WaitlistEntry entry) {
+        return new WaitlistEntryResponse(
+                entry.getId(),
+                entry.getTenantId(),
+                entry.getPatientId(),
+                entry.getProfessionalId(),
+                entry.getEarliestDate(),
+                entry.getLatestDate(),
+                entry.getDurationMinutes(),
+                entry.getObservations(),
+                entry.getStatus(),
+                entry.getAppointmentId(),
+                entry.getScheduledAt(),
+                entry.getCreatedBy(),
+                entry.getCreatedAt(),
+                entry.getUpdatedAt());
+    }
+}
@@ -0,0 +1,126 @@
+package com.jettech.api.solutions_clinic.model.usecase.waitlist;
+
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.PaymentStatus;
+import com.jettech.api.solutions_clinic.model.entity.WaitlistEntry;
+import com.jettech.api.solutions_clinic.model.entity.WaitlistStatus;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import com.jettech.api.solutions_clinic.model.repository.PatientRepository;
+import com.jettech.api.solutions_clinic.model.repository.ProfessionalRepository;
+import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
+import com.jettech.api.solutions_clinic.model.repository.UserRepository;
+import com.jettech.api.solutions_clinic.model.repository.WaitlistEntryRepository;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.AvailableSlotCalculator;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.CalendarEntryProjector;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.ProfessionalDayLock;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encaixa um candidato da lista de espera em um horário liberado. Os candidatos vêm travados e em
+ * ordem de prioridade (ver WaitlistEntryRepository.lockCandidates); o primeiro que couber em um
+ * horário livre sobreposto ao liberado (mesmo cálculo da consulta de horários disponíveis, uma vez
+ * por duração) recebe um agendamento AGENDADO no horário livre mais próximo do liberado.
+ * Tudo sob a trava do dia do profissional (ProfessionalDayLock), a mesma da criação/edição de
+ * agendamentos: nenhum deles grava no horário entre o cálculo dos livres e o INSERT do encaixe.
+ * Deve ser chamado dentro de uma transação.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class WaitlistSlotMatcher {
+
+    private static final int MAX_CANDIDATES = 20;
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final AvailableSlotCalculator availableSlotCalculator;
+    private final AppointmentRepository appointmentRepository;
+    private final TenantRepository tenantRepository;
+    private final PatientRepository patientRepository;
+    private final ProfessionalRepository professionalRepository;
+    private final UserRepository userRepository;
+    private final CalendarEntryProjector calendarEntryProjector;
+    private final ProfessionalDayLock professionalDayLock;
+
+    /** Retorna o agendamento criado, ou null se nenhum candidato couber. */
+    Appointment backfill(FreedSlot freed) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate date = freed.startsAt().toLocalDate();
+        professionalDayLock.lock(freed.professionalId(), date);
+        List<WaitlistEntry> candidates = waitlistEntryRepository.lockCandidates(
+                freed.tenantId(), freed.professionalId(), date, freed.patientId(), MAX_CANDIDATES);
+
+        Map<Integer, List<LocalTime>> freeSlotsByDuration = new HashMap<>();
+        for (WaitlistEntry candidate : candidates) {
+            List<LocalTime> freeSlots = freeSlotsByDuration.computeIfAbsent(candidate.getDurationMinutes(),
+                    duration -> availableSlotCalculator.freeSlots(freed.professionalId(), date, duration));
+            LocalDateTime start = closestSlot(freeSlots, date, candidate.getDurationMinutes(), freed, now);
+            if (start != null) {
+                return hold(candidate, start);
+            }
+        }
+        return null;
+    }
+
+    private Appointment hold(WaitlistEntry entry, LocalDateTime start) {
+        Appointment appointment = new Appointment();
+        appointment.setTenant(tenantRepository.getReferenceById(entry.getTenantId()));
+        appointment.setPatient(patientRepository.getReferenceById(entry.getPatientId()));
+        appointment.setProfessional(professionalRepository.getReferenceById(entry.getProfessionalId()));
+        appointment.setScheduledAt(start);
+        appointment.setDurationMinutes(entry.getDurationMinutes());
+        appointment.setStatus(AppointmentStatus.AGENDADO);
+        appointment.setObservations(entry.getObservations() != null
+                ? "Encaixe da lista de espera. " + entry.getObservations()
+                : "Encaixe da lista de espera.");
+        appointment.setTotalValue(BigDecimal.ZERO);
+        appointment.setPaymentStatus(PaymentStatus.PENDENTE);
+        appointment.setCreatedBy(userRepository.getReferenceById(entry.getCreatedBy()));
+
+        appointment = appointmentRepository.save(appointment);
+        calendarEntryProjector.project(appointment);
+
+        entry.setStatus(WaitlistStatus.SCHEDULED);
+        entry.setAppointmentId(appointment.getId());
+        entry.setScheduledAt(start);
+        waitlistEntryRepository.save(entry);
+
+        log.info("Horário liberado encaixado da lista de espera - waitlistEntryId: {}, appointmentId: {}, profissional: {}, horário: {}",
+                entry.getId(), appointment.getId(), entry.getProfessionalId(), start);
+        return appointment;
+    }
+
+    /**
+     * Horário livre, ainda no futuro, que se sobrepõe ao liberado e começa mais perto dele.
+     */
+    private static LocalDateTime closestSlot(List<LocalTime> freeSlots, LocalDate date, int durationMinutes,
+                                             FreedSlot freed, LocalDateTime now) {
+        LocalDateTime best = null;
+        long bestDistance = Long.MAX_VALUE;
+        for (LocalTime time : freeSlots) {
+            LocalDateTime start = date.atTime(time);
+            LocalDateTime end = start.plusMinutes(durationMinutes);
+            if (!start.isAfter(now) || !start.isBefore(freed.endsAt()) || !end.isAfter(freed.startsAt())) {
+                continue;
+            }
+            long distance = Math.abs(Duration.between(freed.startsAt(), start).toMinutes());
+            if (distance < bestDistance) {
+                best = start;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,111 @@
+package com.jettech.api.solutions_clinic.security;
+
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Cache de tokens já verificados, indexado pelo SHA-256 do token: o mesmo access token chega
+ * em várias requisições seguidas e não precisa ser verificado/validado de novo a cada uma.
+ * Cada entrada vale até o menor entre a expiração do token e o TTL do cache; tokens rejeitados
+ * não são guardados. Ao atingir o limite, as entradas vencidas são removidas e, se ainda
+ * estiver cheio, o cache é esvaziado.
+ * <p>
+ * Tokens com sessão (claim `sid`, ver JwtTokenService) são recusados quando a sessão foi revogada.
+ * A consulta é feita a cada verificação, ou seja, uma vez por token a cada TTL do cache; a
+ * instância que revoga descarta as entradas da sessão no commit ({@link SessionRevokedEvent}) e
+ * as demais deixam de aceitar o token quando a entrada vence.
+ */
+class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Predicate<UUID> sessionRevoked;
+    private final Map<String, CachedJwt> cache = new ConcurrentHashMap<>();
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxEntries, Duration ttl, Predicate<UUID> sessionRevoked) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.sessionRevoked = sessionRevoked;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (maxEntries <= 0) {
+            return checkSession(delegate.decode(token));
+        }
+
+        String key = sha256(token);
+        Instant now = Instant.now();
+        CachedJwt cached = cache.get(key);
+        if (cached != null && cached.validUntil().isAfter(now)) {
+            return cached.jwt();
+        }
+
+        Jwt jwt = checkSession(delegate.decode(token));
+        Instant validUntil = now.plus(ttl);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(validUntil)) {
+            validUntil = jwt.getExpiresAt();
+        }
+
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> !entry.validUntil().isAfter(now));
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(key, new CachedJwt(jwt, validUntil));
+        return jwt;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onSessionRevoked(SessionRevokedEvent event) {
+        String sessionId = event.sessionId().toString();
+        cache.values().removeIf(entry -> sessionId.equals(entry.jwt().getClaimAsString(JwtTokenService.SESSION_ID_CLAIM)));
+    }
+
+    private Jwt checkSession(Jwt jwt) {
+        String sessionId = jwt.getClaimAsString(JwtTokenService.SESSION_ID_CLAIM);
+        if (sessionId == null) {
+            return jwt;
+        }
+        UUID session;
+        try {
+            session = UUID.fromString(sessionId);
+        } catch (IllegalArgumentException e) {
+            throw new BadJwtException("Sessão inválida no token", e);
+        }
+        if (sessionRevoked.test(session)) {
+            throw new BadJwtException("Sessão revogada");
+        }
+        return jwt;
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private record CachedJwt(Jwt jwt, Instant validUntil) {
+    }
+}
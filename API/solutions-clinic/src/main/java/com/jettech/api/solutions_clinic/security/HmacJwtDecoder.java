@@ -0,0 +1,75 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JwtDecoder dos tokens emitidos pela própria aplicação: verifica com os verificadores já montados
+ * no JwtTokenService (escolhidos pelo `kid`) em vez de um Nimbus decoder com chave única.
+ * Refresh tokens não são aceitos como access token.
+ */
+class HmacJwtDecoder implements JwtDecoder {
+
+    private final JwtTokenService jwtTokenService;
+    private final OAuth2TokenValidator<Jwt> validator;
+    private final MappedJwtClaimSetConverter claimSetConverter = MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
+
+    HmacJwtDecoder(JwtTokenService jwtTokenService, OAuth2TokenValidator<Jwt> validator) {
+        this.jwtTokenService = jwtTokenService;
+        this.validator = validator;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        DecodedJWT decoded;
+        try {
+            decoded = jwtTokenService.verify(token);
+        } catch (JWTVerificationException e) {
+            throw new BadJwtException("Token JWT inválido: " + e.getMessage(), e);
+        }
+        if (JwtTokenService.isRefreshToken(decoded)) {
+            throw new BadJwtException("Refresh token não pode ser usado como access token");
+        }
+
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put("alg", decoded.getAlgorithm());
+        if (decoded.getType() != null) {
+            headers.put("typ", decoded.getType());
+        }
+        if (decoded.getKeyId() != null) {
+            headers.put("kid", decoded.getKeyId());
+        }
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        for (Map.Entry<String, Claim> claim : decoded.getClaims().entrySet()) {
+            if (!claim.getValue().isNull() && !claim.getValue().isMissing()) {
+                claims.put(claim.getKey(), claim.getValue().as(Object.class));
+            }
+        }
+
+        Jwt jwt = Jwt.withTokenValue(token)
+                .headers(h -> h.putAll(headers))
+                .claims(c -> c.putAll(claimSetConverter.convert(claims)))
+                .build();
+
+        OAuth2TokenValidatorResult result = validator.validate(jwt);
+        if (result.hasErrors()) {
+            String description = result.getErrors().iterator().next().getDescription();
+            throw new JwtValidationException("Token JWT inválido: " + description, result.getErrors());
+        }
+        return jwt;
+    }
+}
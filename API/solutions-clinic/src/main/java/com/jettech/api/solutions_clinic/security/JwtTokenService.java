@@ -0,0 +1,153 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Emissão e verificação dos JWTs (HS256) da aplicação. Os Algorithm/JWTVerifier são montados uma
+ * vez na inicialização, um por chave; o header `kid` indica com qual chave o token foi assinado.
+ * Para rotacionar: a chave nova vira `security.token.secret`/`key-id` e a antiga passa para
+ * `previous-keys`, continuando aceita na verificação até os tokens emitidos com ela expirarem.
+ * A validade do access token é configurável; o refresh token (claim token_use=refresh) só serve
+ * para /v1/auth/refresh, e o `jti` dele é registrado e rotacionado pelo {@link RefreshTokenStore}.
+ * O access token leva em `sid` a família do refresh token (a sessão), para ser recusado quando
+ * ela é revogada (ver {@link CachingJwtDecoder}).
+ */
+@Component
+public class JwtTokenService {
+
+    public static final String CLINIC_ID_CLAIM = "clinicId";
+    public static final String TOKEN_USE_CLAIM = "token_use";
+    public static final String SESSION_ID_CLAIM = "sid";
+    public static final String REFRESH_TOKEN_USE = "refresh";
+
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    private final String issuer;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+    private final SigningKey currentKey;
+    private final Map<String, SigningKey> keysById;
+
+    JwtTokenService(
+            @Value("${security.token.secret}") String secret,
+            @Value("${security.token.key-id:default}") String keyId,
+            @Value("${security.token.previous-keys:}") String previousKeys,
+            @Value("${security.token.access-ttl-minutes:1440}") long accessTtlMinutes,
+            @Value("${security.token.refresh-ttl-days:30}") long refreshTtlDays,
+            @Value("${security.jwt.issuer:solutions-clinic}") String issuer
+    ) {
+        this.issuer = issuer;
+        this.accessTokenTtl = Duration.ofMinutes(accessTtlMinutes);
+        this.refreshTokenTtl = Duration.ofDays(refreshTtlDays);
+        this.currentKey = signingKey(keyId, secret);
+        this.keysById = new LinkedHashMap<>();
+        keysById.put(currentKey.id(), currentKey);
+
+        // Formato: kid:segredo separados por vírgula
+        for (String entry : StringUtils.commaDelimitedListToStringArray(previousKeys)) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("Entrada inválida em `security.token.previous-keys`; use kid:segredo.");
+            }
+            SigningKey previous = signingKey(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+            keysById.putIfAbsent(previous.id(), previous);
+        }
+    }
+
+    public IssuedTokens issue(UUID userId, UUID clinicId, UUID sessionId) {
+        Instant now = Instant.now();
+        Instant accessExpiresAt = now.plus(accessTokenTtl);
+        Instant refreshExpiresAt = now.plus(refreshTokenTtl);
+        UUID refreshTokenId = UUID.randomUUID();
+
+        var access = JWT.create()
+                .withKeyId(currentKey.id())
+                .withIssuer(issuer)
+                .withIssuedAt(now)
+                .withExpiresAt(accessExpiresAt)
+                .withSubject(userId.toString())
+                .withClaim(SESSION_ID_CLAIM, sessionId.toString());
+        var refresh = JWT.create()
+                .withKeyId(currentKey.id())
+                .withIssuer(issuer)
+                .withIssuedAt(now)
+                .withExpiresAt(refreshExpiresAt)
+                .withJWTId(refreshTokenId.toString())
+                .withSubject(userId.toString())
+                .withClaim(TOKEN_USE_CLAIM, REFRESH_TOKEN_USE);
+
+        if (clinicId != null) {
+            access.withClaim(CLINIC_ID_CLAIM, clinicId.toString());
+            refresh.withClaim(CLINIC_ID_CLAIM, clinicId.toString());
+        }
+
+        return new IssuedTokens(
+                access.sign(currentKey.algorithm()), accessExpiresAt,
+                refresh.sign(currentKey.algorithm()), refreshExpiresAt, refreshTokenId);
+    }
+
+    /**
+     * Verifica assinatura, issuer e expiração com a chave indicada pelo `kid`.
+     * Tokens sem `kid` (emitidos antes da rotação existir) usam a chave atual.
+     */
+    public DecodedJWT verify(String token) throws JWTVerificationException {
+        String keyId = JWT.decode(token).getKeyId();
+        SigningKey key = keyId != null ? keysById.get(keyId) : currentKey;
+        if (key == null) {
+            throw new JWTDecodeException("Chave de assinatura desconhecida: " + keyId);
+        }
+        return key.verifier().verify(token);
+    }
+
+    public DecodedJWT verifyRefreshToken(String token) throws JWTVerificationException {
+        DecodedJWT decoded = verify(token);
+        if (!isRefreshToken(decoded)) {
+            throw new JWTDecodeException("O token informado não é um refresh token");
+        }
+        return decoded;
+    }
+
+    public static boolean isRefreshToken(DecodedJWT decoded) {
+        return REFRESH_TOKEN_USE.equals(decoded.getClaim(TOKEN_USE_CLAIM).asString());
+    }
+
+    private SigningKey signingKey(String keyId, String secret) {
+        if (!StringUtils.hasText(keyId)) {
+            throw new IllegalStateException("O `kid` das chaves de assinatura JWT não pode ser vazio.");
+        }
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalStateException("Defina `security.token.secret` (HS256) para emitir tokens JWT.");
+        }
+        // Valida que o secret tem pelo menos 256 bits (32 caracteres)
+        if (secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException(
+                    "O segredo da chave JWT `" + keyId + "` deve ter pelo menos 32 caracteres (256 bits) para HS256. " +
+                    "Tamanho atual: " + secret.length() + " caracteres."
+            );
+        }
+        Algorithm algorithm = Algorithm.HMAC256(secret);
+        JWTVerifier verifier = JWT.require(algorithm).withIssuer(issuer).build();
+        return new SigningKey(keyId, algorithm, verifier);
+    }
+
+    private record SigningKey(String id, Algorithm algorithm, JWTVerifier verifier) {
+    }
+
+    public record IssuedTokens(String accessToken, Instant accessExpiresAt,
+                               String refreshToken, Instant refreshExpiresAt, UUID refreshTokenId) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Limita tentativas de login com falha por email e por IP numa janela fixa.
+ * Bloqueia antes do BCrypt, então uma rajada de senhas erradas não consome CPU.
+ * Os contadores ficam em memória por instância.
+ */
+@Component
+public class LoginAttemptThrottle {
+
+    private final ConcurrentMap<String, Window> failures = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+
+    LoginAttemptThrottle(
+            @Value("${security.login-throttle.window-seconds:900}") long windowSeconds,
+            @Value("${security.login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+            @Value("${security.login-throttle.max-failures-per-ip:50}") int maxFailuresPerIp
+    ) {
+        this.windowMillis = Duration.ofSeconds(windowSeconds).toMillis();
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+    }
+
+    public void checkEmail(String email) {
+        check(emailKey(email), maxFailuresPerEmail);
+    }
+
+    public void checkIp(String ip) {
+        check(ipKey(ip), maxFailuresPerIp);
+    }
+
+    public void recordEmailFailure(String email) {
+        record(emailKey(email));
+    }
+
+    public void recordIpFailure(String ip) {
+        record(ipKey(ip));
+    }
+
+    public void resetEmail(String email) {
+        failures.remove(emailKey(email));
+    }
+
+    private void check(String key, int maxFailures) {
+        Window window = failures.get(key);
+        long now = System.currentTimeMillis();
+        if (window != null && !window.expired(now, windowMillis) && window.count >= maxFailures) {
+            long retryAfterSeconds = Math.max(1, (window.startedAt + windowMillis - now) / 1000);
+            throw new TooManyRequestsException(ApiError.LOGIN_ATTEMPTS_EXCEEDED, retryAfterSeconds, retryAfterSeconds);
+        }
+    }
+
+    private void record(String key) {
+        long now = System.currentTimeMillis();
+        failures.compute(key, (k, window) -> window == null || window.expired(now, windowMillis)
+                ? new Window(now, 1)
+                : new Window(window.startedAt, window.count + 1));
+    }
+
+    // Descarta janelas vencidas para o mapa não crescer com emails/IPs que não voltaram
+    @Scheduled(fixedDelayString = "${security.login-throttle.cleanup-interval-ms:300000}")
+    void purgeExpired() {
+        long now = System.currentTimeMillis();
+        failures.values().removeIf(window -> window.expired(now, windowMillis));
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+
+    private record Window(long startedAt, int count) {
+        boolean expired(long now, long windowMillis) {
+            return now - startedAt >= windowMillis;
+        }
+    }
+}
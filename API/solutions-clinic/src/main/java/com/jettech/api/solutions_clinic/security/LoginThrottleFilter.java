@@ -0,0 +1,62 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.jettech.api.solutions_clinic.exception.TooManyRequestsException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/**
+ * Limite por IP do sign-in: IPs com falhas demais na janela recebem 429 antes de chegar ao
+ * use case (e ao BCrypt). Respostas 401 do sign-in contam como falha do IP.
+ * O limite por email fica no DefaultAuthUserUseCase.
+ * <p>
+ * O IP é o do cliente já resolvido a partir do X-Forwarded-For pelo servidor
+ * (server.forward-headers-strategy); sem isso todos os usuários atrás do proxy dividiriam um limite.
+ */
+@Component
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private static final String SIGN_IN_PATH = "/v1/auth/sign-in";
+
+    private final LoginAttemptThrottle loginAttemptThrottle;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    LoginThrottleFilter(
+            LoginAttemptThrottle loginAttemptThrottle,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver
+    ) {
+        this.loginAttemptThrottle = loginAttemptThrottle;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !SIGN_IN_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String ip = request.getRemoteAddr();
+        try {
+            loginAttemptThrottle.checkIp(ip);
+        } catch (TooManyRequestsException e) {
+            // Mesmo corpo e Retry-After das demais respostas de erro (GlobalExceptionHandler)
+            handlerExceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        chain.doFilter(request, response);
+
+        if (response.getStatus() == HttpServletResponse.SC_UNAUTHORIZED) {
+            loginAttemptThrottle.recordIpFailure(ip);
+        }
+    }
+}
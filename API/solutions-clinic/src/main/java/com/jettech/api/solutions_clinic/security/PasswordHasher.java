@@ -0,0 +1,128 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.jettech.api.solutions_clinic.exception.ApiError;
+import com.jettech.api.solutions_clinic.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executa o BCrypt (encode/matches) num pool dimensionado pelos núcleos e com fila limitada,
+ * para que uma rajada de logins não ocupe as threads HTTP nem a CPU inteira. Com a fila cheia
+ * (ou a espera acima do timeout) a requisição é recusada com 429 em vez de enfileirar sem limite.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private long lastReportedRefusals;
+
+    PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:200}") int queueCapacity,
+            @Value("${security.password.hashing.timeout-ms:5000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        // 0 = metade dos núcleos, deixando CPU para o restante da API
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /** Indica se o hash foi gerado com custo menor que o configurado e deve ser refeito. */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public Stats stats() {
+        return new Stats(
+                executor.getPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                executor.getQueue().remainingCapacity(),
+                executor.getCompletedTaskCount(),
+                rejected.get(),
+                timedOut.get());
+    }
+
+    // Registra a pressão do pool quando houve recusas desde o último relatório
+    @Scheduled(fixedDelayString = "${security.password.hashing.report-interval-ms:60000}")
+    void reportPressure() {
+        Stats stats = stats();
+        long refusals = stats.rejected() + stats.timedOut();
+        if (refusals > lastReportedRefusals) {
+            log.warn("Pool de hashing de senha sob pressão: {} recusas desde o último relatório - {}",
+                    refusals - lastReportedRefusals, stats);
+            lastReportedRefusals = refusals;
+        }
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            long total = rejected.incrementAndGet();
+            log.warn("Fila de hashing de senha cheia, requisição recusada - {} (recusadas: {})", stats(), total);
+            throw new TooManyRequestsException(ApiError.PASSWORD_HASHING_BUSY, 1);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            long total = timedOut.incrementAndGet();
+            log.warn("Hashing de senha excedeu {} ms na fila, requisição recusada - {} (timeouts: {})", timeoutMillis, stats(), total);
+            throw new TooManyRequestsException(ApiError.PASSWORD_HASHING_BUSY, 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing de senha interrompido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Erro no hashing de senha", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Métricas de pressão do pool de hashing (tamanho, ocupação da fila, recusas e timeouts). */
+    public record Stats(int poolSize, int active, int queued, int remainingCapacity,
+                        long completed, long rejected, long timedOut) {}
+}
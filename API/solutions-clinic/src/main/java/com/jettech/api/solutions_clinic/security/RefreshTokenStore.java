@@ -0,0 +1,88 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.model.entity.RefreshToken;
+import com.jettech.api.solutions_clinic.model.repository.RefreshTokenRepository;
+import com.jettech.api.solutions_clinic.security.JwtTokenService.IssuedTokens;
+import jakarta.persistence.EntityManager;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Registro dos refresh tokens emitidos. Cada token só pode ser trocado uma vez: a troca marca o jti
+ * como usado e emite um novo na mesma família (a cadeia que começa em um login ou troca de clínica).
+ * Reapresentar um token já usado indica que ele vazou; a família inteira é revogada e o usuário
+ * precisa entrar de novo; os access tokens da família deixam de ser aceitos (ver
+ * {@link SessionRevokedEvent}). Os métodos devem rodar dentro da transação do caso de uso.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class RefreshTokenStore {
+
+    private final JwtTokenService jwtTokenService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Emite tokens iniciando uma nova família. */
+    public IssuedTokens issue(UUID userId, UUID clinicId) {
+        return issue(userId, clinicId, UUID.randomUUID());
+    }
+
+    /**
+     * Troca o refresh token já verificado por um par novo da mesma família.
+     * Em caso de reuso a família é revogada antes da exceção; como AuthenticationFailedException é
+     * checada, a transação não é desfeita e a revogação é gravada.
+     */
+    public IssuedTokens rotate(DecodedJWT refreshToken, UUID userId, UUID clinicId) throws AuthenticationFailedException {
+        UUID jti;
+        try {
+            jti = UUID.fromString(refreshToken.getId());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new AuthenticationFailedException();
+        }
+
+        // Sem registro: emitido antes do controle de rotação ou já removido pela limpeza
+        RefreshToken stored = refreshTokenRepository.findById(jti).orElseThrow(AuthenticationFailedException::new);
+        if (!stored.getUserId().equals(userId)) {
+            throw new AuthenticationFailedException();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.markUsed(jti, now) == 0) {
+            // Já usado (inclusive por uma requisição concorrente): reuso. Revogado ou expirado: só recusa
+            if (stored.getUsedAt() != null || refreshTokenRepository.isUsed(jti)) {
+                int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId(), now);
+                log.warn("Reuso de refresh token detectado - userId: {}, família: {}, tokens revogados: {}",
+                        userId, stored.getFamilyId(), revoked);
+                eventPublisher.publishEvent(new SessionRevokedEvent(stored.getFamilyId()));
+            }
+            throw new AuthenticationFailedException();
+        }
+
+        return issue(userId, clinicId, stored.getFamilyId());
+    }
+
+    private IssuedTokens issue(UUID userId, UUID clinicId, UUID familyId) {
+        IssuedTokens tokens = jwtTokenService.issue(userId, clinicId, familyId);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setJti(tokens.refreshTokenId());
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setUserId(userId);
+        refreshToken.setIssuedAt(LocalDateTime.now());
+        refreshToken.setExpiresAt(LocalDateTime.ofInstant(tokens.refreshExpiresAt(), ZoneId.systemDefault()));
+        // persist direto: o jti já vem preenchido e o save() faria merge, com um SELECT antes do INSERT
+        entityManager.persist(refreshToken);
+        return tokens;
+    }
+}
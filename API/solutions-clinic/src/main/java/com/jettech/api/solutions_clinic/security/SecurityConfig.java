@@ -1,5 +1,7 @@
 package com.jettech.api.solutions_clinic.security;
 
+import com.jettech.api.solutions_clinic.config.replica.ReadConsistencyFilter;
+import com.jettech.api.solutions_clinic.model.repository.RefreshTokenRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,10 +16,8 @@ import org.springframework.security.oauth2.core.OAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
 import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -27,9 +27,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -51,6 +49,7 @@ public class SecurityConfig {
                     auth.requestMatchers("/users").permitAll()
                             .requestMatchers("/auth/**").permitAll()
                             .requestMatchers("/v1/auth/sign-in").permitAll()
+                            .requestMatchers("/v1/auth/refresh").permitAll()
                             .requestMatchers("/v1/auth/signup/**").permitAll()
                             .requestMatchers("/v1/subscriptions/webhook").permitAll()
                             .requestMatchers(
@@ -65,6 +64,7 @@ public class SecurityConfig {
                             // Para rotas permitidas, permite que a requisição continue sem autenticação
                             String path = request.getRequestURI();
                             if (path.equals("/v1/auth/sign-in") ||
+                                path.equals("/v1/auth/refresh") ||
                                 path.startsWith("/v1/auth/signup/") ||
                                 path.startsWith("/auth/") || 
                                 path.equals("/users") ||
@@ -83,34 +83,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Tipo concreto: o CachingJwtDecoder também escuta SessionRevokedEvent
     @Bean
-    JwtDecoder jwtDecoder(
+    CachingJwtDecoder jwtDecoder(
             @Value("${security.jwt.jwk-set-uri:}") String jwkSetUri,
             @Value("${security.jwt.issuer:}") String issuer,
             @Value("${security.jwt.audience:}") String audience,
-            @Value("${security.token.secret:}") String hmacSecret
+            @Value("${security.token.verified-cache.max-entries:10000}") int cacheMaxEntries,
+            @Value("${security.token.verified-cache.ttl-seconds:300}") long cacheTtlSeconds,
+            JwtTokenService jwtTokenService,
+            RefreshTokenRepository refreshTokenRepository
     ) {
-        NimbusJwtDecoder decoder;
-
-        if (StringUtils.hasText(jwkSetUri)) {
-            decoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
-        } else {
-            if (!StringUtils.hasText(hmacSecret)) {
-                throw new IllegalStateException("Defina `security.jwt.jwk-set-uri` (Auth0/OIDC) ou `security.token.secret` (HS256) para habilitar autenticação JWT.");
-            }
-            
-            // Valida que o secret tem pelo menos 256 bits (32 caracteres)
-            if (hmacSecret.length() < 32) {
-                throw new IllegalStateException(
-                    "O `security.token.secret` deve ter pelo menos 32 caracteres (256 bits) para HS256. " +
-                    "Tamanho atual: " + hmacSecret.length() + " caracteres."
-                );
-            }
-            
-            SecretKey secretKey = new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            decoder = NimbusJwtDecoder.withSecretKey(secretKey).macAlgorithm(MacAlgorithm.HS256).build();
-        }
-
         OAuth2TokenValidator<Jwt> validator = StringUtils.hasText(issuer)
                 ? JwtValidators.createDefaultWithIssuer(issuer)
                 : JwtValidators.createDefault();
@@ -119,8 +102,17 @@ public class SecurityConfig {
             validator = new DelegatingOAuth2TokenValidator<>(validator, new AudienceValidator(audience));
         }
 
-        decoder.setJwtValidator(validator);
-        return decoder;
+        if (StringUtils.hasText(jwkSetUri)) {
+            NimbusJwtDecoder nimbusDecoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+            nimbusDecoder.setJwtValidator(validator);
+            // O `sid` de um provedor externo não é uma família de refresh tokens desta aplicação
+            return new CachingJwtDecoder(nimbusDecoder, cacheMaxEntries, Duration.ofSeconds(cacheTtlSeconds),
+                    sessionId -> false);
+        }
+
+        // Tokens HS256 emitidos pela aplicação, verificados pela chave do `kid` (ver JwtTokenService)
+        return new CachingJwtDecoder(new HmacJwtDecoder(jwtTokenService, validator),
+                cacheMaxEntries, Duration.ofSeconds(cacheTtlSeconds), refreshTokenRepository::isFamilyRevoked);
     }
 
     @Bean
@@ -181,19 +173,21 @@ public class SecurityConfig {
         // Permite os métodos HTTP mais comuns
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         // Permite headers comuns, incluindo o de Autorização para o JWT
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With",
+                ReadConsistencyFilter.HEADER, "Last-Event-ID", "If-None-Match", "If-Modified-Since", "If-Match"));
         // Permite credenciais (cookies, authorization headers, etc)
         configuration.setAllowCredentials(true);
         // Permite que o navegador exponha os headers de resposta
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", ReadConsistencyFilter.HEADER, "ETag", "Last-Modified"));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         // Aplica a configuração a todas as rotas da sua API
         source.registerCorsConfiguration("/**", configuration);
         return source;
     }
 
+    // Aumentar o custo faz os hashes antigos serem refeitos no próximo login (ver DefaultAuthUserUseCase)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
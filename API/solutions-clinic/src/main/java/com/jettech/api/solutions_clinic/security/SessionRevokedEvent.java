@@ -0,0 +1,10 @@
+package com.jettech.api.solutions_clinic.security;
+
+import java.util.UUID;
+
+/**
+ * Família de refresh tokens revogada (a sessão do claim `sid`). Depois do commit o
+ * {@link CachingJwtDecoder} descarta os access tokens dessa sessão que já estavam verificados.
+ */
+public record SessionRevokedEvent(UUID sessionId) {
+}
@@ -51,6 +51,14 @@ public class TenantContext {
         }
     }
 
+    /**
+     * Indica se a requisição atual está autenticada por JWT (com ou sem clinicId).
+     */
+    public boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof Jwt;
+    }
+
     /**
      * Garante que o tenantId informado é o mesmo do contexto (JWT).
      * Lança ForbiddenException se for diferente.
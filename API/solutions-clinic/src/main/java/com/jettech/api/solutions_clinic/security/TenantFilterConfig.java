@@ -0,0 +1,49 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.jettech.api.solutions_clinic.model.entity.Tenant;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Isolamento de tenant transversal: toda sessão do Hibernate aberta numa requisição autenticada
+ * recebe o filtro {@link Tenant#FILTER} com o clinicId do JWT, então consultas e buscas por id das
+ * entidades com tenant_id já saem com o predicado (e usam os índices por tenant_id).
+ * <p>
+ * Sem autenticação (login, cadastro, webhook, jobs e workers) o filtro fica desligado,
+ * pois esses fluxos atravessam clínicas por definição. Cada transação também religa o filtro
+ * (ver {@link TenantFilterJpaDialect}), para sessões abertas antes da autenticação.
+ * <p>
+ * O filtro não alcança SQL nativo, DML em lote nem entidades sem tenant_id (prontuários, agendas
+ * do profissional, procedimentos do agendamento): nesses caminhos os use cases e as consultas
+ * continuam verificando o tenant explicitamente.
+ */
+@Configuration
+public class TenantFilterConfig {
+
+    // Static: BeanPostProcessor é criado antes dos demais beans; o TenantScope é resolvido sob demanda
+    @Bean
+    static BeanPostProcessor tenantFilterEntityManagerInitializer(ObjectProvider<TenantScope> tenantScope) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setEntityManagerInitializer(entityManager -> tenantScope.getObject().enable(entityManager));
+                }
+                return bean;
+            }
+
+            // Depois da inicialização: o afterPropertiesSet do gerenciador copia o dialeto da fábrica
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JpaTransactionManager transactionManager) {
+                    transactionManager.setJpaDialect(new TenantFilterJpaDialect(tenantScope));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.jettech.api.solutions_clinic.security;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Religa o filtro de tenant no início de cada transação JPA. O inicializador do EntityManager só
+ * vê o SecurityContext do momento em que a sessão é aberta; uma sessão aberta antes da autenticação
+ * e usada depois ficaria sem filtro.
+ */
+class TenantFilterJpaDialect extends HibernateJpaDialect {
+
+    private final ObjectProvider<TenantScope> tenantScope;
+
+    TenantFilterJpaDialect(ObjectProvider<TenantScope> tenantScope) {
+        this.tenantScope = tenantScope;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        tenantScope.getObject().enableIfMissing(entityManager);
+        return transactionData;
+    }
+}
@@ -0,0 +1,66 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.jettech.api.solutions_clinic.model.entity.Tenant;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Controle do filtro de tenant ({@link Tenant#FILTER}) nas sessões do Hibernate.
+ * O filtro é ligado pelo TenantFilterConfig; leituras que atravessam clínicas de propósito
+ * (ex.: clínicas em que o usuário atua) usam {@link #acrossTenants}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantScope {
+
+    private static final UUID NO_TENANT = new UUID(0L, 0L);
+
+    private final EntityManager entityManager;
+    private final TenantContext tenantContext;
+
+    /**
+     * Liga o filtro na sessão se a requisição estiver autenticada.
+     * JWT sem clinicId enxerga nenhuma linha filtrada.
+     */
+    void enable(EntityManager target) {
+        if (!tenantContext.isAuthenticated()) {
+            return;
+        }
+        UUID clinicId = tenantContext.getClinicIdOrNull();
+        target.unwrap(Session.class)
+                .enableFilter(Tenant.FILTER)
+                .setParameter(Tenant.FILTER_PARAM, clinicId != null ? clinicId : NO_TENANT);
+    }
+
+    /**
+     * Liga o filtro, se ainda não estiver ligado, ao iniciar uma transação: cobre sessões abertas
+     * antes de o SecurityContext ser preenchido e reaproveitadas depois da autenticação.
+     */
+    void enableIfMissing(EntityManager target) {
+        if (target.unwrap(Session.class).getEnabledFilter(Tenant.FILTER) == null) {
+            enable(target);
+        }
+    }
+
+    /**
+     * Executa a leitura sem o filtro de tenant na sessão da transação atual e o religa em seguida.
+     * Deve ser chamado dentro de uma transação; o chamador responde pela autorização da leitura.
+     */
+    public <T> T acrossTenants(Supplier<T> read) {
+        Session session = entityManager.unwrap(Session.class);
+        if (session.getEnabledFilter(Tenant.FILTER) == null) {
+            return read.get();
+        }
+        session.disableFilter(Tenant.FILTER);
+        try {
+            return read.get();
+        } finally {
+            enable(entityManager);
+        }
+    }
+}
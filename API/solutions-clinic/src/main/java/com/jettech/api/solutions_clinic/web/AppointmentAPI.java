@@ -1,8 +1,13 @@
 package com.jettech.api.solutions_clinic.web;
 
 import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.AppointmentReminderResponse;
 import com.jettech.api.solutions_clinic.model.usecase.appointment.AppointmentResponse;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.BulkTransitionAppointmentsResponse;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.CalendarEntryResponse;
 import com.jettech.api.solutions_clinic.model.usecase.appointment.CreateAppointmentRequest;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.ReminderSummaryResponse;
 import com.jettech.api.solutions_clinic.model.usecase.appointment.UpdateAppointmentRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,7 +17,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.time.LocalDate;
@@ -64,13 +71,43 @@ public interface AppointmentAPI {
     AppointmentResponse updateAppointment(@Valid @RequestBody UpdateAppointmentRequest request) throws AuthenticationFailedException;
 
     @DeleteMapping("/appointments/{id}")
-    @Operation(summary = "Cancela um agendamento", description = "Cancela um agendamento (marca como cancelado ao invés de deletar).")
+    @Operation(summary = "Cancela um agendamento", description = "Cancela um agendamento (marca como cancelado ao invés de deletar). Além dos status aceitos por CANCEL, interrompe um atendimento em andamento (EM_ATENDIMENTO).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Agendamento cancelado com sucesso", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Agendamento não encontrado", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Agendamento não encontrado", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Agendamento já finalizado, cancelado ou marcado como não compareceu", content = @Content)
     })
     void deleteAppointment(@PathVariable UUID id) throws AuthenticationFailedException;
 
+    @PostMapping("/appointments/{id}/transitions/{transition}")
+    @Operation(summary = "Altera o status de um agendamento", description = "Aplica uma transição do ciclo de vida: CONFIRM (AGENDADO → CONFIRMADO), CHECK_IN (→ EM_ATENDIMENTO, registra o início), FINISH (EM_ATENDIMENTO → FINALIZADO, registra o fim e a duração real), CANCEL (→ CANCELADO) e NO_SHOW (→ NAO_COMPARECEU).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status alterado com sucesso",
+                    content = @Content(schema = @Schema(implementation = AppointmentResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Agendamento não encontrado", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Transição não permitida para o status atual", content = @Content)
+    })
+    AppointmentResponse transitionAppointment(
+            @PathVariable UUID id,
+            @PathVariable AppointmentTransition transition
+    ) throws AuthenticationFailedException;
+
+    @PostMapping("/tenants/{tenantId}/appointments/transitions/{transition}")
+    @Operation(summary = "Altera o status de agendamentos em lote", description = "Aplica a transição a todos os agendamentos da clínica no período (máximo de 31 dias) cujo status permite a transição, opcionalmente de um profissional. Ex.: CONFIRM com a data de amanhã; NO_SHOW com a data de hoje marca os agendamentos já encerrados que não foram atendidos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transição aplicada",
+                    content = @Content(schema = @Schema(implementation = BulkTransitionAppointmentsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Período inválido", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Acesso negado a esta clínica", content = @Content)
+    })
+    BulkTransitionAppointmentsResponse transitionAppointments(
+            @PathVariable UUID tenantId,
+            @PathVariable AppointmentTransition transition,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID professionalId
+    ) throws AuthenticationFailedException;
+
     @GetMapping("/tenants/{tenantId}/appointments")
     @Operation(summary = "Lista agendamentos de uma clínica", description = "Retorna todos os agendamentos de uma clínica com filtros opcionais de data, intervalo de datas, status e ordenação.")
     @ApiResponses(value = {
@@ -87,6 +124,59 @@ public interface AppointmentAPI {
             @RequestParam(required = false, defaultValue = "scheduledAt_desc") String orderBy
     ) throws AuthenticationFailedException;
 
+    @GetMapping("/tenants/{tenantId}/calendar")
+    @Operation(summary = "Agenda da clínica por intervalo", description = "Retorna as entradas da agenda (nomes do profissional, paciente e sala, início, fim, status e status de pagamento) que começam entre startDate e endDate (inclusive), a partir do modelo de leitura desnormalizado. Intervalo máximo de 62 dias.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Agenda retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = CalendarEntryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Intervalo de datas inválido", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Acesso negado a esta clínica", content = @Content)
+    })
+    List<CalendarEntryResponse> getCalendar(
+            @PathVariable UUID tenantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID professionalId
+    ) throws AuthenticationFailedException;
+
+    @GetMapping(value = "/tenants/{tenantId}/calendar/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Alterações da agenda em tempo real", description = "Abre um stream Server-Sent Events com as alterações da agenda da clínica (agendamentos criados, alterados ou cancelados, triagem e prontuários salvos), opcionalmente filtradas por profissional e data. O id de cada evento é o resume token: ao reconectar (cabeçalho Last-Event-ID ou parâmetro resumeToken) as alterações perdidas são reenviadas. O evento \"reset\" indica que o histórico não cobre o token e a agenda deve ser recarregada.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream aberto", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Acesso negado a esta clínica", content = @Content),
+            @ApiResponse(responseCode = "429", description = "Limite de conexões atingido", content = @Content)
+    })
+    SseEmitter streamCalendarChanges(
+            @PathVariable UUID tenantId,
+            @RequestParam(required = false) UUID professionalId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String resumeToken,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) throws AuthenticationFailedException;
+
+    @GetMapping("/appointments/{id}/reminders")
+    @Operation(summary = "Lembretes de um agendamento", description = "Retorna os lembretes enviados ou enfileirados para o agendamento com o canal, o destinatário e a situação de envio.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lembretes retornados com sucesso",
+                    content = @Content(schema = @Schema(implementation = AppointmentReminderResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Agendamento não encontrado", content = @Content)
+    })
+    List<AppointmentReminderResponse> getAppointmentReminders(@PathVariable UUID id) throws AuthenticationFailedException;
+
+    @GetMapping("/tenants/{tenantId}/appointment-reminders/summary")
+    @Operation(summary = "Resumo dos lembretes da clínica", description = "Quantidade de lembretes por situação de envio para os agendamentos do período.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumo retornado com sucesso",
+                    content = @Content(schema = @Schema(implementation = ReminderSummaryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Período inválido", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Acesso negado a esta clínica", content = @Content)
+    })
+    ReminderSummaryResponse getReminderSummary(
+            @PathVariable UUID tenantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) throws AuthenticationFailedException;
+
     @GetMapping("/appointments/check-availability")
     @Operation(summary = "Verifica disponibilidade de horário", description = "Verifica se um horário específico está disponível para um profissional.")
     @ApiResponses(value = {
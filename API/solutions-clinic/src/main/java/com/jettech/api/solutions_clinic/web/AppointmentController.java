@@ -5,12 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
 import com.jettech.api.solutions_clinic.model.usecase.appointment.*;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.time.LocalDate;
@@ -30,9 +32,15 @@ public class AppointmentController implements AppointmentAPI {
     private final GetAppointmentsByTenantUseCase getAppointmentsByTenantUseCase;
     private final UpdateAppointmentUseCase updateAppointmentUseCase;
     private final DeleteAppointmentUseCase deleteAppointmentUseCase;
+    private final TransitionAppointmentUseCase transitionAppointmentUseCase;
+    private final BulkTransitionAppointmentsUseCase bulkTransitionAppointmentsUseCase;
     private final CheckAvailabilityUseCase checkAvailabilityUseCase;
     private final GetAvailableSlotsUseCase getAvailableSlotsUseCase;
     private final SaveTriageUseCase saveTriageUseCase;
+    private final GetCalendarEntriesUseCase getCalendarEntriesUseCase;
+    private final SubscribeCalendarChangesUseCase subscribeCalendarChangesUseCase;
+    private final GetAppointmentRemindersUseCase getAppointmentRemindersUseCase;
+    private final GetReminderSummaryUseCase getReminderSummaryUseCase;
 
     @Override
     public AppointmentResponse createAppointment(@Valid @RequestBody CreateAppointmentRequest request) throws AuthenticationFailedException {
@@ -59,6 +67,24 @@ public class AppointmentController implements AppointmentAPI {
         deleteAppointmentUseCase.execute(id);
     }
 
+    @Override
+    public AppointmentResponse transitionAppointment(
+            @PathVariable UUID id,
+            @PathVariable AppointmentTransition transition) throws AuthenticationFailedException {
+        return transitionAppointmentUseCase.execute(new TransitionAppointmentRequest(id, transition));
+    }
+
+    @Override
+    public BulkTransitionAppointmentsResponse transitionAppointments(
+            @PathVariable UUID tenantId,
+            @PathVariable AppointmentTransition transition,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID professionalId) throws AuthenticationFailedException {
+        return bulkTransitionAppointmentsUseCase.execute(
+                new BulkTransitionAppointmentsRequest(tenantId, transition, startDate, endDate, professionalId));
+    }
+
     @Override
     public List<AppointmentResponse> getAppointmentsByTenant(
             @PathVariable UUID tenantId,
@@ -70,6 +96,39 @@ public class AppointmentController implements AppointmentAPI {
         return getAppointmentsByTenantUseCase.execute(new GetAppointmentsByTenantRequest(tenantId, date, startDate, endDate, status, orderBy));
     }
 
+    @Override
+    public List<CalendarEntryResponse> getCalendar(
+            @PathVariable UUID tenantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID professionalId) throws AuthenticationFailedException {
+        return getCalendarEntriesUseCase.execute(new GetCalendarEntriesRequest(tenantId, startDate, endDate, professionalId));
+    }
+
+    @Override
+    public SseEmitter streamCalendarChanges(
+            @PathVariable UUID tenantId,
+            @RequestParam(required = false) UUID professionalId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String resumeToken,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) throws AuthenticationFailedException {
+        String token = lastEventId != null ? lastEventId : resumeToken;
+        return subscribeCalendarChangesUseCase.execute(new SubscribeCalendarChangesRequest(tenantId, professionalId, date, token));
+    }
+
+    @Override
+    public List<AppointmentReminderResponse> getAppointmentReminders(@PathVariable UUID id) throws AuthenticationFailedException {
+        return getAppointmentRemindersUseCase.execute(id);
+    }
+
+    @Override
+    public ReminderSummaryResponse getReminderSummary(
+            @PathVariable UUID tenantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) throws AuthenticationFailedException {
+        return getReminderSummaryUseCase.execute(new GetReminderSummaryRequest(tenantId, startDate, endDate));
+    }
+
     @Override
     public Boolean checkAvailability(
             @RequestParam UUID professionalId,
@@ -2,6 +2,7 @@ package com.jettech.api.solutions_clinic.web;
 
 import com.jettech.api.solutions_clinic.model.usecase.user.AuthUserRequest;
 import com.jettech.api.solutions_clinic.model.usecase.user.AuthUserResponse;
+import com.jettech.api.solutions_clinic.model.usecase.user.RefreshTokenRequest;
 import com.jettech.api.solutions_clinic.model.usecase.user.SwitchTenantRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -26,7 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 public interface AuthUserAPI {
 
     @PostMapping("/sign-in")
-    @Operation(summary = "Autentica um usuário", description = "Realiza a autenticação de um usuário com email e senha, retornando um token JWT em caso de sucesso.")
+    @Operation(summary = "Autentica um usuário", description = "Realiza a autenticação de um usuário com email e senha, retornando um access token JWT e um refresh token em caso de sucesso.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Autenticação bem-sucedida",
                     content = @Content(schema = @Schema(implementation = AuthUserResponse.class))),
@@ -34,6 +35,15 @@ public interface AuthUserAPI {
     })
     AuthUserResponse signIn(@Valid @RequestBody AuthUserRequest authUserRequest) throws AuthenticationFailedException;
 
+    @PostMapping("/refresh")
+    @Operation(summary = "Renova o token", description = "Troca um refresh token válido por um novo access token (curto) e um novo refresh token, mantendo a clínica da sessão.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token renovado com sucesso",
+                    content = @Content(schema = @Schema(implementation = AuthUserResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado ou sem vínculo com a clínica", content = @Content)
+    })
+    AuthUserResponse refresh(@Valid @RequestBody RefreshTokenRequest request) throws AuthenticationFailedException;
+
     @PostMapping("/switch-tenant")
     @Operation(summary = "Troca de clínica", description = "Troca o contexto da sessão para outra clínica em que o usuário tem vínculo. Retorna um novo JWT com o clinicId escolhido. Requer autenticação.")
     @ApiResponses(value = {
@@ -4,6 +4,8 @@ package com.jettech.api.solutions_clinic.web;
 import com.jettech.api.solutions_clinic.model.usecase.user.AuthUserRequest;
 import com.jettech.api.solutions_clinic.model.usecase.user.AuthUserResponse;
 import com.jettech.api.solutions_clinic.model.usecase.user.AuthUserUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.user.RefreshTokenRequest;
+import com.jettech.api.solutions_clinic.model.usecase.user.RefreshTokenUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.user.SwitchTenantUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.user.SwitchTenantRequest;
 import jakarta.validation.Valid;
@@ -21,12 +23,18 @@ public class AuthUserController implements AuthUserAPI {
 
     private final AuthUserUseCase authUserUseCase;
     private final SwitchTenantUseCase switchTenantUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
 
     @Override
     public AuthUserResponse signIn(@Valid @RequestBody AuthUserRequest authUserRequest) throws AuthenticationFailedException {
         return authUserUseCase.execute(authUserRequest);
     }
 
+    @Override
+    public AuthUserResponse refresh(@Valid @RequestBody RefreshTokenRequest request) throws AuthenticationFailedException {
+        return refreshTokenUseCase.execute(request);
+    }
+
     @Override
     public AuthUserResponse switchTenant(@Valid @RequestBody SwitchTenantRequest request) throws AuthenticationFailedException {
         return switchTenantUseCase.execute(request);
@@ -0,0 +1,69 @@
+package com.jettech.api.solutions_clinic.web;
+
+import com.jettech.api.solutions_clinic.model.repository.ResourceVersion;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional a partir da ResourceVersion do escopo consultado. Quando o cliente já tem a
+ * versão atual, a resposta 304 é preparada e o controller retorna null sem executar o use case:
+ * nada de carregar entidades nem serializar JSON. Caso contrário o ETag (e o Last-Modified, no
+ * caso de recurso único) vão junto da resposta 200.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    // Recurso único: If-None-Match ou If-Modified-Since
+    static boolean notModified(WebRequest request, Supplier<ResourceVersion> versionSupplier) {
+        ResourceVersion version = versionSupplier.get();
+        if (version == null || !version.exists()) {
+            return false;
+        }
+        return request.checkNotModified(etag(version), lastModified(version).toEpochMilli());
+    }
+
+    // Listagem: só If-None-Match; o Last-Modified (em segundos) não percebe exclusões, só a contagem no ETag percebe
+    static boolean listNotModified(WebRequest request, Supplier<ResourceVersion> versionSupplier) {
+        ResourceVersion version = versionSupplier.get();
+        if (version == null || !version.exists()) {
+            return false;
+        }
+        return request.checkNotModified(etag(version));
+    }
+
+    // Versão otimista enviada em If-Match ("3", W/"3" ou 3); null se ausente ou ilegível
+    static Long ifMatchVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Weak: identifica a versão dos dados, não os bytes exatos da resposta
+    private static String etag(ResourceVersion version) {
+        Instant lastModified = lastModified(version);
+        return "W/\"" + Long.toHexString(version.count()) + "-"
+                + Long.toHexString(lastModified.getEpochSecond()) + "."
+                + Integer.toHexString(lastModified.getNano()) + "\"";
+    }
+
+    private static Instant lastModified(ResourceVersion version) {
+        return version.lastModified().atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -1,6 +1,8 @@
 package com.jettech.api.solutions_clinic.web;
 
 import com.jettech.api.solutions_clinic.exception.*;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -114,6 +116,22 @@ public class GlobalExceptionHandler {
                 .body(errorBody(ApiError.DUPLICATE_ENTITY.getErrorLabel(), message, HttpStatus.CONFLICT.value()));
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleVersionConflict(VersionConflictException ex) {
+        String message = resolveMessage(ex, ApiError.CONCURRENT_MODIFICATION);
+        HttpStatus status = ex.getApiError().getStatus();
+        return ResponseEntity.status(status)
+                .eTag(String.valueOf(ex.getCurrentVersion()))
+                .body(errorBody(ApiError.CONCURRENT_MODIFICATION.getErrorLabel(), message, status.value()));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        String message = ApiError.CONCURRENT_MODIFICATION.getDefaultMessage();
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(errorBody(ApiError.CONCURRENT_MODIFICATION.getErrorLabel(), message, HttpStatus.CONFLICT.value()));
+    }
+
     // --- 422 Unprocessable Entity ---
 
     @ExceptionHandler(InvalidStateException.class)
@@ -130,6 +148,16 @@ public class GlobalExceptionHandler {
                 .body(errorBody(ApiError.SCHEDULE_VALIDATION.getErrorLabel(), message, HttpStatus.UNPROCESSABLE_ENTITY.value()));
     }
 
+    // --- 429 Too Many Requests ---
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequests(TooManyRequestsException ex) {
+        String message = resolveMessage(ex, ApiError.LOGIN_ATTEMPTS_EXCEEDED);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorBody(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(), message, HttpStatus.TOO_MANY_REQUESTS.value()));
+    }
+
     // --- 500 Internal Server Error (fallback) ---
 
     @ExceptionHandler(RuntimeException.class)
@@ -1,6 +1,9 @@
 package com.jettech.api.solutions_clinic.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.CreateOrUpdateMedicalRecordRequest;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.MedicalRecordChainVerificationResponse;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.MedicalRecordPatchResponse;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.MedicalRecordResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,11 +12,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.util.UUID;
@@ -22,15 +29,20 @@ import java.util.UUID;
 public interface MedicalRecordAPI {
 
     @PostMapping("/medical-records")
-    @Operation(summary = "Cria ou atualiza prontuário", description = "Por appointmentId. Se já existir, atualiza content e vitalSigns.")
+    @Operation(summary = "Cria ou atualiza prontuário",
+            description = "Por appointmentId. Se já existir, atualiza content e vitalSigns; nesse caso exige a versão atual em If-Match ou no campo version. A resposta traz a nova versão (também no ETag).")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Prontuário salvo",
                     content = @Content(schema = @Schema(implementation = MedicalRecordResponse.class))),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou versão ausente ao atualizar", content = @Content),
             @ApiResponse(responseCode = "403", description = "Acesso negado", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Agendamento ou modelo não encontrado", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Agendamento ou modelo não encontrado", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Versão desatualizada; ETag traz a versão atual", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Prontuário assinado", content = @Content)
     })
-    MedicalRecordResponse createOrUpdate(@Valid @RequestBody CreateOrUpdateMedicalRecordRequest request) throws AuthenticationFailedException;
+    ResponseEntity<MedicalRecordResponse> createOrUpdate(
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CreateOrUpdateMedicalRecordRequest request) throws AuthenticationFailedException;
 
     @GetMapping("/medical-records/appointment/{appointmentId}")
     @Operation(summary = "Busca prontuário por agendamento")
@@ -50,12 +62,57 @@ public interface MedicalRecordAPI {
     })
     MedicalRecordResponse getById(@PathVariable UUID id) throws AuthenticationFailedException;
 
+    @PatchMapping(value = "/medical-records/{id}", consumes = "application/json-patch+json")
+    @Operation(summary = "Altera parte do conteúdo do prontuário (JSON Patch)",
+            description = "RFC 6902 aplicado sobre content. Exige If-Match com a versão atual; a resposta traz a nova versão (também no ETag).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Patch aplicado",
+                    content = @Content(schema = @Schema(implementation = MedicalRecordPatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Patch inválido ou If-Match ausente", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Prontuário não encontrado", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Versão desatualizada; ETag traz a versão atual", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Prontuário assinado ou patch não aplicável ao conteúdo atual", content = @Content)
+    })
+    ResponseEntity<MedicalRecordPatchResponse> jsonPatch(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) throws AuthenticationFailedException;
+
+    @PatchMapping(value = "/medical-records/{id}", consumes = "application/merge-patch+json")
+    @Operation(summary = "Altera parte do conteúdo do prontuário (Merge Patch)",
+            description = "RFC 7386 aplicado sobre content (null remove o campo). Exige If-Match com a versão atual.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Patch aplicado",
+                    content = @Content(schema = @Schema(implementation = MedicalRecordPatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Patch inválido ou If-Match ausente", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Prontuário não encontrado", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Versão desatualizada; ETag traz a versão atual", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Prontuário assinado", content = @Content)
+    })
+    ResponseEntity<MedicalRecordPatchResponse> mergePatch(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) throws AuthenticationFailedException;
+
     @PostMapping("/medical-records/{id}/sign")
-    @Operation(summary = "Assina prontuário", description = "Define signed_at com a data/hora atual.")
+    @Operation(summary = "Assina prontuário",
+            description = "Define signed_at e encadeia o prontuário ao anterior do paciente (digest SHA-256). Exige os campos obrigatórios do modelo preenchidos. Depois de assinado não pode mais ser alterado.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Prontuário assinado",
                     content = @Content(schema = @Schema(implementation = MedicalRecordResponse.class))),
-            @ApiResponse(responseCode = "404", description = "Prontuário não encontrado", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Campo obrigatório do modelo em branco", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Prontuário não encontrado", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Prontuário já assinado", content = @Content)
     })
     MedicalRecordResponse sign(@PathVariable UUID id) throws AuthenticationFailedException;
+
+    @GetMapping("/medical-records/verification")
+    @Operation(summary = "Verifica a cadeia de prontuários assinados",
+            description = "Recalcula os digests de todos os prontuários assinados da clínica, ou só do paciente informado, incluindo os arquivados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado da verificação",
+                    content = @Content(schema = @Schema(implementation = MedicalRecordChainVerificationResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Paciente não encontrado", content = @Content)
+    })
+    MedicalRecordChainVerificationResponse verifyChain(@RequestParam(required = false) UUID patientId) throws AuthenticationFailedException;
 }
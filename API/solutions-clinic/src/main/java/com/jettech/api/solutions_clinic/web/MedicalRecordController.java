@@ -1,20 +1,30 @@
 package com.jettech.api.solutions_clinic.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.CreateOrUpdateMedicalRecordRequest;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.MedicalRecordChainVerificationResponse;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.GetMedicalRecordByAppointmentUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.GetMedicalRecordByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.MedicalRecordPatchResponse;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.MedicalRecordPatchType;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.MedicalRecordResponse;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.CreateOrUpdateMedicalRecordUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.PatchMedicalRecordRequest;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.PatchMedicalRecordUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.SignMedicalRecordUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.VerifyMedicalRecordChainUseCase;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
@@ -29,10 +39,19 @@ public class MedicalRecordController implements MedicalRecordAPI {
     private final GetMedicalRecordByAppointmentUseCase getByAppointmentUseCase;
     private final GetMedicalRecordByIdUseCase getByIdUseCase;
     private final SignMedicalRecordUseCase signUseCase;
+    private final PatchMedicalRecordUseCase patchUseCase;
+    private final VerifyMedicalRecordChainUseCase verifyChainUseCase;
 
     @Override
-    public MedicalRecordResponse createOrUpdate(@Valid @RequestBody CreateOrUpdateMedicalRecordRequest request) throws AuthenticationFailedException {
-        return createOrUpdateUseCase.execute(request);
+    public ResponseEntity<MedicalRecordResponse> createOrUpdate(
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CreateOrUpdateMedicalRecordRequest request) throws AuthenticationFailedException {
+        Long headerVersion = ConditionalRequests.ifMatchVersion(ifMatch);
+        MedicalRecordResponse response = createOrUpdateUseCase.execute(
+                headerVersion != null ? request.withVersion(headerVersion) : request);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(response.version()))
+                .body(response);
     }
 
     @Override
@@ -47,8 +66,38 @@ public class MedicalRecordController implements MedicalRecordAPI {
         return getByIdUseCase.execute(id);
     }
 
+    @Override
+    public ResponseEntity<MedicalRecordPatchResponse> jsonPatch(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) throws AuthenticationFailedException {
+        return patch(id, MedicalRecordPatchType.JSON_PATCH, ifMatch, patch);
+    }
+
+    @Override
+    public ResponseEntity<MedicalRecordPatchResponse> mergePatch(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) throws AuthenticationFailedException {
+        return patch(id, MedicalRecordPatchType.MERGE_PATCH, ifMatch, patch);
+    }
+
     @Override
     public MedicalRecordResponse sign(@PathVariable UUID id) throws AuthenticationFailedException {
         return signUseCase.execute(id);
     }
+
+    @Override
+    public MedicalRecordChainVerificationResponse verifyChain(@RequestParam(required = false) UUID patientId) throws AuthenticationFailedException {
+        return verifyChainUseCase.execute(patientId);
+    }
+
+    private ResponseEntity<MedicalRecordPatchResponse> patch(UUID id, MedicalRecordPatchType type, String ifMatch, JsonNode patch)
+            throws AuthenticationFailedException {
+        MedicalRecordPatchResponse response = patchUseCase.execute(
+                new PatchMedicalRecordRequest(id, type, patch, ConditionalRequests.ifMatchVersion(ifMatch)));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(response.version()))
+                .body(response);
+    }
 }
@@ -3,6 +3,7 @@ package com.jettech.api.solutions_clinic.web;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.CreateMedicalRecordTemplateRequest;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.GetMedicalRecordTemplatesByTenantRequest;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.MedicalRecordTemplateResponse;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.MedicalRecordTemplateSummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.util.List;
@@ -40,7 +42,7 @@ public interface MedicalRecordTemplateAPI {
                     content = @Content(schema = @Schema(implementation = MedicalRecordTemplateResponse.class))),
             @ApiResponse(responseCode = "404", description = "Modelo não encontrado", content = @Content)
     })
-    MedicalRecordTemplateResponse getTemplateById(@PathVariable UUID id) throws AuthenticationFailedException;
+    MedicalRecordTemplateResponse getTemplateById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException;
 
     @GetMapping("/medical-record-templates")
     @Operation(summary = "Lista modelos da clínica", description = "Filtra por tenant, opcionalmente por activeOnly e professionalType.")
@@ -51,6 +53,20 @@ public interface MedicalRecordTemplateAPI {
     List<MedicalRecordTemplateResponse> getTemplatesByTenant(
             @RequestParam UUID tenantId,
             @RequestParam(required = false, defaultValue = "true") boolean activeOnly,
-            @RequestParam(required = false) String professionalType
+            @RequestParam(required = false) String professionalType,
+            WebRequest webRequest
+    ) throws AuthenticationFailedException;
+
+    @GetMapping("/medical-record-templates/summary")
+    @Operation(summary = "Lista resumida de modelos da clínica",
+            description = "Apenas id, nome e tipo de profissional (sem schema), para o seletor de modelo do prontuário.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de modelos",
+                    content = @Content(schema = @Schema(implementation = MedicalRecordTemplateSummaryResponse.class)))
+    })
+    List<MedicalRecordTemplateSummaryResponse> getTemplateSummariesByTenant(
+            @RequestParam UUID tenantId,
+            @RequestParam(required = false) String professionalType,
+            WebRequest webRequest
     ) throws AuthenticationFailedException;
 }
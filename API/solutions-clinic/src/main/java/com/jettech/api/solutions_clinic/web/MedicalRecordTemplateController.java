@@ -2,10 +2,13 @@ package com.jettech.api.solutions_clinic.web;
 
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.CreateMedicalRecordTemplateRequest;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.GetMedicalRecordTemplateByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.GetMedicalRecordTemplateSummariesUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.GetMedicalRecordTemplatesByTenantRequest;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.GetMedicalRecordTemplatesByTenantUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.MedicalRecordTemplateResponse;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.MedicalRecordTemplateSummaryResponse;
 import com.jettech.api.solutions_clinic.model.usecase.medicalrecordtemplate.CreateMedicalRecordTemplateUseCase;
+import com.jettech.api.solutions_clinic.model.service.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.util.List;
@@ -29,6 +33,8 @@ public class MedicalRecordTemplateController implements MedicalRecordTemplateAPI
     private final CreateMedicalRecordTemplateUseCase createTemplateUseCase;
     private final GetMedicalRecordTemplateByIdUseCase getTemplateByIdUseCase;
     private final GetMedicalRecordTemplatesByTenantUseCase getTemplatesByTenantUseCase;
+    private final GetMedicalRecordTemplateSummariesUseCase getTemplateSummariesUseCase;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public MedicalRecordTemplateResponse createTemplate(@Valid @RequestBody CreateMedicalRecordTemplateRequest request) throws AuthenticationFailedException {
@@ -36,7 +42,10 @@ public class MedicalRecordTemplateController implements MedicalRecordTemplateAPI
     }
 
     @Override
-    public MedicalRecordTemplateResponse getTemplateById(@PathVariable UUID id) throws AuthenticationFailedException {
+    public MedicalRecordTemplateResponse getTemplateById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException {
+        if (ConditionalRequests.notModified(webRequest, () -> resourceVersions.template(id))) {
+            return null;
+        }
         return getTemplateByIdUseCase.execute(id);
     }
 
@@ -44,9 +53,26 @@ public class MedicalRecordTemplateController implements MedicalRecordTemplateAPI
     public List<MedicalRecordTemplateResponse> getTemplatesByTenant(
             @RequestParam UUID tenantId,
             @RequestParam(required = false, defaultValue = "true") boolean activeOnly,
-            @RequestParam(required = false) String professionalType
+            @RequestParam(required = false) String professionalType,
+            WebRequest webRequest
     ) throws AuthenticationFailedException {
+        if (ConditionalRequests.listNotModified(webRequest, () -> resourceVersions.templates(tenantId))) {
+            return null;
+        }
         return getTemplatesByTenantUseCase.execute(
                 new GetMedicalRecordTemplatesByTenantRequest(tenantId, activeOnly, professionalType));
     }
+
+    @Override
+    public List<MedicalRecordTemplateSummaryResponse> getTemplateSummariesByTenant(
+            @RequestParam UUID tenantId,
+            @RequestParam(required = false) String professionalType,
+            WebRequest webRequest
+    ) throws AuthenticationFailedException {
+        if (ConditionalRequests.listNotModified(webRequest, () -> resourceVersions.templates(tenantId))) {
+            return null;
+        }
+        return getTemplateSummariesUseCase.execute(
+                new GetMedicalRecordTemplatesByTenantRequest(tenantId, true, professionalType));
+    }
 }
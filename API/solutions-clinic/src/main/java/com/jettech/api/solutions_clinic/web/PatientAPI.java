@@ -1,8 +1,14 @@
 package com.jettech.api.solutions_clinic.web;
 
+import com.jettech.api.solutions_clinic.model.entity.PatientImportFormat;
+import com.jettech.api.solutions_clinic.model.entity.VitalSignMetric;
 import com.jettech.api.solutions_clinic.model.usecase.patient.CreatePatientRequest;
+import com.jettech.api.solutions_clinic.model.usecase.patient.PatientImportErrorResponse;
+import com.jettech.api.solutions_clinic.model.usecase.patient.PatientImportResponse;
 import com.jettech.api.solutions_clinic.model.usecase.patient.PatientResponse;
+import com.jettech.api.solutions_clinic.model.usecase.patient.PatientTimelineResponse;
 import com.jettech.api.solutions_clinic.model.usecase.patient.UpdatePatientActiveBodyRequest;
+import com.jettech.api.solutions_clinic.model.usecase.patient.VitalSignTrendResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,14 +17,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Tag(name = "Pacientes", description = "Endpoints para gerenciamento de pacientes")
@@ -58,7 +70,8 @@ public interface PatientAPI {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false, defaultValue = "firstName,asc") String sort,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) Boolean active
+            @RequestParam(required = false) Boolean active,
+            WebRequest webRequest
     ) throws AuthenticationFailedException;
 
     @GetMapping("/patients/{id}")
@@ -78,7 +91,43 @@ public interface PatientAPI {
                 content = @Content
             )
     })
-    PatientResponse getPatientById(@PathVariable UUID id) throws AuthenticationFailedException;
+    PatientResponse getPatientById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException;
+
+    @GetMapping("/patients/{id}/timeline")
+    @Operation(
+        summary = "Linha do tempo clínica do paciente",
+        description = "Atendimentos do mais recente para o mais antigo (inclusive arquivados), com procedimentos, sinais vitais da triagem e resumo do prontuário. Paginação por cursor: envie o nextCursor da resposta para a próxima página."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página da linha do tempo",
+                    content = @Content(schema = @Schema(implementation = PatientTimelineResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Paciente não encontrado", content = @Content)
+    })
+    PatientTimelineResponse getPatientTimeline(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) throws AuthenticationFailedException;
+
+    @GetMapping("/patients/{id}/vital-signs/trend")
+    @Operation(
+        summary = "Tendência de um sinal vital do paciente",
+        description = "Leituras das triagens agregadas em até 'buckets' intervalos (mínimo, máximo e média por intervalo). Sem datas, considera os últimos cinco anos."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Série agregada",
+                    content = @Content(schema = @Schema(implementation = VitalSignTrendResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Métrica ou intervalo inválido", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Paciente não encontrado", content = @Content)
+    })
+    VitalSignTrendResponse getVitalSignTrend(
+            @PathVariable UUID id,
+            @RequestParam VitalSignMetric metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "120") int buckets
+    ) throws AuthenticationFailedException;
 
     @PatchMapping("/patients/{id}/active")
     @Operation(summary = "Atualiza o status ativo de um paciente", description = "Ativa ou desativa um paciente no sistema.")
@@ -91,5 +140,42 @@ public interface PatientAPI {
             @PathVariable UUID id,
             @Valid @RequestBody UpdatePatientActiveBodyRequest request
     ) throws AuthenticationFailedException;
-}
 
+    @PostMapping(value = "/patients/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Importa pacientes em massa a partir de um arquivo CSV ou NDJSON",
+        description = "Registra a importação e processa o arquivo em segundo plano. CSV deve ter cabeçalho com os mesmos campos do cadastro de paciente (ex.: firstName ou first_name, cpf, birthDate), separados por vírgula ou ponto e vírgula. NDJSON deve ter um objeto JSON por linha. O formato é detectado pela extensão (.csv, .ndjson, .jsonl) quando não informado. Acompanhe o progresso em GET /patients/imports/{id}."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação registrada; processamento em andamento",
+                    content = @Content(schema = @Schema(implementation = PatientImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo vazio ou formato não suportado", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Clínica não encontrada", content = @Content)
+    })
+    PatientImportResponse importPatients(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) PatientImportFormat format
+    ) throws AuthenticationFailedException;
+
+    @GetMapping("/patients/imports/{id}")
+    @Operation(summary = "Consulta o progresso de uma importação de pacientes", description = "Retorna o status e os contadores de linhas processadas, importadas, duplicadas e com erro.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação encontrada",
+                    content = @Content(schema = @Schema(implementation = PatientImportResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada", content = @Content)
+    })
+    PatientImportResponse getPatientImport(@PathVariable UUID id) throws AuthenticationFailedException;
+
+    @GetMapping("/patients/imports/{id}/errors")
+    @Operation(summary = "Lista os erros por linha de uma importação de pacientes", description = "Retorna, em ordem de linha, as linhas rejeitadas (validação, CPF duplicado ou formato inválido).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Erros retornados com sucesso",
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada", content = @Content)
+    })
+    Page<PatientImportErrorResponse> getPatientImportErrors(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) throws AuthenticationFailedException;
+}
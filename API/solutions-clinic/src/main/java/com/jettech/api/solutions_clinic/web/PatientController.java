@@ -1,25 +1,46 @@
 package com.jettech.api.solutions_clinic.web;
 
+import com.jettech.api.solutions_clinic.model.entity.PatientImportFormat;
+import com.jettech.api.solutions_clinic.model.entity.VitalSignMetric;
 import com.jettech.api.solutions_clinic.model.usecase.patient.CreatePatientRequest;
 import com.jettech.api.solutions_clinic.model.usecase.patient.CreatePatientUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientImportByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientImportErrorsRequest;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientImportErrorsUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientsByTenantUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientTimelineRequest;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientTimelineUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetVitalSignTrendRequest;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetVitalSignTrendUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.patient.VitalSignTrendResponse;
+import com.jettech.api.solutions_clinic.model.usecase.patient.PatientTimelineResponse;
 import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientsByTenantRequest;
+import com.jettech.api.solutions_clinic.model.usecase.patient.PatientImportErrorResponse;
+import com.jettech.api.solutions_clinic.model.usecase.patient.PatientImportResponse;
 import com.jettech.api.solutions_clinic.model.usecase.patient.PatientResponse;
+import com.jettech.api.solutions_clinic.model.usecase.patient.StartPatientImportRequest;
+import com.jettech.api.solutions_clinic.model.usecase.patient.StartPatientImportUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.patient.UpdatePatientActiveBodyRequest;
 import com.jettech.api.solutions_clinic.model.usecase.patient.UpdatePatientActiveRequest;
 import com.jettech.api.solutions_clinic.model.usecase.patient.UpdatePatientActiveUseCase;
+import com.jettech.api.solutions_clinic.model.service.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import java.time.LocalDate;
 import java.util.UUID;
 
 @RestController
@@ -31,6 +52,12 @@ public class PatientController implements PatientAPI {
     private final GetPatientByIdUseCase getPatientByIdUseCase;
     private final GetPatientsByTenantUseCase getPatientsByTenantUseCase;
     private final UpdatePatientActiveUseCase updatePatientActiveUseCase;
+    private final StartPatientImportUseCase startPatientImportUseCase;
+    private final GetPatientImportByIdUseCase getPatientImportByIdUseCase;
+    private final GetPatientImportErrorsUseCase getPatientImportErrorsUseCase;
+    private final GetPatientTimelineUseCase getPatientTimelineUseCase;
+    private final GetVitalSignTrendUseCase getVitalSignTrendUseCase;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public PatientResponse createPatient(@Valid @RequestBody CreatePatientRequest request) throws AuthenticationFailedException {
@@ -44,20 +71,66 @@ public class PatientController implements PatientAPI {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false, defaultValue = "firstName,asc") String sort,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) Boolean active) throws AuthenticationFailedException {
+            @RequestParam(required = false) Boolean active,
+            WebRequest webRequest) throws AuthenticationFailedException {
+        if (ConditionalRequests.listNotModified(webRequest, () -> resourceVersions.patients(tenantId))) {
+            return null;
+        }
         return getPatientsByTenantUseCase.execute(new GetPatientsByTenantRequest(tenantId, page, size, sort, search, active));
     }
 
     @Override
-    public PatientResponse getPatientById(@PathVariable UUID id) throws AuthenticationFailedException {
+    public PatientResponse getPatientById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException {
+        if (ConditionalRequests.notModified(webRequest, () -> resourceVersions.patient(id))) {
+            return null;
+        }
         return getPatientByIdUseCase.execute(id);
     }
 
+    @Override
+    public PatientTimelineResponse getPatientTimeline(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) throws AuthenticationFailedException {
+        return getPatientTimelineUseCase.execute(new GetPatientTimelineRequest(id, cursor, size));
+    }
+
+    @Override
+    public VitalSignTrendResponse getVitalSignTrend(
+            @PathVariable UUID id,
+            @RequestParam VitalSignMetric metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "120") int buckets
+    ) throws AuthenticationFailedException {
+        return getVitalSignTrendUseCase.execute(new GetVitalSignTrendRequest(id, metric, startDate, endDate, buckets));
+    }
+
     @Override
     public PatientResponse updatePatientActive(
             @PathVariable UUID id,
             @Valid @RequestBody UpdatePatientActiveBodyRequest request) throws AuthenticationFailedException {
         return updatePatientActiveUseCase.execute(new UpdatePatientActiveRequest(id, request.active()));
     }
-}
 
+    @Override
+    public PatientImportResponse importPatients(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) PatientImportFormat format) throws AuthenticationFailedException {
+        return startPatientImportUseCase.execute(new StartPatientImportRequest(file, format));
+    }
+
+    @Override
+    public PatientImportResponse getPatientImport(@PathVariable UUID id) throws AuthenticationFailedException {
+        return getPatientImportByIdUseCase.execute(id);
+    }
+
+    @Override
+    public Page<PatientImportErrorResponse> getPatientImportErrors(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) throws AuthenticationFailedException {
+        return getPatientImportErrorsUseCase.execute(new GetPatientImportErrorsRequest(id, page, size));
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.util.UUID;
@@ -61,7 +62,8 @@ public interface ProcedureAPI {
             @RequestParam(required = false, defaultValue = "name,asc") String sort,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Boolean active,
-            @RequestParam(required = false) UUID professionalId
+            @RequestParam(required = false) UUID professionalId,
+            WebRequest webRequest
     ) throws AuthenticationFailedException;
 
     @GetMapping("/procedures/{id}")
@@ -81,7 +83,7 @@ public interface ProcedureAPI {
                 content = @Content
             )
     })
-    ProcedureResponse getProcedureById(@PathVariable UUID id) throws AuthenticationFailedException;
+    ProcedureResponse getProcedureById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException;
 
     @PutMapping("/procedures/{id}")
     @Operation(summary = "Atualiza um procedimento", description = "Atualiza os dados de um procedimento existente.")
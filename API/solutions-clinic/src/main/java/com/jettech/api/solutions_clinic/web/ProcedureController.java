@@ -1,11 +1,13 @@
 package com.jettech.api.solutions_clinic.web;
 
 import com.jettech.api.solutions_clinic.model.usecase.procedure.*;
+import com.jettech.api.solutions_clinic.model.service.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.util.UUID;
@@ -21,6 +23,7 @@ public class ProcedureController implements ProcedureAPI {
     private final UpdateProcedureUseCase updateProcedureUseCase;
     private final UpdateProcedureActiveUseCase updateProcedureActiveUseCase;
     private final DeleteProcedureUseCase deleteProcedureUseCase;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public ProcedureResponse createProcedure(@Valid @RequestBody CreateProcedureRequest request) throws AuthenticationFailedException {
@@ -35,12 +38,19 @@ public class ProcedureController implements ProcedureAPI {
             @RequestParam(required = false, defaultValue = "name,asc") String sort,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Boolean active,
-            @RequestParam(required = false) UUID professionalId) throws AuthenticationFailedException {
+            @RequestParam(required = false) UUID professionalId,
+            WebRequest webRequest) throws AuthenticationFailedException {
+        if (ConditionalRequests.listNotModified(webRequest, () -> resourceVersions.procedures(tenantId))) {
+            return null;
+        }
         return getProceduresByTenantUseCase.execute(new GetProceduresByTenantRequest(tenantId, page, size, sort, search, active, professionalId));
     }
 
     @Override
-    public ProcedureResponse getProcedureById(@PathVariable UUID id) throws AuthenticationFailedException {
+    public ProcedureResponse getProcedureById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException {
+        if (ConditionalRequests.notModified(webRequest, () -> resourceVersions.procedure(id))) {
+            return null;
+        }
         return getProcedureByIdUseCase.execute(id);
     }
 
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.model.entity.Specialty;
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
@@ -60,6 +61,25 @@ public interface ProfessionalAPI {
             @Valid @RequestBody AddProfessionalToClinicBodyRequest request
     ) throws AuthenticationFailedException;
 
+    @GetMapping("/professionals/{id}")
+    @Operation(
+        summary = "Busca profissional por ID",
+        description = "Retorna os dados do profissional incluindo todas as informações cadastradas."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Profissional encontrado com sucesso",
+                content = @Content(schema = @Schema(implementation = ProfessionalResponse.class))
+            ),
+            @ApiResponse(
+                responseCode = "404",
+                description = "Profissional não encontrado",
+                content = @Content
+            )
+    })
+    ProfessionalResponse getProfessionalById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException;
+
     @GetMapping("/professionals/{userId}/tenants")
     @Operation(summary = "Lista tenants vinculados a um profissional", description = "Retorna todos os tenants (clínicas) onde o usuário atua como profissional.")
     @ApiResponses(value = {
@@ -93,7 +113,8 @@ public interface ProfessionalAPI {
             @RequestParam(required = false, defaultValue = "user.fullName,asc") String sort,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Boolean active,
-            @RequestParam(required = false) String documentType
+            @RequestParam(required = false) String documentType,
+            WebRequest webRequest
     ) throws AuthenticationFailedException;
 
     @PatchMapping("/professionals/{id}/active")
@@ -9,6 +9,7 @@ import com.jettech.api.solutions_clinic.model.usecase.professional.CreateProfess
 import com.jettech.api.solutions_clinic.model.usecase.professional.AddProfessionalToClinicUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.professional.CreateProfessionalUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.professional.CreateProfessionalWithUserUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.professional.GetProfessionalByIdUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.professional.GetProfessionalsByClinicUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.professional.GetProfessionalTenantsUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.professional.UpdateProfessionalActiveUseCase;
@@ -17,6 +18,7 @@ import com.jettech.api.solutions_clinic.model.usecase.professional.ProfessionalR
 import com.jettech.api.solutions_clinic.model.usecase.professional.ProfessionalTenantResponse;
 import com.jettech.api.solutions_clinic.model.usecase.professional.UpdateProfessionalActiveBodyRequest;
 import com.jettech.api.solutions_clinic.model.usecase.professional.UpdateProfessionalActiveRequest;
+import com.jettech.api.solutions_clinic.model.service.ResourceVersions;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.RequestParam;
 import jakarta.validation.Valid;
@@ -26,6 +28,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.util.Arrays;
@@ -41,8 +44,10 @@ public class ProfessionalController implements ProfessionalAPI {
     private final CreateProfessionalWithUserUseCase createProfessionalWithUserUseCase;
     private final AddProfessionalToClinicUseCase addProfessionalToClinicUseCase;
     private final GetProfessionalTenantsUseCase getProfessionalTenantsUseCase;
+    private final GetProfessionalByIdUseCase getProfessionalByIdUseCase;
     private final GetProfessionalsByClinicUseCase getProfessionalsByClinicUseCase;
     private final UpdateProfessionalActiveUseCase updateProfessionalActiveUseCase;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public List<Specialty> getSpecialties() {
@@ -69,6 +74,14 @@ public class ProfessionalController implements ProfessionalAPI {
         ));
     }
 
+    @Override
+    public ProfessionalResponse getProfessionalById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException {
+        if (ConditionalRequests.notModified(webRequest, () -> resourceVersions.professional(id))) {
+            return null;
+        }
+        return getProfessionalByIdUseCase.execute(id);
+    }
+
     @Override
     public ProfessionalTenantResponse getProfessionalTenants(@PathVariable UUID userId) throws AuthenticationFailedException {
         return getProfessionalTenantsUseCase.execute(userId);
@@ -82,8 +95,12 @@ public class ProfessionalController implements ProfessionalAPI {
             @RequestParam(required = false, defaultValue = "user.fullName,asc") String sort,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Boolean active,
-            @RequestParam(required = false) String documentType
+            @RequestParam(required = false) String documentType,
+            WebRequest webRequest
     ) throws AuthenticationFailedException {
+        if (ConditionalRequests.listNotModified(webRequest, () -> resourceVersions.professionals(clinicId))) {
+            return null;
+        }
         DocumentType docType = null;
         if (documentType != null && !documentType.isEmpty()) {
             try {
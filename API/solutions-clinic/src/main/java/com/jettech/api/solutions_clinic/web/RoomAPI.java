@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.util.List;
@@ -49,7 +50,7 @@ public interface RoomAPI {
                 content = @Content
             )
     })
-    RoomResponse getRoomById(@PathVariable UUID id) throws AuthenticationFailedException;
+    RoomResponse getRoomById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException;
 
     @GetMapping("/rooms")
     @Operation(
@@ -70,7 +71,8 @@ public interface RoomAPI {
     })
     List<RoomResponse> getRoomsByTenant(
             @RequestParam UUID tenantId,
-            @RequestParam(required = false, defaultValue = "true") boolean activeOnly
+            @RequestParam(required = false, defaultValue = "true") boolean activeOnly,
+            WebRequest webRequest
     ) throws AuthenticationFailedException;
 }
 
@@ -6,6 +6,7 @@ import com.jettech.api.solutions_clinic.model.usecase.room.GetRoomByIdUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.room.GetRoomsByTenantUseCase;
 import com.jettech.api.solutions_clinic.model.usecase.room.GetRoomsByTenantRequest;
 import com.jettech.api.solutions_clinic.model.usecase.room.RoomResponse;
+import com.jettech.api.solutions_clinic.model.service.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
 import java.util.List;
@@ -27,6 +29,7 @@ public class RoomController implements RoomAPI {
     private final CreateRoomUseCase createRoomUseCase;
     private final GetRoomByIdUseCase getRoomByIdUseCase;
     private final GetRoomsByTenantUseCase getRoomsByTenantUseCase;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public RoomResponse createRoom(@Valid @RequestBody CreateRoomRequest request) throws AuthenticationFailedException {
@@ -34,15 +37,22 @@ public class RoomController implements RoomAPI {
     }
 
     @Override
-    public RoomResponse getRoomById(@PathVariable UUID id) throws AuthenticationFailedException {
+    public RoomResponse getRoomById(@PathVariable UUID id, WebRequest webRequest) throws AuthenticationFailedException {
+        if (ConditionalRequests.notModified(webRequest, () -> resourceVersions.room(id))) {
+            return null;
+        }
         return getRoomByIdUseCase.execute(id);
     }
 
     @Override
     public List<RoomResponse> getRoomsByTenant(
             @RequestParam UUID tenantId,
-            @RequestParam(required = false, defaultValue = "true") boolean activeOnly
+            @RequestParam(required = false, defaultValue = "true") boolean activeOnly,
+            WebRequest webRequest
     ) throws AuthenticationFailedException {
+        if (ConditionalRequests.listNotModified(webRequest, () -> resourceVersions.rooms(tenantId))) {
+            return null;
+        }
         return getRoomsByTenantUseCase.execute(new GetRoomsByTenantRequest(tenantId, activeOnly));
     }
 }
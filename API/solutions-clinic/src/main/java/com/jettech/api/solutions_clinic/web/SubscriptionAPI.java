@@ -25,7 +25,7 @@ public interface SubscriptionAPI {
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Webhook processado com sucesso"
+            description = "Evento recebido e armazenado para processamento assíncrono"
         ),
         @ApiResponse(
             responseCode = "400",
@@ -0,0 +1,58 @@
+package com.jettech.api.solutions_clinic.web;
+
+import com.jettech.api.solutions_clinic.model.entity.WaitlistStatus;
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.CreateWaitlistEntryRequest;
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.WaitlistEntryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Lista de espera", description = "Endpoints para a lista de espera de horários")
+public interface WaitlistAPI {
+
+    @PostMapping("/waitlist")
+    @Operation(summary = "Adiciona paciente à lista de espera", description = "Registra o paciente na lista de espera de um profissional para qualquer horário livre no período informado. Quando um agendamento futuro do profissional é cancelado, o horário é reservado automaticamente para o primeiro candidato que couber (período que termina antes, depois ordem de chegada).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Paciente adicionado à lista de espera",
+                    content = @Content(schema = @Schema(implementation = WaitlistEntryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados ou período inválidos", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Paciente, profissional ou usuário não encontrado", content = @Content)
+    })
+    WaitlistEntryResponse createWaitlistEntry(@Valid @RequestBody CreateWaitlistEntryRequest request) throws AuthenticationFailedException;
+
+    @GetMapping("/tenants/{tenantId}/waitlist")
+    @Operation(summary = "Lista de espera da clínica", description = "Retorna as entradas da lista de espera na ordem de prioridade, com filtros opcionais de profissional e status.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de espera retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = WaitlistEntryResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Acesso negado a esta clínica", content = @Content)
+    })
+    List<WaitlistEntryResponse> getWaitlist(
+            @PathVariable UUID tenantId,
+            @RequestParam(required = false) UUID professionalId,
+            @RequestParam(required = false) WaitlistStatus status
+    ) throws AuthenticationFailedException;
+
+    @DeleteMapping("/waitlist/{id}")
+    @Operation(summary = "Remove paciente da lista de espera", description = "Cancela uma entrada ainda em espera.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Entrada cancelada com sucesso", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Entrada não encontrada", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Entrada já encaixada ou cancelada", content = @Content)
+    })
+    void cancelWaitlistEntry(@PathVariable UUID id) throws AuthenticationFailedException;
+}
@@ -0,0 +1,49 @@
+package com.jettech.api.solutions_clinic.web;
+
+import com.jettech.api.solutions_clinic.model.entity.WaitlistStatus;
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.CancelWaitlistEntryUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.CreateWaitlistEntryRequest;
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.CreateWaitlistEntryUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.GetWaitlistRequest;
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.GetWaitlistUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.waitlist.WaitlistEntryResponse;
+import jakarta.validation.Valid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class WaitlistController implements WaitlistAPI {
+
+    private final CreateWaitlistEntryUseCase createWaitlistEntryUseCase;
+    private final GetWaitlistUseCase getWaitlistUseCase;
+    private final CancelWaitlistEntryUseCase cancelWaitlistEntryUseCase;
+
+    @Override
+    public WaitlistEntryResponse createWaitlistEntry(@Valid @RequestBody CreateWaitlistEntryRequest request) throws AuthenticationFailedException {
+        return createWaitlistEntryUseCase.execute(request);
+    }
+
+    @Override
+    public List<WaitlistEntryResponse> getWaitlist(
+            @PathVariable UUID tenantId,
+            @RequestParam(required = false) UUID professionalId,
+            @RequestParam(required = false) WaitlistStatus status) throws AuthenticationFailedException {
+        return getWaitlistUseCase.execute(new GetWaitlistRequest(tenantId, professionalId, status));
+    }
+
+    @Override
+    public void cancelWaitlistEntry(@PathVariable UUID id) throws AuthenticationFailedException {
+        cancelWaitlistEntryUseCase.execute(id);
+    }
+}
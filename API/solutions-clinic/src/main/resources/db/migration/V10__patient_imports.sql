@@ -0,0 +1,41 @@
+-- =====================================================
+-- Importação em massa de pacientes (CSV / NDJSON)
+-- =====================================================
+
+-- Tabela: patient_imports
+-- Um registro por arquivo enviado; acompanhado pelo cliente via polling
+CREATE TABLE patient_imports (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    tenant_id UUID NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    file_name VARCHAR(255),
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    processed_rows INTEGER NOT NULL DEFAULT 0,
+    imported_rows INTEGER NOT NULL DEFAULT 0,
+    duplicate_rows INTEGER NOT NULL DEFAULT 0,
+    failed_rows INTEGER NOT NULL DEFAULT 0,
+    error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+
+    CONSTRAINT fk_patient_imports_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE,
+    CONSTRAINT chk_patient_import_format CHECK (format IN ('CSV', 'NDJSON')),
+    CONSTRAINT chk_patient_import_status CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX idx_patient_imports_tenant_created_at ON patient_imports(tenant_id, created_at DESC);
+
+-- Tabela: patient_import_errors
+-- Erros por linha (validação, CPF duplicado, formato inválido)
+CREATE TABLE patient_import_errors (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    import_id UUID NOT NULL,
+    line_number BIGINT NOT NULL,
+    cpf VARCHAR(255),
+    message TEXT NOT NULL,
+
+    CONSTRAINT fk_patient_import_errors_import FOREIGN KEY (import_id) REFERENCES patient_imports(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_patient_import_errors_import_line ON patient_import_errors(import_id, line_number);
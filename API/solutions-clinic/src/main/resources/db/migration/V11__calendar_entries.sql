@@ -0,0 +1,44 @@
+-- =====================================================
+-- Tabela: calendar_entries
+-- Modelo de leitura desnormalizado da agenda: uma linha por agendamento,
+-- já com os nomes de exibição. Atualizada na mesma transação das escritas
+-- de agendamento; o calendário (semana/mês) é lido sem joins.
+-- =====================================================
+CREATE TABLE calendar_entries (
+    appointment_id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    professional_id UUID NOT NULL,
+    patient_id UUID NOT NULL,
+    room_id UUID,
+    professional_name VARCHAR(511) NOT NULL,
+    patient_name VARCHAR(255) NOT NULL,
+    room_name VARCHAR(255),
+    starts_at TIMESTAMP NOT NULL,
+    ends_at TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    payment_status VARCHAR(20) NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_calendar_entries_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE
+);
+
+-- Leitura por intervalo: uma única varredura de faixa no índice
+CREATE INDEX idx_calendar_entries_tenant_starts_at ON calendar_entries(tenant_id, starts_at);
+-- Propagação de alteração do nome do profissional
+CREATE INDEX idx_calendar_entries_professional_id ON calendar_entries(professional_id);
+
+-- Carga inicial a partir dos agendamentos existentes
+INSERT INTO calendar_entries (
+    appointment_id, tenant_id, professional_id, patient_id, room_id,
+    professional_name, patient_name, room_name,
+    starts_at, ends_at, status, payment_status, updated_at
+)
+SELECT a.id, a.tenant_id, a.professional_id, a.patient_id, a.room_id,
+       TRIM(u.first_name || ' ' || COALESCE(u.last_name, '')), p.first_name, r.name,
+       a.scheduled_at, a.scheduled_at + make_interval(mins => a.duration_minutes),
+       a.status, a.payment_status, CURRENT_TIMESTAMP
+FROM appointments a
+JOIN patients p ON p.id = a.patient_id
+JOIN professionals pr ON pr.id = a.professional_id
+JOIN users u ON u.id = pr.user_id
+LEFT JOIN rooms r ON r.id = a.room_id;
@@ -0,0 +1,209 @@
+-- =====================================================
+-- Particionamento mensal por intervalo de tempo
+--   appointments           -> scheduled_at
+--   financial_transactions -> reference_date (data de pagamento, ou vencimento enquanto não pago)
+--
+-- Consultas limitadas por data passam a ler apenas as partições dos meses pedidos
+-- (partition pruning). Partições futuras são criadas e as antigas arquivadas pelo
+-- PartitionMaintenanceJob, através das funções abaixo.
+--
+-- Em tabelas particionadas a PK precisa incluir a chave de partição, então
+-- appointments(id) deixa de ser referenciável por FK: as FKs de appointment_procedures,
+-- financial_transactions e medical_records para appointments são removidas
+-- (agendamentos nunca são apagados, apenas cancelados).
+-- =====================================================
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+-- Cria (se não existir) a partição mensal de "parent" que contém "month".
+-- Linhas do período que já estejam na partição default (ex.: agendamentos marcados
+-- além do horizonte de partições) são movidas para a nova partição antes do ATTACH.
+CREATE OR REPLACE FUNCTION ensure_monthly_partition(parent TEXT, month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    start_date DATE := date_trunc('month', month)::date;
+    end_date DATE := (date_trunc('month', month) + INTERVAL '1 month')::date;
+    partition_name TEXT := parent || '_p' || to_char(date_trunc('month', month), 'YYYYMM');
+    default_name TEXT := parent || '_default';
+    key_column TEXT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    SELECT a.attname INTO key_column
+    FROM pg_partitioned_table pt
+    JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+    WHERE pt.partrelid = parent::regclass;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name, parent);
+
+    IF to_regclass(default_name) IS NOT NULL THEN
+        EXECUTE format(
+            'WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) INSERT INTO %I SELECT * FROM moved',
+            default_name, key_column, start_date, key_column, end_date, partition_name);
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        parent, partition_name, start_date, end_date);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Desanexa as partições mensais de "parent" anteriores ao mês de "before" e as move
+-- para o schema archive (continuam consultáveis, mas fora das varreduras da tabela principal).
+CREATE OR REPLACE FUNCTION archive_monthly_partitions(parent TEXT, before DATE) RETURNS INTEGER AS $$
+DECLARE
+    child TEXT;
+    archived INTEGER := 0;
+BEGIN
+    FOR child IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent::regclass
+          AND c.relname ~ ('^' || parent || '_p[0-9]{6}$')
+          AND to_date(right(c.relname, 6), 'YYYYMM') < date_trunc('month', before)
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, child);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA archive', child);
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Cria as partições mensais do primeiro mês com dados (no máximo 5 anos atrás) até 12 meses à frente
+CREATE OR REPLACE FUNCTION create_initial_monthly_partitions(parent TEXT, first_month DATE) RETURNS VOID AS $$
+DECLARE
+    month DATE := GREATEST(
+        date_trunc('month', COALESCE(first_month, CURRENT_DATE))::date,
+        (date_trunc('month', CURRENT_DATE) - INTERVAL '60 months')::date);
+BEGIN
+    WHILE month <= (date_trunc('month', CURRENT_DATE) + INTERVAL '12 months')::date LOOP
+        PERFORM ensure_monthly_partition(parent, month);
+        month := (month + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE appointment_procedures DROP CONSTRAINT fk_appointment_procedures_appointment;
+ALTER TABLE financial_transactions DROP CONSTRAINT fk_financial_transactions_appointment;
+ALTER TABLE medical_records DROP CONSTRAINT fk_medical_records_appointment;
+
+-- =====================================================
+-- appointments
+-- =====================================================
+ALTER TABLE appointments RENAME TO appointments_legacy;
+
+CREATE TABLE appointments (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    tenant_id UUID NOT NULL,
+    patient_id UUID NOT NULL,
+    professional_id UUID NOT NULL,
+    room_id UUID,
+    scheduled_at TIMESTAMP NOT NULL,
+    duration_minutes INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    observations TEXT,
+    cancelled_at TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    duration_actual_minutes INTEGER,
+    total_value DECIMAL(10, 2) NOT NULL,
+    payment_method VARCHAR(20),
+    payment_status VARCHAR(20) NOT NULL,
+    paid_at TIMESTAMP,
+    created_by UUID NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    vital_signs jsonb,
+
+    CONSTRAINT chk_appointment_status CHECK (status IN ('AGENDADO', 'CONFIRMADO', 'EM_ATENDIMENTO', 'FINALIZADO', 'CANCELADO', 'NAO_COMPARECEU')),
+    CONSTRAINT chk_appointment_payment_method CHECK (payment_method IN ('PIX', 'DEBITO', 'CREDITO', 'DINHEIRO', 'BOLETO', 'OUTRO')),
+    CONSTRAINT chk_appointment_payment_status CHECK (payment_status IN ('PENDENTE', 'PAGO', 'CANCELADO', 'FIADO'))
+) PARTITION BY RANGE (scheduled_at);
+
+CREATE TABLE appointments_default PARTITION OF appointments DEFAULT;
+
+SELECT create_initial_monthly_partitions('appointments', (SELECT MIN(scheduled_at)::date FROM appointments_legacy));
+
+INSERT INTO appointments (
+    id, tenant_id, patient_id, professional_id, room_id, scheduled_at, duration_minutes, status,
+    observations, cancelled_at, started_at, finished_at, duration_actual_minutes, total_value,
+    payment_method, payment_status, paid_at, created_by, created_at, updated_at, vital_signs
+)
+SELECT id, tenant_id, patient_id, professional_id, room_id, scheduled_at, duration_minutes, status,
+       observations, cancelled_at, started_at, finished_at, duration_actual_minutes, total_value,
+       payment_method, payment_status, paid_at, created_by, created_at, updated_at, vital_signs
+FROM appointments_legacy;
+
+DROP TABLE appointments_legacy;
+
+ALTER TABLE appointments ADD CONSTRAINT appointments_pkey PRIMARY KEY (id, scheduled_at);
+ALTER TABLE appointments ADD CONSTRAINT fk_appointments_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE;
+ALTER TABLE appointments ADD CONSTRAINT fk_appointments_patient FOREIGN KEY (patient_id) REFERENCES patients(id) ON DELETE CASCADE;
+ALTER TABLE appointments ADD CONSTRAINT fk_appointments_professional FOREIGN KEY (professional_id) REFERENCES professionals(id) ON DELETE CASCADE;
+ALTER TABLE appointments ADD CONSTRAINT fk_appointments_room FOREIGN KEY (room_id) REFERENCES rooms(id) ON DELETE SET NULL;
+ALTER TABLE appointments ADD CONSTRAINT fk_appointments_created_by FOREIGN KEY (created_by) REFERENCES users(id);
+
+-- Índices criados no pai são propagados para todas as partições (atuais e futuras)
+CREATE INDEX idx_appointments_tenant_scheduled_at ON appointments(tenant_id, scheduled_at);
+CREATE INDEX idx_appointments_professional_scheduled_at ON appointments(professional_id, scheduled_at);
+CREATE INDEX idx_appointments_room_scheduled_at ON appointments(room_id, scheduled_at);
+CREATE INDEX idx_appointments_patient_id ON appointments(patient_id);
+CREATE INDEX idx_appointments_status ON appointments(status);
+
+-- =====================================================
+-- financial_transactions
+-- =====================================================
+ALTER TABLE financial_transactions RENAME TO financial_transactions_legacy;
+
+CREATE TABLE financial_transactions (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    tenant_id UUID NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    category_id UUID,
+    amount DECIMAL(10, 2) NOT NULL,
+    due_date DATE NOT NULL,
+    payment_date DATE,
+    reference_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    payment_method VARCHAR(20),
+    appointment_id UUID,
+    professional_id UUID,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_financial_transaction_type CHECK (type IN ('INCOME', 'EXPENSE')),
+    CONSTRAINT chk_financial_transaction_status CHECK (status IN ('PENDENTE', 'PAGO', 'CANCELADO', 'FIADO')),
+    CONSTRAINT chk_financial_transaction_payment_method CHECK (payment_method IN ('PIX', 'DEBITO', 'CREDITO', 'DINHEIRO', 'BOLETO', 'OUTRO')),
+    CONSTRAINT chk_financial_transaction_reference_date CHECK (reference_date = COALESCE(payment_date, due_date))
+) PARTITION BY RANGE (reference_date);
+
+CREATE TABLE financial_transactions_default PARTITION OF financial_transactions DEFAULT;
+
+SELECT create_initial_monthly_partitions('financial_transactions',
+    (SELECT MIN(COALESCE(payment_date, due_date)) FROM financial_transactions_legacy));
+
+INSERT INTO financial_transactions (
+    id, tenant_id, description, type, category_id, amount, due_date, payment_date, reference_date,
+    status, payment_method, appointment_id, professional_id, created_at, updated_at
+)
+SELECT id, tenant_id, description, type, category_id, amount, due_date, payment_date, COALESCE(payment_date, due_date),
+       status, payment_method, appointment_id, professional_id, created_at, updated_at
+FROM financial_transactions_legacy;
+
+DROP TABLE financial_transactions_legacy;
+
+ALTER TABLE financial_transactions ADD CONSTRAINT financial_transactions_pkey PRIMARY KEY (id, reference_date);
+ALTER TABLE financial_transactions ADD CONSTRAINT fk_financial_transactions_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE;
+ALTER TABLE financial_transactions ADD CONSTRAINT fk_financial_transactions_category FOREIGN KEY (category_id) REFERENCES financial_categories(id) ON DELETE SET NULL;
+ALTER TABLE financial_transactions ADD CONSTRAINT fk_financial_transactions_professional FOREIGN KEY (professional_id) REFERENCES professionals(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_financial_transactions_tenant_reference_date ON financial_transactions(tenant_id, reference_date);
+CREATE INDEX idx_financial_transactions_tenant_due_date ON financial_transactions(tenant_id, due_date);
+CREATE INDEX idx_financial_transactions_appointment_id ON financial_transactions(appointment_id);
+CREATE INDEX idx_financial_transactions_professional_id ON financial_transactions(professional_id);
+CREATE INDEX idx_financial_transactions_status ON financial_transactions(status);
@@ -0,0 +1,47 @@
+-- =====================================================
+-- Arquivo frio: agendamentos FINALIZADO e prontuários assinados
+-- mais antigos que app.archival.horizon-months são movidos das tabelas
+-- quentes para o schema archive pelo ColdDataArchivalJob.
+--
+-- Cada linha arquivada guarda as colunas de busca e a linha original
+-- inteira em "data" (jsonb). Com toast_tuple_target no mínimo, o Postgres
+-- comprime (TOAST) "data" mesmo em linhas pequenas, então o arquivo ocupa
+-- uma fração do espaço e não pesa nos índices/vacuum das tabelas quentes.
+-- Os use cases de leitura de prontuário consultam o arquivo quando a linha
+-- não está mais na tabela quente (read-through).
+-- =====================================================
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+CREATE TABLE archive.finished_appointments (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    patient_id UUID NOT NULL,
+    professional_id UUID NOT NULL,
+    scheduled_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- linha de appointments + "procedures" (linhas de appointment_procedures)
+    data jsonb NOT NULL
+) WITH (toast_tuple_target = 128);
+
+CREATE INDEX idx_archive_finished_appointments_tenant_scheduled_at
+    ON archive.finished_appointments(tenant_id, scheduled_at);
+CREATE INDEX idx_archive_finished_appointments_patient_id
+    ON archive.finished_appointments(patient_id);
+
+CREATE TABLE archive.signed_medical_records (
+    id UUID PRIMARY KEY,
+    appointment_id UUID NOT NULL UNIQUE,
+    tenant_id UUID NOT NULL,
+    signed_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- linha de medical_records
+    data jsonb NOT NULL
+) WITH (toast_tuple_target = 128);
+
+CREATE INDEX idx_archive_signed_medical_records_tenant_id
+    ON archive.signed_medical_records(tenant_id);
+
+-- Varredura de candidatos ao arquivamento (agendamentos finalizados mais antigos primeiro)
+CREATE INDEX idx_appointments_finished_scheduled_at ON appointments(scheduled_at)
+    WHERE status = 'FINALIZADO';
@@ -0,0 +1,138 @@
+-- =====================================================
+-- Versão otimista de medical_records e funções de patch do content.
+-- O autosave envia só o patch (RFC 6902 JSON Patch ou RFC 7386 Merge Patch),
+-- aplicado no próprio UPDATE sem carregar o documento na aplicação.
+-- As funções retornam NULL quando o patch não se aplica ao documento atual
+-- (operação "test" falhou, caminho inexistente); o UPDATE então não altera nada,
+-- assim como quando o resultado deixaria de ser um objeto JSON.
+-- =====================================================
+ALTER TABLE medical_records ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Valor no caminho (segmentos já decodificados do JSON Pointer), ou NULL se não existir.
+-- Índices de array precisam ser inteiros não negativos: o #> do Postgres aceitaria -1.
+CREATE OR REPLACE FUNCTION jsonb_patch_lookup(doc JSONB, path TEXT[]) RETURNS JSONB AS $$
+DECLARE
+    node JSONB := doc;
+    segment TEXT;
+BEGIN
+    FOREACH segment IN ARRAY path LOOP
+        IF jsonb_typeof(node) = 'object' THEN
+            node := node -> segment;
+        ELSIF jsonb_typeof(node) = 'array' AND segment ~ '^(0|[1-9][0-9]{0,8})$' THEN
+            node := node -> segment::INTEGER;
+        ELSE
+            RETURN NULL;
+        END IF;
+        IF node IS NULL THEN
+            RETURN NULL;
+        END IF;
+    END LOOP;
+    RETURN node;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Operação "add": membro de objeto (cria ou substitui), posição de array (insere) ou "-" (final do array)
+CREATE OR REPLACE FUNCTION jsonb_patch_add(doc JSONB, path TEXT[], value JSONB) RETURNS JSONB AS $$
+DECLARE
+    depth INTEGER := cardinality(path);
+    parent_path TEXT[];
+    parent JSONB;
+    segment TEXT;
+    target_index INTEGER;
+BEGIN
+    IF depth = 0 THEN
+        RETURN value;
+    END IF;
+    parent_path := path[1:depth - 1];
+    parent := jsonb_patch_lookup(doc, parent_path);
+    segment := path[depth];
+
+    IF jsonb_typeof(parent) = 'object' THEN
+        RETURN jsonb_set(doc, path, value, TRUE);
+    ELSIF jsonb_typeof(parent) = 'array' THEN
+        IF segment = '-' THEN
+            target_index := jsonb_array_length(parent);
+        ELSIF segment ~ '^(0|[1-9][0-9]{0,8})$' AND segment::INTEGER <= jsonb_array_length(parent) THEN
+            target_index := segment::INTEGER;
+        ELSE
+            RETURN NULL;
+        END IF;
+
+        IF target_index = jsonb_array_length(parent) THEN
+            parent := parent || jsonb_build_array(value);
+            RETURN CASE WHEN depth = 1 THEN parent ELSE jsonb_set(doc, parent_path, parent, FALSE) END;
+        END IF;
+        RETURN jsonb_insert(doc, parent_path || target_index::TEXT, value);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- RFC 6902. "ops" chega normalizado pela aplicação: path/from como arrays de segmentos.
+CREATE OR REPLACE FUNCTION jsonb_json_patch(doc JSONB, ops JSONB) RETURNS JSONB AS $$
+DECLARE
+    op JSONB;
+    path TEXT[];
+    from_path TEXT[];
+    source JSONB;
+BEGIN
+    FOR op IN SELECT elem FROM jsonb_array_elements(ops) AS e(elem) LOOP
+        path := ARRAY(SELECT jsonb_array_elements_text(op -> 'path'));
+        CASE op ->> 'op'
+            WHEN 'add' THEN
+                doc := jsonb_patch_add(doc, path, op -> 'value');
+            WHEN 'remove' THEN
+                IF cardinality(path) = 0 OR jsonb_patch_lookup(doc, path) IS NULL THEN
+                    RETURN NULL;
+                END IF;
+                doc := doc #- path;
+            WHEN 'replace' THEN
+                IF jsonb_patch_lookup(doc, path) IS NULL THEN
+                    RETURN NULL;
+                END IF;
+                doc := CASE WHEN cardinality(path) = 0 THEN op -> 'value' ELSE jsonb_set(doc, path, op -> 'value', FALSE) END;
+            WHEN 'move', 'copy' THEN
+                from_path := ARRAY(SELECT jsonb_array_elements_text(op -> 'from'));
+                source := jsonb_patch_lookup(doc, from_path);
+                IF source IS NULL THEN
+                    RETURN NULL;
+                END IF;
+                IF op ->> 'op' = 'move' THEN
+                    doc := doc #- from_path;
+                END IF;
+                doc := jsonb_patch_add(doc, path, source);
+            WHEN 'test' THEN
+                IF jsonb_patch_lookup(doc, path) IS DISTINCT FROM op -> 'value' THEN
+                    RETURN NULL;
+                END IF;
+            ELSE
+                RETURN NULL;
+        END CASE;
+        IF doc IS NULL THEN
+            RETURN NULL;
+        END IF;
+    END LOOP;
+    RETURN doc;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- RFC 7386: objetos são mesclados recursivamente e null remove o membro
+CREATE OR REPLACE FUNCTION jsonb_merge_patch(target JSONB, patch JSONB) RETURNS JSONB AS $$
+DECLARE
+    result JSONB;
+    member RECORD;
+BEGIN
+    IF jsonb_typeof(patch) IS DISTINCT FROM 'object' THEN
+        RETURN patch;
+    END IF;
+    result := CASE WHEN jsonb_typeof(target) = 'object' THEN target ELSE '{}'::JSONB END;
+    FOR member IN SELECT key, value FROM jsonb_each(patch) LOOP
+        IF jsonb_typeof(member.value) = 'null' THEN
+            result := result - member.key;
+        ELSE
+            result := jsonb_set(result, ARRAY[member.key], jsonb_merge_patch(result -> member.key, member.value), TRUE);
+        END IF;
+    END LOOP;
+    RETURN result;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
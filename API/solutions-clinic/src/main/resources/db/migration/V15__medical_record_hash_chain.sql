@@ -0,0 +1,53 @@
+-- =====================================================
+-- Cadeia de integridade dos prontuários assinados.
+-- Na assinatura o prontuário recebe a posição na cadeia do paciente, o ponteiro para o
+-- registro anterior e o SHA-256 do conteúdo canônico encadeado ao digest anterior
+-- (ver MedicalRecordSeal). medical_record_chains guarda o último elo de cada paciente:
+-- continua válido depois que prontuários antigos vão para o arquivo frio.
+-- Prontuários assinados antes desta migração ficam fora da cadeia (digest nulo).
+-- =====================================================
+ALTER TABLE medical_records
+    ADD COLUMN patient_id UUID,
+    ADD COLUMN chain_position BIGINT,
+    ADD COLUMN previous_record_id UUID,
+    ADD COLUMN previous_digest VARCHAR(64),
+    ADD COLUMN digest VARCHAR(64);
+
+-- Garante uma única entrada por posição e serve a varredura ordenada da verificação
+CREATE UNIQUE INDEX ux_medical_records_patient_chain_position
+    ON medical_records(patient_id, chain_position)
+    WHERE digest IS NOT NULL;
+
+CREATE TABLE medical_record_chains (
+    patient_id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    last_position BIGINT NOT NULL,
+    last_record_id UUID NOT NULL,
+    last_digest VARCHAR(64) NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_medical_record_chains_patient FOREIGN KEY (patient_id) REFERENCES patients(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_medical_record_chains_tenant_id ON medical_record_chains(tenant_id, patient_id);
+
+-- Mesma varredura sobre os prontuários arquivados (linha original em "data")
+CREATE INDEX idx_archive_signed_medical_records_chain
+    ON archive.signed_medical_records(((data ->> 'patient_id')::UUID), ((data ->> 'chain_position')::BIGINT))
+    WHERE data ->> 'digest' IS NOT NULL;
+
+-- Prontuário assinado é imutável também para quem escreve direto no banco.
+-- DELETE continua permitido (arquivamento); a verificação acusa elos ausentes.
+CREATE OR REPLACE FUNCTION medical_records_reject_signed_update() RETURNS TRIGGER AS $$
+BEGIN
+    IF OLD.signed_at IS NOT NULL THEN
+        RAISE EXCEPTION 'Prontuário % já assinado não pode ser alterado', OLD.id
+            USING ERRCODE = 'check_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_medical_records_reject_signed_update
+    BEFORE UPDATE ON medical_records
+    FOR EACH ROW EXECUTE FUNCTION medical_records_reject_signed_update();
@@ -0,0 +1,12 @@
+-- =====================================================
+-- Linha do tempo do paciente: paginação por chave (scheduled_at, id) decrescente.
+-- Os índices compostos atendem "patient_id = ? AND (scheduled_at, id) < (?, ?)" na ordem
+-- da página, sem ordenar o histórico inteiro; substituem os índices só por patient_id.
+-- =====================================================
+DROP INDEX IF EXISTS idx_appointments_patient_id;
+CREATE INDEX idx_appointments_patient_scheduled_at
+    ON appointments(patient_id, scheduled_at DESC, id DESC);
+
+DROP INDEX IF EXISTS archive.idx_archive_finished_appointments_patient_id;
+CREATE INDEX idx_archive_finished_appointments_patient_scheduled_at
+    ON archive.finished_appointments(patient_id, scheduled_at DESC, id DESC);
@@ -0,0 +1,56 @@
+-- =====================================================
+-- Sinais vitais normalizados: uma linha por métrica de cada triagem, para séries temporais.
+-- O JSON em appointments.vital_signs continua sendo a fonte exibida na consulta;
+-- DefaultSaveTriageUseCase regrava as leituras do agendamento a cada triagem salva.
+-- measured_at é o início do atendimento (ou o horário agendado, se ainda não iniciado).
+-- =====================================================
+CREATE TABLE vital_sign_readings (
+    appointment_id UUID NOT NULL,
+    metric VARCHAR(30) NOT NULL,
+    tenant_id UUID NOT NULL,
+    patient_id UUID NOT NULL,
+    measured_at TIMESTAMP NOT NULL,
+    value DOUBLE PRECISION NOT NULL,
+
+    CONSTRAINT pk_vital_sign_readings PRIMARY KEY (appointment_id, metric),
+    CONSTRAINT fk_vital_sign_readings_patient FOREIGN KEY (patient_id) REFERENCES patients(id) ON DELETE CASCADE,
+    CONSTRAINT chk_vital_sign_readings_metric CHECK (metric IN (
+        'SYSTOLIC_BLOOD_PRESSURE', 'DIASTOLIC_BLOOD_PRESSURE', 'HEART_RATE', 'TEMPERATURE',
+        'OXYGEN_SATURATION', 'WEIGHT', 'HEIGHT', 'BMI'))
+);
+
+-- Série de uma métrica do paciente em um intervalo: uma varredura de intervalo, só no índice
+CREATE INDEX idx_vital_sign_readings_patient_metric_measured_at
+    ON vital_sign_readings(patient_id, metric, measured_at) INCLUDE (value);
+
+-- Carga inicial a partir das triagens já gravadas (tabela quente e arquivo frio).
+-- Mesmas regras de VitalSignReadings: números ou textos numéricos (vírgula decimal aceita),
+-- pressão "120/80" (ou "120x80") e zeros descartados (campo não preenchido no formulário).
+INSERT INTO vital_sign_readings (appointment_id, metric, tenant_id, patient_id, measured_at, value)
+SELECT src.id, raw.metric, src.tenant_id, src.patient_id, src.measured_at,
+       replace(trim(raw.text_value), ',', '.')::DOUBLE PRECISION
+FROM (
+    SELECT a.id, a.tenant_id, a.patient_id, COALESCE(a.started_at, a.scheduled_at) AS measured_at, a.vital_signs
+    FROM appointments a
+    WHERE jsonb_typeof(a.vital_signs) = 'object'
+    UNION ALL
+    SELECT s.id, s.tenant_id, s.patient_id,
+           COALESCE((s.data ->> 'started_at')::TIMESTAMP, s.scheduled_at), s.data -> 'vital_signs'
+    FROM archive.finished_appointments s
+    WHERE jsonb_typeof(s.data -> 'vital_signs') = 'object'
+) src
+CROSS JOIN LATERAL (VALUES
+    ('SYSTOLIC_BLOOD_PRESSURE', substring(src.vital_signs ->> 'bloodPressure' FROM '^\s*([0-9]+(?:[.,][0-9]+)?)\s*[/xX]')),
+    ('DIASTOLIC_BLOOD_PRESSURE', substring(src.vital_signs ->> 'bloodPressure' FROM '[/xX]\s*([0-9]+(?:[.,][0-9]+)?)\s*$')),
+    ('HEART_RATE', src.vital_signs ->> 'heartRate'),
+    ('TEMPERATURE', src.vital_signs ->> 'temperature'),
+    ('OXYGEN_SATURATION', src.vital_signs ->> 'oxygenSaturation'),
+    ('WEIGHT', src.vital_signs ->> 'weight'),
+    ('HEIGHT', src.vital_signs ->> 'height'),
+    ('BMI', src.vital_signs ->> 'imc')
+) AS raw(metric, text_value)
+WHERE EXISTS (SELECT 1 FROM patients p WHERE p.id = src.patient_id)
+  AND CASE WHEN raw.text_value ~ '^\s*[0-9]+([.,][0-9]+)?\s*$'
+           THEN replace(trim(raw.text_value), ',', '.')::DOUBLE PRECISION > 0
+           ELSE FALSE END
+ON CONFLICT DO NOTHING;
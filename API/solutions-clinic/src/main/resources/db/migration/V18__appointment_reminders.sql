@@ -0,0 +1,38 @@
+-- =====================================================
+-- Tabela: appointment_reminders
+-- Fila durável de lembretes de agendamento. O scanner insere um lembrete por
+-- (agendamento, horário) dentro da antecedência configurada; o dispatcher reserva
+-- lotes, envia pelo canal configurado (ReminderChannel) e registra o resultado.
+-- Sem FK para appointments (particionada por scheduled_at, ver V12).
+-- Reagendar gera um novo lembrete; o anterior é cancelado pelo dispatcher.
+-- =====================================================
+CREATE TABLE appointment_reminders (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    appointment_id UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    patient_id UUID NOT NULL,
+    scheduled_at TIMESTAMP NOT NULL,
+    channel VARCHAR(20) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    claimed_at TIMESTAMP,
+    sent_at TIMESTAMP,
+
+    CONSTRAINT uq_appointment_reminders_appointment UNIQUE (appointment_id, scheduled_at),
+    CONSTRAINT chk_appointment_reminder_channel CHECK (channel IN ('WHATSAPP', 'SMS', 'EMAIL')),
+    CONSTRAINT chk_appointment_reminder_status CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED', 'CANCELLED')),
+    CONSTRAINT fk_appointment_reminders_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE
+);
+
+-- Fila do dispatcher: só lembretes ainda não concluídos, na ordem do horário do agendamento
+CREATE INDEX idx_appointment_reminders_queue ON appointment_reminders(scheduled_at)
+    WHERE status IN ('PENDING', 'SENDING', 'FAILED');
+-- Estatísticas de envio por clínica
+CREATE INDEX idx_appointment_reminders_tenant_scheduled_at ON appointment_reminders(tenant_id, scheduled_at);
+
+-- Varredura do scanner (todas as clínicas): faixa de scheduled_at só nos agendamentos ativos
+CREATE INDEX idx_appointments_scheduled_at_active ON appointments(scheduled_at)
+    WHERE status IN ('AGENDADO', 'CONFIRMADO');
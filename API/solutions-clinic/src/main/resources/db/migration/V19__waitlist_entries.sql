@@ -0,0 +1,38 @@
+-- =====================================================
+-- Tabela: waitlist_entries
+-- Lista de espera por profissional: o paciente aceita qualquer horário livre entre
+-- earliest_date e latest_date com a duração informada. Quando um agendamento futuro
+-- é cancelado, o WaitlistBackfiller reserva o horário liberado para o melhor candidato
+-- (janela que termina antes, depois ordem de chegada) criando um agendamento AGENDADO.
+-- =====================================================
+CREATE TABLE waitlist_entries (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    patient_id UUID NOT NULL,
+    professional_id UUID NOT NULL,
+    earliest_date DATE NOT NULL,
+    latest_date DATE NOT NULL,
+    duration_minutes INTEGER NOT NULL,
+    observations TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    appointment_id UUID,
+    scheduled_at TIMESTAMP,
+    created_by UUID NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_waitlist_entry_status CHECK (status IN ('WAITING', 'SCHEDULED', 'CANCELLED')),
+    CONSTRAINT chk_waitlist_entry_window CHECK (latest_date >= earliest_date),
+    CONSTRAINT fk_waitlist_entries_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE,
+    CONSTRAINT fk_waitlist_entries_patient FOREIGN KEY (patient_id) REFERENCES patients(id) ON DELETE CASCADE,
+    CONSTRAINT fk_waitlist_entries_professional FOREIGN KEY (professional_id) REFERENCES professionals(id) ON DELETE CASCADE,
+    CONSTRAINT fk_waitlist_entries_created_by FOREIGN KEY (created_by) REFERENCES users(id)
+);
+
+-- Busca do candidato: entrada no índice em (profissional, latest_date >= dia do horário) e
+-- leitura já na ordem de prioridade; só as entradas em espera fazem parte do índice
+CREATE INDEX idx_waitlist_entries_match
+    ON waitlist_entries(professional_id, latest_date, created_at)
+    WHERE status = 'WAITING';
+-- Listagem da clínica
+CREATE INDEX idx_waitlist_entries_tenant_id ON waitlist_entries(tenant_id, status);
@@ -0,0 +1,13 @@
+-- =====================================================
+-- Ordem dos eventos do Stripe também nos reprocessamentos:
+-- a reserva de um evento verifica se há evento anterior (pelo created
+-- do Stripe) da mesma ordering_key ainda não concluído, e a subscription
+-- guarda o created do último evento aplicado para descartar entregas
+-- fora de ordem.
+-- =====================================================
+ALTER TABLE subscriptions ADD COLUMN stripe_event_applied_at TIMESTAMP;
+
+DROP INDEX IF EXISTS idx_stripe_events_ordering_key;
+CREATE INDEX idx_stripe_events_ordering_key_created
+    ON stripe_events(ordering_key, (COALESCE(stripe_created_at, received_at)), received_at, id)
+    WHERE status <> 'PROCESSED';
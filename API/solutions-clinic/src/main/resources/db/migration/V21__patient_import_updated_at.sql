@@ -0,0 +1,12 @@
+-- =====================================================
+-- Recuperação de importações de pacientes abandonadas
+-- updated_at é atualizado a cada mudança de status e a cada lote
+-- gravado; PENDING/RUNNING sem progresso recente viram FAILED
+-- (ver PatientImportRecoveryJob).
+-- =====================================================
+ALTER TABLE patient_imports ADD COLUMN updated_at TIMESTAMP;
+
+UPDATE patient_imports SET updated_at = COALESCE(finished_at, started_at, created_at);
+
+CREATE INDEX idx_patient_imports_active ON patient_imports(updated_at)
+    WHERE status IN ('PENDING', 'RUNNING');
@@ -0,0 +1,110 @@
+-- =====================================================
+-- Tabela: appointment_keys
+-- Índice global id -> scheduled_at dos agendamentos (tabela quente e arquivo frio).
+--
+-- Com appointments particionada pela data (V12), a PK é (id, scheduled_at): o id sozinho
+-- não é referenciável por FK e uma busca só pelo id consulta todas as partições. Esta tabela
+-- devolve as duas coisas:
+--   * as tabelas filhas voltam a ter FK (para appointment_keys), com o mesmo ON DELETE que
+--     tinham para appointments em V1/V2;
+--   * AppointmentRepository.findById lê scheduled_at aqui (uma busca na PK) e a consulta em
+--     appointments fica restrita a uma partição.
+--
+-- Corrige também o comentário de V12: agendamentos SÃO apagados, em cascata (tenant, paciente,
+-- profissional) e pelo arquivamento (V13). A chave só é removida quando o agendamento deixa de
+-- existir de fato: uma mudança de scheduled_at que troca de partição vira DELETE + INSERT
+-- internamente, e um agendamento arquivado continua existindo em archive.finished_appointments
+-- (seus prontuários não assinados e leituras de sinais vitais continuam válidos).
+--
+-- Índices de V1 não recriados em V12, e por quê:
+--   * idx_appointments_tenant_id: prefixo de idx_appointments_tenant_scheduled_at;
+--   * idx_appointments_scheduled_at: scheduled_at é a chave de partição (o mês é escolhido por
+--     pruning) e as varreduras só por data usam os índices parciais de V13 e V18;
+--   * idx_financial_transactions_tenant_id / _due_date: prefixos de
+--     idx_financial_transactions_tenant_reference_date / _tenant_due_date;
+--   * idx_financial_transactions_type: só dois valores (INCOME/EXPENSE), nunca seletivo; o
+--     dashboard filtra por (tenant_id, reference_date) e agrega o tipo.
+-- =====================================================
+CREATE TABLE appointment_keys (
+    id UUID PRIMARY KEY,
+    scheduled_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO appointment_keys (id, scheduled_at)
+SELECT id, scheduled_at FROM appointments;
+
+INSERT INTO appointment_keys (id, scheduled_at)
+SELECT id, scheduled_at FROM archive.finished_appointments
+ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION appointment_keys_upsert() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO appointment_keys (id, scheduled_at) VALUES (NEW.id, NEW.scheduled_at)
+    ON CONFLICT (id) DO UPDATE SET scheduled_at = EXCLUDED.scheduled_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Gatilhos AFTER ROW disparam no fim da instrução: numa troca de partição a linha nova já
+-- existe, e no arquivamento (DELETE + INSERT no archive na mesma instrução) a cópia também
+CREATE OR REPLACE FUNCTION appointment_keys_delete() RETURNS TRIGGER AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM archive.finished_appointments f WHERE f.id = OLD.id)
+       OR EXISTS (SELECT 1 FROM appointments a WHERE a.id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+    DELETE FROM appointment_keys WHERE id = OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_appointment_keys_insert
+    AFTER INSERT ON appointments
+    FOR EACH ROW EXECUTE FUNCTION appointment_keys_upsert();
+
+CREATE TRIGGER trg_appointment_keys_update
+    AFTER UPDATE OF scheduled_at ON appointments
+    FOR EACH ROW WHEN (OLD.scheduled_at IS DISTINCT FROM NEW.scheduled_at)
+    EXECUTE FUNCTION appointment_keys_upsert();
+
+CREATE TRIGGER trg_appointment_keys_delete
+    AFTER DELETE ON appointments
+    FOR EACH ROW EXECUTE FUNCTION appointment_keys_delete();
+
+-- Linhas órfãs deixadas por exclusões em cascata desde V12 (o agendamento não existe mais
+-- em lugar nenhum): seguem o ON DELETE que as FKs originais teriam aplicado
+DELETE FROM appointment_procedures p
+WHERE NOT EXISTS (SELECT 1 FROM appointment_keys k WHERE k.id = p.appointment_id);
+DELETE FROM medical_records m
+WHERE NOT EXISTS (SELECT 1 FROM appointment_keys k WHERE k.id = m.appointment_id);
+DELETE FROM vital_sign_readings v
+WHERE NOT EXISTS (SELECT 1 FROM appointment_keys k WHERE k.id = v.appointment_id);
+DELETE FROM appointment_reminders r
+WHERE NOT EXISTS (SELECT 1 FROM appointment_keys k WHERE k.id = r.appointment_id);
+DELETE FROM calendar_entries c
+WHERE NOT EXISTS (SELECT 1 FROM appointment_keys k WHERE k.id = c.appointment_id);
+UPDATE financial_transactions t SET appointment_id = NULL
+WHERE t.appointment_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM appointment_keys k WHERE k.id = t.appointment_id);
+UPDATE waitlist_entries w SET appointment_id = NULL
+WHERE w.appointment_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM appointment_keys k WHERE k.id = w.appointment_id);
+
+ALTER TABLE appointment_procedures ADD CONSTRAINT fk_appointment_procedures_appointment
+    FOREIGN KEY (appointment_id) REFERENCES appointment_keys(id) ON DELETE CASCADE;
+ALTER TABLE medical_records ADD CONSTRAINT fk_medical_records_appointment
+    FOREIGN KEY (appointment_id) REFERENCES appointment_keys(id) ON DELETE CASCADE;
+ALTER TABLE financial_transactions ADD CONSTRAINT fk_financial_transactions_appointment
+    FOREIGN KEY (appointment_id) REFERENCES appointment_keys(id) ON DELETE SET NULL;
+ALTER TABLE vital_sign_readings ADD CONSTRAINT fk_vital_sign_readings_appointment
+    FOREIGN KEY (appointment_id) REFERENCES appointment_keys(id) ON DELETE CASCADE;
+ALTER TABLE appointment_reminders ADD CONSTRAINT fk_appointment_reminders_appointment
+    FOREIGN KEY (appointment_id) REFERENCES appointment_keys(id) ON DELETE CASCADE;
+ALTER TABLE calendar_entries ADD CONSTRAINT fk_calendar_entries_appointment
+    FOREIGN KEY (appointment_id) REFERENCES appointment_keys(id) ON DELETE CASCADE;
+ALTER TABLE waitlist_entries ADD CONSTRAINT fk_waitlist_entries_appointment
+    FOREIGN KEY (appointment_id) REFERENCES appointment_keys(id) ON DELETE SET NULL;
+
+-- ON DELETE SET NULL de appointment_keys precisa achar as entradas pela coluna referenciadora
+CREATE INDEX idx_waitlist_entries_appointment_id ON waitlist_entries(appointment_id)
+    WHERE appointment_id IS NOT NULL;
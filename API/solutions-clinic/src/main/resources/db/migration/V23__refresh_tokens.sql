@@ -0,0 +1,21 @@
+-- ============================================
+-- Refresh tokens emitidos (jti), para rotação e detecção de reuso
+-- ============================================
+-- Cada refresh só pode ser usado uma vez: o uso marca used_at e emite um novo token da mesma
+-- família (family_id = sessão iniciada no login). Um token já usado ou revogado que volta a
+-- aparecer indica vazamento, e a família inteira é revogada.
+
+CREATE TABLE refresh_tokens (
+    jti UUID PRIMARY KEY,
+    family_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    issued_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    used_at TIMESTAMP,
+    revoked_at TIMESTAMP,
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens(user_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
@@ -0,0 +1,46 @@
+-- =====================================================
+-- Tabelas: calendar_feed_sequences, calendar_changes
+-- Histórico das alterações da agenda repassadas pelo feed SSE (CalendarFeed).
+--
+-- Cada clínica tem a própria sequência: o resume token do cliente é o número da última
+-- alteração recebida e não revela o volume das outras clínicas. A alteração é gravada na
+-- transação que a gerou (o UPSERT em calendar_feed_sequences segura a linha da clínica até o
+-- commit, então a ordem das sequências é a ordem dos commits) e o gatilho avisa todas as
+-- instâncias por NOTIFY, entregue só no commit. Cada instância lê o histórico a partir da
+-- última sequência que já repassou; a reconexão em outra instância retoma pelo mesmo token.
+-- =====================================================
+CREATE TABLE calendar_feed_sequences (
+    tenant_id UUID PRIMARY KEY,
+    last_sequence BIGINT NOT NULL,
+
+    CONSTRAINT fk_calendar_feed_sequences_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE
+);
+
+CREATE TABLE calendar_changes (
+    tenant_id UUID NOT NULL,
+    sequence BIGINT NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    appointment_id UUID NOT NULL,
+    professional_id UUID NOT NULL,
+    starts_at TIMESTAMP NOT NULL,
+    previous_professional_id UUID,
+    previous_starts_at TIMESTAMP,
+    recorded_at TIMESTAMP NOT NULL DEFAULT clock_timestamp(),
+
+    PRIMARY KEY (tenant_id, sequence),
+    CONSTRAINT fk_calendar_changes_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE
+);
+
+-- Limpeza por idade (CalendarChangePurgeJob)
+CREATE INDEX idx_calendar_changes_recorded_at ON calendar_changes(recorded_at);
+
+CREATE OR REPLACE FUNCTION calendar_changes_notify() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('calendar_changes', NEW.tenant_id::text || ':' || NEW.sequence);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_calendar_changes_notify
+    AFTER INSERT ON calendar_changes
+    FOR EACH ROW EXECUTE FUNCTION calendar_changes_notify();
@@ -0,0 +1,55 @@
+-- =====================================================
+-- vital_sign_readings acompanha o agendamento depois da triagem.
+--
+-- measured_at (início do atendimento, ou o horário agendado) e patient_id são cópias de
+-- appointments feitas quando a triagem é salva. Reagendar (DefaultUpdateAppointmentUseCase,
+-- WaitlistSlotMatcher), fazer o check-in ou trocar o paciente deixava a leitura no ponto
+-- antigo da série, e um agendamento cancelado continuava na tendência.
+--
+-- Os gatilhos cobrem todos os caminhos de escrita, inclusive os UPDATEs em lote de
+-- AppointmentLifecycle.applyAll: mudança de horário/início/paciente refaz as cópias e o
+-- cancelamento apaga as leituras. Uma mudança de scheduled_at que troca de partição chega
+-- como DELETE + INSERT (sem AFTER UPDATE, ver V22), daí o gatilho também no INSERT.
+-- Só agendamentos com triagem (vital_signs preenchido) podem ter leituras; os demais
+-- nem chegam à função.
+-- =====================================================
+CREATE OR REPLACE FUNCTION vital_sign_readings_follow_appointment() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.status = 'CANCELADO' THEN
+        DELETE FROM vital_sign_readings WHERE appointment_id = NEW.id;
+        RETURN NULL;
+    END IF;
+    UPDATE vital_sign_readings
+    SET measured_at = COALESCE(NEW.started_at, NEW.scheduled_at),
+        patient_id = NEW.patient_id
+    WHERE appointment_id = NEW.id
+      AND (measured_at <> COALESCE(NEW.started_at, NEW.scheduled_at) OR patient_id <> NEW.patient_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_vital_sign_readings_insert
+    AFTER INSERT ON appointments
+    FOR EACH ROW WHEN (NEW.vital_signs IS NOT NULL)
+    EXECUTE FUNCTION vital_sign_readings_follow_appointment();
+
+CREATE TRIGGER trg_vital_sign_readings_update
+    AFTER UPDATE OF scheduled_at, started_at, patient_id, status ON appointments
+    FOR EACH ROW WHEN (NEW.vital_signs IS NOT NULL AND (
+        OLD.scheduled_at IS DISTINCT FROM NEW.scheduled_at
+        OR OLD.started_at IS DISTINCT FROM NEW.started_at
+        OR OLD.patient_id IS DISTINCT FROM NEW.patient_id
+        OR OLD.status IS DISTINCT FROM NEW.status))
+    EXECUTE FUNCTION vital_sign_readings_follow_appointment();
+
+-- Leituras que já ficaram para trás (o arquivo frio só tem FINALIZADO, copiado na época certa)
+DELETE FROM vital_sign_readings v
+USING appointments a
+WHERE a.id = v.appointment_id AND a.status = 'CANCELADO';
+
+UPDATE vital_sign_readings v
+SET measured_at = COALESCE(a.started_at, a.scheduled_at),
+    patient_id = a.patient_id
+FROM appointments a
+WHERE a.id = v.appointment_id
+  AND (v.measured_at <> COALESCE(a.started_at, a.scheduled_at) OR v.patient_id <> a.patient_id);
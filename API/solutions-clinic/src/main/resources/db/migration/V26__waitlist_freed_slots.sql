@@ -0,0 +1,36 @@
+-- =====================================================
+-- Tabela: waitlist_freed_slots
+-- Fila durável dos horários liberados por cancelamento que aguardam encaixe da lista de
+-- espera. A linha é gravada na mesma transação do cancelamento (um restart ou uma fila em
+-- memória cheia não perdem mais o horário) e consumida pelo WaitlistBackfiller em qualquer
+-- instância: cada encaixe reserva uma linha com SKIP LOCKED e a apaga na própria transação.
+-- Falhas voltam para a fila até max-attempts; horários que já passaram são descartados.
+-- =====================================================
+CREATE TABLE waitlist_freed_slots (
+    id UUID PRIMARY KEY,
+    tenant_id UUID NOT NULL,
+    professional_id UUID NOT NULL,
+    -- Paciente que cancelou: não recebe o próprio horário de volta
+    patient_id UUID NOT NULL,
+    starts_at TIMESTAMP NOT NULL,
+    ends_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_waitlist_freed_slots_tenant FOREIGN KEY (tenant_id) REFERENCES tenant(id) ON DELETE CASCADE
+);
+
+-- Fila do encaixe (horário mais próximo primeiro) e descarte dos que já passaram
+CREATE INDEX idx_waitlist_freed_slots_starts_at ON waitlist_freed_slots(starts_at);
+
+-- Correção de V19: a busca dos candidatos NÃO é uma descida única no índice. Só
+-- (professional_id, latest_date >= dia) delimita a varredura; earliest_date <= dia era filtro
+-- residual, conferido na tabela linha a linha. Com earliest_date como última coluna da chave o
+-- filtro passa a ser conferido no próprio índice (sem visitar a tabela para as entradas cuja
+-- janela ainda não abriu) e a ordem (latest_date, created_at) continua saindo pronta. O custo
+-- segue proporcional às entradas em espera do profissional que terminam no dia ou depois e vêm
+-- antes dos candidatos na ordem de prioridade.
+DROP INDEX idx_waitlist_entries_match;
+CREATE INDEX idx_waitlist_entries_match
+    ON waitlist_entries(professional_id, latest_date, created_at, earliest_date)
+    WHERE status = 'WAITING';
@@ -0,0 +1,6 @@
+-- =====================================================
+-- Remove scheduler_nodes (V9). Os jobs particionados usam shards fixos com lease em
+-- scheduler_locks (ClusterJobRunner.runSharded) e ninguém lia a lista de nós vivos: a tabela
+-- só recebia o heartbeat de cada instância.
+-- =====================================================
+DROP TABLE IF EXISTS scheduler_nodes;
@@ -0,0 +1,68 @@
+-- =====================================================
+-- A criação de uma partição não apaga mais as chaves dos agendamentos que ela recebe.
+--
+-- ensure_monthly_partition (V12) move as linhas do período que estão em appointments_default
+-- com DELETE ... RETURNING para a tabela nova, que só é anexada depois. O DELETE dispara
+-- trg_appointment_keys_delete (V22) na partição default; nesse momento a linha não está em
+-- appointments (a tabela nova ainda não é partição) nem no arquivo, então a função removia a
+-- chave e o ON DELETE das FKs apagava procedimentos, prontuários (inclusive assinados),
+-- leituras de sinais vitais, lembretes e entradas de calendário, e desligava transações e
+-- itens da lista de espera. Atingia todo agendamento marcado além de app.partitions.months-ahead.
+--
+-- ensure_monthly_partition passa a marcar a movimentação com app.partition_move (SET LOCAL,
+-- vale só até o fim da transação) e appointment_keys_delete ignora os DELETEs marcados: a
+-- linha volta, com o mesmo id e scheduled_at, no ATTACH logo em seguida.
+-- =====================================================
+CREATE OR REPLACE FUNCTION ensure_monthly_partition(parent TEXT, month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    start_date DATE := date_trunc('month', month)::date;
+    end_date DATE := (date_trunc('month', month) + INTERVAL '1 month')::date;
+    partition_name TEXT := parent || '_p' || to_char(date_trunc('month', month), 'YYYYMM');
+    default_name TEXT := parent || '_default';
+    key_column TEXT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    SELECT a.attname INTO key_column
+    FROM pg_partitioned_table pt
+    JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+    WHERE pt.partrelid = parent::regclass;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name, parent);
+
+    IF to_regclass(default_name) IS NOT NULL THEN
+        PERFORM set_config('app.partition_move', 'on', true);
+        EXECUTE format(
+            'WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) INSERT INTO %I SELECT * FROM moved',
+            default_name, key_column, start_date, key_column, end_date, partition_name);
+        PERFORM set_config('app.partition_move', 'off', true);
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        parent, partition_name, start_date, end_date);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION appointment_keys_delete() RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('app.partition_move', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    IF EXISTS (SELECT 1 FROM archive.finished_appointments f WHERE f.id = OLD.id)
+       OR EXISTS (SELECT 1 FROM appointments a WHERE a.id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+    DELETE FROM appointment_keys WHERE id = OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Agendamentos que já passaram por uma movimentação e ficaram sem chave. As linhas filhas
+-- apagadas em cascata não têm como ser recuperadas aqui.
+INSERT INTO appointment_keys (id, scheduled_at)
+SELECT a.id, a.scheduled_at FROM appointments a
+WHERE NOT EXISTS (SELECT 1 FROM appointment_keys k WHERE k.id = a.id)
+ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,25 @@
+-- =====================================================
+-- Prontuário assinado também não pode ser apagado.
+--
+-- V15 bloqueia UPDATE de prontuário assinado, mas deixava DELETE livre por causa do arquivamento;
+-- um DELETE direto (ou em cascata a partir de appointment_keys) tirava o elo da cadeia sem
+-- deixar cópia, e a verificação só acusava o buraco depois.
+--
+-- A única saída legítima de um prontuário assinado da tabela quente é o ColdDataArchivalJob, que
+-- o copia para archive.signed_medical_records no mesmo comando. Ele marca a transação com
+-- app.medical_record_archive (SET LOCAL, vale só até o fim da transação) antes de mover os
+-- prontuários; sem a marca, o DELETE de uma linha com signed_at é recusado.
+-- =====================================================
+CREATE OR REPLACE FUNCTION medical_records_reject_signed_delete() RETURNS TRIGGER AS $$
+BEGIN
+    IF OLD.signed_at IS NOT NULL AND current_setting('app.medical_record_archive', true) IS DISTINCT FROM 'on' THEN
+        RAISE EXCEPTION 'Prontuário % já assinado não pode ser excluído', OLD.id
+            USING ERRCODE = 'check_violation';
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_medical_records_reject_signed_delete
+    BEFORE DELETE ON medical_records
+    FOR EACH ROW EXECUTE FUNCTION medical_records_reject_signed_delete();
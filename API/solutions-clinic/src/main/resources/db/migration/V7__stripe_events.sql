@@ -0,0 +1,27 @@
+-- =====================================================
+-- Tabela: stripe_events
+-- Armazena os eventos brutos recebidos pelo webhook do Stripe.
+-- A PK é o id do evento no Stripe (evt_...), garantindo deduplicação
+-- de reenvios. O processamento ocorre de forma assíncrona, em ordem
+-- por ordering_key (id da subscription no Stripe).
+-- =====================================================
+CREATE TABLE stripe_events (
+    id VARCHAR(255) PRIMARY KEY,
+    type VARCHAR(100) NOT NULL,
+    ordering_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    stripe_created_at TIMESTAMP,
+    received_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    claimed_at TIMESTAMP,
+    processed_at TIMESTAMP,
+
+    CONSTRAINT chk_stripe_event_status CHECK (status IN ('PENDING', 'PROCESSING', 'PROCESSED', 'FAILED'))
+);
+
+-- Varredura de eventos pendentes/falhos (reprocessamento) em ordem de chegada
+CREATE INDEX idx_stripe_events_status_received_at ON stripe_events(status, received_at)
+    WHERE status <> 'PROCESSED';
+CREATE INDEX idx_stripe_events_ordering_key ON stripe_events(ordering_key);
@@ -0,0 +1,8 @@
+-- =====================================================
+-- Índice composto para o TrialExpirationJob:
+-- WHERE status = 'TRIAL' AND trial_ends_at < :today
+-- Substitui idx_tenant_status (prefixo do novo índice).
+-- =====================================================
+CREATE INDEX idx_tenant_status_trial_ends_at ON tenant(status, trial_ends_at);
+
+DROP INDEX IF EXISTS idx_tenant_status;
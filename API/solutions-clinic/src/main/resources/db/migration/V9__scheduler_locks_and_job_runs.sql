@@ -0,0 +1,42 @@
+-- =====================================================
+-- Agendamento seguro em cluster (várias instâncias da API)
+-- =====================================================
+
+-- Tabela: scheduler_nodes
+-- Heartbeat de cada instância; os nós vivos definem a divisão (sharding) dos jobs em lote
+CREATE TABLE scheduler_nodes (
+    node_id VARCHAR(255) PRIMARY KEY,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_heartbeat_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_scheduler_nodes_last_heartbeat_at ON scheduler_nodes(last_heartbeat_at);
+
+-- Tabela: scheduler_locks
+-- Lease por job (ou por shard de job): só o nó dono do lease executa até locked_until
+CREATE TABLE scheduler_locks (
+    name VARCHAR(255) PRIMARY KEY,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP NOT NULL
+);
+
+-- Tabela: job_runs
+-- Histórico de execuções dos jobs agendados
+CREATE TABLE job_runs (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    job_name VARCHAR(255) NOT NULL,
+    node_id VARCHAR(255) NOT NULL,
+    shard_index INTEGER NOT NULL DEFAULT 0,
+    shard_count INTEGER NOT NULL DEFAULT 1,
+    status VARCHAR(20) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    duration_ms BIGINT,
+    rows_affected BIGINT,
+    error TEXT,
+
+    CONSTRAINT chk_job_run_status CHECK (status IN ('RUNNING', 'SUCCEEDED', 'FAILED'))
+);
+
+CREATE INDEX idx_job_runs_job_name_started_at ON job_runs(job_name, started_at DESC);
@@ -0,0 +1,140 @@
+package com.jettech.api.solutions_clinic.config;
+
+import com.jettech.api.solutions_clinic.config.replica.ReadConsistencyFilter;
+import com.jettech.api.solutions_clinic.config.replica.ReplicaRouting;
+import com.jettech.api.solutions_clinic.config.replica.ReplicaRoutingDataSource;
+import com.jettech.api.solutions_clinic.config.replica.WalPositionTracker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roteamento primário/réplica com dois Postgres reais (requer Docker). Cada banco tem uma tabela
+ * "node" com o próprio nome, então a consulta revela qual pool atendeu a transação.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaConfigTests {
+
+	@Container
+	static final PostgreSQLContainer PRIMARY = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Container
+	static final PostgreSQLContainer REPLICA = new PostgreSQLContainer("postgres:17-alpine");
+
+	private static ReplicaRoutingDataSource routing;
+	private static JdbcTemplate jdbc;
+	private static TransactionTemplate readOnly;
+	private static TransactionTemplate readWrite;
+	private static WalPositionTracker walPositionTracker;
+
+	@BeforeAll
+	static void setUp() {
+		label(PRIMARY, "primary");
+		label(REPLICA, "replica");
+
+		ReadReplicaConfig config = new ReadReplicaConfig();
+		routing = config.replicaRoutingDataSource(
+				PRIMARY.getJdbcUrl(), PRIMARY.getUsername(), PRIMARY.getPassword(), 2,
+				REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword(), 2);
+		DataSource dataSource = config.dataSource(routing);
+		jdbc = new JdbcTemplate(dataSource);
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readWrite = new TransactionTemplate(transactionManager);
+		walPositionTracker = config.walPositionTracker(routing, 0);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		routing.destroy();
+	}
+
+	@AfterEach
+	void clearRouting() {
+		ReplicaRouting.clear();
+	}
+
+	@Test
+	void readOnlyTransactionsUseReplica() {
+		assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+	}
+
+	@Test
+	void readWriteTransactionsUsePrimary() {
+		assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+	}
+
+	@Test
+	void readOnlyTransactionsUsePrimaryWhenRequired() {
+		ReplicaRouting.requirePrimary();
+
+		assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+	}
+
+	@Test
+	void writeResponsesCarryPrimaryLsn() throws Exception {
+		ReadConsistencyFilter filter = new ReadConsistencyFilter(walPositionTracker);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("POST", "/v1/appointments"), response,
+				(req, res) -> readWrite.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name")));
+
+		assertThat(response.getHeader(ReadConsistencyFilter.HEADER)).matches("[0-9A-F]+/[0-9A-F]+");
+	}
+
+	@Test
+	void readsWithUnreplayedTokenUsePrimary() throws Exception {
+		ReadConsistencyFilter filter = new ReadConsistencyFilter(walPositionTracker);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/appointments");
+		// Posição que a réplica nunca terá aplicado
+		request.addHeader(ReadConsistencyFilter.HEADER, "FFFFFFF/FFFFFFFF");
+		AtomicReference<String> node = new AtomicReference<>();
+
+		filter.doFilter(request, new MockHttpServletResponse(),
+				(req, res) -> node.set(readOnly.execute(status -> currentNode())));
+
+		assertThat(node.get()).isEqualTo("primary");
+		assertThat(ReplicaRouting.isPrimaryRequired()).isFalse();
+	}
+
+	@Test
+	void readsWithReplayedTokenUseReplica() throws Exception {
+		ReadConsistencyFilter filter = new ReadConsistencyFilter(walPositionTracker);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/appointments");
+		request.addHeader(ReadConsistencyFilter.HEADER, "0/0");
+		AtomicReference<String> node = new AtomicReference<>();
+
+		filter.doFilter(request, new MockHttpServletResponse(),
+				(req, res) -> node.set(readOnly.execute(status -> currentNode())));
+
+		assertThat(node.get()).isEqualTo("replica");
+	}
+
+	private static String currentNode() {
+		return jdbc.queryForObject("SELECT name FROM node", String.class);
+	}
+
+	private static void label(PostgreSQLContainer container, String name) {
+		JdbcTemplate template = new JdbcTemplate(new DriverManagerDataSource(
+				container.getJdbcUrl(), container.getUsername(), container.getPassword()));
+		template.execute("CREATE TABLE node (name TEXT NOT NULL)");
+		template.update("INSERT INTO node (name) VALUES (?)", name);
+	}
+}
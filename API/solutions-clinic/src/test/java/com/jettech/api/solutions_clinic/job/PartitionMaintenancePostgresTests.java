@@ -0,0 +1,85 @@
+package com.jettech.api.solutions_clinic.job;
+
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordRepository;
+import com.jettech.api.solutions_clinic.security.TenantFixtures;
+import com.jettech.api.solutions_clinic.security.TenantFixtures.Clinic;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Criação de partição sobre agendamentos que estavam na partição default (marcados além do
+ * horizonte de partições), em um Postgres real com as migrações aplicadas (requer Docker): a linha
+ * vai para a partição nova e a chave em appointment_keys e as linhas filhas continuam lá.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.driver-class-name=org.postgresql.Driver",
+		"spring.flyway.enabled=true",
+		"spring.jpa.hibernate.ddl-auto=none",
+		"app.partitions.months-ahead=15"
+})
+@Import(TenantFixtures.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PartitionMaintenancePostgresTests {
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Autowired
+	private TenantFixtures fixtures;
+
+	@Autowired
+	private PartitionMaintenanceJob partitionMaintenanceJob;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private AppointmentRepository appointmentRepository;
+
+	@Autowired
+	private MedicalRecordRepository medicalRecordRepository;
+
+	@Test
+	void appointmentBookedPastTheHorizonKeepsKeyAndChildrenWhenItsPartitionIsCreated() {
+		// V12 cria partições até 12 meses à frente: 14 meses cai em appointments_default
+		LocalDateTime scheduledAt = LocalDateTime.now().plusMonths(14).withHour(9).withMinute(0).withSecond(0).withNano(0);
+		Clinic clinic = fixtures.createClinic("Horizonte", scheduledAt);
+		assertThat(partitionOf(clinic)).isEqualTo("appointments_default");
+
+		assertThat(partitionMaintenanceJob.maintain()).isPositive();
+
+		assertThat(partitionOf(clinic))
+				.isEqualTo("appointments_p" + scheduledAt.format(DateTimeFormatter.ofPattern("yyyyMM")));
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM appointment_keys WHERE id = ?", Long.class, clinic.appointmentId()))
+				.isEqualTo(1L);
+		assertThat(transactionTemplate.execute(status -> appointmentRepository.findById(clinic.appointmentId()))
+				.map(Appointment::getScheduledAt))
+				.contains(scheduledAt);
+		assertThat(medicalRecordRepository.existsById(clinic.medicalRecordId())).isTrue();
+	}
+
+	private String partitionOf(Clinic clinic) {
+		return jdbcTemplate.queryForObject(
+				"SELECT tableoid::regclass::text FROM appointments WHERE id = ?", String.class, clinic.appointmentId());
+	}
+}
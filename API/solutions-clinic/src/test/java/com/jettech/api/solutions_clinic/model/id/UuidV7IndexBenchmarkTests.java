@@ -0,0 +1,85 @@
+package com.jettech.api.solutions_clinic.model.id;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserção e tamanho do índice da PK com UUIDv4 (GenerationType.UUID) contra UUIDv7, em um
+ * Postgres real. Roda com ./gradlew benchmarkTest (requer Docker) e imprime as medições.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class UuidV7IndexBenchmarkTests {
+
+	private static final int ROWS = 500_000;
+	private static final int BATCH = 1_000;
+
+	@Container
+	static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Test
+	void v7KeysInsertIntoSmallerPrimaryKeyIndex() throws SQLException {
+		Measurement v4 = measure("keys_v4", UUID::randomUUID);
+		Measurement v7 = measure("keys_v7", UuidV7::generate);
+
+		System.out.printf("UUIDv4: %,d linhas em %,d ms (%,.0f linhas/s), índice da PK %,d KB%n",
+				ROWS, v4.millis(), v4.rowsPerSecond(), v4.indexBytes() / 1024);
+		System.out.printf("UUIDv7: %,d linhas em %,d ms (%,.0f linhas/s), índice da PK %,d KB%n",
+				ROWS, v7.millis(), v7.rowsPerSecond(), v7.indexBytes() / 1024);
+
+		// Inserções no fim da árvore enchem as folhas (~90%); chaves aleatórias dividem páginas (~70%)
+		assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+	}
+
+	private static Measurement measure(String table, Supplier<UUID> keys) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(
+				POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL DEFAULT now(), payload TEXT)");
+			}
+			connection.setAutoCommit(false);
+
+			long start = System.nanoTime();
+			try (PreparedStatement insert = connection.prepareStatement(
+					"INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+				for (int i = 1; i <= ROWS; i++) {
+					insert.setObject(1, keys.get());
+					insert.setString(2, "agendamento " + i);
+					insert.addBatch();
+					if (i % BATCH == 0) {
+						insert.executeBatch();
+						connection.commit();
+					}
+				}
+			}
+			long millis = (System.nanoTime() - start) / 1_000_000;
+
+			try (Statement statement = connection.createStatement();
+				 ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+				rs.next();
+				return new Measurement(millis, rs.getLong(1));
+			}
+		}
+	}
+
+	private record Measurement(long millis, long indexBytes) {
+
+		double rowsPerSecond() {
+			return ROWS * 1000.0 / Math.max(1, millis);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.jettech.api.solutions_clinic.model.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Tests {
+
+	@Test
+	void setsVersionAndVariant() {
+		UUID id = UuidV7.generate();
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+	}
+
+	@Test
+	void embedsCurrentTimestamp() {
+		long before = System.currentTimeMillis();
+		UUID id = UuidV7.generate();
+		long timestamp = id.getMostSignificantBits() >>> 16;
+		// O contador esgotado adianta o timestamp lógico em alguns milissegundos sob carga
+		assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 1_000);
+	}
+
+	@Test
+	void isMonotonicAsPostgresComparesIt() {
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			ids.add(UuidV7.generate());
+		}
+		// Postgres compara uuid byte a byte (sem sinal); UUID.compareTo usa long com sinal
+		for (int i = 1; i < ids.size(); i++) {
+			assertThat(unsignedCompare(ids.get(i - 1), ids.get(i))).isNegative();
+		}
+	}
+
+	private static int unsignedCompare(UUID a, UUID b) {
+		int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+		return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+	}
+}
@@ -0,0 +1,63 @@
+package com.jettech.api.solutions_clinic.model.service.patientimport;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvPatientImportReaderTests {
+
+	@Test
+	void readsQuotedFieldsSpanningLines() throws IOException {
+		try (CsvPatientImportReader reader = reader("nome;cpf;alergias\nAna;123;\"pó\n\"\"látex\"\"\"\nBia;456;\n")) {
+			PatientImportRow first = reader.next();
+			assertThat(first.error()).isNull();
+			assertThat(first.lineNumber()).isEqualTo(2);
+			assertThat(first.values()).containsEntry("alergias", "pó\n\"látex\"");
+
+			PatientImportRow second = reader.next();
+			assertThat(second.lineNumber()).isEqualTo(4);
+			assertThat(second.values()).containsEntry("nome", "Bia");
+
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	void unclosedQuoteIsCappedAndReadingResumes() throws IOException {
+		StringBuilder csv = new StringBuilder("nome;cpf\nAna;\"123\n");
+		String filler = "x".repeat(1000) + "\n";
+		int fillerLines = CsvPatientImportReader.MAX_RECORD_CHARS / filler.length() + 1;
+		csv.append(filler.repeat(fillerLines));
+		csv.append("Bia;456\n");
+
+		try (CsvPatientImportReader reader = reader(csv.toString())) {
+			PatientImportRow broken = reader.next();
+			assertThat(broken.lineNumber()).isEqualTo(2);
+			assertThat(broken.error()).contains("aspas não fechadas");
+
+			PatientImportRow next;
+			PatientImportRow last = null;
+			while ((next = reader.next()) != null) {
+				last = next;
+			}
+			assertThat(last).isNotNull();
+			assertThat(last.values()).containsEntry("nome", "Bia").containsEntry("cpf", "456");
+		}
+	}
+
+	@Test
+	void unclosedQuoteAtEndOfFileIsReported() throws IOException {
+		try (CsvPatientImportReader reader = reader("nome;cpf\nAna;\"123\n")) {
+			assertThat(reader.next().error()).isEqualTo("Aspas não fechadas no fim do arquivo");
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	private static CsvPatientImportReader reader(String content) throws IOException {
+		return new CsvPatientImportReader(new BufferedReader(new StringReader(content)));
+	}
+}
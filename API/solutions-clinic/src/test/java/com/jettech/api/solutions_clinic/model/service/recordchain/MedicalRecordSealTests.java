@@ -0,0 +1,78 @@
+package com.jettech.api.solutions_clinic.model.service.recordchain;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MedicalRecordSealTests {
+
+	private static final UUID RECORD = UUID.fromString("0195a1b2-0000-7000-8000-000000000001");
+	private static final UUID PATIENT = UUID.fromString("0195a1b2-0000-7000-8000-000000000002");
+	private static final UUID APPOINTMENT = UUID.fromString("0195a1b2-0000-7000-8000-000000000003");
+	private static final UUID TEMPLATE = UUID.fromString("0195a1b2-0000-7000-8000-000000000004");
+	private static final LocalDateTime SIGNED_AT = LocalDateTime.of(2026, 3, 10, 9, 30, 0, 123_456_000);
+
+	@Test
+	void digestIsSha256OfCanonicalJson() throws NoSuchAlgorithmException {
+		MedicalRecordSeal seal = seal(1, null, null, "{ \"b\": [true, \"x\"], \"a\": 1.50 }", null);
+
+		String canonical = "{\"appointmentId\":\"" + APPOINTMENT + "\",\"content\":{\"a\":1.5,\"b\":[true,\"x\"]},"
+				+ "\"patientId\":\"" + PATIENT + "\",\"position\":1,\"previousDigest\":null,\"previousRecordId\":null,"
+				+ "\"recordId\":\"" + RECORD + "\",\"signedAt\":\"2026-03-10T09:30:00.123456\","
+				+ "\"templateId\":\"" + TEMPLATE + "\",\"v\":1,\"vitalSigns\":null}";
+		String expected = HexFormat.of().formatHex(
+				MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(seal.digest()).isEqualTo(expected);
+	}
+
+	@Test
+	void keyOrderAndFormattingDoNotChangeDigest() {
+		String stored = "{\"queixa\": \"Cefaleia\", \"exame\": {\"pa\": \"12x8\", \"peso\": 70.0}}";
+		String reordered = "{\"exame\":{\"peso\":70,\"pa\":\"12x8\"},\"queixa\":\"Cefaleia\"}";
+
+		assertThat(seal(1, null, null, stored, "{\"fc\": 72, \"spo2\": 98}").digest())
+				.isEqualTo(seal(1, null, null, reordered, "{\"spo2\":98,\"fc\":72}").digest());
+	}
+
+	@Test
+	void nullFieldIsNotTheSameAsMissingField() {
+		String withNull = seal(1, null, null, "{\"queixa\": \"Cefaleia\", \"conduta\": null}", null).digest();
+		String withoutField = seal(1, null, null, "{\"queixa\": \"Cefaleia\"}", null).digest();
+
+		assertThat(withNull).isNotEqualTo(withoutField);
+		assertThat(seal(1, null, null, "{}", null).digest()).isNotEqualTo(seal(1, null, null, "{}", "{}").digest());
+	}
+
+	@Test
+	void digestIsChainedToPreviousRecord() {
+		MedicalRecordSeal first = seal(1, null, null, "{\"queixa\": \"Cefaleia\"}", null);
+		String firstDigest = first.digest();
+		UUID nextRecord = UUID.fromString("0195a1b2-0000-7000-8000-000000000005");
+		String second = new MedicalRecordSeal(nextRecord, PATIENT, APPOINTMENT, TEMPLATE, SIGNED_AT, 2,
+				RECORD, firstDigest, "{\"queixa\": \"Retorno\"}", null).digest();
+
+		// Mesmo conteúdo do segundo elo sobre um primeiro elo adulterado
+		String tamperedFirst = seal(1, null, null, "{\"queixa\": \"Enxaqueca\"}", null).digest();
+		String afterTampered = new MedicalRecordSeal(nextRecord, PATIENT, APPOINTMENT, TEMPLATE, SIGNED_AT, 2,
+				RECORD, tamperedFirst, "{\"queixa\": \"Retorno\"}", null).digest();
+
+		assertThat(tamperedFirst).isNotEqualTo(firstDigest);
+		assertThat(afterTampered).isNotEqualTo(second);
+		assertThat(new MedicalRecordSeal(nextRecord, PATIENT, APPOINTMENT, TEMPLATE, SIGNED_AT, 2,
+				null, firstDigest, "{\"queixa\": \"Retorno\"}", null).digest()).isNotEqualTo(second);
+	}
+
+	private static MedicalRecordSeal seal(long position, UUID previousRecordId, String previousDigest,
+										  String content, String vitalSigns) {
+		return new MedicalRecordSeal(RECORD, PATIENT, APPOINTMENT, TEMPLATE, SIGNED_AT, position,
+				previousRecordId, previousDigest, content, vitalSigns);
+	}
+}
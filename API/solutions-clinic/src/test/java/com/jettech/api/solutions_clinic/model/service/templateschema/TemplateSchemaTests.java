@@ -0,0 +1,62 @@
+package com.jettech.api.solutions_clinic.model.service.templateschema;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jettech.api.solutions_clinic.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplateSchemaTests {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private final TemplateSchema schema = TemplateSchema.compile(json("""
+			[{"id": "queixa", "label": "Queixa", "type": "text", "required": true},
+			 {"id": "peso", "label": "Peso", "type": "number", "min": 0}]"""));
+
+	@Test
+	void draftMayLeaveRequiredFieldsBlank() {
+		assertThatCode(() -> schema.validate(json("{\"queixa\": \"\", \"peso\": 70}").traverse()))
+				.doesNotThrowAnyException();
+		assertThatCode(() -> schema.validate(json("{}").traverse())).doesNotThrowAnyException();
+	}
+
+	@Test
+	void draftStillChecksTypes() {
+		assertThatThrownBy(() -> schema.validate(json("{\"peso\": \"setenta\"}").traverse()))
+				.isInstanceOf(InvalidRequestException.class);
+		assertThatThrownBy(() -> schema.validate(json("{\"altura\": 1.7}").traverse()))
+				.isInstanceOf(InvalidRequestException.class);
+	}
+
+	@Test
+	void completeDocumentRequiresFilledFields() {
+		assertThatThrownBy(() -> schema.validateComplete(json("{\"queixa\": \"  \"}").traverse()))
+				.isInstanceOf(InvalidRequestException.class);
+		assertThatThrownBy(() -> schema.validateComplete(json("{\"peso\": 70}").traverse()))
+				.isInstanceOf(InvalidRequestException.class);
+		assertThatCode(() -> schema.validateComplete(json("{\"queixa\": \"Cefaleia\"}").traverse()))
+				.doesNotThrowAnyException();
+	}
+
+	@Test
+	void patchesMayClearRequiredFields() {
+		assertThatCode(() -> schema.validateMergePatch(json("{\"queixa\": null}").traverse()))
+				.doesNotThrowAnyException();
+		assertThatCode(() -> schema.validatePatchOperation("remove", List.of("queixa"), List.of(), null))
+				.doesNotThrowAnyException();
+	}
+
+	private static JsonNode json(String text) {
+		try {
+			return MAPPER.readTree(text);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.jettech.api.solutions_clinic.model.usecase.appointment;
+
+import com.jettech.api.solutions_clinic.exception.InvalidStateException;
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import com.jettech.api.solutions_clinic.security.TenantFixtures;
+import com.jettech.api.solutions_clinic.security.TenantFixtures.Clinic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Ciclo de vida do agendamento em um Postgres real com as migrações aplicadas (requer Docker):
+ * o DELETE também cancela um atendimento em andamento, e a transição em lote (UPDATE nativo com
+ * RETURNING) não deixa a sessão com o status antigo de agendamentos já carregados.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.driver-class-name=org.postgresql.Driver",
+		"spring.flyway.enabled=true",
+		"spring.jpa.hibernate.ddl-auto=none"
+})
+@Import(TenantFixtures.class)
+@Testcontainers(disabledWithoutDocker = true)
+class AppointmentLifecyclePostgresTests {
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Autowired
+	private TenantFixtures fixtures;
+
+	@Autowired
+	private DeleteAppointmentUseCase deleteAppointmentUseCase;
+
+	@Autowired
+	private AppointmentLifecycle appointmentLifecycle;
+
+	@Autowired
+	private AppointmentRepository appointmentRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void tearDown() {
+		TenantFixtures.logout();
+	}
+
+	@Test
+	void deleteCancelsAppointmentInProgress() throws Exception {
+		Clinic clinic = fixtures.createClinic("Em atendimento", tomorrowAt(9));
+		setStatus(clinic.appointmentId(), AppointmentStatus.EM_ATENDIMENTO);
+		TenantFixtures.loginAs(clinic);
+
+		deleteAppointmentUseCase.execute(clinic.appointmentId());
+
+		assertThat(status(clinic.appointmentId())).isEqualTo(AppointmentStatus.CANCELADO.name());
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT cancelled_at IS NOT NULL FROM appointments WHERE id = ?", Boolean.class, clinic.appointmentId()))
+				.isTrue();
+	}
+
+	@Test
+	void deleteKeepsFinishedAppointment() {
+		Clinic clinic = fixtures.createClinic("Finalizado", tomorrowAt(9));
+		setStatus(clinic.appointmentId(), AppointmentStatus.FINALIZADO);
+		TenantFixtures.loginAs(clinic);
+
+		assertThatThrownBy(() -> deleteAppointmentUseCase.execute(clinic.appointmentId()))
+				.isInstanceOf(InvalidStateException.class);
+		assertThat(status(clinic.appointmentId())).isEqualTo(AppointmentStatus.FINALIZADO.name());
+	}
+
+	@Test
+	void bulkTransitionRefreshesAppointmentsLoadedInTheSameTransaction() {
+		LocalDateTime scheduledAt = tomorrowAt(10);
+		Clinic clinic = fixtures.createClinic("Lote", scheduledAt);
+		TenantFixtures.loginAs(clinic);
+
+		AppointmentStatus reloaded = transactionTemplate.execute(status -> {
+			Appointment loaded = appointmentRepository.findById(clinic.appointmentId()).orElseThrow();
+			assertThat(loaded.getStatus()).isEqualTo(AppointmentStatus.AGENDADO);
+
+			List<UUID> ids = appointmentLifecycle.applyAll(clinic.tenantId(), null, AppointmentTransition.CONFIRM,
+					scheduledAt.toLocalDate().atStartOfDay(), scheduledAt.toLocalDate().plusDays(1).atStartOfDay());
+			assertThat(ids).containsExactly(clinic.appointmentId());
+
+			return appointmentRepository.findById(clinic.appointmentId()).orElseThrow().getStatus();
+		});
+
+		assertThat(reloaded).isEqualTo(AppointmentStatus.CONFIRMADO);
+		assertThat(status(clinic.appointmentId())).isEqualTo(AppointmentStatus.CONFIRMADO.name());
+	}
+
+	private static LocalDateTime tomorrowAt(int hour) {
+		return LocalDateTime.now().plusDays(1).withHour(hour).withMinute(0).withSecond(0).withNano(0);
+	}
+
+	private void setStatus(UUID appointmentId, AppointmentStatus status) {
+		jdbcTemplate.update("UPDATE appointments SET status = ? WHERE id = ?", status.name(), appointmentId);
+	}
+
+	private String status(UUID appointmentId) {
+		return jdbcTemplate.queryForObject("SELECT status FROM appointments WHERE id = ?", String.class, appointmentId);
+	}
+}
@@ -0,0 +1,98 @@
+package com.jettech.api.solutions_clinic.model.usecase.medicalrecord;
+
+import com.jettech.api.solutions_clinic.model.repository.ArchivedMedicalRecordRepository;
+import com.jettech.api.solutions_clinic.security.TenantFixtures;
+import com.jettech.api.solutions_clinic.security.TenantFixtures.Clinic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Prontuário assinado em um Postgres real com as migrações aplicadas (requer Docker): a V29 recusa
+ * o DELETE direto, e o arquivamento, que libera a exclusão na própria transação, mantém a cadeia
+ * verificável a partir do arquivo frio.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.driver-class-name=org.postgresql.Driver",
+		"spring.flyway.enabled=true",
+		"spring.jpa.hibernate.ddl-auto=none"
+})
+@Import(TenantFixtures.class)
+@Testcontainers(disabledWithoutDocker = true)
+class MedicalRecordChainPostgresTests {
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Autowired
+	private TenantFixtures fixtures;
+
+	@Autowired
+	private SignMedicalRecordUseCase signMedicalRecordUseCase;
+
+	@Autowired
+	private VerifyMedicalRecordChainUseCase verifyMedicalRecordChainUseCase;
+
+	@Autowired
+	private ArchivedMedicalRecordRepository archivedMedicalRecordRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void tearDown() {
+		TenantFixtures.logout();
+	}
+
+	@Test
+	void signedRecordCannotBeDeleted() throws Exception {
+		Clinic clinic = fixtures.createClinic("Assinada", LocalDateTime.now().plusDays(1).withNano(0));
+		Clinic draft = fixtures.createClinic("Rascunho", LocalDateTime.now().plusDays(1).withNano(0));
+		TenantFixtures.loginAs(clinic);
+		signMedicalRecordUseCase.execute(clinic.medicalRecordId());
+
+		assertThatThrownBy(() -> jdbcTemplate.update("DELETE FROM medical_records WHERE id = ?", clinic.medicalRecordId()))
+				.isInstanceOf(DataAccessException.class);
+		assertThat(jdbcTemplate.update("DELETE FROM medical_records WHERE id = ?", draft.medicalRecordId()))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void archivedSignedRecordKeepsChainVerifiable() throws Exception {
+		Clinic clinic = fixtures.createClinic("Arquivo", LocalDateTime.now().plusDays(1).withNano(0));
+		TenantFixtures.loginAs(clinic);
+		signMedicalRecordUseCase.execute(clinic.medicalRecordId());
+
+		Integer archived = transactionTemplate.execute(status -> {
+			archivedMedicalRecordRepository.allowSignedRecordRemoval();
+			return archivedMedicalRecordRepository.archiveByAppointmentIds(List.of(clinic.appointmentId()));
+		});
+		assertThat(archived).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM medical_records WHERE id = ?", Long.class, clinic.medicalRecordId()))
+				.isZero();
+
+		MedicalRecordChainVerificationResponse verification = verifyMedicalRecordChainUseCase.execute(clinic.patientId());
+		assertThat(verification.valid()).isTrue();
+		assertThat(verification.checkedRecords()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,159 @@
+package com.jettech.api.solutions_clinic.model.usecase.subscription;
+
+import com.jettech.api.solutions_clinic.model.entity.PlanType;
+import com.jettech.api.solutions_clinic.model.entity.StripeEvent;
+import com.jettech.api.solutions_clinic.model.entity.StripeEventStatus;
+import com.jettech.api.solutions_clinic.model.entity.Subscription;
+import com.jettech.api.solutions_clinic.model.entity.SubscriptionStatus;
+import com.jettech.api.solutions_clinic.model.entity.Tenant;
+import com.jettech.api.solutions_clinic.model.entity.TenantStatus;
+import com.jettech.api.solutions_clinic.model.entity.TypeTenant;
+import com.jettech.api.solutions_clinic.model.repository.StripeEventRepository;
+import com.jettech.api.solutions_clinic.model.repository.SubscriptionRepository;
+import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
+import com.stripe.Stripe;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pipeline do webhook do Stripe sem rede: stripe.gateway=stub (yaml de testes) aceita qualquer
+ * assinatura, e os eventos passam pela gravação em stripe_events, pelos workers e pelo
+ * StripeEventProcessor até a subscription, como em produção.
+ */
+@SpringBootTest
+class DefaultProcessStripeWebhookUseCaseTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+	private static final long PERIOD_START = 1_760_000_000L;
+	private static final long PERIOD_END = 1_762_592_000L;
+
+	@Autowired
+	private ProcessStripeWebhookUseCase processStripeWebhookUseCase;
+
+	@Autowired
+	private StripeEventRepository stripeEventRepository;
+
+	@Autowired
+	private SubscriptionRepository subscriptionRepository;
+
+	@Autowired
+	private TenantRepository tenantRepository;
+
+	@Test
+	void updatedEventIsStoredProcessedAndApplied() throws InterruptedException {
+		String stripeSubscriptionId = createSubscription();
+		String eventId = "evt_" + UUID.randomUUID();
+
+		deliver(subscriptionEvent(eventId, "customer.subscription.updated", PERIOD_START + 60, stripeSubscriptionId, "past_due"));
+
+		awaitProcessed(eventId);
+		Subscription subscription = subscriptionRepository.findByStripeSubscriptionId(stripeSubscriptionId).orElseThrow();
+		assertThat(subscription.getStatus()).isEqualTo(SubscriptionStatus.PAST_DUE);
+		assertThat(subscription.getCurrentPeriodStart()).isEqualTo(toLocalDateTime(PERIOD_START));
+		assertThat(subscription.getCurrentPeriodEnd()).isEqualTo(toLocalDateTime(PERIOD_END));
+	}
+
+	@Test
+	void redeliveredEventIsProcessedOnce() throws InterruptedException {
+		String stripeSubscriptionId = createSubscription();
+		String eventId = "evt_" + UUID.randomUUID();
+		String payload = subscriptionEvent(eventId, "customer.subscription.updated", PERIOD_START + 60, stripeSubscriptionId, "active");
+
+		deliver(payload);
+		awaitProcessed(eventId);
+		deliver(payload);
+
+		StripeEvent stored = stripeEventRepository.findById(eventId).orElseThrow();
+		assertThat(stored.getStatus()).isEqualTo(StripeEventStatus.PROCESSED);
+		assertThat(stored.getAttempts()).isEqualTo(1);
+	}
+
+	@Test
+	void olderEventDeliveredLateDoesNotRevertNewerState() throws InterruptedException {
+		String stripeSubscriptionId = createSubscription();
+		String deletedId = "evt_" + UUID.randomUUID();
+		String staleUpdateId = "evt_" + UUID.randomUUID();
+
+		deliver(subscriptionEvent(deletedId, "customer.subscription.deleted", PERIOD_START + 120, stripeSubscriptionId, "canceled"));
+		awaitProcessed(deletedId);
+		deliver(subscriptionEvent(staleUpdateId, "customer.subscription.updated", PERIOD_START + 60, stripeSubscriptionId, "active"));
+		awaitProcessed(staleUpdateId);
+
+		Subscription subscription = subscriptionRepository.findByStripeSubscriptionId(stripeSubscriptionId).orElseThrow();
+		assertThat(subscription.getStatus()).isEqualTo(SubscriptionStatus.CANCELED);
+		assertThat(subscription.getStripeEventAppliedAt()).isEqualTo(toLocalDateTime(PERIOD_START + 120));
+	}
+
+	private void deliver(String payload) {
+		processStripeWebhookUseCase.execute(new ProcessStripeWebhookRequest(payload, "t=1,v1=stub", "whsec_test"));
+	}
+
+	// Os workers processam depois do commit da ingestão
+	private void awaitProcessed(String eventId) throws InterruptedException {
+		long deadline = System.nanoTime() + TIMEOUT.toNanos();
+		while (System.nanoTime() < deadline) {
+			StripeEventStatus status = stripeEventRepository.findById(eventId).map(StripeEvent::getStatus).orElse(null);
+			if (status == StripeEventStatus.PROCESSED) {
+				return;
+			}
+			Thread.sleep(50);
+		}
+		throw new AssertionError("Evento do Stripe não processado em " + TIMEOUT + ": " + eventId);
+	}
+
+	private String createSubscription() {
+		Tenant tenant = new Tenant();
+		tenant.setName("Clínica Stripe");
+		tenant.setType(TypeTenant.CLINIC);
+		tenant.setStatus(TenantStatus.ACTIVE);
+		tenant.setActive(true);
+		tenant = tenantRepository.save(tenant);
+
+		Subscription subscription = new Subscription();
+		subscription.setTenant(tenant);
+		subscription.setPlanType(PlanType.BASIC);
+		subscription.setStatus(SubscriptionStatus.ACTIVE);
+		subscription.setStripeSubscriptionId("sub_" + UUID.randomUUID());
+		subscription.setAmount(new BigDecimal("99.90"));
+		return subscriptionRepository.save(subscription).getStripeSubscriptionId();
+	}
+
+	private static String subscriptionEvent(String eventId, String type, long created, String subscriptionId, String status) {
+		return """
+			{
+			  "id": "%s",
+			  "object": "event",
+			  "type": "%s",
+			  "created": %d,
+			  "api_version": "%s",
+			  "data": {
+			    "object": {
+			      "id": "%s",
+			      "object": "subscription",
+			      "status": "%s",
+			      "items": {
+			        "object": "list",
+			        "data": [
+			          {"id": "si_1", "object": "subscription_item", "current_period_start": %d, "current_period_end": %d}
+			        ]
+			      }
+			    }
+			  }
+			}
+			""".formatted(eventId, type, created, Stripe.API_VERSION, subscriptionId, status, PERIOD_START, PERIOD_END);
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochSeconds) {
+		return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneId.systemDefault());
+	}
+}
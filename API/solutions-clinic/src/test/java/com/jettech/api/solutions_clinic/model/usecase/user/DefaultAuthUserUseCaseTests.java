@@ -0,0 +1,110 @@
+package com.jettech.api.solutions_clinic.model.usecase.user;
+
+import com.jettech.api.solutions_clinic.model.entity.Role;
+import com.jettech.api.solutions_clinic.model.entity.Tenant;
+import com.jettech.api.solutions_clinic.model.entity.TenantStatus;
+import com.jettech.api.solutions_clinic.model.entity.TypeTenant;
+import com.jettech.api.solutions_clinic.model.entity.User;
+import com.jettech.api.solutions_clinic.model.entity.UserTenantRole;
+import com.jettech.api.solutions_clinic.model.repository.TenantRepository;
+import com.jettech.api.solutions_clinic.model.repository.UserRepository;
+import com.jettech.api.solutions_clinic.model.repository.UserTenantRoleRepository;
+import com.jettech.api.solutions_clinic.security.PasswordHasher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * O login lê credenciais e vínculos em uma única consulta (projeção UserMembership), sem carregar
+ * entidades nem tenants um a um. Além dela, só o INSERT do refresh token emitido.
+ */
+// As estatísticas são da SessionFactory inteira: os jobs periódicos que usam o banco só rodam na subida
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"app.patient-import.recovery-interval-ms=3600000",
+		"stripe.webhook.retry-interval-ms=3600000",
+		"app.calendar-feed.purge-interval-ms=3600000",
+		"app.waitlist.backfill-interval-ms=3600000"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DefaultAuthUserUseCaseTests {
+
+	private static final String PASSWORD = "senha-de-teste";
+
+	@Autowired
+	private AuthUserUseCase authUserUseCase;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TenantRepository tenantRepository;
+
+	@Autowired
+	private UserTenantRoleRepository userTenantRoleRepository;
+
+	@Autowired
+	private PasswordHasher passwordHasher;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private String email;
+
+	@BeforeAll
+	void createUser() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		User user = new User();
+		user.setFirstName("Login");
+		email = UUID.randomUUID() + "@clinica.test";
+		user.setEmail(email);
+		user.setPassword(passwordHasher.encode(PASSWORD));
+		user = userRepository.save(user);
+
+		// Dois vínculos: o N+1 antigo faria uma leitura de tenant por vínculo
+		for (String name : new String[]{"Clínica 1", "Clínica 2"}) {
+			Tenant tenant = new Tenant();
+			tenant.setName(name);
+			tenant.setType(TypeTenant.CLINIC);
+			tenant.setStatus(TenantStatus.ACTIVE);
+			tenant.setActive(true);
+			tenant = tenantRepository.save(tenant);
+
+			UserTenantRole membership = new UserTenantRole();
+			membership.setUser(user);
+			membership.setTenant(tenant);
+			membership.setRole(Role.OWNER);
+			userTenantRoleRepository.save(membership);
+		}
+	}
+
+	@BeforeEach
+	void resetStatistics() {
+		statistics.clear();
+	}
+
+	@Test
+	void loginReadsCredentialsAndMembershipsInOneQuery() throws Exception {
+		AuthUserResponse response = authUserUseCase.execute(new AuthUserRequest(email, PASSWORD));
+
+		assertThat(response.access_token()).isNotBlank();
+		assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(statistics.getCollectionFetchCount()).isZero();
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+		// SELECT dos vínculos + INSERT do refresh token
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+}
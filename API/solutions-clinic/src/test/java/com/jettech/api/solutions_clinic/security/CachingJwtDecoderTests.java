@@ -0,0 +1,77 @@
+package com.jettech.api.solutions_clinic.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtDecoderTests {
+
+	private static final UUID SESSION = UUID.randomUUID();
+
+	private final AtomicInteger verifications = new AtomicInteger();
+	private final Set<UUID> revokedSessions = new HashSet<>();
+
+	// Cada token é o próprio sid (ou "-" para token sem sessão)
+	private final JwtDecoder delegate = token -> {
+		verifications.incrementAndGet();
+		Jwt.Builder jwt = Jwt.withTokenValue(token)
+				.header("alg", "HS256")
+				.subject(UUID.randomUUID().toString())
+				.expiresAt(Instant.now().plus(Duration.ofHours(1)));
+		if (!token.equals("-")) {
+			jwt.claim(JwtTokenService.SESSION_ID_CLAIM, token);
+		}
+		return jwt.build();
+	};
+
+	private final CachingJwtDecoder decoder =
+			new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(5), revokedSessions::contains);
+
+	@Test
+	void verifiedTokenIsServedFromCache() {
+		decoder.decode(SESSION.toString());
+		decoder.decode(SESSION.toString());
+
+		assertThat(verifications).hasValue(1);
+	}
+
+	@Test
+	void tokenOfRevokedSessionIsRejected() {
+		revokedSessions.add(SESSION);
+
+		assertThatThrownBy(() -> decoder.decode(SESSION.toString())).isInstanceOf(BadJwtException.class);
+	}
+
+	@Test
+	void revocationEvictsCachedTokensOfThatSession() {
+		UUID otherSession = UUID.randomUUID();
+		decoder.decode(SESSION.toString());
+		decoder.decode(otherSession.toString());
+
+		revokedSessions.add(SESSION);
+		decoder.onSessionRevoked(new SessionRevokedEvent(SESSION));
+
+		assertThatThrownBy(() -> decoder.decode(SESSION.toString())).isInstanceOf(BadJwtException.class);
+		assertThat(decoder.decode(otherSession.toString()).getClaimAsString(JwtTokenService.SESSION_ID_CLAIM))
+				.isEqualTo(otherSession.toString());
+		assertThat(verifications).hasValue(3);
+	}
+
+	@Test
+	void tokenWithoutSessionIsNotChecked() {
+		revokedSessions.add(SESSION);
+
+		assertThat(decoder.decode("-").getClaimAsString(JwtTokenService.SESSION_ID_CLAIM)).isNull();
+	}
+}
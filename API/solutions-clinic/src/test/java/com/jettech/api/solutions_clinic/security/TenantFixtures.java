@@ -0,0 +1,137 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.jettech.api.solutions_clinic.model.converter.RawJson;
+import com.jettech.api.solutions_clinic.model.entity.*;
+import com.jettech.api.solutions_clinic.model.repository.*;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Duas clínicas com um conjunto completo de dados cada, gravadas sem autenticação (filtro de tenant
+ * desligado), para os testes de isolamento tentarem alcançar os dados de uma a partir da outra.
+ */
+public class TenantFixtures {
+
+	private final TenantRepository tenantRepository;
+	private final UserRepository userRepository;
+	private final PatientRepository patientRepository;
+	private final ProfessionalRepository professionalRepository;
+	private final ProfessionalScheduleRepository professionalScheduleRepository;
+	private final RoomRepository roomRepository;
+	private final AppointmentRepository appointmentRepository;
+	private final MedicalRecordTemplateRepository templateRepository;
+	private final MedicalRecordRepository medicalRecordRepository;
+
+	public TenantFixtures(TenantRepository tenantRepository, UserRepository userRepository,
+				   PatientRepository patientRepository, ProfessionalRepository professionalRepository,
+				   ProfessionalScheduleRepository professionalScheduleRepository, RoomRepository roomRepository,
+				   AppointmentRepository appointmentRepository, MedicalRecordTemplateRepository templateRepository,
+				   MedicalRecordRepository medicalRecordRepository) {
+		this.tenantRepository = tenantRepository;
+		this.userRepository = userRepository;
+		this.patientRepository = patientRepository;
+		this.professionalRepository = professionalRepository;
+		this.professionalScheduleRepository = professionalScheduleRepository;
+		this.roomRepository = roomRepository;
+		this.appointmentRepository = appointmentRepository;
+		this.templateRepository = templateRepository;
+		this.medicalRecordRepository = medicalRecordRepository;
+	}
+
+	public Clinic createClinic(String name, LocalDateTime scheduledAt) {
+		Tenant tenant = new Tenant();
+		tenant.setName(name);
+		tenant.setType(TypeTenant.CLINIC);
+		tenant.setStatus(TenantStatus.ACTIVE);
+		tenant.setActive(true);
+		tenant = tenantRepository.save(tenant);
+
+		User user = new User();
+		user.setFirstName(name);
+		user.setEmail(UUID.randomUUID() + "@clinica.test");
+		user.setPassword("hash");
+		user = userRepository.save(user);
+
+		Patient patient = new Patient();
+		patient.setTenant(tenant);
+		patient.setFirstName("Paciente " + name);
+		patient = patientRepository.save(patient);
+
+		Professional professional = new Professional();
+		professional.setTenant(tenant);
+		professional.setUser(user);
+		professional.setSpecialty(Specialty.CLINICO_GERAL);
+		professional.setDocumentType(DocumentType.CRM);
+		professional.setDocumentNumber(UUID.randomUUID().toString().substring(0, 8));
+		professional = professionalRepository.save(professional);
+
+		ProfessionalSchedule schedule = new ProfessionalSchedule();
+		schedule.setProfessional(professional);
+		schedule.setDayOfWeek(DayOfWeek.MONDAY);
+		schedule.setStartTime(LocalTime.of(8, 0));
+		schedule.setEndTime(LocalTime.of(18, 0));
+		schedule.setLunchBreakStart(LocalTime.of(12, 0));
+		schedule.setLunchBreakEnd(LocalTime.of(13, 0));
+		schedule = professionalScheduleRepository.save(schedule);
+
+		Room room = new Room();
+		room.setTenant(tenant);
+		room.setName("Sala " + name);
+		room.setCapacity(1);
+		room = roomRepository.save(room);
+
+		Appointment appointment = new Appointment();
+		appointment.setTenant(tenant);
+		appointment.setPatient(patient);
+		appointment.setProfessional(professional);
+		appointment.setRoom(room);
+		appointment.setScheduledAt(scheduledAt);
+		appointment.setDurationMinutes(30);
+		appointment.setStatus(AppointmentStatus.AGENDADO);
+		appointment.setTotalValue(BigDecimal.TEN);
+		appointment.setPaymentStatus(PaymentStatus.PENDENTE);
+		appointment.setCreatedBy(user);
+		appointment = appointmentRepository.save(appointment);
+
+		MedicalRecordTemplate template = new MedicalRecordTemplate();
+		template.setTenant(tenant);
+		template.setName("Modelo " + name);
+		template.setSchema(JsonNodeFactory.instance.objectNode());
+		template = templateRepository.save(template);
+
+		MedicalRecord record = new MedicalRecord();
+		record.setAppointment(appointment);
+		record.setTemplate(template);
+		record.setContent(RawJson.of("{\"queixa\":\"dor de cabeça\"}"));
+		record = medicalRecordRepository.save(record);
+
+		return new Clinic(tenant.getId(), patient.getId(), professional.getId(), schedule.getId(),
+				room.getId(), appointment.getId(), scheduledAt, template.getId(), record.getId());
+	}
+
+	/** Autentica a thread atual como um usuário da clínica (JWT com clinicId). */
+	public static void loginAs(Clinic clinic) {
+		Jwt jwt = Jwt.withTokenValue("token")
+				.header("alg", "HS256")
+				.subject(UUID.randomUUID().toString())
+				.claim("clinicId", clinic.tenantId().toString())
+				.build();
+		SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+	}
+
+	public static void logout() {
+		SecurityContextHolder.clearContext();
+	}
+
+	public record Clinic(UUID tenantId, UUID patientId, UUID professionalId, UUID scheduleId, UUID roomId,
+				  UUID appointmentId, LocalDateTime scheduledAt, UUID templateId, UUID medicalRecordId) {
+	}
+}
@@ -0,0 +1,168 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.exception.ForbiddenException;
+import com.jettech.api.solutions_clinic.model.entity.Appointment;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+import com.jettech.api.solutions_clinic.model.entity.WaitlistEntry;
+import com.jettech.api.solutions_clinic.model.repository.AppointmentRepository;
+import com.jettech.api.solutions_clinic.model.repository.MedicalRecordRepository;
+import com.jettech.api.solutions_clinic.model.repository.WaitlistEntryRepository;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.BulkTransitionAppointmentsRequest;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.BulkTransitionAppointmentsUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.GetAppointmentByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.MedicalRecordPatchType;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.PatchMedicalRecordRequest;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.PatchMedicalRecordUseCase;
+import com.jettech.api.solutions_clinic.security.TenantFixtures.Clinic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Isolamento entre clínicas nos caminhos que o filtro do Hibernate não alcança: SQL nativo e DML em
+ * lote, em um Postgres real com as migrações aplicadas (requer Docker). Autenticado na clínica A,
+ * nenhum deles lê ou altera linhas da clínica B.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.driver-class-name=org.postgresql.Driver",
+		"spring.flyway.enabled=true",
+		"spring.jpa.hibernate.ddl-auto=none"
+})
+@Import(TenantFixtures.class)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TenantIsolationPostgresTests {
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Autowired
+	private TenantFixtures fixtures;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private AppointmentRepository appointmentRepository;
+
+	@Autowired
+	private MedicalRecordRepository medicalRecordRepository;
+
+	@Autowired
+	private WaitlistEntryRepository waitlistEntryRepository;
+
+	@Autowired
+	private GetAppointmentByIdUseCase getAppointmentByIdUseCase;
+
+	@Autowired
+	private PatchMedicalRecordUseCase patchMedicalRecordUseCase;
+
+	@Autowired
+	private BulkTransitionAppointmentsUseCase bulkTransitionAppointmentsUseCase;
+
+	private Clinic clinicA;
+	private Clinic clinicB;
+
+	@BeforeAll
+	void createClinics() {
+		LocalDateTime scheduledAt = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+		clinicA = fixtures.createClinic("A", scheduledAt);
+		clinicB = fixtures.createClinic("B", scheduledAt);
+	}
+
+	@AfterEach
+	void logout() {
+		TenantFixtures.logout();
+	}
+
+	// findById lê scheduled_at de appointment_keys (mantida pelos gatilhos) e continua filtrado
+	@Test
+	void appointmentLookupByKeyIsFiltered() throws Exception {
+		TenantFixtures.loginAs(clinicA);
+
+		assertThat(getAppointmentByIdUseCase.execute(clinicA.appointmentId()).id()).isEqualTo(clinicA.appointmentId());
+		assertThatThrownBy(() -> getAppointmentByIdUseCase.execute(clinicB.appointmentId()))
+				.isInstanceOfAny(EntityNotFoundException.class, ForbiddenException.class);
+	}
+
+	@Test
+	void nativePatchDoesNotTouchAnotherClinic() {
+		TenantFixtures.loginAs(clinicA);
+
+		Optional<Long> jsonPatched = transactionTemplate.execute(status -> medicalRecordRepository.applyJsonPatch(
+				clinicB.medicalRecordId(), clinicA.tenantId(), 0L,
+				"[{\"op\":\"replace\",\"path\":[\"queixa\"],\"value\":\"alterado\"}]"));
+		Optional<Long> mergePatched = transactionTemplate.execute(status -> medicalRecordRepository.applyMergePatch(
+				clinicB.medicalRecordId(), clinicA.tenantId(), 0L, "{\"queixa\":\"alterado\"}"));
+
+		assertThat(jsonPatched).isEmpty();
+		assertThat(mergePatched).isEmpty();
+		assertThatThrownBy(() -> patchMedicalRecordUseCase.execute(new PatchMedicalRecordRequest(
+				clinicB.medicalRecordId(), MedicalRecordPatchType.MERGE_PATCH,
+				JsonNodeFactory.instance.objectNode().put("queixa", "alterado"), 0L)))
+				.isInstanceOf(EntityNotFoundException.class);
+	}
+
+	@Test
+	void bulkTransitionDoesNotTouchAnotherClinic() {
+		TenantFixtures.loginAs(clinicA);
+
+		assertThatThrownBy(() -> bulkTransitionAppointmentsUseCase.execute(new BulkTransitionAppointmentsRequest(
+				clinicB.tenantId(), AppointmentTransition.CONFIRM, clinicB.scheduledAt().toLocalDate(), null, null)))
+				.isInstanceOf(ForbiddenException.class);
+
+		// Tenant de A com o profissional de B: o UPDATE em lote exige os dois
+		List<UUID> moved = transactionTemplate.execute(status -> appointmentRepository.transitionRange(
+				clinicA.tenantId(), clinicB.professionalId(),
+				clinicB.scheduledAt().minusHours(1), clinicB.scheduledAt().plusHours(1),
+				AppointmentTransition.CONFIRM.sourceNames(), AppointmentStatus.CONFIRMADO.name(),
+				false, LocalDateTime.now()));
+
+		assertThat(moved).isEmpty();
+		TenantFixtures.logout();
+		assertThat(transactionTemplate.execute(status -> appointmentRepository.findById(clinicB.appointmentId()))
+				.map(Appointment::getStatus))
+				.contains(AppointmentStatus.AGENDADO);
+	}
+
+	@Test
+	void waitlistCandidatesAreScopedByTenant() {
+		WaitlistEntry entry = new WaitlistEntry();
+		entry.setTenantId(clinicB.tenantId());
+		entry.setPatientId(clinicB.patientId());
+		entry.setProfessionalId(clinicB.professionalId());
+		entry.setEarliestDate(clinicB.scheduledAt().toLocalDate());
+		entry.setLatestDate(clinicB.scheduledAt().toLocalDate().plusDays(7));
+		entry.setDurationMinutes(30);
+		entry.setCreatedBy(UUID.randomUUID());
+		waitlistEntryRepository.save(entry);
+		TenantFixtures.loginAs(clinicA);
+
+		List<WaitlistEntry> candidates = transactionTemplate.execute(status -> waitlistEntryRepository.lockCandidates(
+				clinicA.tenantId(), clinicB.professionalId(), clinicB.scheduledAt().toLocalDate(),
+				UUID.randomUUID(), 10));
+
+		assertThat(candidates).isEmpty();
+	}
+}
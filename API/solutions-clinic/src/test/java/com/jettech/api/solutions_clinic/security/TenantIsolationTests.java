@@ -0,0 +1,243 @@
+package com.jettech.api.solutions_clinic.security;
+
+import com.jettech.api.solutions_clinic.exception.AuthenticationFailedException;
+import com.jettech.api.solutions_clinic.exception.EntityNotFoundException;
+import com.jettech.api.solutions_clinic.exception.ForbiddenException;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentStatus;
+import com.jettech.api.solutions_clinic.model.entity.AppointmentTransition;
+import com.jettech.api.solutions_clinic.model.entity.Patient;
+import com.jettech.api.solutions_clinic.model.repository.PatientRepository;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.DeleteAppointmentUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.GetAppointmentByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.GetAppointmentsByProfessionalIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.TransitionAppointmentRequest;
+import com.jettech.api.solutions_clinic.model.usecase.appointment.TransitionAppointmentUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.GetMedicalRecordByAppointmentUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.medicalrecord.GetMedicalRecordByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientsByTenantRequest;
+import com.jettech.api.solutions_clinic.model.usecase.patient.GetPatientsByTenantUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.patient.PatientResponse;
+import com.jettech.api.solutions_clinic.model.usecase.professionalschedule.GetProfessionalScheduleByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.professionalschedule.GetProfessionalSchedulesByProfessionalIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.room.GetRoomByIdUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.room.GetRoomsByTenantRequest;
+import com.jettech.api.solutions_clinic.model.usecase.room.GetRoomsByTenantUseCase;
+import com.jettech.api.solutions_clinic.model.usecase.room.RoomResponse;
+import com.jettech.api.solutions_clinic.security.TenantFixtures.Clinic;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Isolamento entre clínicas no H2: autenticado na clínica A, nenhuma busca por id ou listagem
+ * alcança as linhas da clínica B, inclusive nas entidades sem tenant_id (agenda do profissional,
+ * prontuário) e numa sessão aberta antes da autenticação. SQL nativo é coberto em
+ * {@link TenantIsolationPostgresTests}.
+ */
+@SpringBootTest
+@Import(TenantFixtures.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TenantIsolationTests {
+
+	@Autowired
+	private TenantFixtures fixtures;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PatientRepository patientRepository;
+
+	@Autowired
+	private GetPatientByIdUseCase getPatientByIdUseCase;
+
+	@Autowired
+	private GetPatientsByTenantUseCase getPatientsByTenantUseCase;
+
+	@Autowired
+	private GetRoomByIdUseCase getRoomByIdUseCase;
+
+	@Autowired
+	private GetRoomsByTenantUseCase getRoomsByTenantUseCase;
+
+	@Autowired
+	private GetAppointmentByIdUseCase getAppointmentByIdUseCase;
+
+	@Autowired
+	private GetAppointmentsByProfessionalIdUseCase getAppointmentsByProfessionalIdUseCase;
+
+	@Autowired
+	private TransitionAppointmentUseCase transitionAppointmentUseCase;
+
+	@Autowired
+	private DeleteAppointmentUseCase deleteAppointmentUseCase;
+
+	@Autowired
+	private GetProfessionalScheduleByIdUseCase getProfessionalScheduleByIdUseCase;
+
+	@Autowired
+	private GetProfessionalSchedulesByProfessionalIdUseCase getProfessionalSchedulesByProfessionalIdUseCase;
+
+	@Autowired
+	private GetMedicalRecordByIdUseCase getMedicalRecordByIdUseCase;
+
+	@Autowired
+	private GetMedicalRecordByAppointmentUseCase getMedicalRecordByAppointmentUseCase;
+
+	private Clinic clinicA;
+	private Clinic clinicB;
+
+	@BeforeAll
+	void createClinics() {
+		LocalDateTime scheduledAt = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+		clinicA = fixtures.createClinic("A", scheduledAt);
+		clinicB = fixtures.createClinic("B", scheduledAt);
+		// No Postgres os gatilhos da V22 mantêm appointment_keys; o H2 não tem gatilhos
+		for (Clinic clinic : List.of(clinicA, clinicB)) {
+			jdbcTemplate.update("INSERT INTO appointment_keys (id, scheduled_at) VALUES (?, ?)",
+					clinic.appointmentId(), clinic.scheduledAt());
+		}
+	}
+
+	@AfterEach
+	void logout() {
+		TenantFixtures.logout();
+	}
+
+	@Test
+	void ownRowsAreVisible() throws Exception {
+		TenantFixtures.loginAs(clinicA);
+
+		assertThat(getPatientByIdUseCase.execute(clinicA.patientId()).id()).isEqualTo(clinicA.patientId());
+		assertThat(getAppointmentByIdUseCase.execute(clinicA.appointmentId()).id()).isEqualTo(clinicA.appointmentId());
+		assertThat(getProfessionalScheduleByIdUseCase.execute(clinicA.scheduleId()).id()).isEqualTo(clinicA.scheduleId());
+		assertThat(getMedicalRecordByAppointmentUseCase.execute(clinicA.appointmentId())).isPresent();
+	}
+
+	@Test
+	void patientOfAnotherClinicIsNotReachable() {
+		TenantFixtures.loginAs(clinicA);
+
+		assertNotReachable(() -> getPatientByIdUseCase.execute(clinicB.patientId()));
+		assertNotReachable(() -> getPatientsByTenantUseCase.execute(
+				new GetPatientsByTenantRequest(clinicB.tenantId(), 0, 50, null, null, null)));
+	}
+
+	@Test
+	void patientListOnlyHasOwnClinic() throws Exception {
+		TenantFixtures.loginAs(clinicA);
+
+		List<PatientResponse> patients = getPatientsByTenantUseCase.execute(
+				new GetPatientsByTenantRequest(clinicA.tenantId(), 0, 50, null, null, null)).getContent();
+
+		assertThat(patients).extracting(PatientResponse::tenantId).containsOnly(clinicA.tenantId());
+	}
+
+	@Test
+	void unscopedRepositoryReadsAreFiltered() {
+		TenantFixtures.loginAs(clinicA);
+
+		List<Patient> patients = transactionTemplate.execute(status -> patientRepository.findAll());
+
+		assertThat(patients).extracting(Patient::getId)
+				.contains(clinicA.patientId())
+				.doesNotContain(clinicB.patientId());
+	}
+
+	@Test
+	void roomOfAnotherClinicIsNotReachable() throws Exception {
+		TenantFixtures.loginAs(clinicA);
+
+		assertNotReachable(() -> getRoomByIdUseCase.execute(clinicB.roomId()));
+		assertNotReachable(() -> getRoomsByTenantUseCase.execute(new GetRoomsByTenantRequest(clinicB.tenantId(), false)));
+		assertThat(getRoomsByTenantUseCase.execute(new GetRoomsByTenantRequest(clinicA.tenantId(), false)))
+				.extracting(RoomResponse::id)
+				.doesNotContain(clinicB.roomId());
+	}
+
+	@Test
+	void appointmentOfAnotherClinicIsNotReachable() throws Exception {
+		TenantFixtures.loginAs(clinicA);
+
+		assertNotReachable(() -> getAppointmentByIdUseCase.execute(clinicB.appointmentId()));
+		assertNotReachable(() -> getAppointmentsByProfessionalIdUseCase.execute(clinicB.professionalId()));
+		assertNotReachable(() -> transitionAppointmentUseCase.execute(
+				new TransitionAppointmentRequest(clinicB.appointmentId(), AppointmentTransition.CONFIRM)));
+		assertNotReachable(() -> deleteAppointmentUseCase.execute(clinicB.appointmentId()));
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT status FROM appointments WHERE id = ?", String.class, clinicB.appointmentId()))
+				.isEqualTo(AppointmentStatus.AGENDADO.name());
+	}
+
+	// Sem clínica no token o filtro de tenant não é ligado: a transição é recusada antes da busca
+	@Test
+	void transitionWithoutClinicIsRefused() {
+		assertThatThrownBy(() -> transitionAppointmentUseCase.execute(
+				new TransitionAppointmentRequest(clinicB.appointmentId(), AppointmentTransition.CONFIRM)))
+				.isInstanceOf(AuthenticationFailedException.class);
+	}
+
+	// Agenda do profissional não tem tenant_id: o filtro não se aplica e o use case verifica o tenant
+	@Test
+	void scheduleOfAnotherClinicIsNotReachable() {
+		TenantFixtures.loginAs(clinicA);
+
+		assertNotReachable(() -> getProfessionalScheduleByIdUseCase.execute(clinicB.scheduleId()));
+		assertNotReachable(() -> getProfessionalSchedulesByProfessionalIdUseCase.execute(clinicB.professionalId()));
+	}
+
+	// Prontuário não tem tenant_id: o tenant vem do agendamento
+	@Test
+	void medicalRecordOfAnotherClinicIsNotReachable() {
+		TenantFixtures.loginAs(clinicA);
+
+		assertNotReachable(() -> getMedicalRecordByIdUseCase.execute(clinicB.medicalRecordId()));
+		assertNotReachable(() -> getMedicalRecordByAppointmentUseCase.execute(clinicB.appointmentId()));
+	}
+
+	// Sessão aberta antes do SecurityContext (como a do open-in-view): a transação religa o filtro
+	@Test
+	void sessionOpenedBeforeAuthenticationIsFiltered() {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+		try {
+			TenantFixtures.loginAs(clinicA);
+
+			List<Patient> patients = transactionTemplate.execute(status -> patientRepository.findAll());
+
+			assertThat(patients).extracting(Patient::getId).doesNotContain(clinicB.patientId());
+			assertNotReachable(() -> getPatientByIdUseCase.execute(clinicB.patientId()));
+		} finally {
+			TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+			entityManager.close();
+		}
+	}
+
+	private static void assertNotReachable(ThrowingCallable call) {
+		assertThatThrownBy(call).isInstanceOfAny(EntityNotFoundException.class, ForbiddenException.class);
+	}
+}
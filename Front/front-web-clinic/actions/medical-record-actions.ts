@@ -11,13 +11,15 @@ import type {
 /**
  * Cria ou atualiza prontuário do agendamento.
  * Backend: POST /v1/medical-records
- * Body: { appointmentId, templateId, content, vitalSigns? }
+ * Body: { appointmentId, templateId, content, vitalSigns?, version? }
+ * version: versão do prontuário lido/salvo por último (obrigatória se ele já existe).
  */
 export async function saveMedicalRecordAction(
   appointmentId: string,
   templateId: string,
   content: Record<string, unknown>,
-  vitalSigns?: VitalSigns | null
+  vitalSigns?: VitalSigns | null,
+  version?: number | null
 ): Promise<ActionResult<MedicalRecord>> {
   try {
     const body: CreateOrUpdateMedicalRecordRequest = {
@@ -26,6 +28,7 @@ export async function saveMedicalRecordAction(
       content,
     };
     if (vitalSigns != null) body.vitalSigns = vitalSigns;
+    if (version != null) body.version = version;
 
     const record = await apiRequest<MedicalRecord>('/medical-records', {
       method: 'POST',
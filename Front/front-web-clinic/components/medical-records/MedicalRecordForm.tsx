@@ -52,6 +52,8 @@ export function MedicalRecordForm({
   const [templates, setTemplates] = useState<MedicalRecordTemplate[]>([]);
   const [selectedTemplateId, setSelectedTemplateId] = useState<string>('');
   const [content, setContent] = useState<Record<string, unknown>>({});
+  // Versão do prontuário lido/salvo por último; null enquanto ele não existe
+  const [recordVersion, setRecordVersion] = useState<number | null>(null);
   const [loading, setLoading] = useState(true);
   const [saving, setSaving] = useState(false);
   const [templatesError, setTemplatesError] = useState<string | null>(null);
@@ -91,6 +93,7 @@ export function MedicalRecordForm({
         if (recordResult.success && recordResult.data) {
           const record = recordResult.data;
           setSelectedTemplateId(record.templateId);
+          setRecordVersion(record.version ?? null);
           setContent(
             record.content && typeof record.content === 'object'
               ? (record.content as Record<string, unknown>)
@@ -131,9 +134,11 @@ export function MedicalRecordForm({
         appointmentId,
         selectedTemplateId,
         content,
-        vitalSigns ?? undefined
+        vitalSigns ?? undefined,
+        recordVersion
       );
       if (result.success) {
+        if (result.data) setRecordVersion(result.data.version ?? null);
         toast.success('Prontuário salvo com sucesso!');
       } else {
         toast.error(result.error ?? 'Erro ao salvar');
@@ -44,6 +44,8 @@ export interface MedicalRecord {
   templateId: string;
   content: Record<string, unknown>;
   vitalSigns: VitalSigns | null;
+  /** Versão atual; enviada de volta ao salvar (conflito de edição → 412) */
+  version: number;
   signedAt: string | null;
   createdAt: string;
   updatedAt: string;
@@ -54,4 +56,6 @@ export interface CreateOrUpdateMedicalRecordRequest {
   templateId: string;
   content: Record<string, unknown>;
   vitalSigns?: VitalSigns | null;
+  /** Obrigatória ao atualizar um prontuário existente */
+  version?: number;
 }